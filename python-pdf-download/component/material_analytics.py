@@ -6,7 +6,7 @@ from reportlab.lib.pagesizes import A4, landscape
 from reportlab.lib.units import mm
 from reportlab.platypus import SimpleDocTemplate, Paragraph, Spacer, Table, TableStyle
 
-from .pdf_generator import PdfGenerator
+from .pdf_generator import PdfGenerator, chunk_info
 
 _GEN = PdfGenerator()  # 폰트/스타일 공용 초기화
 
@@ -32,15 +32,15 @@ def _fmt_pct(v: Optional[float], precision: int = 2) -> str:
 
 def _headers(view_by_day: bool) -> List[str]:
     if view_by_day:
-        return ["Date", "Store", "Material", "Inv Qty", "PO ID", "PO Date", "PO Qty", "PO Amount", "Turnover", "Profit", "Margin", "Avg Usage"]
-    return ["Date", "Store", "Material", "Inv Qty", "PO Qty", "PO Amount", "Turnover", "Profit", "Margin", "Avg Usage"]
+        return ["No.", "Date", "Store", "Material", "Inv Qty", "PO ID", "PO Date", "PO Qty", "PO Amount", "Turnover", "Profit", "Margin", "Avg Usage"]
+    return ["No.", "Date", "Store", "Material", "Inv Qty", "PO Qty", "PO Amount", "Turnover", "Profit", "Margin", "Avg Usage"]
 
 def _col_widths(view_by_day: bool) -> List[float]:
     if view_by_day:
-        # 12개 컬럼
-        return [20*mm, 30*mm, 35*mm, 15*mm, 15*mm, 20*mm, 15*mm, 20*mm, 18*mm, 20*mm, 18*mm, 18*mm]
-    # 10개 컬럼
-    return [22*mm, 35*mm, 40*mm, 18*mm, 18*mm, 22*mm, 20*mm, 22*mm, 20*mm, 20*mm]
+        # 13개 컬럼
+        return [12*mm, 20*mm, 30*mm, 35*mm, 15*mm, 15*mm, 20*mm, 15*mm, 20*mm, 18*mm, 20*mm, 18*mm, 18*mm]
+    # 11개 컬럼
+    return [12*mm, 22*mm, 35*mm, 40*mm, 18*mm, 18*mm, 22*mm, 20*mm, 22*mm, 20*mm, 20*mm]
 
 def generate_materials_pdf(payload: Dict[str, Any]) -> bytes:
     """
@@ -63,28 +63,33 @@ def generate_materials_pdf(payload: Dict[str, Any]) -> bytes:
         leftMargin=10*mm, rightMargin=10*mm, topMargin=15*mm, bottomMargin=15*mm
     )
 
-    story = []
-    story.append(Paragraph(title, styles["TitleKR"]))
-    story.append(Spacer(1, 4*mm))
-
-    info = f"기간: {start} ~ {end}"
-    extra = []
-    if "rowCount" in crit and "totalCount" in crit:
-        extra.append(f"Rows: {crit['rowCount']}/{crit['totalCount']}")
-    if crit.get("truncated"):
-        extra.append("(PDF에는 최대 행수만 포함)")
-    if extra:
-        info += "  |  " + " ".join(extra)
+    # 분할 렌더링: 제목 블록은 첫 조각만, 행 번호는 rowOffset부터 이어서
+    show_title, row_offset = chunk_info(crit)
 
-    story.append(Paragraph(info, styles["BodyRight"]))
-    story.append(Spacer(1, 6*mm))
+    story = []
+    if show_title:
+        story.append(Paragraph(title, styles["TitleKR"]))
+        story.append(Spacer(1, 4*mm))
+
+        info = f"기간: {start} ~ {end}"
+        extra = []
+        if "totalCount" in crit:
+            extra.append(f"Rows: {crit['totalCount']}")
+        if crit.get("truncated"):
+            extra.append("(PDF에는 최대 행수만 포함)")
+        if extra:
+            info += "  |  " + " ".join(extra)
+
+        story.append(Paragraph(info, styles["BodyRight"]))
+        story.append(Spacer(1, 6*mm))
 
     headers = _headers(is_daily)
     data = [headers]
 
-    for r in rows:
+    for no, r in enumerate(rows, start=row_offset + 1):
         if is_daily:
             data.append([
+                str(no),
                 r.get("orderDate", ""),
                 r.get("store", ""),
                 r.get("material", ""),
@@ -100,6 +105,7 @@ def generate_materials_pdf(payload: Dict[str, Any]) -> bytes:
             ])
         else: # 월별
             data.append([
+                str(no),
                 r.get("orderDate", ""),
                 r.get("store", ""),
                 r.get("material", ""),
@@ -128,14 +134,15 @@ def generate_materials_pdf(payload: Dict[str, Any]) -> bytes:
         ("VALIGN",(0,0),(-1,-1), "MIDDLE"),
         ("BOTTOMPADDING",(0,0),(-1,0), 3*mm),
         ("TOPPADDING",(0,0),(-1,0), 3*mm),
-        ("ALIGN",(0,1),(2,-1), "LEFT"),      # Date, Store, Material
+        ("ALIGN",(0,1),(0,-1), "RIGHT"),     # No.
+        ("ALIGN",(1,1),(3,-1), "LEFT"),      # Date, Store, Material
     ]
     
     # 숫자열 오른쪽 정렬
     if is_daily:
-        ts.append(("ALIGN",(3,1),(-1,-1), "RIGHT"))
+        ts.append(("ALIGN",(4,1),(-1,-1), "RIGHT"))
     else:
-        ts.append(("ALIGN",(3,1),(-1,-1), "RIGHT"))
+        ts.append(("ALIGN",(4,1),(-1,-1), "RIGHT"))
 
 
     table.setStyle(TableStyle(ts))
@@ -6,7 +6,7 @@ from reportlab.lib.pagesizes import A4, landscape
 from reportlab.lib.units import mm
 from reportlab.platypus import SimpleDocTemplate, Paragraph, Spacer, Table, TableStyle
 
-from .pdf_generator import PdfGenerator
+from .pdf_generator import PdfGenerator, chunk_info
 
 _GEN = PdfGenerator()  # 폰트/스타일 공용 초기화
 
@@ -25,17 +25,17 @@ def _fmt_num(v: Optional[float], percent: bool = False) -> str:
 
 def _headers(view_by_day: bool) -> List[str]:
     if view_by_day:
-        return ["Date","OrderDate","Store","Category","Menu",
+        return ["No.","Date","OrderDate","Store","Category","Menu",
                 "MenuCount","MenuSales","OrderCount","OrderSales","OrderType"]
-    return ["Date","Store","MenuCount","MenuSales","OrderCount","OrderSales"]
+    return ["No.","Date","Store","MenuCount","MenuSales","OrderCount","OrderSales"]
 
 def _col_widths(view_by_day: bool) -> List[float]:
     if view_by_day:
-        # 10개 컬럼
-        return [22*mm, 28*mm, 36*mm, 24*mm, 42*mm,
+        # 11개 컬럼
+        return [12*mm, 22*mm, 28*mm, 36*mm, 24*mm, 42*mm,
                 18*mm, 24*mm, 18*mm, 24*mm, 20*mm]
-    # 6개 컬럼
-    return [28*mm, 42*mm, 22*mm, 28*mm, 22*mm, 28*mm]
+    # 7개 컬럼
+    return [12*mm, 28*mm, 42*mm, 22*mm, 28*mm, 22*mm, 28*mm]
 
 def generate_orders_pdf(payload: Dict[str, Any]) -> bytes:
     """
@@ -58,29 +58,33 @@ def generate_orders_pdf(payload: Dict[str, Any]) -> bytes:
         leftMargin=10*mm, rightMargin=10*mm, topMargin=15*mm, bottomMargin=15*mm
     )
 
-    story = []
-    story.append(Paragraph(title, styles["TitleKR"]))
-    story.append(Spacer(1, 4*mm))
-
-    info = f"기간: {start} ~ {end}"
-    extra = []
-    if "rowCount" in crit and "totalCount" in crit:
-        extra.append(f"Rows: {crit['rowCount']}/{crit['totalCount']}")
-    if crit.get("truncated"):
-        extra.append("(PDF에는 최대 행수만 포함)")
-    if extra:
-        info += "  |  " + " ".join(extra)
+    # 분할 렌더링: 제목 블록은 첫 조각만, 행 번호는 rowOffset부터 이어서
+    show_title, row_offset = chunk_info(crit)
 
-    story.append(Paragraph(info, styles["BodyRight"]))
-    story.append(Spacer(1, 6*mm))
+    story = []
+    if show_title:
+        story.append(Paragraph(title, styles["TitleKR"]))
+        story.append(Spacer(1, 4*mm))
+
+        info = f"기간: {start} ~ {end}"
+        extra = []
+        if "totalCount" in crit:
+            extra.append(f"Rows: {crit['totalCount']}")
+        if crit.get("truncated"):
+            extra.append("(PDF에는 최대 행수만 포함)")
+        if extra:
+            info += "  |  " + " ".join(extra)
+
+        story.append(Paragraph(info, styles["BodyRight"]))
+        story.append(Spacer(1, 6*mm))
 
     headers = _headers(is_daily)
     data = [headers]
 
-    for r in rows:
+    for no, r in enumerate(rows, start=row_offset + 1):
         if is_daily:
             data.append([
-                r.get("date",""), r.get("orderDate",""), r.get("storeName",""),
+                str(no), r.get("date",""), r.get("orderDate",""), r.get("storeName",""),
                 r.get("category","-") or "-", r.get("menu","-") or "-",
                 _fmt_num(r.get("menuCount")), _fmt_num(r.get("menuSales")),
                 _fmt_num(r.get("orderCount")), _fmt_num(r.get("orderSales")),
@@ -88,7 +92,7 @@ def generate_orders_pdf(payload: Dict[str, Any]) -> bytes:
             ])
         else:
             data.append([
-                r.get("date",""), r.get("storeName",""),
+                str(no), r.get("date",""), r.get("storeName",""),
                 _fmt_num(r.get("menuCount")), _fmt_num(r.get("menuSales")),
                 _fmt_num(r.get("orderCount")), _fmt_num(r.get("orderSales"))
             ])
@@ -110,18 +114,19 @@ def generate_orders_pdf(payload: Dict[str, Any]) -> bytes:
         ("VALIGN",(0,0),(-1,-1), "MIDDLE"),
         ("BOTTOMPADDING",(0,0),(-1,0), 3*mm),
         ("TOPPADDING",(0,0),(-1,0), 3*mm),
+        ("ALIGN",(0,1),(0,-1), "RIGHT"),     # No.
     ]
     if is_daily:
         ts += [
-            ("ALIGN",(0,1),(1,-1), "LEFT"),  # Date, OrderDate
-            ("ALIGN",(2,1),(4,-1), "LEFT"),  # Store, Category, Menu
-            ("ALIGN",(9,1),(9,-1), "LEFT"),  # OrderType
-            ("ALIGN",(5,1),(8,-1), "RIGHT"), # 숫자열
+            ("ALIGN",(1,1),(2,-1), "LEFT"),  # Date, OrderDate
+            ("ALIGN",(3,1),(5,-1), "LEFT"),  # Store, Category, Menu
+            ("ALIGN",(10,1),(10,-1), "LEFT"),  # OrderType
+            ("ALIGN",(6,1),(9,-1), "RIGHT"), # 숫자열
         ]
     else:
         ts += [
-            ("ALIGN",(0,1),(1,-1), "LEFT"),  # Date, Store
-            ("ALIGN",(2,1),(5,-1), "RIGHT"), # 숫자열
+            ("ALIGN",(1,1),(2,-1), "LEFT"),  # Date, Store
+            ("ALIGN",(3,1),(6,-1), "RIGHT"), # 숫자열
         ]
 
     table.setStyle(TableStyle(ts))
@@ -1,4 +1,5 @@
 import os
+from typing import Dict, Any, Tuple
 from reportlab.lib.styles import getSampleStyleSheet, ParagraphStyle
 from reportlab.pdfbase import pdfmetrics
 from reportlab.pdfbase.ttfonts import TTFont
@@ -33,3 +34,21 @@ class PdfGenerator:
         styles.add(ParagraphStyle(name="BodyKR",    fontName="KR-Regular", fontSize=9))
         styles.add(ParagraphStyle(name="BodyRight", fontName="KR-Regular", fontSize=9, alignment=2))
         return styles
+
+
+def chunk_info(crit: Dict[str, Any]) -> Tuple[bool, int]:
+    """
+    분할 렌더링 정보 해석 (Java ChunkedPdfRenderer가 criteria에 part/parts/rowOffset/rowCount를 넣음)
+    - 반환: (제목/기간 블록 표시 여부, 첫 행 번호 - 1)
+    - 첫 조각(part=1) 또는 분할되지 않은 요청만 제목 블록을 그린다 → 병합본에 제목이 한 번만 나옴
+    - 행 번호는 rowOffset + 1부터 이어서 매긴다
+    """
+    try:
+        part = int(crit.get("part") or 1)
+    except (TypeError, ValueError):
+        part = 1
+    try:
+        offset = int(crit.get("rowOffset") or 0)
+    except (TypeError, ValueError):
+        offset = 0
+    return part <= 1, max(0, offset)
@@ -7,7 +7,7 @@ from reportlab.lib.pagesizes import A4, landscape
 from reportlab.lib.units import mm
 from reportlab.platypus import SimpleDocTemplate, Paragraph, Spacer, Table, TableStyle
 
-from .pdf_generator import PdfGenerator
+from .pdf_generator import PdfGenerator, chunk_info
 
 _GEN = PdfGenerator()
 
@@ -47,20 +47,24 @@ def generate_time_pdf(payload: Dict[str, Any]) -> bytes:
         leftMargin=10*mm, rightMargin=10*mm, topMargin=15*mm, bottomMargin=15*mm
     )
 
+    # 분할 렌더링: 제목 블록은 첫 조각만
+    show_title, _ = chunk_info(crit)
+
     story = []
-    story.append(Paragraph(title, styles["TitleKR"]))
-    story.append(Spacer(1, 4*mm))
-
-    info = f"기간: {start} ~ {end}"
-    extra = []
-    if "rowCount" in crit and "totalCount" in crit:
-        extra.append(f"Rows: {crit['rowCount']}/{crit['totalCount']}")
-    if crit.get("truncated"):
-        extra.append("(PDF에는 최대 행수만 포함)")
-    if extra:
-        info += "  |  " + " ".join(extra)
-    story.append(Paragraph(info, styles["BodyRight"]))
-    story.append(Spacer(1, 6*mm))
+    if show_title:
+        story.append(Paragraph(title, styles["TitleKR"]))
+        story.append(Spacer(1, 4*mm))
+
+        info = f"기간: {start} ~ {end}"
+        extra = []
+        if "totalCount" in crit:
+            extra.append(f"Rows: {crit['totalCount']}")
+        if crit.get("truncated"):
+            extra.append("(PDF에는 최대 행수만 포함)")
+        if extra:
+            info += "  |  " + " ".join(extra)
+        story.append(Paragraph(info, styles["BodyRight"]))
+        story.append(Spacer(1, 6*mm))
 
     headers = _headers(is_daily)
     data = [headers]
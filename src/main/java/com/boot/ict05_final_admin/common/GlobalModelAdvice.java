@@ -1,7 +1,8 @@
 package com.boot.ict05_final_admin.common;
 
+import com.boot.ict05_final_admin.domain.auth.dto.PrincipalSnapshot;
 import com.boot.ict05_final_admin.domain.auth.entity.Member;
-import com.boot.ict05_final_admin.domain.auth.repository.JoinRepository;
+import com.boot.ict05_final_admin.domain.auth.service.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,19 +14,23 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 @RequiredArgsConstructor
 public class GlobalModelAdvice {
 
-    private final JoinRepository joinRepository;
+    private final PrincipalCache principalCache;
 
+    /**
+     * 화면 공통 로그인 사용자 정보.
+     * - DB 대신 로그인 사용자 스냅샷 캐시를 읽는다 (name, memberImagePath 등)
+     */
     @ModelAttribute("loginMember")
-    public Member addLoginMemberToModel() {
+    public PrincipalSnapshot addLoginMemberToModel() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return null;
 
         Object principal = auth.getPrincipal();
 
-        if (principal instanceof Member member) return member;
+        if (principal instanceof Member member) return principalCache.getById(member.getId()).orElse(null);
 
         if (principal instanceof User user) {
-            return joinRepository.findByEmail(user.getUsername()).orElse(null);
+            return principalCache.getByEmail(user.getUsername()).orElse(null);
         }
 
         return null;
@@ -0,0 +1,269 @@
+package com.boot.ict05_final_admin.common.concurrent;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 서로 독립적인 읽기 쿼리를 동시에 실행하는 구조적(fan-out/join) 실행기.
+ *
+ * <p>사용 패턴은 {@code StructuredTaskScope.ShutdownOnFailure}와 같다.</p>
+ * <pre>{@code
+ * try (var scope = parallel.scope()) {
+ *     var a = scope.fork(() -> repo.q1());
+ *     var b = scope.fork(() -> repo.q2());
+ *     scope.join();                 // 하나라도 실패하면 나머지를 취소하고 예외 전파
+ *     return combine(a.get(), b.get());
+ * }
+ * }</pre>
+ *
+ * <ul>
+ *   <li>실행기: 런타임이 Java 21+이면 가상 스레드(작업당 1스레드), 아니면 상한이 있는 플랫폼 스레드 풀</li>
+ *   <li>커넥션 예산: Hikari {@code maximum-pool-size - reserved-connections}(또는 {@code db-permits}).
+ *       병렬 scope 하나는 호출 요청이 이미 쥔 커넥션 1개 + 작업 {@code forks-per-scope}개를 쓰므로,
+ *       동시에 열 수 있는 병렬 scope 수를 {@code 예산 / (forks-per-scope + 1)}로 제한한다.</li>
+ *   <li>배압: 병렬 scope 허가를 얻지 못하면 대기하지 않고 호출 스레드에서 순차 실행한다
+ *       (호출 요청의 커넥션만 쓰므로 풀 고갈 대신 느려지는 쪽으로 저하).</li>
+ *   <li>MDC(traceId): {@code TraceFilter.mdcTaskDecorator}로 작업마다 호출 스레드의 컨텍스트를 복사</li>
+ *   <li>작업은 호출자의 트랜잭션에 참여하지 않는다(각자 커넥션을 빌려 읽고 반환) — 읽기 전용 쿼리에만 사용</li>
+ *   <li>작업 안에서 다시 scope를 열면(중첩) 순차 실행하여 허가 교착을 피한다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    /** 현재 스레드가 fan-out 작업을 실행 중인지 여부(중첩 fan-out 방지) */
+    private static final ThreadLocal<Boolean> IN_TASK = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ParallelQueryProperties props;
+    private final TaskDecorator decorator;
+    private final ExecutorService executor;
+    private final int forksPerScope;
+
+    /** 동시에 열 수 있는 병렬 scope 수 */
+    private final Semaphore scopePermits;
+
+    public ParallelQueryExecutor(ParallelQueryProperties props,
+                                 DataSource dataSource,
+                                 @Qualifier("mdcTaskDecorator") TaskDecorator decorator) {
+        this.props = props;
+        this.decorator = decorator;
+        this.executor = createExecutor(props);
+
+        int budget = props.getDbPermits() > 0
+                ? props.getDbPermits()
+                : Math.max(1, maxPoolSize(dataSource) - Math.max(0, props.getReservedConnections()));
+        this.forksPerScope = Math.max(1, props.getForksPerScope());
+        // scopes × (forks + 1) ≤ budget (+1 = 호출 요청이 쥔 커넥션)
+        int scopes = budget / (forksPerScope + 1);
+        this.scopePermits = new Semaphore(Math.max(0, scopes));
+        log.info("[ParallelQuery] enabled={}, connectionBudget={}, forksPerScope={}, maxParallelScopes={}",
+                props.isEnabled(), budget, forksPerScope, scopes);
+    }
+
+    /**
+     * 새 fan-out 범위를 연다. try-with-resources로 닫아야 한다.
+     *
+     * @return 실행 범위
+     */
+    public Scope scope() {
+        boolean parallel = props.isEnabled() && !IN_TASK.get() && scopePermits.tryAcquire();
+        return new Scope(parallel);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * fan-out 실행 범위. 첫 실패 시 남은 작업을 취소하고 {@link #join()}에서 그 예외를 다시 던진다.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final boolean parallel;
+        /** 이 scope의 작업이 동시에 쥘 수 있는 커넥션 수 */
+        private final Semaphore forkPermits;
+        private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private boolean joined;
+        private boolean closed;
+
+        private Scope(boolean parallel) {
+            this.parallel = parallel;
+            this.forkPermits = parallel ? new Semaphore(forksPerScope) : null;
+        }
+
+        /**
+         * 작업을 등록(실행 시작)한다. 병렬 비활성 시에는 즉시 호출 스레드에서 실행한다.
+         *
+         * @param task 읽기 쿼리 작업
+         * @param <T>  결과 타입
+         * @return join 이후 결과를 꺼낼 수 있는 핸들
+         */
+        public <T> Subtask<T> fork(Callable<T> task) {
+            if (!parallel) {
+                try {
+                    return Subtask.done(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }
+            FutureTask<T> ft = new FutureTask<>(() -> runGuarded(task));
+            Runnable decorated = decorator.decorate(ft);
+            futures.add(ft);
+            executor.execute(decorated);
+            return Subtask.of(ft);
+        }
+
+        private <T> T runGuarded(Callable<T> task) throws Exception {
+            boolean acquired = false;
+            IN_TASK.set(Boolean.TRUE);
+            try {
+                forkPermits.acquire();
+                acquired = true;
+                return task.call();
+            } catch (Throwable t) {
+                if (failure.compareAndSet(null, t)) cancelAll();
+                throw t;
+            } finally {
+                if (acquired) forkPermits.release();
+                IN_TASK.remove();
+            }
+        }
+
+        /**
+         * 모든 작업이 끝날 때까지 기다린다. 실패한 작업이 있으면 그 예외를 그대로 던진다.
+         */
+        public void join() {
+            joined = true;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(props.getJoinTimeoutSeconds());
+            try {
+                for (Future<?> f : futures) {
+                    try {
+                        f.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (CancellationException | ExecutionException ignore) {
+                        // 원인은 failure에 기록됨
+                    }
+                }
+            } catch (TimeoutException e) {
+                cancelAll();
+                throw new IllegalStateException("병렬 조회 대기 시간 초과(" + props.getJoinTimeoutSeconds() + "s)", e);
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("병렬 조회 대기 중 인터럽트", e);
+            }
+
+            Throwable t = failure.get();
+            if (t instanceof RuntimeException re) throw re;
+            if (t instanceof Error err) throw err;
+            if (t != null) throw new CompletionException(t);
+        }
+
+        private void cancelAll() {
+            for (Future<?> f : futures) f.cancel(true);
+        }
+
+        /**
+         * join 없이 닫히면(예외 경로) 남은 작업을 취소한다. 병렬 scope 허가는 작업이 모두 끝난 뒤 반납한다.
+         */
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (!joined) cancelAll();
+            if (!parallel) return;
+            try {
+                // 취소된 작업도 커넥션을 반납할 때까지 기다린 뒤 허가를 돌려준다
+                forkPermits.acquireUninterruptibly(forksPerScope);
+            } finally {
+                scopePermits.release();
+            }
+        }
+    }
+
+    /**
+     * fork 결과 핸들.
+     *
+     * @param <T> 결과 타입
+     */
+    public static final class Subtask<T> {
+        private final Future<T> future;
+        private final T value;
+
+        private Subtask(Future<T> future, T value) {
+            this.future = future;
+            this.value = value;
+        }
+
+        static <T> Subtask<T> of(Future<T> future) { return new Subtask<>(future, null); }
+
+        static <T> Subtask<T> done(T value) { return new Subtask<>(null, value); }
+
+        /**
+         * 결과를 반환한다. {@link Scope#join()}이 성공한 뒤에만 호출한다.
+         *
+         * @return 작업 결과
+         */
+        public T get() {
+            if (future == null) return value;
+            if (!future.isDone()) throw new IllegalStateException("join() 이전에 결과를 조회할 수 없습니다.");
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+        }
+    }
+
+    /* ===================== 내부 구성 ===================== */
+
+    private static ExecutorService createExecutor(ParallelQueryProperties props) {
+        if (props.isVirtualThreads()) {
+            try {
+                // Java 21+: Executors.newVirtualThreadPerTaskExecutor() (17 툴체인에서도 컴파일되도록 리플렉션)
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.info("[ParallelQuery] virtual threads unavailable on this runtime, using platform threads");
+            }
+        }
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                0, Math.max(1, props.getMaxThreads()),
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "pq-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()); // 포화 시 호출 스레드에서 실행(자연 배압)
+    }
+
+    private static int maxPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (Exception e) {
+            log.debug("[ParallelQuery] cannot inspect pool size: {}", e.getMessage());
+        }
+        return 10; // Hikari 기본값
+    }
+}
@@ -0,0 +1,54 @@
+package com.boot.ict05_final_admin.common.concurrent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 병렬 조회(fan-out) 실행기 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>병렬 실행 on/off, 가상 스레드 사용 여부, DB 동시 실행 허가 수(permit), 대기 제한 시간을 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.parallel-query")
+public class ParallelQueryProperties {
+
+    /**
+     * 병렬 실행 여부(false면 호출 스레드에서 순차 실행).
+     */
+    private boolean enabled = true;
+
+    /**
+     * 런타임이 지원하면(Java 21+) 가상 스레드 실행기 사용.
+     */
+    private boolean virtualThreads = true;
+
+    /**
+     * 병렬 조회에 쓸 커넥션 예산(호출 요청 몫 포함). 0 이하면 Hikari maximum-pool-size - reservedConnections.
+     */
+    private int dbPermits = 0;
+
+    /**
+     * 병렬 scope 하나에서 동시에 실행할 작업 수.
+     * 동시 병렬 scope 수는 {@code 예산 / (forksPerScope + 1)}로 제한되고, 초과 요청은 순차 실행한다.
+     */
+    private int forksPerScope = 3;
+
+    /**
+     * 자동 산정 시 요청 스레드 몫으로 남겨 둘 커넥션 수.
+     */
+    private int reservedConnections = 2;
+
+    /**
+     * 플랫폼 스레드 실행기 사용 시 최대 스레드 수(초과 시 호출 스레드에서 실행).
+     */
+    private int maxThreads = 64;
+
+    /**
+     * join 최대 대기 시간(초).
+     */
+    private long joinTimeoutSeconds = 60;
+}
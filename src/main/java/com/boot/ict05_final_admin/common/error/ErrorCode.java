@@ -40,6 +40,9 @@ public enum ErrorCode {
     /** 403 권한 없음(인가 실패) */
     FORBIDDEN(HttpStatus.FORBIDDEN, "AUTH-403", "접근 불가"),
 
+    /** 429 처리 대기열 포화(내보내기 작업 등) */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON-429", "요청이 많습니다. 잠시 후 다시 시도하세요."),
+
 
     /** 500 일반 서버 오류 */
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON-500", "서버 오류"),
@@ -0,0 +1,250 @@
+package com.boot.ict05_final_admin.common.export;
+
+import com.boot.ict05_final_admin.config.PythonPdfClient;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대용량 리포트를 행 범위(청크)로 나눠 PDF 서버에서 동시에 렌더링하고, 결과를 순서대로 병합하는 파이프라인.
+ *
+ * <pre>{@code
+ * try (ChunkedPdfRenderer.Session<OrderRow> s = renderer.open("/pdf/orders", criteria, total, ORDER_SCHEMA)) {
+ *     rows.forEach(s::add);   // 청크가 차면 곧바로 렌더링 요청(동시 요청 수 상한까지)
+ *     s.finishTo(out);        // 남은 청크 렌더링 → 순서대로 병합하여 out에 기록
+ * }
+ * }</pre>
+ *
+ * <ul>
+ *   <li>청크 크기/동시 요청 수: {@code app.export.pdf-chunk-rows}, {@code app.export.pdf-parallelism}</li>
+ *   <li>동시 요청 수는 앱 전체에서 공유하는 허가(semaphore)로 제한한다. 허가가 없으면 {@link Session#add}가 대기하므로
+ *       DB 읽기도 렌더링 속도에 맞춰 늦춰진다(메모리에는 최대 동시 요청 수 + 1개 청크만 유지).</li>
+ *   <li>청크에는 행 객체(DTO)만 쌓아 두고, 요청 본문은 {@link PdfRowSchema} 열 구성에 따라
+ *       {@link PythonPdfClient#writePdfTo}가 JSON으로 흘려 쓴다(행별 {@code Map} 생성 없음).</li>
+ *   <li>청크 PDF는 임시 파일로 바로 받고,
+ *       병합은 PDFBox 임시 파일 스트림 캐시로 수행하여 전체 문서를 힙에 올리지 않는다.</li>
+ *   <li>청크가 하나뿐이면 병합 없이 그 파일을 그대로 복사한다.</li>
+ *   <li>각 청크 criteria에는 {@code part}(1부터), {@code parts}, {@code rowOffset}, {@code rowCount}가 추가된다.
+ *       PDF 서버 템플릿은 {@code part > 1}이면 제목/기간 블록을 생략하고, 주문·재료 리포트는 No. 열을
+ *       {@code rowOffset + 1}부터 매긴다({@code python-pdf-download/component/pdf_generator.chunk_info}).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChunkedPdfRenderer implements DisposableBean {
+
+    private final PythonPdfClient pdfClient;
+    private final ExportProperties props;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public ChunkedPdfRenderer(PythonPdfClient pdfClient, ExportProperties props) {
+        this.pdfClient = pdfClient;
+        this.props = props;
+
+        int parallelism = Math.max(1, props.getPdfParallelism());
+        this.permits = new Semaphore(parallelism, true);
+        AtomicInteger seq = new AtomicInteger();
+        // 허가를 얻은 뒤에만 제출하므로 동시에 실행되는 작업은 parallelism을 넘지 않는다
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "pdf-chunk-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 분할 렌더링 세션을 연다. try-with-resources로 닫아야 임시 파일이 정리된다.
+     *
+     * @param path      PDF 서버 경로(예: {@code /pdf/orders})
+     * @param criteria  공통 조건(청크마다 복사하여 part 정보를 덧붙임)
+     * @param totalRows 전체 행 수(청크 수 계산용)
+     * @param schema    행 열 구성(요청 본문 직렬화용)
+     * @param <T>       행 타입
+     * @return 세션
+     */
+    public <T> Session<T> open(String path, Map<String, Object> criteria, long totalRows, PdfRowSchema<T> schema) {
+        int chunkRows = Math.max(1, props.getPdfChunkRows());
+        int parts = (int) Math.max(1, (totalRows + chunkRows - 1) / chunkRows);
+        return new Session<>(path, criteria, schema, chunkRows, parts);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 분할 렌더링 세션(단일 스레드에서 add/finishTo 호출).
+     *
+     * @param <T> 행 타입
+     */
+    public final class Session<T> implements AutoCloseable {
+
+        private final String path;
+        private final Map<String, Object> criteria;
+        private final PdfRowSchema<T> schema;
+        private final int chunkRows;
+        private final int parts;
+
+        private final List<Future<Path>> rendered = new ArrayList<>();
+        private final List<Path> files = new ArrayList<>();
+        private List<T> buffer = new ArrayList<>();
+        private long offset;
+
+        private Session(String path, Map<String, Object> criteria, PdfRowSchema<T> schema, int chunkRows, int parts) {
+            this.path = path;
+            this.criteria = criteria;
+            this.schema = schema;
+            this.chunkRows = chunkRows;
+            this.parts = parts;
+        }
+
+        /**
+         * 행 하나를 추가한다. 청크가 차면 렌더링을 요청한다(허가가 없으면 대기).
+         *
+         * @param row PDF 행 데이터
+         */
+        public void add(T row) {
+            buffer.add(row);
+            if (buffer.size() >= chunkRows) dispatch();
+        }
+
+        /**
+         * 남은 청크를 렌더링하고, 모든 청크를 순서대로 병합하여 기록한다. 스트림은 닫지 않는다.
+         *
+         * <p>행이 하나도 없으면 PDF 서버의 표 구성을 위해 빈 행 1개({@code {}})로 렌더링한다.</p>
+         *
+         * @param out 출력 스트림
+         * @throws IOException 병합/쓰기 오류
+         */
+        public void finishTo(OutputStream out) throws IOException {
+            if (!buffer.isEmpty() || rendered.isEmpty()) {
+                if (buffer.isEmpty()) buffer.add(null);
+                dispatch();
+            }
+
+            List<Path> ordered = new ArrayList<>(rendered.size());
+            for (Future<Path> f : rendered) ordered.add(await(f));
+
+            if (ordered.size() == 1) {
+                Files.copy(ordered.get(0), out);
+            } else {
+                PDFMergerUtility merger = new PDFMergerUtility();
+                for (Path p : ordered) merger.addSource(p.toFile());
+                merger.setDestinationStream(new NonClosingOutputStream(out));
+                merger.mergeDocuments(IOUtils.createTempFileOnlyStreamCache());
+            }
+            out.flush();
+            log.info("[PdfChunk] {} merged parts={}, rows={}", path, ordered.size(), offset);
+        }
+
+        /** 진행 중인 렌더링을 취소하고 임시 파일을 지운다. */
+        @Override
+        public void close() {
+            for (Future<Path> f : rendered) f.cancel(true);
+            for (Path p : files) {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.warn("[PdfChunk] temp delete failed: {}", p);
+                }
+            }
+        }
+
+        private void dispatch() {
+            failFast();
+            List<T> rows = buffer;
+            buffer = new ArrayList<>();
+
+            Map<String, Object> c = new HashMap<>(criteria);
+            c.put("part", rendered.size() + 1);
+            c.put("parts", Math.max(parts, rendered.size() + 1));
+            c.put("rowOffset", offset);
+            c.put("rowCount", rows.size());
+            offset += rows.size();
+
+            Path file;
+            try {
+                file = Files.createTempFile("pdf-chunk-", ".pdf");
+                files.add(file);
+                permits.acquire();
+            } catch (IOException e) {
+                throw new IllegalStateException("PDF 임시 파일 생성 실패", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("PDF 렌더링 대기 중 인터럽트", e);
+            }
+            try {
+                rendered.add(executor.submit(() -> {
+                    try {
+                        pdfClient.writePdfTo(path, c, schema, rows.iterator(), file);
+                        return file;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        /** 이미 실패한 청크가 있으면 더 읽지 않고 중단한다. */
+        private void failFast() {
+            for (Future<Path> f : rendered) {
+                if (!f.isDone()) continue;
+                try {
+                    await(f);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+        }
+
+        private Path await(Future<Path> f) throws IOException {
+            try {
+                return f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("PDF 렌더링 대기 중 인터럽트", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException re) throw re;
+                throw new IOException("PDF 청크 렌더링 실패: " + path, cause);
+            }
+        }
+    }
+
+    /** PDFBox가 저장 후 대상 스트림을 닫지 않도록 막는 래퍼(서블릿/캐시 파일 스트림은 호출자가 닫음) */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
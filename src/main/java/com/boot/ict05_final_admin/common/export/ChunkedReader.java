@@ -0,0 +1,93 @@
+package com.boot.ict05_final_admin.common.export;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 내보내기용 청크 조회 유틸리티.
+ *
+ * <p>전체 결과를 한 번에 DTO 리스트로 올리지 않고, 고정 크기 청크 단위로 읽어 소비자에 넘긴다.
+ * 힙에는 한 청크만 머문다.</p>
+ *
+ * <ul>
+ *   <li>{@link #keyset}: 정렬 키(보통 PK 내림차순) 기준 "마지막 키 이후" 조회 — 깊은 페이지에서도 일정한 비용</li>
+ *   <li>{@link #pages}: 정렬이 사용자 지정이라 키셋을 쓸 수 없는 목록용 오프셋 청크 조회.
+ *       정렬에 PK 타이브레이커를 붙여 청크 경계에서 누락/중복이 없도록 한다.</li>
+ * </ul>
+ */
+public final class ChunkedReader {
+
+    private ChunkedReader() {}
+
+    /**
+     * 키셋 방식으로 청크를 순회한다.
+     *
+     * @param reader    (마지막 키 또는 null, 청크 크기) → 다음 청크(키 순서로 정렬된 결과)
+     * @param keyOf     행에서 키 추출
+     * @param chunkSize 청크 크기
+     * @param sink      행 소비자
+     * @param <T>       행 타입
+     * @param <K>       키 타입
+     * @return 순회한 행 수
+     */
+    public static <T, K> long keyset(BiFunction<K, Integer, List<T>> reader,
+                                     Function<T, K> keyOf,
+                                     int chunkSize,
+                                     Consumer<T> sink) {
+        final int size = Math.max(1, chunkSize);
+        long n = 0;
+        K last = null;
+        while (true) {
+            List<T> chunk = reader.apply(last, size);
+            if (chunk == null || chunk.isEmpty()) return n;
+            for (T row : chunk) sink.accept(row);
+            n += chunk.size();
+            if (chunk.size() < size) return n;
+            last = keyOf.apply(chunk.get(chunk.size() - 1));
+        }
+    }
+
+    /**
+     * 오프셋 청크로 순회한다.
+     *
+     * @param reader    Pageable → 해당 청크 행
+     * @param chunkSize 청크 크기
+     * @param sort      정렬(PK 타이브레이커 포함 권장)
+     * @param sink      행 소비자
+     * @param <T>       행 타입
+     * @return 순회한 행 수
+     */
+    public static <T> long pages(Function<Pageable, List<T>> reader,
+                                 int chunkSize,
+                                 Sort sort,
+                                 Consumer<T> sink) {
+        final int size = Math.max(1, chunkSize);
+        long n = 0;
+        for (int page = 0; ; page++) {
+            List<T> chunk = reader.apply(PageRequest.of(page, size, sort == null ? Sort.unsorted() : sort));
+            if (chunk == null || chunk.isEmpty()) return n;
+            for (T row : chunk) sink.accept(row);
+            n += chunk.size();
+            if (chunk.size() < size) return n;
+        }
+    }
+
+    /**
+     * 정렬 끝에 PK 타이브레이커를 덧붙인다(이미 포함돼 있으면 그대로).
+     *
+     * @param sort     사용자 정렬(null/unsorted 허용)
+     * @param fallback 정렬이 없을 때 기본 정렬
+     * @param idProp   PK 프로퍼티명
+     * @return 결정적 정렬
+     */
+    public static Sort stable(Sort sort, Sort fallback, String idProp) {
+        Sort base = (sort == null || sort.isUnsorted()) ? fallback : sort;
+        return base.getOrderFor(idProp) != null ? base : base.and(Sort.by(Sort.Direction.DESC, idProp));
+    }
+}
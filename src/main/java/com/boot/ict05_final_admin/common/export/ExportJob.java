@@ -0,0 +1,83 @@
+package com.boot.ict05_final_admin.common.export;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 내보내기 작업 1건의 상태.
+ *
+ * <p>상태 전이는 작업 스레드 한 곳에서만 일어나고, 폴링 요청은 volatile 필드를 읽기만 한다.</p>
+ */
+@Getter
+public class ExportJob {
+
+    private final String id;
+
+    /** 검색 조건 해시(캐시 파일명) */
+    private final String key;
+
+    private final String filename;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    /** 캐시 파일에서 바로 응답한 작업인지 여부 */
+    private final boolean cached;
+
+    private final AtomicLong rows = new AtomicLong();
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private volatile ExportJobStatus status;
+
+    private volatile Path file;
+
+    private volatile String error;
+
+    private volatile LocalDateTime finishedAt;
+
+    private ExportJob(String id, String key, String filename, ExportJobStatus status, Path file, boolean cached) {
+        this.id = id;
+        this.key = key;
+        this.filename = filename;
+        this.status = status;
+        this.file = file;
+        this.cached = cached;
+    }
+
+    /** 새로 대기열에 넣을 작업 */
+    static ExportJob queued(String id, String key, String filename) {
+        return new ExportJob(id, key, filename, ExportJobStatus.QUEUED, null, false);
+    }
+
+    /** TTL 안의 캐시 파일로 즉시 완료된 작업 */
+    static ExportJob cached(String id, String key, String filename, Path file, long size) {
+        ExportJob job = new ExportJob(id, key, filename, ExportJobStatus.DONE, file, true);
+        job.bytes.set(size);
+        job.finishedAt = job.createdAt;
+        return job;
+    }
+
+    void start() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void done(Path file) {
+        this.file = file;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.DONE;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    /** 종료(완료/실패) 여부 */
+    public boolean isFinished() {
+        return status == ExportJobStatus.DONE || status == ExportJobStatus.FAILED;
+    }
+}
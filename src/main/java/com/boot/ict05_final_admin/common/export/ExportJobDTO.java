@@ -0,0 +1,69 @@
+package com.boot.ict05_final_admin.common.export;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 작업 상태 응답 DTO.
+ *
+ * <p>클라이언트는 {@code status}가 {@code DONE}이 될 때까지 폴링한 뒤 {@code downloadUrl}로 파일을 받는다.</p>
+ */
+@Data
+@Builder
+public class ExportJobDTO {
+
+    /** 작업 ID */
+    private String jobId;
+
+    /** 작업 상태 */
+    private ExportJobStatus status;
+
+    /** 다운로드 파일명 */
+    private String filename;
+
+    /** 지금까지 작성한 행 수(엑셀) */
+    private long rows;
+
+    /** 지금까지 기록한 바이트 수 */
+    private long bytes;
+
+    /** 캐시 파일로 즉시 응답했는지 여부 */
+    private boolean cached;
+
+    /** 실패 사유(FAILED일 때) */
+    private String error;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    /** 완료 시 다운로드 경로 */
+    private String downloadUrl;
+
+    /**
+     * 작업 상태를 응답 DTO로 변환한다.
+     *
+     * @param job 작업
+     * @return 응답 DTO
+     */
+    public static ExportJobDTO from(ExportJob job) {
+        return ExportJobDTO.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .filename(job.getFilename())
+                .rows(job.getRows().get())
+                .bytes(job.getBytes().get())
+                .cached(job.isCached())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .downloadUrl(job.getStatus() == ExportJobStatus.DONE
+                        ? "/API/export/jobs/" + job.getId() + "/file" : null)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.boot.ict05_final_admin.common.export;
+
+import com.boot.ict05_final_admin.domain.inventory.utility.ExcelResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * 비동기 내보내기 작업 조회/다운로드 REST 컨트롤러.
+ *
+ * <p>작업 제출은 각 도메인 컨트롤러의 {@code .../export} 엔드포인트가 담당하고,
+ * 여기서는 공통으로 상태 폴링과 완성 파일 다운로드를 제공한다.</p>
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/API/export/jobs")
+@Tag(name = "내보내기 작업 API", description = "비동기 엑셀/PDF 내보내기 작업의 진행률 조회 및 파일 다운로드")
+public class ExportJobRestController {
+
+    private final ExportJobService exportJobService;
+
+    /**
+     * 작업 상태(진행률) 조회.
+     *
+     * @param id 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "내보내기 작업 상태 조회")
+    public ResponseEntity<ExportJobDTO> status(@PathVariable String id) {
+        return ResponseEntity.ok(ExportJobDTO.from(exportJobService.get(id)));
+    }
+
+    /**
+     * 완료된 작업의 파일 다운로드.
+     *
+     * @param id 작업 ID
+     * @return 캐시 파일 응답(Content-Disposition 첨부)
+     */
+    @GetMapping("/{id}/file")
+    @Operation(summary = "내보내기 파일 다운로드")
+    public ResponseEntity<Resource> download(@PathVariable String id) {
+        ExportJob job = exportJobService.get(id);
+        Path file = exportJobService.file(id);
+
+        String filename = job.getFilename();
+        String encoded  = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        MediaType type = filename.endsWith(".pdf") ? MediaType.APPLICATION_PDF
+                : filename.endsWith(".xlsx") ? MediaType.parseMediaType(ExcelResponse.XLSX_MIME)
+                : MediaType.APPLICATION_OCTET_STREAM;
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .contentType(type)
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,34 @@
+package com.boot.ict05_final_admin.common.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내보내기 캐시 정리 스케줄러.
+ *
+ * <p>TTL({@code app.export.cache-ttl-minutes})이 지난 캐시 파일과 종료된 작업 상태를 주기적으로 제거한다.</p>
+ *
+ * <p>기본 주기: 5분({@code app.export.sweep-interval-ms})</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExportJobScheduler {
+
+    private final ExportJobService exportJobService;
+
+    /**
+     * 만료된 캐시 파일과 작업을 정리한다. 실패해도 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${app.export.sweep-interval-ms:300000}")
+    public void sweep() {
+        try {
+            int deleted = exportJobService.evictExpired();
+            if (deleted > 0) log.info("[ExportJob][SWEEP] deleted {} files", deleted);
+        } catch (Exception e) {
+            log.warn("[ExportJob][SWEEP] failed: {}", e.getMessage());
+        }
+    }
+}
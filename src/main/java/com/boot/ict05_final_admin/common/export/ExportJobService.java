@@ -0,0 +1,283 @@
+package com.boot.ict05_final_admin.common.export;
+
+import com.boot.ict05_final_admin.common.error.BusinessException;
+import com.boot.ict05_final_admin.common.error.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 내보내기를 요청 스레드 밖에서 생성하는 비동기 작업 큐.
+ *
+ * <p>처리 흐름</p>
+ * <ol>
+ *   <li>제출: (종류 + 검색 조건 JSON)의 SHA-256을 캐시 키로 삼는다.
+ *       TTL 안의 캐시 파일이 있으면 DB를 건드리지 않고 즉시 완료 작업을 돌려준다.
+ *       같은 키의 작업이 이미 대기/실행 중이면 그 작업을 돌려준다(중복 생성 방지).</li>
+ *   <li>실행: 상한이 있는 워커 풀에서 {@link ExportWriter}로 임시 파일에 쓰고, 끝나면 캐시 파일로 원자적 이동한다.
+ *       작성 행 수/바이트 수를 진행률로 노출한다.</li>
+ *   <li>조회/다운로드: 작업 ID로 상태를 폴링하고, 완료되면 캐시 파일을 내려받는다.</li>
+ * </ol>
+ *
+ * <p>대기열이 가득 차면 {@link ErrorCode#TOO_MANY_REQUESTS}로 거절한다.
+ * 만료된 파일/작업은 {@link ExportJobScheduler}가 주기적으로 정리한다.</p>
+ */
+@Slf4j
+@Service
+public class ExportJobService implements DisposableBean {
+
+    private final ExportProperties props;
+    private final ObjectMapper objectMapper;
+    private final TaskDecorator decorator;
+    private final ThreadPoolExecutor executor;
+    private final Path dir;
+
+    /** 작업 ID → 작업 */
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    /** 캐시 키 → 대기/실행 중인 작업 */
+    private final Map<String, ExportJob> inflight = new ConcurrentHashMap<>();
+
+    public ExportJobService(ExportProperties props,
+                            ObjectMapper objectMapper,
+                            @Qualifier("mdcTaskDecorator") TaskDecorator decorator) throws IOException {
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.decorator = decorator;
+        this.dir = Files.createDirectories(Paths.get(props.getCacheDir()));
+
+        int workers = Math.max(1, props.getJobWorkers());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getJobQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "export-job-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("[ExportJob] workers={}, queue={}, dir={}", workers, props.getJobQueueCapacity(), dir);
+    }
+
+    /**
+     * 내보내기 작업을 제출한다.
+     *
+     * @param kind     내보내기 종류(캐시 키 구분자, 예: {@code analytics-kpi-xlsx})
+     * @param params   검색 조건(JSON 직렬화하여 캐시 키에 사용)
+     * @param filename 다운로드 파일명(확장자 포함)
+     * @param writer   본문 작성기
+     * @return 제출된(또는 캐시/진행 중) 작업
+     * @throws BusinessException 대기열이 가득 찬 경우
+     */
+    public ExportJob submit(String kind, Object params, String filename, ExportWriter writer) {
+        String key = cacheKey(kind, params);
+        Path target = dir.resolve(key + extension(filename));
+
+        Optional<Long> cachedSize = freshSize(target);
+        if (cachedSize.isPresent()) {
+            ExportJob job = ExportJob.cached(UUID.randomUUID().toString(), key, filename, target, cachedSize.get());
+            jobs.put(job.getId(), job);
+            log.debug("[ExportJob] cache hit kind={}, key={}", kind, key);
+            return job;
+        }
+
+        ExportJob fresh = ExportJob.queued(UUID.randomUUID().toString(), key, filename);
+        ExportJob existing = inflight.putIfAbsent(key, fresh);
+        if (existing != null) return existing;
+
+        jobs.put(fresh.getId(), fresh);
+        try {
+            executor.execute(decorator.decorate(() -> run(fresh, target, writer)));
+        } catch (RejectedExecutionException e) {
+            inflight.remove(key, fresh);
+            jobs.remove(fresh.getId());
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "내보내기 작업이 많습니다. 잠시 후 다시 시도하세요.", true);
+        }
+        log.info("[ExportJob] queued id={}, kind={}, key={}", fresh.getId(), kind, key);
+        return fresh;
+    }
+
+    /**
+     * 작업을 조회한다.
+     *
+     * @param id 작업 ID
+     * @return 작업
+     * @throws BusinessException 존재하지 않는(또는 만료된) 작업
+     */
+    public ExportJob get(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "내보내기 작업을 찾을 수 없습니다: " + id, true);
+        }
+        return job;
+    }
+
+    /**
+     * 완료된 작업의 파일을 돌려준다.
+     *
+     * @param id 작업 ID
+     * @return 캐시 파일 경로
+     * @throws BusinessException 미완료/실패(409), 파일 만료(404)
+     */
+    public Path file(String id) {
+        ExportJob job = get(id);
+        if (job.getStatus() != ExportJobStatus.DONE) {
+            throw new BusinessException(ErrorCode.CONFLICT, "아직 다운로드할 수 없는 작업입니다: " + job.getStatus(), true);
+        }
+        if (job.getFile() == null || !Files.exists(job.getFile())) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "내보내기 파일이 만료되었습니다. 다시 요청하세요.", true);
+        }
+        return job.getFile();
+    }
+
+    /**
+     * TTL이 지난 캐시 파일과 종료된 작업을 정리한다.
+     *
+     * @return 삭제한 파일 수
+     */
+    public int evictExpired() {
+        Instant fileCutoff = Instant.now().minus(ttl());
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) {
+                try {
+                    FileTime modified = Files.getLastModifiedTime(p);
+                    // 작성 중인 .part 파일은 워커가 정리하므로 TTL 두 배가 지난 잔여물만 지운다
+                    Instant cutoff = p.getFileName().toString().endsWith(".part") ? fileCutoff.minus(ttl()) : fileCutoff;
+                    if (modified.toInstant().isBefore(cutoff) && Files.deleteIfExists(p)) deleted++;
+                } catch (IOException e) {
+                    log.warn("[ExportJob] evict failed: {} ({})", p, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[ExportJob] list cache dir failed: {}", e.getMessage());
+        }
+
+        LocalDateTime jobCutoff = LocalDateTime.now().minus(ttl());
+        jobs.values().removeIf(j -> j.isFinished() && j.getFinishedAt() != null && j.getFinishedAt().isBefore(jobCutoff));
+        return deleted;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // ----- internals -----
+
+    private void run(ExportJob job, Path target, ExportWriter writer) {
+        Path part = dir.resolve(job.getKey() + "." + job.getId() + ".part");
+        job.start();
+        ExportProgress.bind(job.getRows());
+        try {
+            try (OutputStream out = new CountingOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(part)), job.getBytes())) {
+                writer.write(out);
+            }
+            moveIntoPlace(part, target);
+            job.done(target);
+            log.info("[ExportJob] done id={}, rows={}, bytes={}", job.getId(), job.getRows().get(), job.getBytes().get());
+        } catch (Exception e) {
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            log.warn("[ExportJob] failed id={}: {}", job.getId(), e.toString());
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException ignore) {
+                // 남은 .part 파일은 evictExpired에서 정리
+            }
+        } finally {
+            ExportProgress.clear();
+            inflight.remove(job.getKey(), job);
+        }
+    }
+
+    private static void moveIntoPlace(Path part, Path target) throws IOException {
+        try {
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** TTL 안의 캐시 파일이면 크기를, 아니면 empty */
+    private Optional<Long> freshSize(Path target) {
+        try {
+            if (!Files.exists(target)) return Optional.empty();
+            Instant modified = Files.getLastModifiedTime(target).toInstant();
+            if (modified.isBefore(Instant.now().minus(ttl()))) return Optional.empty();
+            return Optional.of(Files.size(target));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String cacheKey(String kind, Object params) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(kind.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(objectMapper.writeValueAsBytes(params));
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("내보내기 캐시 키 생성 실패", e);
+        }
+    }
+
+    private static String extension(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 ? filename.substring(dot) : "";
+    }
+
+    private Duration ttl() {
+        return Duration.ofMinutes(Math.max(1, props.getCacheTtlMinutes()));
+    }
+
+    /** 기록한 바이트 수를 진행률 카운터에 반영하는 스트림 */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private final AtomicLong count;
+
+        CountingOutputStream(OutputStream out, AtomicLong count) {
+            super(out);
+            this.count = count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count.addAndGet(len);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.boot.ict05_final_admin.common.export;
+
+/**
+ * 내보내기 작업 상태.
+ */
+public enum ExportJobStatus {
+
+    /** 대기열에서 실행을 기다리는 중 */
+    QUEUED,
+
+    /** 파일 생성 중 */
+    RUNNING,
+
+    /** 생성 완료(다운로드 가능) */
+    DONE,
+
+    /** 생성 실패 */
+    FAILED
+}
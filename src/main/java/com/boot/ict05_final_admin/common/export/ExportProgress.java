@@ -0,0 +1,32 @@
+package com.boot.ict05_final_admin.common.export;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내보내기 작업의 진행률(작성 행 수) 보고 지점.
+ *
+ * <p>{@link ExportJobService} 작업 스레드에 카운터를 바인딩해 두면 {@link XlsxStreamWriter#nextRow()}가
+ * 행마다 값을 올린다. 동기 다운로드(요청 스레드)에서는 바인딩이 없으므로 아무 일도 하지 않는다.</p>
+ */
+public final class ExportProgress {
+
+    private static final ThreadLocal<AtomicLong> ROWS = new ThreadLocal<>();
+
+    private ExportProgress() {}
+
+    /** 현재 스레드에 행 카운터를 바인딩한다. */
+    static void bind(AtomicLong rows) {
+        ROWS.set(rows);
+    }
+
+    /** 현재 스레드의 바인딩을 해제한다. */
+    static void clear() {
+        ROWS.remove();
+    }
+
+    /** 행 하나를 작성했음을 보고한다. */
+    public static void row() {
+        AtomicLong rows = ROWS.get();
+        if (rows != null) rows.incrementAndGet();
+    }
+}
@@ -0,0 +1,65 @@
+package com.boot.ict05_final_admin.common.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 내보내기(엑셀 스트리밍) 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>청크 조회 크기, SXSSF 메모리 행 윈도우, 분석 내보내기의 일자 윈도우 크기와
+ * 비동기 내보내기 작업(워커 수, 대기열, 디스크 캐시 위치/TTL), PDF 분할 렌더링(청크 행 수, 동시 요청 수)을
+ * 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * 한 번에 조회할 행 수(청크 크기).
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * SXSSF가 메모리에 유지하는 행 수(초과분은 임시 파일로 flush).
+     */
+    private int rowWindow = 200;
+
+    /**
+     * 분석 일별(DAY) 내보내기에서 한 번에 읽을 일자 윈도우 크기(일).
+     */
+    private int windowDays = 7;
+
+    /**
+     * 비동기 내보내기 작업 워커 수.
+     */
+    private int jobWorkers = 2;
+
+    /**
+     * 실행을 기다릴 수 있는 작업 수(초과 시 제출 거절).
+     */
+    private int jobQueueCapacity = 20;
+
+    /**
+     * 완성 파일 캐시 디렉터리.
+     */
+    private String cacheDir = System.getProperty("java.io.tmpdir") + "/ict05-export";
+
+    /**
+     * 같은 조건의 내보내기를 캐시 파일로 응답하는 시간(분).
+     */
+    private int cacheTtlMinutes = 30;
+
+    /**
+     * PDF 분할 렌더링 시 요청 1건에 담을 행 수.
+     */
+    private int pdfChunkRows = 2000;
+
+    /**
+     * PDF 서버에 동시에 보낼 분할 렌더링 요청 수(앱 전체 상한).
+     */
+    private int pdfParallelism = 3;
+}
@@ -0,0 +1,19 @@
+package com.boot.ict05_final_admin.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 내보내기 파일 본문 작성기.
+ *
+ * <p>서비스의 {@code writeExcel(..., OutputStream)} 계열 메서드를 그대로 넘긴다. 스트림은 닫지 않는다.</p>
+ */
+@FunctionalInterface
+public interface ExportWriter {
+
+    /**
+     * @param out 대상 스트림(캐시 파일)
+     * @throws IOException 쓰기 오류
+     */
+    void write(OutputStream out) throws IOException;
+}
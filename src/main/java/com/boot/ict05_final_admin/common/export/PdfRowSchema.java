@@ -0,0 +1,69 @@
+package com.boot.ict05_final_admin.common.export;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PDF 서버로 보낼 행의 열 구성(이름 → 값 추출기).
+ *
+ * <p>DTO를 행마다 {@code Map}으로 복사하지 않고, 요청 본문을 쓸 때 열 순서대로 값을 바로 꺼내 JSON으로 기록한다.</p>
+ *
+ * <pre>{@code
+ * static final PdfRowSchema<OrdersRowDto> ORDERS = PdfRowSchema.<OrdersRowDto>builder()
+ *         .col("date", OrdersRowDto::getDate)
+ *         .col("menuSales", OrdersRowDto::getMenuSales)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> 행 타입
+ */
+public final class PdfRowSchema<T> {
+
+    /**
+     * 열 정의.
+     *
+     * @param name  JSON 필드명
+     * @param value 행에서 값을 꺼내는 함수(null 허용)
+     * @param <T>   행 타입
+     */
+    public record Column<T>(String name, Function<? super T, ?> value) {}
+
+    private final List<Column<T>> columns;
+
+    private PdfRowSchema(List<Column<T>> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    /** 열 목록(선언 순서) */
+    public List<Column<T>> columns() {
+        return columns;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Column<T>> columns = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * 열을 추가한다.
+         *
+         * @param name  JSON 필드명
+         * @param value 값 추출기
+         * @return this
+         */
+        public Builder<T> col(String name, Function<? super T, ?> value) {
+            columns.add(new Column<>(name, value));
+            return this;
+        }
+
+        public PdfRowSchema<T> build() {
+            return new PdfRowSchema<>(columns);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.boot.ict05_final_admin.common.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 행 윈도우가 고정된 SXSSF 기반 XLSX 스트리밍 작성기.
+ *
+ * <p>메모리에는 최근 {@code rowWindow}개 행만 유지하고 나머지는 압축 임시 파일로 내려보내므로,
+ * 전체 행 수와 무관하게 힙 사용량이 일정하다. 완성된 워크북은 {@link #writeTo(OutputStream)}로
+ * 응답 스트림에 직접 기록한다(바이트 배열로 모으지 않음).</p>
+ *
+ * <pre>{@code
+ * try (XlsxStreamWriter x = new XlsxStreamWriter("목록", props.getRowWindow())) {
+ *     x.header(cols, headerStyle);
+ *     reader.forEach(dto -> { Row row = x.nextRow(); ... });
+ *     x.autoSize(cols.length);
+ *     x.writeTo(out);
+ * }
+ * }</pre>
+ */
+public final class XlsxStreamWriter implements AutoCloseable {
+
+    private final SXSSFWorkbook wb;
+    private final SXSSFSheet sheet;
+    private int nextRow;
+
+    /**
+     * @param sheetName 시트명
+     * @param rowWindow 메모리에 유지할 행 수(1 이상)
+     */
+    public XlsxStreamWriter(String sheetName, int rowWindow) {
+        this.wb = new SXSSFWorkbook(Math.max(1, rowWindow));
+        this.wb.setCompressTempFiles(true);
+        this.sheet = wb.createSheet(sheetName);
+    }
+
+    /** 스타일/포맷 생성을 위한 워크북 */
+    public Workbook workbook() { return wb; }
+
+    /** 열 너비 등 시트 설정용 */
+    public Sheet sheet() { return sheet; }
+
+    /** 지금까지 작성한 행 수(헤더 포함) */
+    public int rowCount() { return nextRow; }
+
+    /**
+     * 헤더 행을 작성한다. 자동 너비 계산이 필요하면 이후 {@link #trackAutoSize()}를 호출한다.
+     *
+     * @param cols  헤더 라벨
+     * @param style 헤더 스타일(null 허용)
+     */
+    public void header(String[] cols, CellStyle style) {
+        Row hr = nextRow();
+        for (int c = 0; c < cols.length; c++) {
+            Cell cell = hr.createCell(c);
+            cell.setCellValue(cols[c]);
+            if (style != null) cell.setCellStyle(style);
+        }
+    }
+
+    /**
+     * 자동 너비 계산을 위해 열 너비를 행 작성 시점마다 누적 추적한다(flush된 행도 반영).
+     */
+    public void trackAutoSize() {
+        sheet.trackAllColumnsForAutoSizing();
+    }
+
+    /**
+     * 다음 행을 생성한다. 내보내기 작업 스레드라면 진행률(행 수)도 함께 올린다.
+     *
+     * @return 새 행
+     */
+    public Row nextRow() {
+        ExportProgress.row();
+        return sheet.createRow(nextRow++);
+    }
+
+    /**
+     * 추적된 열 너비로 0..cols-1 열을 자동 조정한다. {@link #trackAutoSize()} 선행 필요.
+     *
+     * @param cols 열 수
+     */
+    public void autoSize(int cols) {
+        for (int c = 0; c < cols; c++) sheet.autoSizeColumn(c);
+    }
+
+    /**
+     * 워크북을 출력 스트림에 기록한다. 스트림은 닫지 않는다.
+     *
+     * @param out 출력 스트림(서블릿 응답 등)
+     * @throws IOException 쓰기 오류
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        wb.write(out);
+        out.flush();
+    }
+
+    /** 임시 파일을 정리하고 워크북을 닫는다. */
+    @Override
+    public void close() throws IOException {
+        try {
+            wb.dispose();
+        } finally {
+            wb.close();
+        }
+    }
+}
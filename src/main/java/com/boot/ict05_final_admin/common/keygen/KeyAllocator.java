@@ -0,0 +1,100 @@
+package com.boot.ict05_final_admin.common.keygen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 업무 키(LOT 번호, 재료 코드 등) 블록 할당기.
+ *
+ * <p>키마다 {@code key_sequence} 행에서 값 구간을 예약해 두고 메모리에서 하나씩 나눠 준다.</p>
+ *
+ * <ul>
+ *   <li>발급: 현재 블록의 커서를 원자적으로 증가시키므로 잠금이 없다.</li>
+ *   <li>보충: 블록이 소진되면 키 단위로만 동기화하여 새 블록을 예약한다(별도 트랜잭션, 행 잠금 1회).</li>
+ *   <li>충돌 방지: 노드마다 서로 다른 구간을 예약하므로 발급 값이 겹치지 않으며, 존재 여부 조회가 필요 없다.</li>
+ *   <li>번호 공백: 재기동이나 호출 트랜잭션 롤백 시 쓰지 못한 값은 다시 쓰지 않는다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class KeyAllocator {
+
+    private final KeySequenceJdbcRepository sequenceRepository;
+    private final TransactionTemplate requiresNew;
+
+    /** 키 → 현재 블록 */
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /** 키 → 보충용 잠금 */
+    private final Map<String, Object> refillLocks = new ConcurrentHashMap<>();
+
+    public KeyAllocator(KeySequenceJdbcRepository sequenceRepository, PlatformTransactionManager txManager) {
+        this.sequenceRepository = sequenceRepository;
+        this.requiresNew = new TransactionTemplate(txManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** 예약 구간 {@code [cursor, end)} */
+    private static final class Block {
+        final AtomicLong cursor;
+        final long end;
+
+        Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+
+        /** @return 발급 값, 소진되었으면 -1 */
+        long take() {
+            long v = cursor.getAndIncrement();
+            return v < end ? v : -1;
+        }
+    }
+
+    /**
+     * 키의 다음 값을 발급한다.
+     *
+     * @param key       시퀀스 키
+     * @param blockSize 보충 시 예약할 값 개수
+     * @param seed      시퀀스 행이 없을 때 첫 값 산정 함수(클러스터 전체에서 키당 1회)
+     * @return 발급 값
+     */
+    public long next(String key, int blockSize, LongSupplier seed) {
+        Block b = blocks.get(key);
+        long v = b != null ? b.take() : -1;
+        if (v >= 0) return v;
+
+        synchronized (refillLocks.computeIfAbsent(key, k -> new Object())) {
+            // 다른 스레드가 먼저 보충했을 수 있음
+            b = blocks.get(key);
+            v = b != null ? b.take() : -1;
+            if (v >= 0) return v;
+
+            int size = Math.max(1, blockSize);
+            Long start = requiresNew.execute(s -> sequenceRepository.reserve(key, size, seed));
+            Block fresh = new Block(start, start + size);
+            v = fresh.take();
+            blocks.put(key, fresh);
+            log.debug("[KeyAllocator] reserved key={}, range=[{}, {})", key, start, start + size);
+            return v;
+        }
+    }
+
+    /**
+     * 키의 메모리 블록을 버린다(예: 지난 일자 키 정리). 남은 값은 다시 쓰지 않는다.
+     *
+     * @param key 시퀀스 키
+     */
+    public void release(String key) {
+        blocks.remove(key);
+        refillLocks.remove(key);
+    }
+}
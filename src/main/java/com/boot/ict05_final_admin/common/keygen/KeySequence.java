@@ -0,0 +1,26 @@
+package com.boot.ict05_final_admin.common.keygen;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 업무 키 시퀀스(블록 할당 원장).
+ *
+ * <p>키(예: {@code LOT-251017}, {@code MAT-BAS})마다 다음에 내줄 값을 한 행으로 보관한다.
+ * 각 노드는 이 행을 한 번 잠가 갱신하여 값 구간(블록)을 예약하고, 예약한 구간은 메모리에서 나눠 준다.</p>
+ */
+@Entity
+@Table(name = "key_sequence")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class KeySequence {
+
+    /** 시퀀스 키 */
+    @Id
+    @Column(name = "seq_key", length = 64)
+    private String seqKey;
+
+    /** 다음에 예약될 값(이미 예약된 구간의 끝, exclusive) */
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
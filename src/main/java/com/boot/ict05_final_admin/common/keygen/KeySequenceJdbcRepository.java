@@ -0,0 +1,51 @@
+package com.boot.ict05_final_admin.common.keygen;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 업무 키 시퀀스 블록 예약용 JDBC 리포지토리.
+ *
+ * <p>블록 하나를 예약할 때 시퀀스 행을 {@code UPDATE}로 한 번 잠가 증가시키고 그 값을 읽는다.
+ * 행 잠금은 호출 트랜잭션이 끝날 때 풀리므로, 호출 측은 짧은 별도 트랜잭션에서 호출해야 한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeySequenceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키의 값 구간 {@code [start, start + size)}를 예약한다.
+     *
+     * <p>시퀀스 행이 없으면 {@code seed}가 돌려준 값부터 시작하는 행을 만든다.
+     * 여러 노드가 동시에 만들려 해도 {@code INSERT IGNORE}로 한 행만 남고, 예약은 모두 같은 행 잠금을 거친다.</p>
+     *
+     * @param key  시퀀스 키
+     * @param size 예약할 값 개수(1 이상)
+     * @param seed 행이 없을 때 첫 값 산정 함수(행 생성 시 1회만 호출)
+     * @return 예약한 구간의 첫 값
+     */
+    public long reserve(String key, int size, LongSupplier seed) {
+        int updated = increment(key, size);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT IGNORE INTO key_sequence (seq_key, next_value) VALUES (?, ?)",
+                    key, seed.getAsLong());
+            updated = increment(key, size);
+        }
+        if (updated == 0) {
+            throw new IllegalStateException("키 시퀀스를 예약할 수 없습니다: " + key);
+        }
+        Long end = jdbcTemplate.queryForObject(
+                "SELECT next_value FROM key_sequence WHERE seq_key = ?", Long.class, key);
+        return end - size;
+    }
+
+    private int increment(String key, int size) {
+        return jdbcTemplate.update(
+                "UPDATE key_sequence SET next_value = next_value + ? WHERE seq_key = ?", size, key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.boot.ict05_final_admin.common.keygen;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업무 키 블록 할당기 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>키 종류별로 한 번에 예약할 값 개수(블록 크기)를 외부 설정으로 주입받는다.
+ * 블록이 클수록 DB 왕복이 줄고, 재기동 시 쓰지 못한 값만큼 번호 공백이 생긴다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.keygen")
+public class KeygenProperties {
+
+    /**
+     * LOT 번호 블록 크기(일자별 시퀀스).
+     */
+    private int lotBlockSize = 50;
+
+    /**
+     * 재료 코드 블록 크기(카테고리별 시퀀스). 등록 빈도가 낮고 번호가 화면에 노출되므로 기본 1.
+     */
+    private int materialCodeBlockSize = 1;
+}
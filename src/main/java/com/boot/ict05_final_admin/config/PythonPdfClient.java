@@ -1,17 +1,33 @@
 package com.boot.ict05_final_admin.config;
 
+import com.boot.ict05_final_admin.common.export.PdfRowSchema;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+
 /**
  * FastAPI 기반 PDF 생성 서버와의 통신을 담당하는 WebClient 클라이언트 컴포넌트.
  *
@@ -26,6 +42,8 @@ import reactor.core.publisher.Mono;
  *   <li>PDF 서버 Base URL은 {@code pdf.python.base-url} 프로퍼티에서 주입됨</li>
  *   <li>기본 메모리 버퍼 크기: 64MB (대용량 PDF 지원)</li>
  *   <li>응답이 0바이트일 경우 예외 발생 (조용한 실패 방지)</li>
+ *   <li>{@link #writePdfTo}: 행 이터레이터 + 열 구성({@link PdfRowSchema})을 JsonGenerator로 흘려 보내고,
+ *       응답은 메모리에 모으지 않고 파일로 스트리밍 수신(분할 렌더링용)</li>
  *   <li>에러 응답(4xx, 5xx)은 {@link IllegalStateException}으로 전파</li>
  * </ul>
  *
@@ -46,8 +64,14 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class PythonPdfClient {
 
+    /** 요청 본문 DataBuffer 하나에 담을 행 수 */
+    private static final int ROWS_PER_BUFFER = 256;
+
     private final WebClient pdfWebClient;
 
+    /** 요청 본문 직렬화용(WebClient 기본 Jackson 코덱과 같은 설정) */
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
     /**
      * PDF 서버와 통신하기 위한 {@link WebClient}를 초기화한다.
      *
@@ -140,15 +164,7 @@ public class PythonPdfClient {
                 .accept(MediaType.APPLICATION_PDF)
                 .bodyValue(body)
                 .retrieve()
-                .onStatus(HttpStatusCode::isError, resp ->
-                        resp.bodyToMono(String.class)
-                                .defaultIfEmpty("")
-                                .flatMap(msg -> {
-                                    log.error("PDF server error {} {}: {}", resp.statusCode().value(), path, msg);
-                                    return Mono.error(new IllegalStateException(
-                                            "PDF server error %s: %s".formatted(resp.statusCode(), msg)));
-                                })
-                )
+                .onStatus(HttpStatusCode::isError, resp -> toError(path, resp))
                 .bodyToMono(byte[].class)
                 .block();
 
@@ -160,4 +176,139 @@ public class PythonPdfClient {
         }
         return bytes;
     }
+
+    /**
+     * 행 스트림을 요청 본문으로 흘려 보내고, PDF 응답은 메모리에 모으지 않고 파일로 바로 기록한다.
+     *
+     * <p>
+     * 요청 본문 {@code {"criteria": {...}, "data": [{...}, ...]}}은 Jackson {@link JsonGenerator}로
+     * {@value #ROWS_PER_BUFFER}행씩 {@link DataBuffer}에 직렬화하여 {@link Flux}로 전송한다.
+     * 행을 {@code Map}으로 복사하지 않으며, 이터레이터가 다음 행을 내줄 때마다 본문이 이어서 기록된다.
+     * {@code null} 행은 빈 객체 {@code {}}로 기록한다(빈 리포트의 표 구성 보정용).
+     * </p>
+     *
+     * <p>
+     * 응답 본문은 {@link DataBuffer} 단위로 받아 {@code target}에 순차 기록하므로
+     * {@code maxInMemorySize}(64MB) 제한과 무관하게 큰 PDF도 받을 수 있다.
+     * 분할 렌더링({@code ChunkedPdfRenderer})에서 청크별 결과를 임시 파일로 받을 때 사용한다.
+     * </p>
+     *
+     * @param path     요청 경로 (예: {@code /pdf/orders})
+     * @param criteria 리포트 조건
+     * @param schema   행 열 구성
+     * @param rows     행 이터레이터(요청 본문을 쓰는 동안 소비)
+     * @param target   기록할 파일(덮어씀)
+     * @param <T>      행 타입
+     * @return 기록한 바이트 수
+     * @throws IllegalStateException FastAPI 서버 오류 또는 응답이 비어 있을 때
+     */
+    public <T> long writePdfTo(String path,
+                               Map<String, Object> criteria,
+                               PdfRowSchema<T> schema,
+                               Iterator<? extends T> rows,
+                               Path target) {
+        Flux<DataBuffer> stream = pdfWebClient.post()
+                .uri(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_PDF)
+                .body(BodyInserters.fromDataBuffers(jsonBody(criteria, schema, rows)))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, resp -> toError(path, resp))
+                .bodyToFlux(DataBuffer.class);
+
+        DataBufferUtils.write(stream, target,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE).block();
+
+        long len;
+        try {
+            len = Files.size(target);
+        } catch (IOException e) {
+            throw new IllegalStateException("PDF write failed " + path, e);
+        }
+        log.debug("PDF streamed from {} bytes={}", path, len);
+
+        if (len == 0) {
+            throw new IllegalStateException("Empty PDF from " + path);
+        }
+        return len;
+    }
+
+    /**
+     * 요청 본문을 {@value #ROWS_PER_BUFFER}행 단위의 {@link DataBuffer} 흐름으로 직렬화한다.
+     */
+    private <T> Flux<DataBuffer> jsonBody(Map<String, Object> criteria,
+                                         PdfRowSchema<T> schema,
+                                         Iterator<? extends T> rows) {
+        return Flux.generate(
+                () -> new JsonBodyState(objectMapper),
+                (state, sink) -> {
+                    try {
+                        JsonGenerator gen = state.gen;
+                        if (!state.started) {
+                            gen.writeStartObject();
+                            gen.writeFieldName("criteria");
+                            gen.writeObject(criteria);
+                            gen.writeArrayFieldStart("data");
+                            state.started = true;
+                        }
+                        for (int n = 0; n < ROWS_PER_BUFFER && rows.hasNext(); n++) {
+                            T row = rows.next();
+                            gen.writeStartObject();
+                            if (row != null) {
+                                for (PdfRowSchema.Column<T> c : schema.columns()) {
+                                    gen.writeFieldName(c.name());
+                                    gen.writeObject(c.value().apply(row));
+                                }
+                            }
+                            gen.writeEndObject();
+                        }
+                        boolean last = !rows.hasNext();
+                        if (last) {
+                            gen.writeEndArray();
+                            gen.writeEndObject();
+                        }
+                        gen.flush();
+                        sink.next(DefaultDataBufferFactory.sharedInstance.wrap(state.buf.toByteArray()));
+                        state.buf.reset();
+                        if (last) sink.complete();
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                    return state;
+                },
+                JsonBodyState::close);
+    }
+
+    /** 본문 직렬화 상태(버퍼는 {@value #ROWS_PER_BUFFER}행 분량만 유지하고 매번 비운다) */
+    private static final class JsonBodyState {
+
+        private final ByteArrayOutputStream buf = new ByteArrayOutputStream(8192);
+        private final JsonGenerator gen;
+        private boolean started;
+
+        private JsonBodyState(ObjectMapper mapper) throws IOException {
+            this.gen = mapper.getFactory().createGenerator(buf);
+        }
+
+        private void close() {
+            try {
+                gen.close();
+            } catch (IOException ignore) {
+                // 메모리 버퍼라 닫기 실패는 무시
+            }
+        }
+    }
+
+    /**
+     * 오류 응답(4xx, 5xx) 본문을 로그로 남기고 {@link IllegalStateException}으로 변환한다.
+     */
+    private static Mono<Throwable> toError(String path, ClientResponse resp) {
+        return resp.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(msg -> {
+                    log.error("PDF server error {} {}: {}", resp.statusCode().value(), path, msg);
+                    return Mono.error(new IllegalStateException(
+                            "PDF server error %s: %s".formatted(resp.statusCode(), msg)));
+                });
+    }
 }
@@ -0,0 +1,15 @@
+package com.boot.ict05_final_admin.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업 활성화 설정.
+ *
+ * <p>각 작업은 자체 설정으로 켜고 끈다(예: {@code analytics.rollup.enabled}).
+ * 본사 인벤토리 스캐너의 FCM 주기 전송은 {@code fcm.scanner.cron}을 지정해야만 실행된다(기본 {@code -}, 꺼짐).</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
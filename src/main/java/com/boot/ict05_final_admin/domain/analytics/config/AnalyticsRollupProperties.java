@@ -0,0 +1,56 @@
+package com.boot.ict05_final_admin.domain.analytics.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 롤업(사전 집계) 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>갱신 스케줄러 on/off, cron, 재집계 범위(lookback), 청크 크기, 최초 백필 시작일과
+ * 조회 측 롤업 사용 여부를 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "analytics.rollup")
+public class AnalyticsRollupProperties {
+
+    /**
+     * 갱신 스케줄러 활성화 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 조회 시 롤업 테이블 사용 여부(false면 항상 원본 주문 테이블을 집계).
+     */
+    private boolean readEnabled = true;
+
+    /**
+     * 크론 표현식(기본: 매시 10분).
+     */
+    private String cron = "0 10 * * * *";
+
+    /**
+     * 매 실행마다 다시 집계할 최근 일수(늦게 완료 처리된 주문 반영용).
+     */
+    private int lookbackDays = 2;
+
+    /**
+     * 한 트랜잭션에서 재작성할 최대 일수(백필 시 잠금/언두 크기 제한).
+     */
+    private int chunkDays = 31;
+
+    /**
+     * 최초 백필 시작일. 비어 있으면 전전년도 1월 1일(LYTD 비교 구간 포함).
+     */
+    private LocalDate backfillFrom;
+
+    /**
+     * 조회 측 워터마크 캐시 유지 시간(초).
+     */
+    private long coverageTtlSeconds = 60;
+}
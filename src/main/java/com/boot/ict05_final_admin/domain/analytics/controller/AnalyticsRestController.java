@@ -1,7 +1,14 @@
 package com.boot.ict05_final_admin.domain.analytics.controller;
 
+import com.boot.ict05_final_admin.common.error.BusinessException;
+import com.boot.ict05_final_admin.common.error.ErrorCode;
+import com.boot.ict05_final_admin.common.export.ExportJob;
+import com.boot.ict05_final_admin.common.export.ExportJobDTO;
+import com.boot.ict05_final_admin.common.export.ExportJobService;
+import com.boot.ict05_final_admin.common.export.ExportWriter;
 import com.boot.ict05_final_admin.domain.analytics.dto.AnalyticsSearchDto;
 import com.boot.ict05_final_admin.domain.analytics.service.AnalyticsService;
+import com.boot.ict05_final_admin.domain.inventory.utility.ExcelResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,11 +19,11 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -28,7 +35,9 @@ import java.time.format.DateTimeFormatter;
  * <p>
  * KPI, 주문, 시간·요일 분석 영역의 <b>엑셀(XLSX)</b> 및 <b>PDF</b> 다운로드 엔드포인트를 제공한다.
  * 모든 엔드포인트는 요청 파라미터로 전달된 {@link AnalyticsSearchDto} 조건을 바탕으로
- * 서버에서 파일 바이트를 생성하여 <code>Content-Disposition: attachment</code> 헤더와 함께 반환한다.
+ * 서버에서 파일을 생성하여 <code>Content-Disposition: attachment</code> 헤더와 함께 반환한다.
+ * 엑셀은 {@link StreamingResponseBody}로 응답 스트림에 직접 기록한다(전체 바이트를 메모리에 모으지 않음).
+ * 대용량 리포트는 {@code POST /{section}/export}로 비동기 내보내기 작업을 제출할 수 있다.
  * </p>
  *
  * <h3>다운로드 공통 규칙</h3>
@@ -36,6 +45,7 @@ import java.time.format.DateTimeFormatter;
  *   <li>파일명: 기능_기간(or 모드)_yyyy-MM-dd 형식으로 구성</li>
  *   <li>인코딩: RFC5987 형식의 <code>filename*=UTF-8''...</code> 로 브라우저 호환성 확보</li>
  *   <li>캐시: <code>Cache-Control: no-cache</code> 적용</li>
+ *   <li>기간: 응답을 만들기 전에 검사(빈 날짜는 기본 기간으로 채움, 시작일이 종료일보다 늦으면 400)</li>
  * </ul>
  *
  * @author 이경욱
@@ -47,18 +57,18 @@ import java.time.format.DateTimeFormatter;
 @Tag(name = "통계/리포트 API", description = "KPI/주문/시간 분석 리포트의 엑셀·PDF 다운로드 제공")
 public class AnalyticsRestController {
 
-	private static final String XLSX_MIME = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+	private static final String XLSX_MIME = ExcelResponse.XLSX_MIME;
 
 	private final AnalyticsService analyticsService;
+	private final ExportJobService exportJobService;
 
 	/**
 	 * KPI 리스트 엑셀 다운로드.
 	 *
-	 * <p>조회조건(가맹점, 기간 등)에 맞는 KPI 테이블을 생성하여 XLSX 바이트로 반환한다.</p>
+	 * <p>조회조건(가맹점, 기간 등)에 맞는 KPI 테이블을 생성하여 XLSX로 스트리밍한다.</p>
 	 *
 	 * @param cond     KPI 조회조건(가맹점/기간/출력방식 등)
-	 * @param pageable 페이지 사이즈(엑셀 행 개수 제한 등에 활용)
-	 * @return XLSX 파일 바이트 리소스 (Content-Disposition 첨부)
+	 * @return XLSX 스트리밍 응답 (Content-Disposition 첨부)
 	 */
 	@Operation(
 			summary = "KPI 엑셀 다운로드",
@@ -70,32 +80,24 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/kpi/download", produces = XLSX_MIME)
-	public ResponseEntity<Resource> downloadExcelKpiList(
-			@ParameterObject @ModelAttribute AnalyticsSearchDto cond,
-			@ParameterObject Pageable pageable
+	public ResponseEntity<StreamingResponseBody> downloadExcelKpiList(
+			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] excelBytes = analyticsService.downloadExcelKpi(cond, pageable);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String filename = "KPI_" + start + "_" + end + ".xlsx";
-		String encoded  = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+","%20");
 
-		return ResponseEntity.ok()
-				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
-				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
-				.contentType(MediaType.parseMediaType(XLSX_MIME))
-				.body(new ByteArrayResource(excelBytes));
+		return ExcelResponse.stream(out -> analyticsService.writeExcelKpi(cond, out), filename);
 	}
 
 	/**
 	 * 주문 리스트 엑셀 다운로드.
 	 *
-	 * <p>조건에 맞는 주문/메뉴 집계를 생성하여 XLSX 바이트로 반환한다.</p>
+	 * <p>조건에 맞는 주문/메뉴 집계를 생성하여 XLSX로 스트리밍한다.</p>
 	 *
 	 * @param cond     주문 분석 조회조건
-	 * @param pageable 페이지/사이즈 정보
-	 * @return XLSX 파일 바이트 리소스
+	 * @return XLSX 스트리밍 응답
 	 */
 	@Operation(
 			summary = "주문 엑셀 다운로드",
@@ -107,32 +109,24 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/orders/download", produces = XLSX_MIME)
-	public ResponseEntity<Resource> downloadExcelOrdersList(
-			@ParameterObject @ModelAttribute AnalyticsSearchDto cond,
-			@ParameterObject Pageable pageable
+	public ResponseEntity<StreamingResponseBody> downloadExcelOrdersList(
+			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] excelBytes = analyticsService.downloadExcelOrders(cond, pageable);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String filename = "Orders_" + start + "_" + end + ".xlsx";
-		String encoded  = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+","%20");
 
-		return ResponseEntity.ok()
-				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
-				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
-				.contentType(MediaType.parseMediaType(XLSX_MIME))
-				.body(new ByteArrayResource(excelBytes));
+		return ExcelResponse.stream(out -> analyticsService.writeExcelOrders(cond, out), filename);
 	}
 
 	/**
 	 * 시간·요일 분석 엑셀 다운로드.
 	 *
-	 * <p>선택 기간의 시간대/요일별 매출·주문 분석 결과를 XLSX 바이트로 반환한다.</p>
+	 * <p>선택 기간의 시간대/요일별 매출·주문 분석 결과를 XLSX로 스트리밍한다.</p>
 	 *
 	 * @param cond     시간·요일 분석 조회조건(특히 viewBy: DAY/MONTH)
-	 * @param pageable 페이지/사이즈 정보
-	 * @return XLSX 파일 바이트 리소스
+	 * @return XLSX 스트리밍 응답
 	 */
 	@Operation(
 			summary = "시간·요일 분석 엑셀 다운로드",
@@ -144,33 +138,25 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/time/download", produces = XLSX_MIME)
-	public ResponseEntity<Resource> downloadExcelTimeList(
-			@ParameterObject @ModelAttribute AnalyticsSearchDto cond,
-			@ParameterObject Pageable pageable
+	public ResponseEntity<StreamingResponseBody> downloadExcelTimeList(
+			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] excelBytes = analyticsService.downloadExcelTime(cond, pageable);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String mode  = cond.getViewBy() != null ? cond.getViewBy().name() : "DAY";
 		String filename = "Time_" + mode + "_" + start + "_" + end + ".xlsx";
-		String encoded  = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+","%20");
 
-		return ResponseEntity.ok()
-				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
-				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
-				.contentType(MediaType.parseMediaType(XLSX_MIME))
-				.body(new ByteArrayResource(excelBytes));
+		return ExcelResponse.stream(out -> analyticsService.writeExcelTime(cond, out), filename);
 	}
 
 	/**
 	 * 재료 리스트 엑셀 다운로드.
 	 *
-	 * <p>조건에 맞는 재료 사용/발주/마진율 집계를 생성하여 XLSX 바이트로 반환한다.</p>
+	 * <p>조건에 맞는 재료 사용/발주/마진율 집계를 생성하여 XLSX로 스트리밍한다.</p>
 	 *
 	 * @param cond     재료 분석 조회조건
-	 * @param pageable 페이지/사이즈 정보
-	 * @return XLSX 파일 바이트 리소스
+	 * @return XLSX 스트리밍 응답
 	 */
 	@Operation(
 			summary = "재료 엑셀 다운로드",
@@ -182,22 +168,15 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/materials/download", produces = XLSX_MIME)
-	public ResponseEntity<Resource> downloadExcelMaterialsList(
-			@ParameterObject @ModelAttribute AnalyticsSearchDto cond,
-			@ParameterObject Pageable pageable
+	public ResponseEntity<StreamingResponseBody> downloadExcelMaterialsList(
+			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] excelBytes = analyticsService.downloadExcelMaterials(cond, pageable);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String filename = "Materials_" + start + "_" + end + ".xlsx";
-		String encoded  = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+","%20");
 
-		return ResponseEntity.ok()
-				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
-				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
-				.contentType(MediaType.parseMediaType(XLSX_MIME))
-				.body(new ByteArrayResource(excelBytes));
+		return ExcelResponse.stream(out -> analyticsService.writeExcelMaterials(cond, out), filename);
 	}
 
 	/**
@@ -221,6 +200,7 @@ public class AnalyticsRestController {
 	public ResponseEntity<Resource> downloadPdfKpiList(
 			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
+		AnalyticsService.requireExportRange(cond);
 		byte[] pdfBytes = analyticsService.downloadPdfKpi(cond);
 
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
@@ -238,10 +218,10 @@ public class AnalyticsRestController {
 	/**
 	 * 주문 리스트 PDF 다운로드.
 	 *
-	 * <p>주문/메뉴 분석 리포트를 PDF 바이트로 반환한다.</p>
+	 * <p>주문/메뉴 분석 리포트를 청크 단위로 렌더링·병합하여 PDF로 스트리밍한다(행 수 상한 없음).</p>
 	 *
 	 * @param cond 주문 분석 조회조건
-	 * @return PDF 파일 바이트 리소스
+	 * @return PDF 스트리밍 응답
 	 */
 	@Operation(
 			summary = "주문 PDF 다운로드",
@@ -253,11 +233,10 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/orders/pdf/download", produces = MediaType.APPLICATION_PDF_VALUE)
-	public ResponseEntity<Resource> downloadPdfOrders(
+	public ResponseEntity<StreamingResponseBody> downloadPdfOrders(
 			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] pdfBytes = analyticsService.downloadPdfOrders(cond);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String mode  = cond.getViewBy() != null ? cond.getViewBy().name() : "DAY";
@@ -268,16 +247,16 @@ public class AnalyticsRestController {
 				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
 				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
 				.contentType(MediaType.APPLICATION_PDF)
-				.body(new ByteArrayResource(pdfBytes));
+				.body(out -> analyticsService.writePdfOrders(cond, out));
 	}
 
 	/**
 	 * 시간·요일 분석 PDF 다운로드.
 	 *
-	 * <p>시간대/요일 차트를 포함한 분석 리포트를 PDF 바이트로 반환한다.</p>
+	 * <p>시간대/요일 차트를 포함한 분석 리포트를 청크 단위로 렌더링·병합하여 PDF로 스트리밍한다(행 수 상한 없음).</p>
 	 *
 	 * @param cond 시간·요일 분석 조회조건(특히 viewBy: DAY/MONTH)
-	 * @return PDF 파일 바이트 리소스
+	 * @return PDF 스트리밍 응답
 	 */
 	@Operation(
 			summary = "시간·요일 분석 PDF 다운로드",
@@ -289,11 +268,10 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/time/pdf/download", produces = MediaType.APPLICATION_PDF_VALUE)
-	public ResponseEntity<Resource> downloadPdfTime(
+	public ResponseEntity<StreamingResponseBody> downloadPdfTime(
 			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] pdfBytes = analyticsService.downloadPdfTime(cond);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String mode  = cond.getViewBy() != null ? cond.getViewBy().name() : "DAY";
@@ -304,16 +282,16 @@ public class AnalyticsRestController {
 				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
 				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
 				.contentType(MediaType.APPLICATION_PDF)
-				.body(new ByteArrayResource(pdfBytes));
+				.body(out -> analyticsService.writePdfTime(cond, out));
 	}
 
 	/**
 	 * 재료 리스트 PDF 다운로드.
 	 *
-	 * <p>재료 분석 리포트를 PDF 바이트로 반환한다.</p>
+	 * <p>재료 분석 리포트를 청크 단위로 렌더링·병합하여 PDF로 스트리밍한다(행 수 상한 없음).</p>
 	 *
 	 * @param cond 재료 분석 조회조건
-	 * @return PDF 파일 바이트 리소스
+	 * @return PDF 스트리밍 응답
 	 */
 	@Operation(
 			summary = "재료 PDF 다운로드",
@@ -325,11 +303,10 @@ public class AnalyticsRestController {
 			@ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping(value = "/materials/pdf/download", produces = MediaType.APPLICATION_PDF_VALUE)
-	public ResponseEntity<Resource> downloadPdfMaterials(
+	public ResponseEntity<StreamingResponseBody> downloadPdfMaterials(
 			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
 	) {
-		byte[] pdfBytes = analyticsService.downloadPdfMaterials(cond);
-
+		AnalyticsService.requireExportRange(cond);
 		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
 		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
 		String mode  = cond.getViewBy() != null ? cond.getViewBy().name() : "DAY";
@@ -340,6 +317,62 @@ public class AnalyticsRestController {
 				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
 				.header(HttpHeaders.CACHE_CONTROL, "no-cache")
 				.contentType(MediaType.APPLICATION_PDF)
-				.body(new ByteArrayResource(pdfBytes));
+				.body(out -> analyticsService.writePdfMaterials(cond, out));
+	}
+
+	/**
+	 * 분석 리포트 비동기 내보내기(엑셀/PDF).
+	 *
+	 * <p>파일 생성을 내보내기 작업 큐에 제출하고 작업 ID를 즉시 반환한다(요청 스레드/DB 커넥션을 점유하지 않음).
+	 * 같은 조건의 파일이 캐시 TTL 안에 있으면 DB 조회 없이 완료 상태로 응답한다.
+	 * 진행률 폴링과 파일 다운로드는 {@code /API/export/jobs/{jobId}}를 사용한다.</p>
+	 *
+	 * @param section 분석 영역(kpi, orders, time, materials)
+	 * @param format  파일 형식(xlsx 또는 pdf, 기본 xlsx)
+	 * @param cond    분석 조회조건
+	 * @return 202 Accepted + 작업 상태
+	 */
+	@Operation(
+			summary = "분석 리포트 비동기 내보내기",
+			description = "엑셀/PDF 생성을 작업 큐에 제출하고 작업 ID를 반환합니다. 상태/다운로드는 /API/export/jobs/{jobId}를 사용합니다."
+	)
+	@PostMapping("/{section}/export")
+	public ResponseEntity<ExportJobDTO> submitExport(
+			@PathVariable String section,
+			@RequestParam(defaultValue = "xlsx") String format,
+			@ParameterObject @ModelAttribute AnalyticsSearchDto cond
+	) {
+		AnalyticsService.requireExportRange(cond);
+		boolean pdf = "pdf".equalsIgnoreCase(format);
+		ExportWriter writer = switch (section) {
+			case "kpi" -> pdf
+					? out -> out.write(analyticsService.downloadPdfKpi(cond))
+					: out -> analyticsService.writeExcelKpi(cond, out);
+			case "orders" -> pdf
+					? out -> analyticsService.writePdfOrders(cond, out)
+					: out -> analyticsService.writeExcelOrders(cond, out);
+			case "time" -> pdf
+					? out -> analyticsService.writePdfTime(cond, out)
+					: out -> analyticsService.writeExcelTime(cond, out);
+			case "materials" -> pdf
+					? out -> analyticsService.writePdfMaterials(cond, out)
+					: out -> analyticsService.writeExcelMaterials(cond, out);
+			default -> throw new BusinessException(ErrorCode.NOT_FOUND, "지원하지 않는 분석 영역입니다: " + section);
+		};
+
+		String prefix = switch (section) {
+			case "kpi" -> "KPI";
+			case "orders" -> "Orders";
+			case "time" -> "Time";
+			default -> "Materials";
+		};
+		String start = cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "start";
+		String end   = cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "end";
+		String mode  = cond.getViewBy() != null ? cond.getViewBy().name() : "DAY";
+		boolean withMode = "time".equals(section) || (pdf && !"kpi".equals(section));
+		String filename = prefix + (withMode ? "_" + mode : "") + "_" + start + "_" + end + (pdf ? ".pdf" : ".xlsx");
+
+		ExportJob job = exportJobService.submit("analytics-" + section + (pdf ? "-pdf" : "-xlsx"), cond, filename, writer);
+		return ResponseEntity.accepted().body(ExportJobDTO.from(job));
 	}
 }
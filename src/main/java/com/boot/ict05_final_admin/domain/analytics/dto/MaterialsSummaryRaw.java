@@ -0,0 +1,57 @@
+package com.boot.ict05_final_admin.domain.analytics.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 재료 요약 카드 계산을 위한 원천 집계 DTO.
+ *
+ * <p>Repository는 재고/사용량 합계와 (재료 × 납기일) 발주 버킷만 돌려주고,
+ * 서비스에서 버킷별 판매 단가를 매핑해 매출/이익/마진/회전율을 계산한다.</p>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialsSummaryRaw {
+
+	/** 현재 기준 본사 재고 총량 (inventory.quantity) */
+	private BigDecimal currentOfficeInventoryQty;
+
+	/** 현재 기준 가맹점 재고 총량 (store_inventory.quantity) */
+	private BigDecimal currentStoreInventoryQty;
+
+	/** YTD 출고 수량 합 (store_inventory_out.quantity) */
+	private BigDecimal usedQty;
+
+	/** YTD 발주 버킷(재료 × 납기일) */
+	private List<OrderBucket> orderBuckets;
+
+	/**
+	 * YTD 발주 집계 버킷(재료 × 납기일).
+	 */
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class OrderBucket {
+
+		/** 재료 ID */
+		private Long materialId;
+
+		/** 납기일(실제 입고일, NULL 가능) */
+		private LocalDate deliveryDate;
+
+		/** 발주 수량 합 (Σ rod.count) */
+		private BigDecimal qty;
+
+		/** 원가 합 (Σ rod.count × rod.unitPrice) */
+		private BigDecimal costSum;
+
+		/** 단가 이력이 없을 때의 매출 합 (Σ rod.count × COALESCE(sm.sellingPrice, rod.unitPrice)) */
+		private BigDecimal fallbackSellingSum;
+	}
+}
@@ -0,0 +1,90 @@
+package com.boot.ict05_final_admin.domain.analytics.entity;
+
+import com.boot.ict05_final_admin.domain.order.entity.OrderType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 점포 × 메뉴 × 일자 메뉴 판매 집계 엔티티.
+ *
+ * <p>{@code analytics_menu_sales_daily}와 매핑되며, 완료(COMPLETED) 주문의 상세 라인을
+ * (점포 × 메뉴 × 일자 × 주문유형) 단위로 미리 집계해 둔 팩트 테이블이다.
+ * 주문 분석 탭(Top 메뉴, 카테고리 카드, 일/월별 메뉴 목록)은 원본
+ * {@code customer_order → customer_order_detail → menu} 조인 대신 이 테이블을 읽는다.</p>
+ *
+ * <p>카테고리 ID는 집계 시점의 메뉴 카테고리를 비정규화해 보관한다(카테고리 카드 집계 시 메뉴 조인 생략).
+ * 행은 {@code SalesRollupService}의 워터마크 기반 갱신 작업에서만 생성/삭제된다.</p>
+ */
+@Entity
+@Table(name = "analytics_menu_sales_daily",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_menu_sales_daily_bucket",
+                        columnNames = {"sales_date", "store_id", "menu_id", "order_type"})
+        },
+        indexes = {
+                @Index(name = "ix_menu_sales_daily_store_date", columnList = "store_id, sales_date"),
+                @Index(name = "ix_menu_sales_daily_menu_date", columnList = "menu_id, sales_date")
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuSalesDaily {
+
+    /** 집계 행 시퀀스(PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "menu_sales_daily_id")
+    private Long id;
+
+    /** 점포 ID(store.store_id) */
+    @Column(name = "store_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    @Comment("점포 ID")
+    private Long storeId;
+
+    /** 메뉴 ID(menu.menu_id) */
+    @Column(name = "menu_id", nullable = false)
+    @Comment("메뉴 ID")
+    private Long menuId;
+
+    /** 메뉴 카테고리 ID(집계 시점 기준, 비정규화) */
+    @Column(name = "menu_category_id")
+    @Comment("메뉴 카테고리 ID")
+    private Long menuCategoryId;
+
+    /** 주문 일자 */
+    @Column(name = "sales_date", nullable = false, columnDefinition = "DATE")
+    @Comment("주문 일자")
+    private LocalDate salesDate;
+
+    /** 주문 유형(VISIT/TAKEOUT/DELIVERY) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false, length = 16)
+    @Comment("주문 유형")
+    private OrderType orderType;
+
+    /** 판매 수량 합계 */
+    @Column(name = "quantity", nullable = false)
+    @Comment("판매 수량 합계")
+    private Long quantity;
+
+    /** 라인 금액 합계(주문 상세 합계 금액) */
+    @Column(name = "line_total", precision = 17, scale = 2, nullable = false)
+    @Comment("라인 금액 합계")
+    private BigDecimal lineTotal;
+
+    /** 해당 메뉴가 포함된 주문 건수 */
+    @Column(name = "order_count", nullable = false)
+    @Comment("주문 건수")
+    private Long orderCount;
+
+    /** 마지막 갱신 시각 */
+    @Column(name = "refreshed_at", nullable = false, columnDefinition = "DATETIME")
+    @Comment("갱신 시각")
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,70 @@
+package com.boot.ict05_final_admin.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 롤업 테이블의 갱신 워터마크 엔티티.
+ *
+ * <p>{@code analytics_rollup_watermark}와 매핑되며, 롤업 이름별로
+ * "어느 일자부터 어느 일자까지 확정 집계되었는지"를 기록한다.
+ * 조회 측은 요청 기간이 {@code [rolledFrom, rolledThrough]} 안에 있을 때만 롤업을 사용하고,
+ * 그 밖의 기간은 원본 주문 테이블로 폴백한다.</p>
+ *
+ * <p>갱신 작업은 이 행을 비관잠금(SELECT … FOR UPDATE)으로 잡고 청크를 재작성하므로,
+ * 여러 노드에서 스케줄러가 동시에 돌아도 같은 구간을 겹쳐 쓰지 않는다.</p>
+ */
+@Entity
+@Table(name = "analytics_rollup_watermark")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupWatermark {
+
+    /** 롤업 이름(PK, 예: "sales_daily") */
+    @Id
+    @Column(name = "rollup_name", length = 64)
+    @Comment("롤업 이름")
+    private String rollupName;
+
+    /** 집계가 보장되는 시작 일자(포함) */
+    @Column(name = "rolled_from", columnDefinition = "DATE")
+    @Comment("집계 시작 일자")
+    private LocalDate rolledFrom;
+
+    /** 집계가 확정된 마지막 일자(포함) */
+    @Column(name = "rolled_through", columnDefinition = "DATE")
+    @Comment("집계 확정 마지막 일자")
+    private LocalDate rolledThrough;
+
+    /** 마지막 실행 시각 */
+    @Column(name = "last_run_at", columnDefinition = "DATETIME")
+    @Comment("마지막 실행 시각")
+    private LocalDateTime lastRunAt;
+
+    /** 마지막 실행에서 기록된 행 수 */
+    @Column(name = "last_run_rows")
+    @Comment("마지막 실행 적재 행 수")
+    private Long lastRunRows;
+
+    /**
+     * 청크 재작성 결과를 반영한다.
+     *
+     * <p>시작 일자는 더 과거로만, 마지막 일자는 더 미래로만 이동한다(되감기 없음).</p>
+     *
+     * @param chunkFrom    재작성한 청크 시작일(포함)
+     * @param chunkThrough 재작성한 청크 마지막일(포함)
+     * @param rows         적재된 행 수
+     */
+    public void advance(LocalDate chunkFrom, LocalDate chunkThrough, long rows) {
+        if (rolledFrom == null || chunkFrom.isBefore(rolledFrom)) rolledFrom = chunkFrom;
+        if (rolledThrough == null || chunkThrough.isAfter(rolledThrough)) rolledThrough = chunkThrough;
+        lastRunAt = LocalDateTime.now();
+        lastRunRows = rows;
+    }
+}
@@ -0,0 +1,83 @@
+package com.boot.ict05_final_admin.domain.analytics.entity;
+
+import com.boot.ict05_final_admin.domain.order.entity.OrderType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 매출 롤업(사전 집계) 엔티티.
+ *
+ * <p>{@code analytics_sales_rollup}과 매핑되며, 완료(COMPLETED) 주문을
+ * (점포 × 일자 × 시간 × 주문유형) 단위로 미리 집계해 둔 팩트 테이블이다.
+ * KPI/Comp/시간 분석 쿼리는 원본 {@code customer_order}/{@code customer_order_detail} 대신
+ * 이 테이블을 읽어 수년치 범위도 수천 행 이내로 집계한다.</p>
+ *
+ * <p>행은 {@code SalesRollupService}의 워터마크 기반 갱신 작업에서만 생성/삭제된다(일 단위 재작성).</p>
+ */
+@Entity
+@Table(name = "analytics_sales_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_sales_rollup_bucket",
+                        columnNames = {"sales_date", "store_id", "sales_hour", "order_type"})
+        },
+        indexes = {
+                @Index(name = "ix_sales_rollup_store_date", columnList = "store_id, sales_date")
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup {
+
+    /** 롤업 행 시퀀스(PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sales_rollup_id")
+    private Long id;
+
+    /** 점포 ID(store.store_id) — 조인 비용을 줄이기 위해 스칼라 컬럼으로 보관 */
+    @Column(name = "store_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    @Comment("점포 ID")
+    private Long storeId;
+
+    /** 주문 일자(주문일시의 DATE) */
+    @Column(name = "sales_date", nullable = false, columnDefinition = "DATE")
+    @Comment("주문 일자")
+    private LocalDate salesDate;
+
+    /** 주문 시각(0~23시) */
+    @Column(name = "sales_hour", nullable = false)
+    @Comment("주문 시각(시)")
+    private Integer salesHour;
+
+    /** 주문 유형(VISIT/TAKEOUT/DELIVERY) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false, length = 16)
+    @Comment("주문 유형")
+    private OrderType orderType;
+
+    /** 매출 합계(주문 총액 합) */
+    @Column(name = "sales_amount", precision = 17, scale = 2, nullable = false)
+    @Comment("매출 합계")
+    private BigDecimal salesAmount;
+
+    /** 주문 건수(트랜잭션 수) */
+    @Column(name = "trx_count", nullable = false)
+    @Comment("주문 건수")
+    private Long trxCount;
+
+    /** 판매 수량 합계(주문 상세 수량 합) */
+    @Column(name = "units", nullable = false)
+    @Comment("판매 수량 합계")
+    private Long units;
+
+    /** 마지막 갱신 시각 */
+    @Column(name = "refreshed_at", nullable = false, columnDefinition = "DATETIME")
+    @Comment("갱신 시각")
+    private LocalDateTime refreshedAt;
+}
@@ -93,11 +93,11 @@ public interface AnalyticsRepository {
     // ===================== Materials =====================
 
     /**
-     * 재료 카드(요약) 데이터를 조회한다.
+     * 재료 카드(요약) 계산용 원천 집계를 조회한다.
      *
-     * @return 재료 카드 요약 DTO
+     * @return 재고/사용량 합계와 (재료 × 납기일) 발주 버킷
      */
-    MaterialsCardsDto findMaterialsSummary();
+    MaterialsSummaryRaw findMaterialsSummaryRaw();
 
     /**
      * 재료 테이블 데이터를 페이지 단위로 조회한다.
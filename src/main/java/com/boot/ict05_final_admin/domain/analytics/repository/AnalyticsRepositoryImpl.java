@@ -1,6 +1,9 @@
 package com.boot.ict05_final_admin.domain.analytics.repository;
 
+import com.boot.ict05_final_admin.common.concurrent.ParallelQueryExecutor;
 import com.boot.ict05_final_admin.domain.analytics.dto.*;
+import com.boot.ict05_final_admin.domain.analytics.entity.QMenuSalesDaily;
+import com.boot.ict05_final_admin.domain.analytics.entity.QSalesRollup;
 import com.boot.ict05_final_admin.domain.inventory.entity.*;
 import com.boot.ict05_final_admin.domain.order.entity.OrderStatus;
 import com.boot.ict05_final_admin.domain.order.entity.OrderType;
@@ -14,7 +17,6 @@ import com.boot.ict05_final_admin.domain.receiveOrder.entity.QReceiveOrder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.*;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -61,6 +63,10 @@ import java.util.stream.Collectors;
  *   <li>대규모 집계 쿼리에서는 <b>ORDER BY NULL</b> 패턴을 사용해 filesort 제거</li>
  *   <li>100건 이하의 소규모 결과는 DB 정렬 제거 후 애플리케이션 측 정렬 수행</li>
  *   <li>EXPLAIN 결과는 type=range/ref, Using index 유지가 기본 목표</li>
+ *   <li>KPI/Comp/시간 차트는 조회 기간이 롤업 워터마크 안이면 {@code analytics_sales_rollup}에서 집계하고,
+ *       그 밖(당일 포함 등)이면 원본 주문 테이블로 폴백({@link SalesRollupCoverage})</li>
+ *   <li>주문 분석(요약 카드/월별 목록)은 같은 규칙으로 {@code analytics_menu_sales_daily}(점포 × 메뉴 × 일자)를 사용.
+ *       일별 목록은 주문 단위 행이므로 항상 원본 테이블에서 조회</li>
  * </ul>
  *
  * <h3>적용 범위</h3>
@@ -84,6 +90,8 @@ import java.util.stream.Collectors;
 public class AnalyticsRepositoryImpl implements AnalyticsRepository {
 
     private final JPAQueryFactory query;
+    private final SalesRollupCoverage rollupCoverage;
+    private final ParallelQueryExecutor parallel;
 
     // Q-classes
     private final QCustomerOrder co = QCustomerOrder.customerOrder;
@@ -98,7 +106,8 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
     private final QReceiveOrderDetail rod = QReceiveOrderDetail.receiveOrderDetail;
 	private final QInventory inv = QInventory.inventory;
 	private final QInventoryOut io = QInventoryOut.inventoryOut;
-	private final QUnitPrice up = QUnitPrice.unitPrice;
+    private final QSalesRollup sr = QSalesRollup.salesRollup;
+    private final QMenuSalesDaily md = QMenuSalesDaily.menuSalesDaily;
 
     private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
 
@@ -155,6 +164,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      * <ul>
      *   <li>기간·상태 조건은 넓은 스캔 범위(예: LYTD ~ YTD)를 한 번에 걸어두고, SUM(CASE)로 필요한 기간별 합계를 동시에 추출</li>
      *   <li>수량 합계는 별도 쿼리에서 {@code customer_order_detail}을 집계하여 N+1 및 대형 조인 비용을 회피</li>
+     *   <li>LYTD ~ 어제 구간이 롤업에 확정되어 있으면 롤업 단일 쿼리(수량 포함)로 대체</li>
      *   <li>모든 조회에 대해 {@link #readHints(JPAQuery)}를 적용하여 readOnly/flushMode/timeout 힌트를 설정</li>
      * </ul>
      *
@@ -185,35 +195,78 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
 
         final BooleanExpression done = co.status.eq(OrderStatus.COMPLETED);
 
+        // 롤업 모드: 비교 구간 전체가 확정 집계되어 있으면 원본 스캔 없이 롤업에서 계산
+        final boolean fromRollup = rollupCoverage.covers(lytdStart, ytdEnd);
+
         /* ---------------------------------------------------------
          * 1) 단일 스캔(co)로 핵심 합계들을 한 번에 계산
          *    - WHERE: [lytdStart, ytdEnd)로 범위를 넉넉히 잡은 뒤
          *      sumIf/countIf 분기로 각 윈도우(YTD, A/B, LYTD, 채널별 YTD)를 동시 계산
          *    - 정렬 불필요 → ORDER BY NULL
+         *    - 원본 모드에서는 2)의 units 쿼리와 서로 독립이므로 동시에 실행
          * --------------------------------------------------------- */
-        final Tuple t = readHints(
-                query.select(
-                                // YTD
-                                sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd), co.totalPrice),
-                                countIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd)),
-
-                                // MoM: A vs B
-                                sumIf(betweenDateClosedOpen(co.orderedAt, aStart, aEnd), co.totalPrice),
-                                sumIf(betweenDateClosedOpen(co.orderedAt, bStart, bEnd), co.totalPrice),
-
-                                // LYTD
-                                sumIf(betweenDateClosedOpen(co.orderedAt, lytdStart, lytdEnd), co.totalPrice),
+        final Tuple t;
+        final Long rawUnits;
+        try (var scope = parallel.scope()) {
+            var mainTask = scope.fork(() -> fromRollup ? readHints(
+                    query.select(
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd), sr.salesAmount),
+                                    sumIfLong(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd), sr.trxCount),
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, aStart, aEnd), sr.salesAmount),
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, bStart, bEnd), sr.salesAmount),
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, lytdStart, lytdEnd), sr.salesAmount),
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd).and(sr.orderType.eq(OrderType.VISIT)),    sr.salesAmount),
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd).and(sr.orderType.eq(OrderType.TAKEOUT)),  sr.salesAmount),
+                                    sumIf(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd).and(sr.orderType.eq(OrderType.DELIVERY)), sr.salesAmount),
+                                    // 롤업은 수량까지 보유하므로 units도 같은 스캔에서 계산(idx 8)
+                                    sumIfLong(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd), sr.units)
+                            )
+                            .from(sr)
+                            .where(betweenDateClosedOpen(sr.salesDate, lytdStart, ytdEnd))
+                            .orderBy(orderByNull())
+            ).fetchOne() : readHints(
+                    query.select(
+                                    // YTD
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd), co.totalPrice),
+                                    countIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd)),
+
+                                    // MoM: A vs B
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, aStart, aEnd), co.totalPrice),
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, bStart, bEnd), co.totalPrice),
+
+                                    // LYTD
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, lytdStart, lytdEnd), co.totalPrice),
+
+                                    // 채널별 YTD
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd).and(co.orderType.eq(OrderType.VISIT)),    co.totalPrice),
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd).and(co.orderType.eq(OrderType.TAKEOUT)),  co.totalPrice),
+                                    sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd).and(co.orderType.eq(OrderType.DELIVERY)), co.totalPrice)
+                            )
+                            .from(co)
+                            // lytdStart ~ ytdEnd 전체 구간만 스캔하고, 나머지는 sumIf 분기로 분리
+                            .where(done, betweenDateClosedOpen(co.orderedAt, lytdStart, ytdEnd))
+                            .orderBy(orderByNull())
+            ).fetchOne());
+
+            /* ---------------------------------------------------------
+             * 2) YTD 판매수량(units) – 원본 모드
+             *    - cod 조인이 필요한 별도 1쿼리
+             *    - 목적: co 단일 스캔에 cod 조인을 섞지 않아 카디널리티 급증 방지
+             * --------------------------------------------------------- */
+            var unitsTask = fromRollup ? null : scope.fork(() -> Optional.ofNullable(
+                    readHints(
+                            query.select(cod.quantity.sum().longValue())
+                                    .from(co)
+                                    .join(cod).on(cod.order.eq(co)) // 명시적 조인
+                                    .where(done, betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd))
+                                    .orderBy(orderByNull())
+                    ).fetchOne()
+            ).orElse(0L));
 
-                                // 채널별 YTD
-                                sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd).and(co.orderType.eq(OrderType.VISIT)),    co.totalPrice),
-                                sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd).and(co.orderType.eq(OrderType.TAKEOUT)),  co.totalPrice),
-                                sumIf(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd).and(co.orderType.eq(OrderType.DELIVERY)), co.totalPrice)
-                        )
-                        .from(co)
-                        // lytdStart ~ ytdEnd 전체 구간만 스캔하고, 나머지는 sumIf 분기로 분리
-                        .where(done, betweenDateClosedOpen(co.orderedAt, lytdStart, ytdEnd))
-                        .orderBy(orderByNull())
-        ).fetchOne();
+            scope.join();
+            t = mainTask.get();
+            rawUnits = unitsTask != null ? unitsTask.get() : 0L;
+        }
 
         // 1-1) 널/스케일 안정화
         final BigDecimal ytdSales   = t != null ? nz(t.get(0, BigDecimal.class)) : BigDecimal.ZERO;
@@ -225,20 +278,10 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         final BigDecimal takeSales  = t != null ? nz(t.get(6, BigDecimal.class)) : BigDecimal.ZERO;
         final BigDecimal delvSales  = t != null ? nz(t.get(7, BigDecimal.class)) : BigDecimal.ZERO;
 
-        /* ---------------------------------------------------------
-         * 2) YTD 판매수량(units)
-         *    - cod 조인이 필요한 별도 1쿼리
-         *    - 목적: co 단일 스캔에 cod 조인을 섞지 않아 카디널리티 급증 방지
-         * --------------------------------------------------------- */
-        final Long ytdUnitsL = Optional.ofNullable(
-                readHints(
-                        query.select(cod.quantity.sum().longValue())
-                                .from(co)
-                                .join(cod).on(cod.order.eq(co)) // 명시적 조인
-                                .where(done, betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd))
-                                .orderBy(orderByNull())
-                ).fetchOne()
-        ).orElse(0L);
+        // 2-1) units: 롤업 모드는 1)의 idx 8, 원본 모드는 별도 쿼리 결과
+        final Long ytdUnitsL = fromRollup
+                ? (t != null ? nz(t.get(8, Long.class)) : 0L)
+                : rawUnits;
 
         final BigDecimal ytdUnits = BigDecimal.valueOf(ytdUnitsL);
         final BigDecimal trxBd    = ytdTrx > 0 ? BigDecimal.valueOf(ytdTrx) : BigDecimal.ZERO;
@@ -322,6 +365,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      *   <li>총 행수(countKpi)를 별도 호출하여 페이징 처리(페이징 기준은 per-store 행 기준)</li>
      *   <li>본문 쿼리: per-store 집계(매출 합계, 주문수) 수행 → DTO 매핑</li>
      *   <li>수량 합계는 별도 쿼리(unitRows)로 조회하여 맵핑 (cod 테이블에서 집계)</li>
+     *   <li>조회 기간이 롤업 워터마크 안이면 2~3단계를 {@code analytics_sales_rollup} 기준으로 수행</li>
      *   <li>Comp(MoM/YoY)는 선택점포 여부에 따라 {@link #computeCompByStore} 또는
      *       {@link #computeGlobalComp}를 호출하여 산출</li>
      *   <li>{@code showTotal=true}이면 라벨별 Total 행(합계)을 생성하여 결과 리스트에 삽입</li>
@@ -332,7 +376,8 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      *   <li>모든 SELECT는 DTO Projection으로 수행하여 엔티티 로딩을 방지</li>
      *   <li>페이지네이션은 per-store 집계 결과에 대해 offset/limit을 적용</li>
      *   <li>집계에서 수량 합계는 별도 그룹쿼리로 분리하여 큰 조인 비용을 피함</li>
-     *   <li>복수 점포 선택 시 Store 별 Comp 계산은 별도 그룹쿼리로 병렬 처리 가능(현재는 단건 실행)</li>
+     *   <li>count/기본 행/수량/글로벌 Comp는 {@link ParallelQueryExecutor}로 동시에 실행하고,
+     *       점포별 Comp는 페이지 점포ID가 확정된 뒤 실행</li>
      * </ul>
      *
      * @param cond 페이징 및 필터(조회 시작/종료일, 점포 목록, viewBy, showTotal 등)
@@ -351,59 +396,105 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
          * --------------------------------------------------------- */
         final boolean byMonth = cond.getViewBy() == ViewBy.MONTH;
         final String fmt = byMonth ? "%Y-%m" : "%Y-%m-%d";
-        final StringExpression labelExpr = dateFormat(co.orderedAt, fmt);
-
-        final BooleanExpression baseFilter = eqKpiFilter(cond, co, s); // BooleanExpression 규칙(null 자동 제외)
+        final boolean fromRollup = rollupCoverage.covers(cond.getStartDate(), cond.getEndDate());
+        final StringExpression labelExpr = dateFormat(fromRollup ? sr.salesDate : co.orderedAt, fmt);
 
-        // 1) total count (페이징 total) — 빠른 탈출
-        final Long total = countKpi(cond);
-        if (total == 0L) return new PageImpl<>(Collections.emptyList(), pageable, 0L);
+        final BooleanExpression baseFilter = fromRollup
+                ? eqRollupFilter(cond)
+                : eqKpiFilter(cond, co, s); // BooleanExpression 규칙(null 자동 제외)
 
         /* ---------------------------------------------------------
-         * 2) 기본 행 스캔: 매출합/거래수 (store × label)
-         *    - 그룹: s.id, s.name, labelExpr
-         *    - 정렬: 최근시간순(label 내림차순) → 동일 라벨 내 매출 내림차순
-         *      * 성능 메모: labelExpr는 DATE_FORMAT이므로 정렬 인덱스는 비효율적일 수 있음.
-         *        대용량에서 병목이면 YEAR/MONTH/orderedAt 원본 컬럼 정렬로 스위치 고려.
+         * 1~3) total count / 기본 행 / 수량 / 글로벌 비교치
+         *    - 서로 독립인 읽기 쿼리이므로 동시에 실행(ParallelQueryExecutor)
+         *    - 점포별 비교치(perStoreComp)는 페이지 점포ID가 필요하므로 join 이후 실행
          * --------------------------------------------------------- */
-        final List<Tuple> baseRows = readHints(
-                query.select(
-                                s.id, s.name,
-                                labelExpr,
-                                co.totalPrice.sum(),    // sales
-                                co.id.countDistinct()   // trx
-                        )
-                        .from(co)
-                        .join(co.store, s)
-                        .where(baseFilter)
-                        .groupBy(s.id, s.name, labelExpr)
-                        .orderBy(
-                                labelExpr.desc(),                                    // 최근시간순
-                                co.totalPrice.sum().coalesce(BigDecimal.ZERO).desc() // 동일 라벨 내 매출순
-                        )
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-        ).fetch();
+        final long total;
+        final List<Tuple> baseRows;
+        final List<Tuple> unitRows;
+        final GlobalComp globalCompForTotal;
+        try (var scope = parallel.scope()) {
+            var totalTask = scope.fork(() -> countKpi(cond));
+
+            /* ---------------------------------------------------------
+             * 2) 기본 행 스캔: 매출합/거래수 (store × label)
+             *    - 그룹: s.id, s.name, labelExpr
+             *    - 정렬: 최근시간순(label 내림차순) → 동일 라벨 내 매출 내림차순
+             *      * 성능 메모: labelExpr는 DATE_FORMAT이므로 정렬 인덱스는 비효율적일 수 있음.
+             *        대용량에서 병목이면 YEAR/MONTH/orderedAt 원본 컬럼 정렬로 스위치 고려.
+             * --------------------------------------------------------- */
+            var baseTask = scope.fork(() -> fromRollup ? readHints(
+                    query.select(
+                                    s.id, s.name,
+                                    labelExpr,
+                                    sr.salesAmount.sum(),   // sales
+                                    sr.trxCount.sum()       // trx
+                            )
+                            .from(sr)
+                            .join(s).on(s.id.eq(sr.storeId))
+                            .where(baseFilter)
+                            .groupBy(s.id, s.name, labelExpr)
+                            .orderBy(
+                                    labelExpr.desc(),
+                                    sr.salesAmount.sum().coalesce(BigDecimal.ZERO).desc()
+                            )
+                            .offset(pageable.getOffset())
+                            .limit(pageable.getPageSize())
+            ).fetch() : readHints(
+                    query.select(
+                                    s.id, s.name,
+                                    labelExpr,
+                                    co.totalPrice.sum(),    // sales
+                                    co.id.countDistinct()   // trx
+                            )
+                            .from(co)
+                            .join(co.store, s)
+                            .where(baseFilter)
+                            .groupBy(s.id, s.name, labelExpr)
+                            .orderBy(
+                                    labelExpr.desc(),                                    // 최근시간순
+                                    co.totalPrice.sum().coalesce(BigDecimal.ZERO).desc() // 동일 라벨 내 매출순
+                            )
+                            .offset(pageable.getOffset())
+                            .limit(pageable.getPageSize())
+            ).fetch());
+
+            /* ---------------------------------------------------------
+             * 3) 수량 집계(unitRows): (store × label)로 메뉴 수량 합계
+             *    - cod 드라이빙(명시적 조인), 공통 필터는 co 기준으로 동일 적용
+             *    - 정렬 불필요 → 제거(페이징과 무관)
+             * --------------------------------------------------------- */
+            var unitTask = scope.fork(() -> fromRollup ? readHints(
+                    query.select(
+                                    sr.storeId,
+                                    labelExpr,
+                                    sr.units.sum().intValue()
+                            )
+                            .from(sr)
+                            .where(baseFilter)
+                            .groupBy(sr.storeId, labelExpr)
+            ).fetch() : readHints(
+                    query.select(
+                                    s.id,
+                                    labelExpr,
+                                    cod.quantity.sum()
+                            )
+                            .from(cod)
+                            .join(cod.order, co)
+                            .join(co.store, s)
+                            .where(baseFilter)
+                            .groupBy(s.id, labelExpr)
+            ).fetch());
 
-        if (baseRows.isEmpty()) return new PageImpl<>(Collections.emptyList(), pageable, total);
+            var compTask = scope.fork(() -> computeGlobalComp(cond));
 
-        /* ---------------------------------------------------------
-         * 3) 수량 집계(unitRows): (store × label)로 메뉴 수량 합계
-         *    - cod 드라이빙(명시적 조인), 공통 필터는 co 기준으로 동일 적용
-         *    - 정렬 불필요 → 제거(페이징과 무관)
-         * --------------------------------------------------------- */
-        final List<Tuple> unitRows = readHints(
-                query.select(
-                                s.id,
-                                labelExpr,
-                                cod.quantity.sum()
-                        )
-                        .from(cod)
-                        .join(cod.order, co)
-                        .join(co.store, s)
-                        .where(baseFilter)
-                        .groupBy(s.id, labelExpr)
-        ).fetch();
+            scope.join();
+            total = totalTask.get();
+            baseRows = baseTask.get();
+            unitRows = unitTask.get();
+            globalCompForTotal = compTask.get();
+        }
+
+        if (total == 0L || baseRows.isEmpty()) return new PageImpl<>(Collections.emptyList(), pageable, total);
 
         // (3-1) 빠른 매핑을 위한 키→수량 맵 구성
         record Key(Long sid, String label) {}
@@ -430,7 +521,6 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
          *    - 단일 점포/선택 화면: 글로벌 비교치 한 번만 계산하여 재사용
          *    - 목적: 불필요한 재계산/조인 방지(최소 비용)
          * --------------------------------------------------------- */
-        final GlobalComp globalCompForTotal = computeGlobalComp(cond);
         Map<Long, GlobalComp> perStoreComp = null;
         if (isAll || isMulti) {
             perStoreComp = computeCompByStore(pageSids);
@@ -563,6 +653,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      *       cod 테이블에 커버링 인덱스가 존재하면 효율적으로 집계됨</li>
      *   <li>카테고리 집계는 대용량 단계에서 먼저 ID 단위로 집계한 뒤, 필요한 카테고리 이름만 별도로 조회하여 매핑함으로써
      *       불필요한 대규모 조인을 회피함</li>
+     *   <li>YTD가 롤업 워터마크 안이면 1)은 매출 롤업, 2)·3a)는 메뉴 판매 집계에서 계산(상세 라인 재조인 없음)</li>
      *   <li>모든 조회에 {@link #readHints(JPAQuery)}를 적용하여 readOnly/flushMode/timeout 힌트를 설정</li>
      * </ul>
      *
@@ -588,47 +679,114 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         final BooleanExpression ytd = co.status.eq(OrderStatus.COMPLETED)
                 .and(betweenDateClosedOpen(co.orderedAt, ytdStart, ytdEnd));
 
-        /* ---------------------------------------------------------
-         * 1) 트랜잭션 수 + 채널별 매출 (co 단일 스캔)
-         *    - sumIf(조건, 금액)으로 채널별 매출을 한 번에 계산
-         *    - 정렬 불필요 → ORDER BY NULL로 filesort 방지
-         * --------------------------------------------------------- */
-        OrdersCardsDto dto = timed("1. txn & channel sales", () ->
-                readHints(
-                        query.select(Projections.bean(OrdersCardsDto.class,
-                                        co.id.count().as("transaction"),
-                                        sumIf(co.orderType.eq(OrderType.VISIT),    co.totalPrice).as("visitSales"),
-                                        sumIf(co.orderType.eq(OrderType.TAKEOUT),  co.totalPrice).as("takeoutSales"),
-                                        sumIf(co.orderType.eq(OrderType.DELIVERY), co.totalPrice).as("deliverySales")
-                                ))
-                                .from(co)
-                                .where(ytd)              // 기간/상태는 여기서만 공통 적용
-                                .orderBy(orderByNull())  // 내부 집계용 → 정렬 제거
-                ).fetchOne()
-        );
-        if (dto == null) dto = new OrdersCardsDto();
+        // 롤업 모드: 매출 롤업/메뉴 판매 집계가 모두 YTD를 덮을 때만 사용
+        final boolean fromRollup = rollupCoverage.covers(ytdStart, ytdEnd)
+                && rollupCoverage.covers(SalesRollupCoverage.MENU_ROLLUP, ytdStart, ytdEnd);
+        final BooleanExpression ytdRollup = betweenDateClosedOpen(md.salesDate, ytdStart, ytdEnd);
+        final NumberExpression<Long>       R_QTY = Expressions.numberTemplate(Long.class,       "COALESCE(SUM({0}),0)", md.quantity);
+        final NumberExpression<BigDecimal> R_AMT = Expressions.numberTemplate(BigDecimal.class, "COALESCE(SUM({0}),0)", md.lineTotal);
+
+        // 1) 요약 스캔, 2) Top3, 3a) 카테고리 집계는 서로 독립 → 동시에 실행(3b 이름 조회만 3a 결과에 의존)
+        final OrdersCardsDto summary;
+        final List<Tuple> topMenusT;
+        final List<Tuple> catAggCore;
+        try (var scope = parallel.scope()) {
+            /* ---------------------------------------------------------
+             * 1) 트랜잭션 수 + 채널별 매출 (co 단일 스캔)
+             *    - sumIf(조건, 금액)으로 채널별 매출을 한 번에 계산
+             *    - 정렬 불필요 → ORDER BY NULL로 filesort 방지
+             * --------------------------------------------------------- */
+            var txnTask = scope.fork(() -> timed("1. txn & channel sales", () -> fromRollup
+                    ? readHints(
+                            query.select(Projections.bean(OrdersCardsDto.class,
+                                            sr.trxCount.sum().as("transaction"),
+                                            sumIf(sr.orderType.eq(OrderType.VISIT),    sr.salesAmount).as("visitSales"),
+                                            sumIf(sr.orderType.eq(OrderType.TAKEOUT),  sr.salesAmount).as("takeoutSales"),
+                                            sumIf(sr.orderType.eq(OrderType.DELIVERY), sr.salesAmount).as("deliverySales")
+                                    ))
+                                    .from(sr)
+                                    .where(betweenDateClosedOpen(sr.salesDate, ytdStart, ytdEnd))
+                                    .orderBy(orderByNull())
+                    ).fetchOne()
+                    : readHints(
+                            query.select(Projections.bean(OrdersCardsDto.class,
+                                            co.id.count().as("transaction"),
+                                            sumIf(co.orderType.eq(OrderType.VISIT),    co.totalPrice).as("visitSales"),
+                                            sumIf(co.orderType.eq(OrderType.TAKEOUT),  co.totalPrice).as("takeoutSales"),
+                                            sumIf(co.orderType.eq(OrderType.DELIVERY), co.totalPrice).as("deliverySales")
+                                    ))
+                                    .from(co)
+                                    .where(ytd)              // 기간/상태는 여기서만 공통 적용
+                                    .orderBy(orderByNull())  // 내부 집계용 → 정렬 제거
+                    ).fetchOne()
+            ));
+
+            /* ---------------------------------------------------------
+             * 2) 메뉴 Top3 (co → cod → m)
+             *    - 드라이빙: co(기간/상태 필터를 co에만 적용해 범위 축소)
+             *    - 필요 컬럼만 SELECT(커버링 인덱스 활용 가정)
+             *    - TOP-N 필요하므로 금액 내림차순 정렬 + limit 3
+             * --------------------------------------------------------- */
+            var topTask = scope.fork(() -> timed("2. top3 menus", () -> fromRollup ? readHints(
+                    query.select(m.menuId, m.menuName, R_QTY, R_AMT)
+                            .from(md)
+                            .join(m).on(m.menuId.eq(md.menuId))
+                            .where(ytdRollup)
+                            .groupBy(m.menuId, m.menuName)
+                            .orderBy(R_AMT.desc())
+                            .limit(3)
+            ).fetch() : readHints(
+                    query.select(
+                                    m.menuId,
+                                    m.menuName,
+                                    SUM_QTY,
+                                    SUM_AMT
+                            )
+                            .from(co)
+                            .join(cod).on(cod.order.eq(co))   // FK(order_id) 사용(명시적 조인)
+                            .join(cod.menuIdFk, m)
+                            .where(ytd)                       // 공통 WHERE 재사용
+                            .groupBy(m.menuId, m.menuName)
+                            .orderBy(SUM_AMT.desc())          // Top-N: 매출 기준 내림차순
+                            .limit(3)
+            ).fetch()));
+
+            /* ---------------------------------------------------------
+             * 3) 카테고리 집계(병목제거 3단계)
+             *    3a) 대량 구간: co→cod→m까지만 조인하여 category_id 기준 집계
+             *        - mc 조인을 배제해 조인 폭/비용 최소화
+             *        - 정렬 불필요 → ORDER BY NULL
+             *    3b) 소량 구간: 집계에 등장한 소수의 category_id에 대해서만 mc에서 이름 조회
+             *    3c) 결과 매핑: 이름 매핑 + 정렬(건수/매출) + 총 판매수량(menuCount) 산출
+             * --------------------------------------------------------- */
+
+            // 3a) id-only 집계
+            var catTask = scope.fork(() -> timed("3a. cat agg (id-only)", () -> fromRollup ? readHints(
+                    query.select(md.menuCategoryId, R_QTY, R_AMT)     // 카테고리 ID가 비정규화되어 있어 조인 없음
+                            .from(md)
+                            .where(ytdRollup)
+                            .groupBy(md.menuCategoryId)
+                            .orderBy(orderByNull())
+            ).fetch() : readHints(
+                    query.select(
+                                    m.menuCategory.menuCategoryId,  // 카테고리 ID만
+                                    SUM_QTY,
+                                    SUM_AMT
+                            )
+                            .from(co)
+                            .join(cod).on(cod.order.eq(co))        // co → cod
+                            .join(cod.menuIdFk, m)                 // → m
+                            .where(ytd)                            // 공통 WHERE 재사용
+                            .groupBy(m.menuCategory.menuCategoryId)
+                            .orderBy(orderByNull())
+            ).fetch()));
 
-        /* ---------------------------------------------------------
-         * 2) 메뉴 Top3 (co → cod → m)
-         *    - 드라이빙: co(기간/상태 필터를 co에만 적용해 범위 축소)
-         *    - 필요 컬럼만 SELECT(커버링 인덱스 활용 가정)
-         *    - TOP-N 필요하므로 금액 내림차순 정렬 + limit 3
-         * --------------------------------------------------------- */
-        final List<Tuple> topMenusT = timed("2. top3 menus", () -> readHints(
-                query.select(
-                                m.menuId,
-                                m.menuName,
-                                SUM_QTY,
-                                SUM_AMT
-                        )
-                        .from(co)
-                        .join(cod).on(cod.order.eq(co))   // FK(order_id) 사용(명시적 조인)
-                        .join(cod.menuIdFk, m)
-                        .where(ytd)                       // 공통 WHERE 재사용
-                        .groupBy(m.menuId, m.menuName)
-                        .orderBy(SUM_AMT.desc())          // Top-N: 매출 기준 내림차순
-                        .limit(3)
-        ).fetch());
+            scope.join();
+            summary = txnTask.get();
+            topMenusT = topTask.get();
+            catAggCore = catTask.get();
+        }
+        final OrdersCardsDto dto = summary != null ? summary : new OrdersCardsDto();
 
         final List<TopMenuItem> topMenus = new ArrayList<>(topMenusT.size());
         for (Tuple r : topMenusT) {
@@ -641,30 +799,6 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         }
         dto.setTopMenus(topMenus);
 
-        /* ---------------------------------------------------------
-         * 3) 카테고리 집계(병목제거 3단계)
-         *    3a) 대량 구간: co→cod→m까지만 조인하여 category_id 기준 집계
-         *        - mc 조인을 배제해 조인 폭/비용 최소화
-         *        - 정렬 불필요 → ORDER BY NULL
-         *    3b) 소량 구간: 집계에 등장한 소수의 category_id에 대해서만 mc에서 이름 조회
-         *    3c) 결과 매핑: 이름 매핑 + 정렬(건수/매출) + 총 판매수량(menuCount) 산출
-         * --------------------------------------------------------- */
-
-        // 3a) id-only 집계
-        final List<Tuple> catAggCore = timed("3a. cat agg (id-only)", () -> readHints(
-                query.select(
-                                m.menuCategory.menuCategoryId,  // 카테고리 ID만
-                                SUM_QTY,
-                                SUM_AMT
-                        )
-                        .from(co)
-                        .join(cod).on(cod.order.eq(co))        // co → cod
-                        .join(cod.menuIdFk, m)                 // → m
-                        .where(ytd)                            // 공통 WHERE 재사용
-                        .groupBy(m.menuCategory.menuCategoryId)
-                        .orderBy(orderByNull())
-        ).fetch());
-
         // 3b) 이름 붙이기(등장 ID만 소량 조회)
         final var catIds = catAggCore.stream()
                 .map(t -> t.get(0, Long.class))
@@ -745,6 +879,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      *   <li>페이지 윈도우(pageWindow)를 사용해 현재 페이지 라벨 범위만 추가 스캔하도록 최적화</li>
      *   <li>대용량 조인이 필요한 경우(일별 메뉴단위)는 cod→menu 조인만 수행하고, 필요한 집계는 별도 쿼리로 분리</li>
      *   <li>모든 조회에 {@link #readHints(JPAQuery)} 적용(읽기 전용 힌트, flushMode, timeout)</li>
+     *   <li>월별 모드이고 기간이 롤업 워터마크 안이면 {@link #findOrdersFromRollup}으로 위임(같은 행 단위·정렬)</li>
      * </ul>
      *
      * @param cond 조회 조건(점포 목록, 시작/종료일, viewBy, showTotal 등)
@@ -777,6 +912,9 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         Long total = countOrders(cond);
         if (total == 0L) return new PageImpl<>(Collections.emptyList(), pageable, 0L);
 
+        // 1-1) 롤업 모드(월별만): 메뉴 판매 집계/매출 롤업에서 조회
+        if (ordersFromRollup(cond)) return findOrdersFromRollup(cond, pageable, total);
+
         // 2) 본문 rows: (A) 월별 또는 (B) 일별
         List<OrdersRowDto> rows;
         if (byMonth) {
@@ -803,8 +941,8 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
                             .where(filter)
                             // 그룹핑은 파생문자열(monthLabel)이 아닌 YEAR/MONTH 정수 표현식으로 묶어 정렬 일관성/성능 확보
                             .groupBy(s.id, s.name, yExpr, mExpr)
-                            // 최근월 → 과거월 (요구사항: 최근시간순)
-                            .orderBy(yExpr.desc(), mExpr.desc())
+                            // 최근월 → 과거월 (요구사항: 최근시간순), 같은 월은 점포 ID로 고정(페이지 경계 안정)
+                            .orderBy(yExpr.desc(), mExpr.desc(), s.id.asc())
                             .offset(pageable.getOffset())
                             .limit(pageable.getPageSize())
             ).fetch();
@@ -1011,12 +1149,167 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
 
 
     /**
-     * 재료 요약 카드 데이터를 조회한다.
+     * 월별 주문 목록을 롤업 테이블에서 조회한다({@link #findOrders}의 롤업 경로).
+     *
+     * <p>
+     * 메뉴 수량/매출은 {@code analytics_menu_sales_daily}, 주문 건수/매출은 {@code analytics_sales_rollup}에서 집계한다.
+     * 행은 원본 월별 경로와 같은 (점포 × 연월) 단위이고 정렬(연월 ↓, 점포 ID ↑)도 같다.
+     * 일별 목록은 주문 단위 행(orderId 포함)이라 롤업으로 만들 수 없으므로 이 경로를 쓰지 않는다.
+     * </p>
+     *
+     * @param cond 조회 조건
+     * @param pageable 페이지네이션 정보
+     * @param total {@link #countOrders(AnalyticsSearchDto)} 결과
+     * @return 요청한 페이지의 {@link OrdersRowDto} Page
+     */
+    private Page<OrdersRowDto> findOrdersFromRollup(AnalyticsSearchDto cond, Pageable pageable, long total) {
+
+        // 0) 라벨/그룹 키: 메뉴 집계(md)와 매출 롤업(sr) 각각
+        final StringExpression mdLabel = dateFormat(md.salesDate, "%Y-%m");
+        final StringExpression srLabel = dateFormat(sr.salesDate, "%Y-%m");
+        final NumberExpression<Integer> mdY = Expressions.numberTemplate(Integer.class, "YEAR({0})",  md.salesDate);
+        final NumberExpression<Integer> mdM = Expressions.numberTemplate(Integer.class, "MONTH({0})", md.salesDate);
+        final NumberExpression<Integer> srY = Expressions.numberTemplate(Integer.class, "YEAR({0})",  sr.salesDate);
+        final NumberExpression<Integer> srM = Expressions.numberTemplate(Integer.class, "MONTH({0})", sr.salesDate);
+
+        final BooleanExpression mdFilter = eqMenuDailyFilter(cond);
+        final BooleanExpression srFilter = eqRollupFilter(cond);
+
+        // 1) 본문 rows: (점포 × 연월) 버킷
+        final List<OrdersRowDto> rows = readHints(
+                query.select(Projections.bean(OrdersRowDto.class,
+                                ExpressionUtils.as(mdLabel, "date"),
+                                ExpressionUtils.as(mdLabel, "orderDate"),
+                                ExpressionUtils.as(s.name, "storeName"),
+                                ExpressionUtils.as(md.quantity.sum(), "menuCount"),
+                                ExpressionUtils.as(md.lineTotal.sum(), "menuSales"),
+                                ExpressionUtils.as(s.id, "storeId")
+                        ))
+                        .from(md)
+                        .join(s).on(s.id.eq(md.storeId))
+                        .where(mdFilter)
+                        .groupBy(s.id, s.name, mdY, mdM)
+                        .orderBy(mdY.desc(), mdM.desc(), s.id.asc())
+                        .offset(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+        ).fetch();
+
+        if (rows.isEmpty()) return new PageImpl<>(Collections.emptyList(), pageable, total);
+
+        // 2) 현재 페이지 라벨 윈도우(일자 컬럼 기준)
+        LocalDate minD = null, maxD = null;
+        for (OrdersRowDto r : rows) {
+            YearMonth ym = YearMonth.parse(r.getDate());
+            if (minD == null || ym.atDay(1).isBefore(minD))    minD = ym.atDay(1);
+            if (maxD == null || ym.atEndOfMonth().isAfter(maxD)) maxD = ym.atEndOfMonth();
+        }
+        final BooleanExpression mdWindow = betweenDateClosedOpen(md.salesDate, minD, maxD);
+        final BooleanExpression srWindow = betweenDateClosedOpen(sr.salesDate, minD, maxD);
+
+        // 3) 주문 건수/매출 병합(sr 버킷: 점포 × 연월)
+        final Set<Long> sids = new HashSet<>();
+        for (OrdersRowDto r : rows) sids.add(r.getStoreId());
+
+        record RBKey(Long sid, String label) {}
+        final Map<RBKey, Tuple> bucket = new HashMap<>();
+        for (Tuple t : readHints(
+                query.select(sr.storeId, srLabel, sr.trxCount.sum(), sr.salesAmount.sum())
+                        .from(sr)
+                        .where(srFilter, sr.storeId.in(sids), srWindow)
+                        .groupBy(sr.storeId, srY, srM)
+                        .orderBy(orderByNull())
+        ).fetch()) {
+            bucket.put(new RBKey(t.get(0, Long.class), t.get(1, String.class)), t);
+        }
+        for (OrdersRowDto r : rows) {
+            Tuple b = bucket.get(new RBKey(r.getStoreId(), r.getDate()));
+            if (b != null) {
+                r.setOrderCount(nz(b.get(2, Long.class)));
+                r.setOrderSales(nz(b.get(3, BigDecimal.class)));
+            }
+        }
+
+        // 4) Total 행(라벨 단위 합계)
+        if (Boolean.TRUE.equals(cond.getShowTotal())) {
+            final Map<String, List<OrdersRowDto>> byLabel = new LinkedHashMap<>();
+            for (OrdersRowDto r : rows) byLabel.computeIfAbsent(r.getDate(), k -> new ArrayList<>()).add(r);
+
+            final Map<String, Tuple> detailTotals = new HashMap<>();
+            for (Tuple t : readHints(
+                    query.select(mdLabel, md.quantity.sum(), md.lineTotal.sum())
+                            .from(md)
+                            .where(mdFilter, mdWindow)
+                            .groupBy(mdY, mdM)
+                            .orderBy(orderByNull())
+            ).fetch()) {
+                detailTotals.put(t.get(0, String.class), t);
+            }
+
+            final Map<String, Tuple> orderTotals = new HashMap<>();
+            for (Tuple t : readHints(
+                    query.select(srLabel, sr.trxCount.sum(), sr.salesAmount.sum())
+                            .from(sr)
+                            .where(srFilter, srWindow)
+                            .groupBy(srY, srM)
+                            .orderBy(orderByNull())
+            ).fetch()) {
+                orderTotals.put(t.get(0, String.class), t);
+            }
+
+            final List<OrdersRowDto> out = new ArrayList<>(rows.size() + byLabel.size());
+            for (Map.Entry<String, List<OrdersRowDto>> e : byLabel.entrySet()) {
+                final String label = e.getKey();
+                final Tuple d = detailTotals.get(label);
+                final Tuple o = orderTotals.get(label);
+
+                out.add(OrdersRowDto.builder()
+                        .date(label)
+                        .orderDate("-")
+                        .storeName("Total")
+                        .orderId(null)
+                        .category("-")
+                        .menu("-")
+                        .menuCount(d == null ? 0L : nz(d.get(1, Long.class)))
+                        .menuSales(d == null ? BigDecimal.ZERO : nz(d.get(2, BigDecimal.class)))
+                        .orderCount(o == null ? 0L : nz(o.get(1, Long.class)))
+                        .orderSales(o == null ? BigDecimal.ZERO : nz(o.get(2, BigDecimal.class)))
+                        .orderType("-")
+                        .storeId(0L)
+                        .build());
+
+                final List<OrdersRowDto> list = e.getValue();
+                list.sort(Comparator.comparing(OrdersRowDto::getStoreName, Comparator.nullsLast(String::compareTo)));
+                out.addAll(list);
+            }
+            return new PageImpl<>(out, pageable, total);
+        }
+
+        return new PageImpl<>(rows, pageable, total);
+    }
+
+    /**
+     * 주문 목록/카운트를 롤업 테이블로 응답할 수 있는지 판정한다.
+     *
+     * <p>월별 모드이고, 기간이 지정되어 있으며, 메뉴 판매 집계와 매출 롤업이 모두 그 기간을 덮어야 한다.
+     * 일별 모드는 행이 주문 단위라 항상 원본 경로를 쓴다(기간에 따라 행의 의미가 바뀌지 않게 함).</p>
+     *
+     * @param cond 조회 조건
+     * @return 롤업 사용 가능 여부
+     */
+    private boolean ordersFromRollup(AnalyticsSearchDto cond) {
+        return cond.getViewBy() == ViewBy.MONTH
+                && rollupCoverage.covers(SalesRollupCoverage.MENU_ROLLUP, cond.getStartDate(), cond.getEndDate())
+                && rollupCoverage.covers(cond.getStartDate(), cond.getEndDate());
+    }
+
+
+    /**
+     * 재료 요약 카드 계산용 원천 집계를 조회한다.
      *
      * <p>
      * 본 메서드는 Asia/Seoul 기준 YTD(당해 1/1 ~ 어제까지)를 대상으로
-     * 재고/발주/원가/매출/이익/마진/회전율 등의 핵심 지표를 계산하여
-     * 대시보드 카드에 바로 사용할 수 있는 형태의 {@link MaterialsCardsDto}를 반환한다.
+     * 재고/사용량 합계와 (재료 × 납기일) 발주 버킷을 {@link MaterialsSummaryRaw}로 반환한다.
+     * 판매 단가 매핑과 매출/이익/마진/회전율 계산은 서비스({@code AnalyticsService#selectMaterialsCards})에서 한다.
      * </p>
      *
      * <h3>집계 범위</h3>
@@ -1024,145 +1317,106 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      *   <li><b>기간</b>: {@code [올해 1월 1일, 오늘)} → 어제까지 포함</li>
      *   <li><b>대상 테이블</b>:
      *     <ul>
-     *       <li>가맹점 현재 재고: {@code store_material} + {@code store_inventory}</li>
+     *       <li>가맹점 현재 재고: {@code store_inventory}</li>
      *       <li>본사 현재 재고: {@code inventory}</li>
-     *       <li>발주/원가/매출: {@code receive_order} + {@code receive_order_detail} (+ 판매가 {@code unit_price}/{@code store_material})</li>
+     *       <li>발주/원가: {@code receive_order} + {@code receive_order_detail} (+ 대체 판매가 {@code store_material})</li>
      *       <li>사용량(출고): {@code store_inventory_out}</li>
      *     </ul>
      *   </li>
      * </ul>
      *
-     * <h3>반환 항목(요약)</h3>
-     * <ul>
-     *   <li>currentOfficeInventoryQty, currentTotalStoreInventoryQty</li>
-     *   <li>orderVolumeQty(발주 수량), usedQty(출고 수량)</li>
-     *   <li>salesAmount(매출), profitAmount(이익), avgMargin(%), turnoverRate</li>
-     * </ul>
-     *
      * <h3>쿼리/성능 노트</h3>
      * <ul>
-     *   <li>필요 집계를 각각 전용 쿼리로 수행하여 조인 폭을 최소화</li>
-     *   <li>판매가 계산: {@code unit_price(유효기간 내 SELLING) → store_material.selling_price → unit_price(원가)} 우선순위</li>
+     *   <li>필요 집계를 각각 전용 쿼리로 수행하여 조인 폭을 최소화(서로 독립이므로 동시에 실행)</li>
+     *   <li>발주 버킷에는 단가 이력이 없을 때 쓸 매출 합({@code store_material.selling_price → rod.unitPrice})을 함께 담는다.</li>
      *   <li>{@link #readHints(com.querydsl.jpa.impl.JPAQuery)} 적용으로 readOnly/flushMode/timeout 힌트 부여</li>
-     *   <li>NULL/0 보호: {@code COALESCE}, 내부 유틸 {@code nz}, {@code divOrZero} 사용</li>
      * </ul>
      *
-     * @return {@link MaterialsCardsDto} 재료 요약 카드 데이터
+     * @return {@link MaterialsSummaryRaw} 재료 요약 원천 집계
      * @since 2025-11-21
      * @author 이경욱
      */
     @Override
     @Transactional(readOnly = true)
-    public MaterialsCardsDto findMaterialsSummary() {
+    public MaterialsSummaryRaw findMaterialsSummaryRaw() {
         final LocalDate today    = LocalDate.now(ZONE_SEOUL);
         final LocalDate ytdStart = LocalDate.of(today.getYear(), 1, 1);
         final LocalDate ytdEndEx = today; // 어제까지 포함 ↔ exclusive 오늘
 
-        // 1) 가맹점 전체 재고(현재) — 불필요 조인 제거
-        BigDecimal totalStoreInvQty = Optional.ofNullable(
-                readHints(
-                        query.select(si.quantity.sum().coalesce(BigDecimal.ZERO))
-                                .from(si)
-                                .orderBy(orderByNull())
-                ).fetchOne()
-        ).orElse(BigDecimal.ZERO);
-
-        // 1-1) 본사 재고(현재)
-        BigDecimal currentOfficeInvQty = Optional.ofNullable(
-                readHints(
-                        query.select(inv.quantity.sum().coalesce(BigDecimal.ZERO))
-                                .from(inv)
-                                .orderBy(orderByNull())
-                ).fetchOne()
-        ).orElse(BigDecimal.ZERO);
-
-        // 2) YTD 발주/원가/매출 — 열에 함수 금지 + 최신 단가 선택
-        final QUnitPrice up2 = new QUnitPrice("up2");
-
-        // ro.actualDeliveryDate (DATE) → TIMESTAMP 승격
-        var roDateTs = Expressions.dateTimeTemplate(
-                java.time.LocalDateTime.class,
-                "cast({0} as timestamp)",
-                ro.actualDeliveryDate
-        );
-        // HQL 표준: timestampadd(DAY, 1, cast(... as timestamp))
-        var roDatePlus1Ts = Expressions.dateTimeTemplate(
-                java.time.LocalDateTime.class,
-                "timestampadd(DAY, 1, cast({0} as timestamp))",
-                ro.actualDeliveryDate
-        );
-
-        // 윈도우 조건(열에 함수 미적용, 닫힌-열린)
-        BooleanExpression upWindow =
-                up.material.eq(sm.material)
-                        .and(up.type.eq(UnitPriceType.SELLING))
-                        .and(up.validFrom.loe(roDatePlus1Ts))
-                        .and(up.validTo.isNull().or(roDateTs.lt(up.validTo)));
-
-        // 최신 validFrom 선택
-        var maxValidFromSubq =
-                JPAExpressions.select(up2.validFrom.max())
-                        .from(up2)
-                        .where(
-                                up2.material.eq(sm.material),
-                                up2.type.eq(UnitPriceType.SELLING),
-                                up2.validFrom.loe(roDatePlus1Ts),
-                                up2.validTo.isNull().or(roDateTs.lt(up2.validTo))
-                        );
+        // 1) 매장 재고 / 1-1) 본사 재고 / 2) YTD 발주 집계 / 3) YTD 사용량은 서로 독립 → 동시에 실행
+        final BigDecimal totalStoreInvQty, currentOfficeInvQty, totalUsedQty;
+        final List<Tuple> orderBuckets;
+        try (var scope = parallel.scope()) {
+            // 1) 가맹점 전체 재고(현재) — 불필요 조인 제거
+            var storeInvTask = scope.fork(() -> Optional.ofNullable(
+                    readHints(
+                            query.select(si.quantity.sum().coalesce(BigDecimal.ZERO))
+                                    .from(si)
+                                    .orderBy(orderByNull())
+                    ).fetchOne()
+            ).orElse(BigDecimal.ZERO));
 
-        BooleanExpression upPickLatest = up.validFrom.eq(maxValidFromSubq);
+            // 1-1) 본사 재고(현재)
+            var officeInvTask = scope.fork(() -> Optional.ofNullable(
+                    readHints(
+                            query.select(inv.quantity.sum().coalesce(BigDecimal.ZERO))
+                                    .from(inv)
+                                    .orderBy(orderByNull())
+                    ).fetchOne()
+            ).orElse(BigDecimal.ZERO));
+
+            // 2) 집계 쿼리 (filesort 제거) — (재료 × 납기일) 버킷, 판매 단가는 서비스에서 버킷별로 매핑
+            var orderAggTask = scope.fork(() -> readHints(
+                    query.select(
+                                    sm.material.id,
+                                    ro.actualDeliveryDate,
+                                    // 발주 수량(정밀도 보존: BigDecimal)
+                                    Expressions.numberTemplate(BigDecimal.class, "COALESCE(SUM({0}),0)", rod.count),
+                                    // 원가 합: 수량 * 입고단가
+                                    Expressions.numberTemplate(BigDecimal.class, "COALESCE(SUM({0} * {1}),0)", rod.count, rod.unitPrice),
+                                    // 단가 이력이 없을 때의 매출 합: sm.sellingPrice → rod.unitPrice
+                                    Expressions.numberTemplate(BigDecimal.class,
+                                            "COALESCE(SUM({0} * COALESCE({1},{2})),0)",
+                                            rod.count, sm.sellingPrice, rod.unitPrice)
+                            )
+                            .from(rod)
+                            .join(rod.receiveOrder, ro)
+                            .join(rod.storeMaterial, sm)
+                            .where(betweenDateClosedOpen(ro.actualDeliveryDate, ytdStart, ytdEndEx)) // [start,end)
+                            .groupBy(sm.material.id, ro.actualDeliveryDate)
+                            .orderBy(orderByNull())
+            ).fetch());
 
-        // 집계 쿼리 (filesort 제거)
-        Tuple t = readHints(
-                query.select(
-                                // 발주 수량(정밀도 보존: BigDecimal)
-                                Expressions.numberTemplate(BigDecimal.class, "COALESCE(SUM({0}),0)", rod.count),
-                                // 원가 합: 수량 * 입고단가
-                                Expressions.numberTemplate(BigDecimal.class, "COALESCE(SUM({0} * {1}),0)", rod.count, rod.unitPrice),
-                                // 매출 합: up.sellingPrice → sm.sellingPrice → rod.unitPrice
-                                Expressions.numberTemplate(BigDecimal.class,
-                                        "COALESCE(SUM({0} * COALESCE({1},{2},{3})),0)",
-                                        rod.count, up.sellingPrice, sm.sellingPrice, rod.unitPrice)
-                        )
-                        .from(rod)
-                        .join(rod.receiveOrder, ro)
-                        .join(rod.storeMaterial, sm)
-                        .leftJoin(up).on(upWindow.and(upPickLatest))
-                        .where(betweenDateClosedOpen(ro.actualDeliveryDate, ytdStart, ytdEndEx)) // [start,end)
-                        .orderBy(orderByNull())
-        ).fetchOne();
+            // 3) YTD 사용량(출고)
+            var usedTask = scope.fork(() -> Optional.ofNullable(
+                    readHints(
+                            query.select(io.quantity.sum().coalesce(BigDecimal.ZERO))
+                                    .from(io)
+                                    .where(betweenDateClosedOpen(io.outDate, ytdStart, ytdEndEx))
+                                    .orderBy(orderByNull())
+                    ).fetchOne()
+            ).orElse(BigDecimal.ZERO));
 
-        BigDecimal orderVolumeQtyBD = (t == null) ? BigDecimal.ZERO : nz(t.get(0, BigDecimal.class));
-        BigDecimal costSum          = (t == null) ? BigDecimal.ZERO : nz(t.get(1, BigDecimal.class));
-        BigDecimal sellingSum       = (t == null) ? BigDecimal.ZERO : nz(t.get(2, BigDecimal.class));
+            scope.join();
+            totalStoreInvQty    = storeInvTask.get();
+            currentOfficeInvQty = officeInvTask.get();
+            orderBuckets        = orderAggTask.get();
+            totalUsedQty        = usedTask.get();
+        }
 
-        // 3) YTD 사용량(출고)
-        BigDecimal totalUsedQty = Optional.ofNullable(
-                readHints(
-                        query.select(io.quantity.sum().coalesce(BigDecimal.ZERO))
-                                .from(io)
-                                .where(betweenDateClosedOpen(io.outDate, ytdStart, ytdEndEx))
-                                .orderBy(orderByNull())
-                ).fetchOne()
-        ).orElse(BigDecimal.ZERO);
-
-        // 4) 파생
-        BigDecimal profit    = sellingSum.subtract(costSum);
-        BigDecimal avgMargin = divOrZero(profit, sellingSum, 2).multiply(BigDecimal.valueOf(100));
-        BigDecimal turnover  = divOrZero(orderVolumeQtyBD, totalStoreInvQty, 2);
-
-        // DTO 스펙이 long 필드면 변환
-        long orderVolumeQty = orderVolumeQtyBD.longValue();
-
-        return MaterialsCardsDto.builder()
-                .currentOfficeInventoryQty(currentOfficeInvQty.longValue())
-                .currentTotalStoreInventoryQty(totalStoreInvQty.longValue())
-                .orderVolumeQty(orderVolumeQty)
-                .usedQty(totalUsedQty.longValue())
-                .turnoverRate(turnover)
-                .salesAmount(sellingSum)
-                .profitAmount(profit)
-                .avgMargin(avgMargin)
+        return MaterialsSummaryRaw.builder()
+                .currentOfficeInventoryQty(currentOfficeInvQty)
+                .currentStoreInventoryQty(totalStoreInvQty)
+                .usedQty(totalUsedQty)
+                .orderBuckets(orderBuckets.stream()
+                        .map(b -> MaterialsSummaryRaw.OrderBucket.builder()
+                                .materialId(b.get(0, Long.class))
+                                .deliveryDate(b.get(1, LocalDate.class))
+                                .qty(nz(b.get(2, BigDecimal.class)))
+                                .costSum(nz(b.get(3, BigDecimal.class)))
+                                .fallbackSellingSum(nz(b.get(4, BigDecimal.class)))
+                                .build())
+                        .toList())
                 .build();
     }
 
@@ -1868,6 +2122,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
      * <h3>설계/성능 노트</h3>
      * <ul>
      *   <li>시간 범위는 08:00~22:00으로 고정(불필요한 스캔 감소)</li>
+     *   <li>기간이 롤업 워터마크 안이면 {@code analytics_sales_rollup}의 시간/일자 컬럼으로 집계</li>
      *   <li>DB는 HOUR/DAYOFWEEK로 그룹화하여 인덱스 사용을 방해하지 않음</li>
      *   <li>쿼리 결과는 작은 메모리 구조(LinkedHashMap → 리스트)로 변환하여 프론트에 전달</li>
      *   <li>쿼리 실행에는 {@link #readHints(JPAQuery)}가 적용되어 timeout/readonly 힌트 설정</li>
@@ -1897,64 +2152,75 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
          *    - 상태 완료 + 기간 [start, end)
          *    - 필터 모드(ytdMode=false) && 점포선택 존재 시 점포 IN 추가
          * --------------------------------------------------------- */
-        BooleanExpression base = co.status.eq(OrderStatus.COMPLETED)
-                .and(betweenDateClosedOpen(co.orderedAt, start, end));
+        final boolean fromRollup = rollupCoverage.covers(start, end);
+
+        BooleanExpression base = fromRollup
+                ? betweenDateClosedOpen(sr.salesDate, start, end)
+                : co.status.eq(OrderStatus.COMPLETED).and(betweenDateClosedOpen(co.orderedAt, start, end));
 
         boolean filteredStores = (!ytdMode && storeIds != null && !storeIds.isEmpty());
         if (filteredStores) {
-            base = base.and(s.id.in(storeIds));
+            base = (base == null) ? s.id.in(storeIds) : base.and(s.id.in(storeIds));
         }
 
         /* ---------------------------------------------------------
          * 2) 집계 차원 파생식
          *    - 날짜 인덱스로 범위를 줄인 후 HOUR/DAYOFWEEK 파생을 사용해 그룹핑한다.
+         *    - 롤업 모드: 시(hour)는 컬럼 그대로, 요일은 일자 컬럼에서 파생
          * --------------------------------------------------------- */
-        NumberExpression<Integer> H = Expressions.numberTemplate(Integer.class, "HOUR({0})",       co.orderedAt);
-        NumberExpression<Integer> D = Expressions.numberTemplate(Integer.class, "DAYOFWEEK({0})",  co.orderedAt);
+        NumberExpression<Integer> H = fromRollup
+                ? sr.salesHour
+                : Expressions.numberTemplate(Integer.class, "HOUR({0})", co.orderedAt);
+        NumberExpression<Integer> D = Expressions.numberTemplate(Integer.class, "DAYOFWEEK({0})",
+                fromRollup ? sr.salesDate : co.orderedAt);
+        EnumPath<OrderType>          OT  = fromRollup ? sr.orderType : co.orderType;
+        NumberExpression<BigDecimal> AMT = fromRollup ? sr.salesAmount.sum() : co.totalPrice.sum();
 
         /* ---------------------------------------------------------
-         * 3) 전체 합계(시간/요일 × OrderType)
-         *    - “전체 선택 or YTD 카드 모드”일 때만 시리즈로 사용된다.
+         * 3) 전체 합계(시간/요일 × OrderType) – “전체 선택 or YTD 카드 모드”
+         * 4) 점포별 합계(시간/요일 × OrderType) – 필터 모드, “{StoreName} - {OrderType}” 시리즈
+         *    - 모드별로 실제 시리즈에 쓰이는 두 쿼리만 실행하며, 둘은 서로 독립이므로 동시에 실행
          *    - 정렬 불필요 집계는 filesort 방지를 위해 orderByNull 적용.
          * --------------------------------------------------------- */
-        List<Tuple> hourTotal = readHints(
-                query.select(H, co.orderType, co.totalPrice.sum())
-                        .from(co).join(co.store, s)
-                        .where(base)
-                        .groupBy(H, co.orderType)
-                        .orderBy(orderByNull())
-        ).fetch();
-
-        List<Tuple> dowTotal = readHints(
-                query.select(D, co.orderType, co.totalPrice.sum())
-                        .from(co).join(co.store, s)
-                        .where(base)
-                        .groupBy(D, co.orderType)
-                        .orderBy(orderByNull())
-        ).fetch();
-
-        /* ---------------------------------------------------------
-         * 4) 점포별 합계(필터 모드에서만)
-         *    - “{StoreName} - {OrderType}” 시리즈를 구성한다.
-         * --------------------------------------------------------- */
+        final BooleanExpression where = base;
+        List<Tuple> hourTotal   = Collections.emptyList();
+        List<Tuple> dowTotal    = Collections.emptyList();
         List<Tuple> hourByStore = Collections.emptyList();
         List<Tuple> dowByStore  = Collections.emptyList();
-        if (filteredStores) {
-            hourByStore = readHints(
-                    query.select(s.id, s.name, H, co.orderType, co.totalPrice.sum())
-                            .from(co).join(co.store, s)
-                            .where(base)
-                            .groupBy(s.id, s.name, H, co.orderType)
-                            .orderBy(orderByNull())
-            ).fetch();
-
-            dowByStore = readHints(
-                    query.select(s.id, s.name, D, co.orderType, co.totalPrice.sum())
-                            .from(co).join(co.store, s)
-                            .where(base)
-                            .groupBy(s.id, s.name, D, co.orderType)
-                            .orderBy(orderByNull())
-            ).fetch();
+        try (var scope = parallel.scope()) {
+            if (filteredStores) {
+                var hourTask = scope.fork(() -> readHints(
+                        salesFrom(query.select(s.id, s.name, H, OT, AMT), fromRollup)
+                                .where(where)
+                                .groupBy(s.id, s.name, H, OT)
+                                .orderBy(orderByNull())
+                ).fetch());
+                var dowTask = scope.fork(() -> readHints(
+                        salesFrom(query.select(s.id, s.name, D, OT, AMT), fromRollup)
+                                .where(where)
+                                .groupBy(s.id, s.name, D, OT)
+                                .orderBy(orderByNull())
+                ).fetch());
+                scope.join();
+                hourByStore = hourTask.get();
+                dowByStore  = dowTask.get();
+            } else {
+                var hourTask = scope.fork(() -> readHints(
+                        salesFrom(query.select(H, OT, AMT), fromRollup)
+                                .where(where)
+                                .groupBy(H, OT)
+                                .orderBy(orderByNull())
+                ).fetch());
+                var dowTask = scope.fork(() -> readHints(
+                        salesFrom(query.select(D, OT, AMT), fromRollup)
+                                .where(where)
+                                .groupBy(D, OT)
+                                .orderBy(orderByNull())
+                ).fetch());
+                scope.join();
+                hourTotal = hourTask.get();
+                dowTotal  = dowTask.get();
+            }
         }
 
         /* ---------------------------------------------------------
@@ -2204,6 +2470,57 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         return where;
     }
 
+    /**
+     * 롤업 조회용 KPI WHERE 조건을 생성한다({@link #eqKpiFilter}의 롤업 버전).
+     *
+     * <p>롤업은 완료 주문만 적재하므로 상태 조건이 없고, 기간은 일자 컬럼, 점포는 스칼라 ID로 거른다.</p>
+     *
+     * @param cond 사용자 조회 조건
+     * @return 조합된 {@link BooleanExpression} (조건이 없으면 null)
+     */
+    private BooleanExpression eqRollupFilter(AnalyticsSearchDto cond) {
+        BooleanExpression where = betweenDateClosedOpen(sr.salesDate, cond.getStartDate(), cond.getEndDate());
+        List<Long> storeIds = cond.getStoreIds();
+        if (storeIds != null && !storeIds.isEmpty()) {
+            where = (where == null) ? sr.storeId.in(storeIds) : where.and(sr.storeId.in(storeIds));
+        }
+        return where;
+    }
+
+    /**
+     * 메뉴 판매 집계({@code analytics_menu_sales_daily}) 조회용 WHERE 조건을 생성한다.
+     *
+     * @param cond 사용자 조회 조건
+     * @return 조합된 {@link BooleanExpression} (조건이 없으면 null)
+     */
+    private BooleanExpression eqMenuDailyFilter(AnalyticsSearchDto cond) {
+        BooleanExpression where = betweenDateClosedOpen(md.salesDate, cond.getStartDate(), cond.getEndDate());
+        List<Long> storeIds = cond.getStoreIds();
+        if (storeIds != null && !storeIds.isEmpty()) {
+            where = (where == null) ? md.storeId.in(storeIds) : where.and(md.storeId.in(storeIds));
+        }
+        return where;
+    }
+
+    /**
+     * 매출 집계 쿼리의 FROM/JOIN 절을 소스(롤업/원본)에 맞게 구성한다.
+     *
+     * <ul>
+     *   <li>롤업: {@code analytics_sales_rollup sr JOIN store s ON s.id = sr.store_id}</li>
+     *   <li>원본: {@code customer_order co JOIN co.store s}</li>
+     * </ul>
+     *
+     * @param q 프로젝션이 지정된 쿼리
+     * @param fromRollup 롤업 사용 여부
+     * @param <T> 결과 타입
+     * @return FROM/JOIN이 지정된 쿼리
+     */
+    private <T> JPAQuery<T> salesFrom(JPAQuery<T> q, boolean fromRollup) {
+        return fromRollup
+                ? q.from(sr).join(s).on(s.id.eq(sr.storeId))
+                : q.from(co).join(co.store, s);
+    }
+
     /**
      * DateTimePath 컬럼에 대해 [start 00:00:00, end+1 00:00:00) 닫힌-열린 구간 조건을 반환한다.
      *
@@ -2300,6 +2617,17 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
     }
 
 
+    /**
+     * {@code SUM(CASE WHEN cond THEN val ELSE 0 END)}의 정수(Long) 버전(롤업의 건수/수량 합계용).
+     *
+     * @param cond 조건식
+     * @param val 합계 대상 정수 표현식
+     * @return {@link NumberExpression}{@code <Long>}
+     */
+    private NumberExpression<Long> sumIfLong(BooleanExpression cond, NumberExpression<Long> val) {
+        return Expressions.numberTemplate(Long.class, "SUM(CASE WHEN {0} THEN {1} ELSE 0 END)", cond, val);
+    }
+
     /**
      * {@code SUM(CASE WHEN cond THEN 1 ELSE 0 END)} 표현을 생성한다.
      *
@@ -2459,11 +2787,26 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
                         .and((cond.getStoreIds()!=null && !cond.getStoreIds().isEmpty()) ? s.id.in(cond.getStoreIds()) : null)
                         .and(betweenDateClosedOpen(co.orderedAt, lytdStart, ytdEnd)); // 스캔 범위(닫힌–열린)
 
+        // 1-1) 롤업 모드: 같은 분기 합계를 롤업 일자 컬럼 기준으로 계산(조인 불필요)
+        final boolean fromRollup = rollupCoverage.covers(lytdStart, ytdEnd);
+
         // 2) 단일 쿼리로 MoM/YoY에 필요한 합계 동시 계산
         //    - A/B : MoM 비교구간
         //    - Y/LY: YTD/LYTD
         //    - 정렬 불필요(단일 로우 집계) → ORDER BY 생략
-        Tuple t = readHints(
+        Tuple t = fromRollup ? readHints(
+                query.select(
+                                sumIf(betweenDateClosedOpen(sr.salesDate, aStart, aEnd), sr.salesAmount),
+                                sumIf(betweenDateClosedOpen(sr.salesDate, bStart, bEnd), sr.salesAmount),
+                                sumIf(betweenDateClosedOpen(sr.salesDate, ytdStart,  ytdEnd),  sr.salesAmount),
+                                sumIf(betweenDateClosedOpen(sr.salesDate, lytdStart, lytdEnd), sr.salesAmount)
+                        )
+                        .from(sr)
+                        .where(
+                                (cond.getStoreIds()!=null && !cond.getStoreIds().isEmpty()) ? sr.storeId.in(cond.getStoreIds()) : null,
+                                betweenDateClosedOpen(sr.salesDate, lytdStart, ytdEnd)
+                        )
+        ).fetchOne() : readHints(
                 query.select(
                                 // A / B (MoM)
                                 sumIf(betweenDateClosedOpen(co.orderedAt, aStart, aEnd), co.totalPrice),   // idx 0 = A
@@ -2543,7 +2886,21 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         //      sumIf(between...) 분기로 각 기간의 합계를 한 번에 계산 → 스캔 1회
         //    - 상태 완료 + 현재 페이지 점포만(s.id IN ...)으로 범위 축소
         //    - 정렬 불필요(그룹 집계만) → ORDER BY 생략
-        List<Tuple> rows = readHints(
+        List<Tuple> rows = rollupCoverage.covers(lytdStart, ytdEnd) ? readHints(
+                query.select(
+                                sr.storeId,
+                                sumIf(betweenDateClosedOpen(sr.salesDate, aStart, aEnd), sr.salesAmount),
+                                sumIf(betweenDateClosedOpen(sr.salesDate, bStart, bEnd), sr.salesAmount),
+                                sumIf(betweenDateClosedOpen(sr.salesDate, ytdStart,  ytdEnd),  sr.salesAmount),
+                                sumIf(betweenDateClosedOpen(sr.salesDate, lytdStart, lytdEnd), sr.salesAmount)
+                        )
+                        .from(sr)
+                        .where(
+                                sr.storeId.in(sidsOnPage),
+                                betweenDateClosedOpen(sr.salesDate, lytdStart, ytdEnd)
+                        )
+                        .groupBy(sr.storeId)
+        ).fetch() : readHints(
                 query.select(
                                 s.id,
                                 // A / B (MoM)
@@ -2682,12 +3039,13 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         //   COUNT(DISTINCT) 키 생성에만 쓰므로 인덱스 사용성에 영향 없음(필터는 baseFilter가 담당).
         boolean byMonth = cond.getViewBy() == ViewBy.MONTH;
         String fmt = byMonth ? "%Y-%m" : "%Y-%m-%d";
-        StringExpression labelExpr = dateFormat(co.orderedAt, fmt);
+        boolean fromRollup = rollupCoverage.covers(cond.getStartDate(), cond.getEndDate());
+        StringExpression labelExpr = dateFormat(fromRollup ? sr.salesDate : co.orderedAt, fmt);
 
         // 1) 공통 KPI 필터
         // - 완료 상태 + 기간 [start, end) + (선택) 점포 IN
         // - 컬럼 함수 미사용 원칙 준수 → 날짜 인덱스 활용 가능
-        BooleanExpression baseFilter = eqKpiFilter(cond, co, s);
+        BooleanExpression baseFilter = fromRollup ? eqRollupFilter(cond) : eqKpiFilter(cond, co, s);
 
         // 2) DISTINCT 카운트를 위한 그룹 키
         // - (store_id, label) 조합의 고유 버킷 개수 = 페이지 total
@@ -2695,9 +3053,19 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
         //   문자열 키(CONCAT_WS)로 합친 뒤 COUNT(DISTINCT ...) 수행
         // - 구분자 '|'는 labelExpr(숫자/하이픈)과 충돌 위험이 사실상 없음
         StringExpression groupKey = Expressions.stringTemplate(
-                "CONCAT_WS('|',{0},{1})", s.id, labelExpr
+                "CONCAT_WS('|',{0},{1})", fromRollup ? sr.storeId : s.id, labelExpr
         );
 
+        if (fromRollup) {
+            return Optional.ofNullable(
+                    readHints(
+                            query.select(Expressions.numberTemplate(Long.class, "COUNT(DISTINCT {0})", groupKey))
+                                    .from(sr)
+                                    .where(baseFilter)
+                    ).fetchOne()
+            ).orElse(0L);
+        }
+
         // 3) 카운트 쿼리
         // - 불필요 정렬/그룹 결과 반환 없음 → ORDER BY 생략
         // - 힌트(readOnly/flush/timeout)는 readHints(...)에서 일괄 적용
@@ -2740,6 +3108,20 @@ public class AnalyticsRepositoryImpl implements AnalyticsRepository {
             byMonth = false; // 기본값: 일별
         }
 
+        // 0-0) 롤업 모드(월별만): findOrdersFromRollup과 같은 (점포 × 연월) 키로 카운트
+        if (ordersFromRollup(cond)) {
+            NumberExpression<Integer> ry = Expressions.numberTemplate(Integer.class, "YEAR({0})",  md.salesDate);
+            NumberExpression<Integer> rm = Expressions.numberTemplate(Integer.class, "MONTH({0})", md.salesDate);
+            return Optional.ofNullable(
+                    readHints(
+                            query.select(Expressions.numberTemplate(Long.class,
+                                            "COUNT(DISTINCT CONCAT_WS('|', {0}, {1}, {2}))", md.storeId, ry, rm))
+                                    .from(md)
+                                    .where(eqMenuDailyFilter(cond))
+                    ).fetchOne()
+            ).orElse(0L);
+        }
+
         // 0-1) 월별 키 생성을 위한 파생식(YEAR/MONTH)
         // - 성능 메모: YEAR()/MONTH()는 WHERE에 사용되지 않고 DISTINCT 키 생성에만 사용됨
         //   → 날짜 인덱스 사용성에 영향 없음
@@ -0,0 +1,70 @@
+package com.boot.ict05_final_admin.domain.analytics.repository;
+
+import com.boot.ict05_final_admin.domain.analytics.entity.MenuSalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 점포 × 메뉴 × 일자 집계({@code analytics_menu_sales_daily}) 저장소.
+ *
+ * <p>{@link SalesRollupRepository}와 동일하게 구간 삭제 후 INSERT … SELECT로 재적재한다.</p>
+ */
+public interface MenuSalesDailyRepository extends JpaRepository<MenuSalesDaily, Long> {
+
+    /**
+     * 지정 일자 구간 {@code [from, toExclusive)}의 집계 행을 삭제한다.
+     *
+     * @param from        시작일(포함)
+     * @param toExclusive 종료일(제외)
+     * @return 삭제 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM analytics_menu_sales_daily
+             WHERE sales_date >= :from
+               AND sales_date <  :toExclusive
+            """, nativeQuery = true)
+    int deleteByDateRange(@Param("from") LocalDate from,
+                          @Param("toExclusive") LocalDate toExclusive);
+
+    /**
+     * 완료(COMPLETED) 주문 상세를 (점포 × 메뉴 × 일자 × 주문유형)으로 집계해 적재한다.
+     *
+     * @param fromTs 시작 시각(포함)
+     * @param toTs   종료 시각(제외)
+     * @return 적재 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO analytics_menu_sales_daily
+                   (store_id, menu_id, menu_category_id, sales_date, order_type,
+                    quantity, line_total, order_count, refreshed_at)
+            SELECT co.store_id_fk,
+                   d.menu_id_fk,
+                   m.menu_category_id_fk,
+                   DATE(co.customer_order_date),
+                   co.customer_order_type,
+                   COALESCE(SUM(d.customer_order_detail_quantity), 0),
+                   COALESCE(SUM(d.customer_order_detail_total), 0),
+                   COUNT(DISTINCT co.customer_order_id),
+                   NOW()
+              FROM customer_order co
+              JOIN customer_order_detail d ON d.customer_order_id_fk = co.customer_order_id
+              JOIN menu m ON m.menu_id = d.menu_id_fk
+             WHERE co.customer_order_status = 'COMPLETED'
+               AND co.customer_order_date >= :fromTs
+               AND co.customer_order_date <  :toTs
+             GROUP BY co.store_id_fk,
+                      d.menu_id_fk,
+                      m.menu_category_id_fk,
+                      DATE(co.customer_order_date),
+                      co.customer_order_type
+            """, nativeQuery = true)
+    int insertFromCompletedOrders(@Param("fromTs") LocalDateTime fromTs,
+                                  @Param("toTs") LocalDateTime toTs);
+}
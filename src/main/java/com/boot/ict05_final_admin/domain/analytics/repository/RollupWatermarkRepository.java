@@ -0,0 +1,28 @@
+package com.boot.ict05_final_admin.domain.analytics.repository;
+
+import com.boot.ict05_final_admin.domain.analytics.entity.RollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 롤업 워터마크 저장소.
+ */
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+
+    /**
+     * 워터마크 행을 비관적 쓰기 잠금(SELECT … FOR UPDATE)으로 조회한다.
+     *
+     * <p>동시에 실행된 갱신 작업은 이 잠금에서 직렬화된다.</p>
+     *
+     * @param name 롤업 이름
+     * @return 잠금된 워터마크(없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from RollupWatermark w where w.rollupName = :name")
+    Optional<RollupWatermark> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,81 @@
+package com.boot.ict05_final_admin.domain.analytics.repository;
+
+import com.boot.ict05_final_admin.domain.analytics.config.AnalyticsRollupProperties;
+import com.boot.ict05_final_admin.domain.analytics.entity.RollupWatermark;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 기간이 매출 롤업으로 응답 가능한지 판정하는 컴포넌트.
+ *
+ * <p>워터마크 행을 매 조회마다 읽지 않도록 롤업별로 짧은 TTL의 스냅샷을 캐시한다.
+ * 갱신 작업이 끝나면 {@link #invalidate()}로 즉시 무효화된다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupCoverage {
+
+    /** 점포 × 일자 × 시간 × 주문유형 매출 롤업 워터마크 이름 */
+    public static final String SALES_ROLLUP = "sales_daily";
+
+    /** 점포 × 메뉴 × 일자 메뉴 판매 집계 워터마크 이름 */
+    public static final String MENU_ROLLUP = "menu_daily";
+
+    private final RollupWatermarkRepository watermarkRepository;
+    private final AnalyticsRollupProperties props;
+
+    /** 캐시된 집계 구간(불변 스냅샷) */
+    private record Snapshot(LocalDate from, LocalDate through, long loadedAt) {}
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * {@code [start, end]}(양끝 포함) 구간 전체가 매출 롤업에 확정 집계되어 있는지 확인한다.
+     *
+     * @param start 조회 시작일(포함, null이면 false)
+     * @param end   조회 종료일(포함, null이면 false)
+     * @return 롤업으로 응답 가능하면 true
+     */
+    public boolean covers(LocalDate start, LocalDate end) {
+        return covers(SALES_ROLLUP, start, end);
+    }
+
+    /**
+     * {@code [start, end]}(양끝 포함) 구간 전체가 지정 롤업에 확정 집계되어 있는지 확인한다.
+     *
+     * @param rollup 롤업 이름({@link #SALES_ROLLUP}, {@link #MENU_ROLLUP})
+     * @param start  조회 시작일(포함, null이면 false)
+     * @param end    조회 종료일(포함, null이면 false)
+     * @return 롤업으로 응답 가능하면 true
+     */
+    public boolean covers(String rollup, LocalDate start, LocalDate end) {
+        if (!props.isReadEnabled() || start == null || end == null) return false;
+        Snapshot s = current(rollup);
+        return s.from() != null && s.through() != null
+                && !start.isBefore(s.from()) && !end.isAfter(s.through());
+    }
+
+    /**
+     * 캐시된 스냅샷을 모두 폐기한다(갱신 작업 완료 시 호출).
+     */
+    public void invalidate() {
+        snapshots.clear();
+    }
+
+    private Snapshot current(String rollup) {
+        Snapshot s = snapshots.get(rollup);
+        long now = System.currentTimeMillis();
+        if (s == null || now - s.loadedAt() > props.getCoverageTtlSeconds() * 1000L) {
+            RollupWatermark w = watermarkRepository.findById(rollup).orElse(null);
+            s = (w == null)
+                    ? new Snapshot(null, null, now)
+                    : new Snapshot(w.getRolledFrom(), w.getRolledThrough(), now);
+            snapshots.put(rollup, s);
+        }
+        return s;
+    }
+}
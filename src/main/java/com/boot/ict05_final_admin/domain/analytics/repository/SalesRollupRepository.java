@@ -0,0 +1,80 @@
+package com.boot.ict05_final_admin.domain.analytics.repository;
+
+import com.boot.ict05_final_admin.domain.analytics.entity.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 매출 롤업({@code analytics_sales_rollup}) 저장소.
+ *
+ * <p>적재는 원본 주문 테이블에서 INSERT … SELECT 한 번으로 수행하며(애플리케이션 메모리 경유 없음),
+ * 재적재 전에 같은 일자 구간을 먼저 삭제해 멱등성을 보장한다.</p>
+ */
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    /**
+     * 지정 일자 구간 {@code [from, toExclusive)}의 롤업 행을 삭제한다.
+     *
+     * @param from        시작일(포함)
+     * @param toExclusive 종료일(제외)
+     * @return 삭제 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM analytics_sales_rollup
+             WHERE sales_date >= :from
+               AND sales_date <  :toExclusive
+            """, nativeQuery = true)
+    int deleteByDateRange(@Param("from") LocalDate from,
+                          @Param("toExclusive") LocalDate toExclusive);
+
+    /**
+     * 완료(COMPLETED) 주문을 (점포 × 일자 × 시간 × 주문유형)으로 집계해 롤업 테이블에 적재한다.
+     *
+     * <p>판매 수량은 주문별 상세 수량 합을 파생 테이블로 먼저 만든 뒤 LEFT JOIN 하므로
+     * 주문 금액이 상세 행 수만큼 중복 합산되지 않는다.</p>
+     *
+     * @param fromTs 시작 시각(포함)
+     * @param toTs   종료 시각(제외)
+     * @return 적재 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO analytics_sales_rollup
+                   (store_id, sales_date, sales_hour, order_type,
+                    sales_amount, trx_count, units, refreshed_at)
+            SELECT co.store_id_fk,
+                   DATE(co.customer_order_date),
+                   HOUR(co.customer_order_date),
+                   co.customer_order_type,
+                   COALESCE(SUM(co.customer_order_total_price), 0),
+                   COUNT(*),
+                   COALESCE(SUM(q.qty), 0),
+                   NOW()
+              FROM customer_order co
+              LEFT JOIN (
+                    SELECT d.customer_order_id_fk AS order_id,
+                           SUM(d.customer_order_detail_quantity) AS qty
+                      FROM customer_order_detail d
+                      JOIN customer_order o2 ON o2.customer_order_id = d.customer_order_id_fk
+                     WHERE o2.customer_order_status = 'COMPLETED'
+                       AND o2.customer_order_date >= :fromTs
+                       AND o2.customer_order_date <  :toTs
+                     GROUP BY d.customer_order_id_fk
+                   ) q ON q.order_id = co.customer_order_id
+             WHERE co.customer_order_status = 'COMPLETED'
+               AND co.customer_order_date >= :fromTs
+               AND co.customer_order_date <  :toTs
+             GROUP BY co.store_id_fk,
+                      DATE(co.customer_order_date),
+                      HOUR(co.customer_order_date),
+                      co.customer_order_type
+            """, nativeQuery = true)
+    int insertFromCompletedOrders(@Param("fromTs") LocalDateTime fromTs,
+                                  @Param("toTs") LocalDateTime toTs);
+}
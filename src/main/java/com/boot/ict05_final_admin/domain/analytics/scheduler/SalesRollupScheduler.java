@@ -0,0 +1,39 @@
+package com.boot.ict05_final_admin.domain.analytics.scheduler;
+
+import com.boot.ict05_final_admin.domain.analytics.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 매출 롤업 갱신 스케줄러.
+ *
+ * <p>설정 값(analytics.rollup.cron)에 따라 워터마크 이후 구간과 최근 lookback 구간을 재집계한다.
+ * 스케줄러 활성화는 {@code analytics.rollup.enabled=true} 조건으로 제어한다.</p>
+ *
+ * <p>기본 CRON: {@code 0 10 * * * *} (매시 10분)</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "analytics.rollup.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class SalesRollupScheduler {
+
+    private final SalesRollupService service;
+
+    /**
+     * 설정된 CRON 표현식에 따라 롤업을 갱신한다.
+     * 실패 시 워터마크는 전진하지 않으므로 다음 실행에서 같은 구간을 다시 시도한다.
+     */
+    @Scheduled(cron = "${analytics.rollup.cron:0 10 * * * *}")
+    public void run() {
+        try {
+            long rows = service.refresh();
+            log.info("[Rollup][CRON] done: {} rows", rows);
+        } catch (Exception e) {
+            log.warn("[Rollup][CRON] failed: {}", e.getMessage());
+        }
+    }
+}
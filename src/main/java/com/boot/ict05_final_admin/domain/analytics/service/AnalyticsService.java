@@ -1,22 +1,38 @@
 package com.boot.ict05_final_admin.domain.analytics.service;
 
+import com.boot.ict05_final_admin.common.export.ChunkedPdfRenderer;
+import com.boot.ict05_final_admin.common.export.ChunkedReader;
+import com.boot.ict05_final_admin.common.export.ExportProperties;
+import com.boot.ict05_final_admin.common.export.PdfRowSchema;
+import com.boot.ict05_final_admin.common.export.XlsxStreamWriter;
 import com.boot.ict05_final_admin.config.PythonPdfClient;
 import com.boot.ict05_final_admin.domain.analytics.dto.*;
 import com.boot.ict05_final_admin.domain.analytics.repository.AnalyticsRepository;
 import com.boot.ict05_final_admin.domain.analytics.util.LogExecutionTime;
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPricePoint;
+import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceType;
+import com.boot.ict05_final_admin.domain.inventory.service.UnitPriceCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.*;
 import java.time.format.DateTimeFormatter;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 /**
  * 통계(Analytics) 도메인의 조회·내보내기(엑셀/PDF) 비즈니스 로직 서비스.
@@ -24,15 +40,17 @@ import java.time.format.DateTimeFormatter;
  * <p>
  * KPI, 주문, 재료, 시간·요일 분석에 대한 카드/테이블 데이터 조회와
  * 엑셀(XLSX) 및 PDF 생성 바이트를 제공한다. 조회성 메서드는 기본적으로
- * {@code @Transactional(readOnly = true)}로 동작하며, 대량 내보내기는
- * 전체 건수를 선조회한 후 단일 페이징으로 전체를 조회하는 패턴을 따른다.
+ * {@code @Transactional(readOnly = true)}로 동작하며, 엑셀 내보내기는
+ * 라벨 윈도우 단위로 나눠 읽어 응답 스트림에 바로 기록한다(트랜잭션 밖, 윈도우마다 짧은 읽기).
  * </p>
  *
  * <h3>성능 원칙</h3>
  * <ul>
  *   <li>조회 메서드: 읽기 전용 트랜잭션 + Repository의 DTO 프로젝션 사용</li>
- *   <li>엑셀: {@link SXSSFWorkbook} 스트리밍 사용으로 메모리 사용 최소화</li>
- *   <li>PDF: Python(ReportLab) 마이크로서비스 연동, 안전한 직렬화를 위한 Map 변환</li>
+ *   <li>엑셀: {@link XlsxStreamWriter}(SXSSF 행 윈도우) + 라벨 윈도우 조회로 행 수와 무관한 메모리 사용</li>
+ *   <li>PDF: Python(ReportLab) 마이크로서비스 연동, 안전한 직렬화를 위한 Map 변환.
+ *       주문/시간/재료 리포트는 {@link ChunkedPdfRenderer}로 청크 분할·동시 렌더링 후 병합(행 수 상한 없음)하며,
+ *       행은 {@link PdfRowSchema} 열 구성으로 요청 본문에 바로 직렬화한다(행별 Map 생성 없음)</li>
  * </ul>
  */
 @Service
@@ -43,6 +61,53 @@ public class AnalyticsService {
 
     private final AnalyticsRepository analyticsRepository;
     private final PythonPdfClient pythonPdfClient;
+    private final ExportProperties exportProperties;
+    private final ChunkedPdfRenderer chunkedPdfRenderer;
+    private final UnitPriceCache unitPriceCache;
+
+    /** 재료 분석 PDF 행 구성(/pdf/materials) */
+    private static final PdfRowSchema<MaterialsRowDto> MATERIALS_PDF = PdfRowSchema.<MaterialsRowDto>builder()
+            .col("orderDate",           d -> nz(d.getOrderDate()))
+            .col("store",               d -> nz(d.getStore()))
+            .col("material",            d -> nz(d.getMaterial()))
+            .col("storeInventoryQty",   MaterialsRowDto::getStoreInventoryQty)
+            .col("purchaseOrderId",     MaterialsRowDto::getPurchaseOrderId)
+            .col("purchaseOrderDate",   d -> nz(d.getPurchaseOrderDate()))
+            .col("purchaseOrderQty",    MaterialsRowDto::getPurchaseOrderQty)
+            .col("purchaseOrderAmount", MaterialsRowDto::getPurchaseOrderAmount)
+            .col("turnoverRate",        MaterialsRowDto::getTurnoverRate)
+            .col("profit",              MaterialsRowDto::getProfit)
+            .col("margin",              MaterialsRowDto::getMargin)
+            .col("avgUsage",            MaterialsRowDto::getAvgUsage)
+            .build();
+
+    /** 주문 분석 PDF 행 구성(/pdf/orders) */
+    private static final PdfRowSchema<OrdersRowDto> ORDERS_PDF = PdfRowSchema.<OrdersRowDto>builder()
+            .col("date",       d -> nz(d.getDate()))
+            .col("orderDate",  d -> nz(d.getOrderDate()))
+            .col("storeName",  d -> nz(d.getStoreName()))
+            .col("category",   d -> nz(d.getCategory()))
+            .col("menu",       d -> nz(d.getMenu()))
+            .col("menuCount",  OrdersRowDto::getMenuCount)
+            .col("menuSales",  OrdersRowDto::getMenuSales)
+            .col("orderCount", OrdersRowDto::getOrderCount)
+            .col("orderSales", OrdersRowDto::getOrderSales)
+            .col("orderType",  d -> nz(d.getOrderType()))
+            .build();
+
+    /** 시간·요일 분석 PDF 행 구성(/pdf/time) */
+    private static final PdfRowSchema<TimeRowDto> TIME_PDF = PdfRowSchema.<TimeRowDto>builder()
+            .col("date",        d -> nz(d.getDate()))
+            .col("storeName",   d -> nz(d.getStoreName()))
+            .col("hourSlot",    d -> nz(d.getHourSlot()))
+            .col("dayOfWeek",   d -> nz(d.getDayOfWeek()))
+            .col("orderId",     TimeRowDto::getOrderId)
+            .col("orderAmount", TimeRowDto::getOrderAmount)
+            .col("category",    d -> nz(d.getCategory()))
+            .col("menu",        d -> nz(d.getMenu()))
+            .col("orderType",   d -> nz(d.getOrderType()))
+            .col("orderDate",   d -> nz(d.getOrderDate()))
+            .build();
 
     /**
      * KPI 카드(요약) 데이터를 조회한다.
@@ -95,12 +160,54 @@ public class AnalyticsService {
     /**
      * 재료 카드(요약) 데이터를 조회한다.
      *
+     * <p>
+     * 발주 버킷(재료 × 납기일)마다 납기일에 유효한 SELLING 단가를 {@link UnitPriceCache}에서 찾아 매출을 계산한다.
+     * 단가 이력이 없으면 버킷의 대체 매출({@code store_material.selling_price → 입고단가})을 쓴다.
+     * </p>
+     *
      * @return 재료 카드 요약 DTO
      */
     @LogExecutionTime
     @Transactional(readOnly = true)
     public MaterialsCardsDto selectMaterialsCards() {
-        return analyticsRepository.findMaterialsSummary();
+        MaterialsSummaryRaw raw = analyticsRepository.findMaterialsSummaryRaw();
+        List<MaterialsSummaryRaw.OrderBucket> buckets = raw.getOrderBuckets();
+
+        unitPriceCache.preload(buckets.stream().map(MaterialsSummaryRaw.OrderBucket::getMaterialId).toList());
+
+        BigDecimal orderVolumeQty = BigDecimal.ZERO;
+        BigDecimal costSum        = BigDecimal.ZERO;
+        BigDecimal sellingSum     = BigDecimal.ZERO;
+        for (MaterialsSummaryRaw.OrderBucket b : buckets) {
+            BigDecimal qty = nz(b.getQty());
+            LocalDate day  = b.getDeliveryDate();
+
+            orderVolumeQty = orderVolumeQty.add(qty);
+            costSum        = costSum.add(nz(b.getCostSum()));
+
+            // 윈도우: validFrom <= 납기일+1 00:00 AND (validTo IS NULL OR 납기일 00:00 < validTo) 중 최신
+            BigDecimal sellingPrice = day == null ? null : unitPriceCache
+                    .find(b.getMaterialId(), UnitPriceType.SELLING, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                    .map(UnitPricePoint::price)
+                    .orElse(null);
+            sellingSum = sellingSum.add(sellingPrice != null ? qty.multiply(sellingPrice) : nz(b.getFallbackSellingSum()));
+        }
+
+        BigDecimal storeInvQty = nz(raw.getCurrentStoreInventoryQty());
+        BigDecimal profit      = sellingSum.subtract(costSum);
+        BigDecimal avgMargin   = divOrZero(profit, sellingSum, 2).multiply(BigDecimal.valueOf(100));
+        BigDecimal turnover    = divOrZero(orderVolumeQty, storeInvQty, 2);
+
+        return MaterialsCardsDto.builder()
+                .currentOfficeInventoryQty(nz(raw.getCurrentOfficeInventoryQty()).longValue())
+                .currentTotalStoreInventoryQty(storeInvQty.longValue())
+                .orderVolumeQty(orderVolumeQty.longValue())
+                .usedQty(nz(raw.getUsedQty()).longValue())
+                .turnoverRate(turnover)
+                .salesAmount(sellingSum)
+                .profitAmount(profit)
+                .avgMargin(avgMargin)
+                .build();
     }
 
     /**
@@ -153,33 +260,24 @@ public class AnalyticsService {
     }
 
     /**
-     * KPI 테이블을 엑셀(XLSX)로 생성하여 바이트 배열로 반환한다.
+     * KPI 테이블을 엑셀(XLSX)로 생성하여 출력 스트림에 기록한다.
      *
      * <p>
-     * 전체 건수를 선조회한 뒤 한 페이지로 모두 가져와 워크북을 구성한다.
+     * 조회 기간을 라벨 윈도우로 나눠 최신 윈도우부터 읽고, 행은 SXSSF 윈도우를 거쳐 바로 기록한다.
      * 통화/정수/소수/퍼센트 셀 스타일을 적용하여 가독성을 높인다.
      * </p>
      *
-     * @param cond     조회 조건
-     * @param pageable 페이지 정보(엑셀 내에서는 전체 다운로드를 위해 무시됨)
-     * @return XLSX 바이트 배열(없으면 길이 0)
+     * @param cond 조회 조건
+     * @param out  출력 스트림(닫지 않음). 결과가 없으면 헤더만 있는 워크북
      * @throws RuntimeException 엑셀 생성 실패 시
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcelKpi(AnalyticsSearchDto cond, Pageable pageable) {
-        long total = analyticsRepository.countKpi(cond);
-        if (total == 0) {
-            return new byte[0];
-        }
-
-        Pageable fullPage = PageRequest.of(0, (int) total);
-        Page<KpiRowDto> page = analyticsRepository.findKpi(cond, fullPage);
-        List<KpiRowDto> rows = page.getContent();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcelKpi(AnalyticsSearchDto cond, OutputStream out) {
+        requireExportRange(cond);
+        try (XlsxStreamWriter x = new XlsxStreamWriter("KPI", exportProperties.getRowWindow())) {
 
-        try (SXSSFWorkbook wb = new SXSSFWorkbook();
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-
-            Sheet sheet = wb.createSheet("KPI");
+            Workbook wb = x.workbook();
+            Sheet sheet = x.sheet();
             DataFormat df = wb.createDataFormat();
 
             CellStyle head = createHeaderStyle(wb);
@@ -190,16 +288,11 @@ public class AnalyticsService {
             CellStyle pct1 = createPercentStyle(wb, text, df, "0.0%");
 
             String[] headers = {"Date","Store","Sales","Transaction","UPT","ADS","AUR","Comp.(MoM)","Comp.(YoY)"};
-            Row hr = sheet.createRow(0);
-            for (int c=0; c<headers.length; c++) {
-                Cell cell = hr.createCell(c);
-                cell.setCellValue(headers[c]);
-                cell.setCellStyle(head);
-            }
+            x.header(headers, head);
 
-            int r = 1;
-            for (KpiRowDto dto : rows) {
-                Row row = sheet.createRow(r++);
+            // 라벨 윈도우(최신→과거) 단위로 읽어 바로 기록: 힙에는 한 윈도우 분량만 유지
+            forEachLabelWindow(cond, analyticsRepository::countKpi, analyticsRepository::findKpi, (KpiRowDto dto) -> {
+                Row row = x.nextRow();
                 setText(row,0, dto.getDate(), text);
                 setText(row,1, dto.getStoreName(), text);
                 setNum (row,2, dto.getSales(), money);
@@ -209,47 +302,37 @@ public class AnalyticsService {
                 setNum (row,6, dto.getAur(), money);
                 setPct (row,7, dto.getCompMoM(), pct1);
                 setPct (row,8, dto.getCompYoY(), pct1);
-            }
+            });
 
             sheet.setColumnWidth(0, 12 * 256);
             sheet.setColumnWidth(1, 15 * 256);
             for (int c=2; c<9; c++) sheet.setColumnWidth(c, 12 * 256);
 
-            wb.write(bos);
-            return bos.toByteArray();
+            x.writeTo(out);
         } catch (Exception e) {
             throw new RuntimeException("Excel generation failed", e);
         }
     }
 
     /**
-     * 주문 테이블을 엑셀(XLSX)로 생성하여 바이트 배열로 반환한다.
+     * 주문 테이블을 엑셀(XLSX)로 생성하여 출력 스트림에 기록한다.
      *
      * <p>
      * 조회 모드가 일(DAY)인 경우 주문 상세 컬럼을 포함하여 헤더/본문을 구성한다.
      * 금액/개수에 대한 서식을 적용한다.
      * </p>
      *
-     * @param cond     조회 조건
-     * @param pageable 페이지 정보(엑셀 내에서는 전체 다운로드를 위해 무시됨)
-     * @return XLSX 바이트 배열(없으면 길이 0)
+     * @param cond 조회 조건
+     * @param out  출력 스트림(닫지 않음). 결과가 없으면 헤더만 있는 워크북
      * @throws RuntimeException 엑셀 생성 실패 시
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcelOrders(AnalyticsSearchDto cond, Pageable pageable) {
-        long total = analyticsRepository.countOrders(cond);
-        if (total == 0) {
-            return new byte[0];
-        }
-
-        Pageable fullPage = PageRequest.of(0, (int) total);
-        Page<OrdersRowDto> page = analyticsRepository.findOrders(cond, fullPage);
-        List<OrdersRowDto> rows = page.getContent();
-
-        try (SXSSFWorkbook wb = new SXSSFWorkbook();
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcelOrders(AnalyticsSearchDto cond, OutputStream out) {
+        requireExportRange(cond);
+        try (XlsxStreamWriter x = new XlsxStreamWriter("Orders", exportProperties.getRowWindow())) {
 
-            Sheet sheet = wb.createSheet("Orders");
+            Workbook wb = x.workbook();
+            Sheet sheet = x.sheet();
             DataFormat df = wb.createDataFormat();
 
             CellStyle head = createHeaderStyle(wb);
@@ -268,16 +351,11 @@ public class AnalyticsService {
                 headerList.add("OrderType");
             }
 
-            Row hr = sheet.createRow(0);
-            for (int c = 0; c < headerList.size(); c++) {
-                Cell cell = hr.createCell(c);
-                cell.setCellValue(headerList.get(c));
-                cell.setCellStyle(head);
-            }
+            x.header(headerList.toArray(String[]::new), head);
 
-            int r = 1;
-            for (OrdersRowDto dto : rows) {
-                Row row = sheet.createRow(r++);
+            // 라벨 윈도우(최신→과거) 단위로 읽어 바로 기록: 힙에는 한 윈도우 분량만 유지
+            forEachLabelWindow(cond, analyticsRepository::countOrders, analyticsRepository::findOrders, (OrdersRowDto dto) -> {
+                Row row = x.nextRow();
                 int col = 0;
                 setText(row, col++, dto.getDate(), text);
                 if (isDailyView) {
@@ -296,45 +374,37 @@ public class AnalyticsService {
                 if (isDailyView) {
                     setText(row, col++, dto.getOrderType(), text);
                 }
-            }
+            });
 
             for (int c = 0; c < headerList.size(); c++) {
                 sheet.setColumnWidth(c, 15 * 256);
             }
 
-            wb.write(bos);
-            return bos.toByteArray();
+            x.writeTo(out);
         } catch (Exception e) {
             throw new RuntimeException("Excel generation failed", e);
         }
     }
 
     /**
-     * 시간·요일 분석 테이블을 엑셀(XLSX)로 생성하여 바이트 배열로 반환한다.
+     * 시간·요일 분석 테이블을 엑셀(XLSX)로 생성하여 출력 스트림에 기록한다.
      *
      * <p>
-     * 전체 건수를 선조회하여 한 번에 모두 읽어들인 뒤, 일/월 모드에 따라 헤더 구성을 달리한다.
+     * 조회 기간을 라벨 윈도우 단위로 읽어 바로 기록하며, 일/월 모드에 따라 헤더 구성을 달리한다.
      * 금액/문자열 서식을 적용하고, UI 테이블 컬럼 구성과 동일한 순서로 내보낸다.
      * </p>
      *
-     * @param cond     조회 조건
-     * @param pageable 페이지 정보(엑셀 내에서는 전체 다운로드를 위해 무시됨)
-     * @return XLSX 바이트 배열(없으면 길이 0)
+     * @param cond 조회 조건
+     * @param out  출력 스트림(닫지 않음). 결과가 없으면 헤더만 있는 워크북
      * @throws RuntimeException 엑셀 생성 실패 시
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcelTime(AnalyticsSearchDto cond, Pageable pageable) {
-        long total = analyticsRepository.countTime(cond);
-        if (total == 0) return new byte[0];
-
-        Pageable fullPage = PageRequest.of(0, (int) total);
-        Page<TimeRowDto> page = analyticsRepository.findTimeRows(cond, fullPage);
-        List<TimeRowDto> rows = page.getContent();
-
-        try (SXSSFWorkbook wb = new SXSSFWorkbook();
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcelTime(AnalyticsSearchDto cond, OutputStream out) {
+        requireExportRange(cond);
+        try (XlsxStreamWriter x = new XlsxStreamWriter("Time", exportProperties.getRowWindow())) {
 
-            Sheet sheet = wb.createSheet("Time");
+            Workbook wb = x.workbook();
+            Sheet sheet = x.sheet();
             DataFormat df = wb.createDataFormat();
 
             CellStyle head    = createHeaderStyle(wb);
@@ -356,16 +426,11 @@ public class AnalyticsService {
                 );
             }
 
-            Row hr = sheet.createRow(0);
-            for (int c = 0; c < headerList.size(); c++) {
-                Cell cell = hr.createCell(c);
-                cell.setCellValue(headerList.get(c));
-                cell.setCellStyle(head);
-            }
+            x.header(headerList.toArray(String[]::new), head);
 
-            int r = 1;
-            for (TimeRowDto dto : rows) {
-                Row row = sheet.createRow(r++);
+            // 라벨 윈도우(최신→과거) 단위로 읽어 바로 기록: 힙에는 한 윈도우 분량만 유지
+            forEachLabelWindow(cond, analyticsRepository::countTime, analyticsRepository::findTimeRows, (TimeRowDto dto) -> {
+                Row row = x.nextRow();
                 int col = 0;
 
                 if (isDailyView) {
@@ -386,7 +451,7 @@ public class AnalyticsService {
                     setNum (row, col++, dto.getOrderAmount(), money);
                     setText(row, col++, dto.getOrderType(),  text);
                 }
-            }
+            });
 
             for (int c = 0; c < headerList.size(); c++) {
                 int w = switch (headerList.get(c)) {
@@ -405,41 +470,31 @@ public class AnalyticsService {
                 sheet.setColumnWidth(c, w * 256);
             }
 
-            wb.write(bos);
-            return bos.toByteArray();
+            x.writeTo(out);
         } catch (Exception e) {
             throw new RuntimeException("Excel generation failed", e);
         }
     }
 
     /**
-     * 재료 테이블을 엑셀(XLSX)로 생성하여 바이트 배열로 반환한다.
+     * 재료 테이블을 엑셀(XLSX)로 생성하여 출력 스트림에 기록한다.
      *
      * <p>
-     * 전체 건수를 선조회하여 한 번에 모두 읽어들인 뒤, 헤더/본문을 구성한다.
+     * 조회 기간을 라벨 윈도우 단위로 읽어 바로 기록한다.
      * 금액/개수/비율에 대한 서식을 적용한다.
      * </p>
      *
-     * @param cond     조회 조건
-     * @param pageable 페이지 정보(엑셀 내에서는 전체 다운로드를 위해 무시됨)
-     * @return XLSX 바이트 배열(없으면 길이 0)
+     * @param cond 조회 조건
+     * @param out  출력 스트림(닫지 않음). 결과가 없으면 헤더만 있는 워크북
      * @throws RuntimeException 엑셀 생성 실패 시
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcelMaterials(AnalyticsSearchDto cond, Pageable pageable) {
-        long total = analyticsRepository.countMaterials(cond);
-        if (total == 0) {
-            return new byte[0];
-        }
-
-        Pageable fullPage = PageRequest.of(0, (int) total);
-        Page<MaterialsRowDto> page = analyticsRepository.findMaterials(cond, fullPage);
-        List<MaterialsRowDto> rows = page.getContent();
-
-        try (SXSSFWorkbook wb = new SXSSFWorkbook();
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcelMaterials(AnalyticsSearchDto cond, OutputStream out) {
+        requireExportRange(cond);
+        try (XlsxStreamWriter x = new XlsxStreamWriter("Materials", exportProperties.getRowWindow())) {
 
-            Sheet sheet = wb.createSheet("Materials");
+            Workbook wb = x.workbook();
+            Sheet sheet = x.sheet();
             DataFormat df = wb.createDataFormat();
 
             CellStyle head = createHeaderStyle(wb);
@@ -450,16 +505,11 @@ public class AnalyticsService {
             CellStyle pct2 = createPercentStyle(wb, text, df, "0.00%");
 
             String[] headers = {"Date", "Store", "Material", "Inv. Qty", "PO ID", "PO Date", "PO Qty", "PO Amount", "Turnover", "Profit", "Margin", "Avg. Usage"};
-            Row hr = sheet.createRow(0);
-            for (int c = 0; c < headers.length; c++) {
-                Cell cell = hr.createCell(c);
-                cell.setCellValue(headers[c]);
-                cell.setCellStyle(head);
-            }
+            x.header(headers, head);
 
-            int r = 1;
-            for (MaterialsRowDto dto : rows) {
-                Row row = sheet.createRow(r++);
+            // 라벨 윈도우(최신→과거) 단위로 읽어 바로 기록: 힙에는 한 윈도우 분량만 유지
+            forEachLabelWindow(cond, analyticsRepository::countMaterials, analyticsRepository::findMaterials, (MaterialsRowDto dto) -> {
+                Row row = x.nextRow();
                 int col = 0;
                 setText(row, col++, dto.getOrderDate(), text);
                 setText(row, col++, dto.getStore(), text);
@@ -473,7 +523,7 @@ public class AnalyticsService {
                 setNum(row, col++, dto.getProfit(), money);
                 setPct(row, col++, dto.getMargin(), pct2);
                 setNum(row, col++, dto.getAvgUsage(), dec2);
-            }
+            });
 
             for (int c = 0; c < headers.length; c++) {
                 int w = switch (headers[c]) {
@@ -487,76 +537,42 @@ public class AnalyticsService {
                 sheet.setColumnWidth(c, w * 256);
             }
 
-            wb.write(bos);
-            return bos.toByteArray();
+            x.writeTo(out);
         } catch (Exception e) {
             throw new RuntimeException("Excel generation failed for materials", e);
         }
     }
 
     /**
-     * 재료 행 데이터를 PDF로 생성하여 바이트 배열로 반환한다.
+     * 재료 분석 리포트 PDF를 생성하여 출력 스트림에 기록한다.
      *
      * <p>
-     * 총 건수가 {@link #MAX_PDF_ROWS}를 초과하면 상한까지만 전송하며,
-     * 조건 정보에 절단 여부를 포함한다.
+     * 라벨 윈도우 단위로 읽은 행을 {@code app.export.pdf-chunk-rows}개씩 나눠 PDF 서버에서 동시에 렌더링하고,
+     * 순서대로 병합한다({@link ChunkedPdfRenderer}). 행 수 상한(절단) 없이 전체를 출력한다.
      * </p>
      *
      * @param cond 조회 조건
-     * @return PDF 바이트 배열
+     * @param out  출력 스트림(닫지 않음)
+     * @throws IOException PDF 병합/쓰기 오류
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadPdfMaterials(AnalyticsSearchDto cond) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writePdfMaterials(AnalyticsSearchDto cond, OutputStream out) throws IOException {
+        requireExportRange(cond);
         long total = analyticsRepository.countMaterials(cond);
 
-        boolean truncated = false;
-        int fetchSize = (int) Math.min(total, MAX_PDF_ROWS);
-        if (total > MAX_PDF_ROWS) truncated = true;
-
-        Pageable fullPage = PageRequest.of(0, Math.max(fetchSize, 1));
-        List<MaterialsRowDto> rawRows = analyticsRepository.findMaterials(cond, fullPage).getContent();
-
-        if (rawRows.size() > fetchSize && fetchSize > 0) {
-            rawRows = rawRows.subList(0, fetchSize);
-        }
-
-        List<Map<String, Object>> rows = new ArrayList<>(rawRows.size());
-        for (MaterialsRowDto d : rawRows) {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("orderDate", nz(d.getOrderDate()));
-            m.put("store", nz(d.getStore()));
-            m.put("material", nz(d.getMaterial()));
-            m.put("storeInventoryQty", d.getStoreInventoryQty());
-            m.put("purchaseOrderId", d.getPurchaseOrderId());
-            m.put("purchaseOrderDate", nz(d.getPurchaseOrderDate()));
-            m.put("purchaseOrderQty", d.getPurchaseOrderQty());
-            m.put("purchaseOrderAmount", d.getPurchaseOrderAmount());
-            m.put("turnoverRate", d.getTurnoverRate());
-            m.put("profit", d.getProfit());
-            m.put("margin", d.getMargin());
-            m.put("avgUsage", d.getAvgUsage());
-            rows.add(m);
-        }
-        if (rows.isEmpty()) {
-            rows.add(new LinkedHashMap<>());
-        }
-
         Map<String, Object> criteria = new HashMap<>();
         criteria.put("title", "재료 분석 리포트");
         criteria.put("viewBy", cond.getViewBy() != null ? cond.getViewBy().name() : "DAY");
         criteria.put("startDate", cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "");
         criteria.put("endDate", cond.getEndDate() != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE) : "");
-        criteria.put("rowCount", rows.size());
         criteria.put("totalCount", total);
-        criteria.put("truncated", truncated);
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("criteria", criteria);
-        payload.put("data", rows);
+        criteria.put("truncated", false);
 
-        byte[] pdf = pythonPdfClient.generateMaterialsReportPdf(payload);
-        log.info("Materials PDF ready: total={}, sentRows={}, bytes={}", total, rows.size(), (pdf == null ? 0 : pdf.length));
-        return pdf;
+        try (ChunkedPdfRenderer.Session<MaterialsRowDto> pdf = chunkedPdfRenderer.open("/pdf/materials", criteria, total, MATERIALS_PDF)) {
+            forEachLabelWindow(cond, analyticsRepository::countMaterials, analyticsRepository::findMaterials, pdf::add);
+            pdf.finishTo(out);
+        }
+        log.info("Materials PDF ready: total={}", total);
     }
 
 
@@ -594,138 +610,173 @@ public class AnalyticsService {
     }
 
     /**
-     * PDF 내보내기 시 전송할 최대 행 수 상한.
-     * <p>ReportLab 렌더링 시간 및 용량 제한을 고려한 안전한 기본값.</p>
-     */
-    private static final int MAX_PDF_ROWS = 5_000;
-
-    /**
-     * 주문 행 데이터를 PDF로 생성하여 바이트 배열로 반환한다.
+     * 주문 분석 리포트 PDF를 생성하여 출력 스트림에 기록한다.
      *
      * <p>
-     * 총 건수가 {@link #MAX_PDF_ROWS}를 초과할 경우 PDF 전송 행 수를 상한선으로 절단하고,
-     * 기준 정보에 {@code truncated=true}를 포함한다.
+     * 라벨 윈도우 단위로 읽은 행을 청크로 나눠 동시에 렌더링하고 순서대로 병합한다.
+     * 행 수 상한(절단) 없이 전체를 출력한다.
      * </p>
      *
      * @param cond 조회 조건
-     * @return PDF 바이트 배열
+     * @param out  출력 스트림(닫지 않음)
+     * @throws IOException PDF 병합/쓰기 오류
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadPdfOrders(AnalyticsSearchDto cond) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writePdfOrders(AnalyticsSearchDto cond, OutputStream out) throws IOException {
+        requireExportRange(cond);
         long total = analyticsRepository.countOrders(cond);
 
-        boolean truncated = false;
-        int fetchSize = (int) Math.min(total, MAX_PDF_ROWS);
-        if (total > MAX_PDF_ROWS) truncated = true;
-
-        Pageable fullPage = PageRequest.of(0, Math.max(fetchSize, 1));
-        List<OrdersRowDto> rawRows = analyticsRepository.findOrders(cond, fullPage).getContent();
-
-        if (rawRows.size() > fetchSize && fetchSize > 0) {
-            rawRows = rawRows.subList(0, fetchSize);
-        }
-
-        List<Map<String, Object>> rows = new ArrayList<>(rawRows.size());
-        for (OrdersRowDto d : rawRows) {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("date",       nz(d.getDate()));
-            m.put("orderDate",  nz(d.getOrderDate()));
-            m.put("storeName",  nz(d.getStoreName()));
-            m.put("category",   nz(d.getCategory()));
-            m.put("menu",       nz(d.getMenu()));
-            m.put("menuCount",  d.getMenuCount());
-            m.put("menuSales",  d.getMenuSales());
-            m.put("orderCount", d.getOrderCount());
-            m.put("orderSales", d.getOrderSales());
-            m.put("orderType",  nz(d.getOrderType()));
-            rows.add(m);
-        }
-        if (rows.isEmpty()) {
-            rows.add(new LinkedHashMap<>());
-        }
-
         Map<String, Object> criteria = new HashMap<>();
         criteria.put("title", "주문 분석 리포트");
         criteria.put("viewBy",   cond.getViewBy() != null ? cond.getViewBy().name() : "DAY");
         criteria.put("startDate", cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "");
         criteria.put("endDate",   cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "");
-        criteria.put("rowCount",  rows.size());
         criteria.put("totalCount", total);
-        criteria.put("truncated", truncated);
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("criteria", criteria);
-        payload.put("data", rows);
+        criteria.put("truncated", false);
 
-        byte[] pdf = pythonPdfClient.generateOrdersReportPdf(payload);
-        log.info("Orders PDF ready: total={}, sentRows={}, bytes={}", total, rows.size(), (pdf == null ? 0 : pdf.length));
-        return pdf;
+        try (ChunkedPdfRenderer.Session<OrdersRowDto> pdf = chunkedPdfRenderer.open("/pdf/orders", criteria, total, ORDERS_PDF)) {
+            forEachLabelWindow(cond, analyticsRepository::countOrders, analyticsRepository::findOrders, pdf::add);
+            pdf.finishTo(out);
+        }
+        log.info("Orders PDF ready: total={}", total);
     }
 
     /**
-     * 시간·요일 분석 행 데이터를 PDF로 생성하여 바이트 배열로 반환한다.
+     * 시간·요일 분석 리포트 PDF를 생성하여 출력 스트림에 기록한다.
      *
      * <p>
-     * 총 건수가 {@link #MAX_PDF_ROWS}를 초과하면 상한까지만 전송하며,
-     * 조건 정보에 절단 여부를 포함한다. 빈 데이터인 경우 ReportLab 테이블 구성을 위해
+     * 라벨 윈도우 단위로 읽은 행을 청크로 나눠 동시에 렌더링하고 순서대로 병합한다.
+     * 행 수 상한(절단) 없이 전체를 출력하며, 빈 데이터인 경우 ReportLab 테이블 구성을 위해
      * 최소 1행을 보정한다.
      * </p>
      *
      * @param cond 조회 조건
-     * @return PDF 바이트 배열
+     * @param out  출력 스트림(닫지 않음)
+     * @throws IOException PDF 병합/쓰기 오류
      * @throws IllegalStateException PDF 생성 결과가 비었을 때
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadPdfTime(AnalyticsSearchDto cond) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writePdfTime(AnalyticsSearchDto cond, OutputStream out) throws IOException {
+        requireExportRange(cond);
         long total = analyticsRepository.countTime(cond);
 
-        boolean truncated = false;
-        int fetchSize = (int) Math.min(total, MAX_PDF_ROWS);
-        if (total > MAX_PDF_ROWS) truncated = true;
-
-        Pageable fullPage = PageRequest.of(0, Math.max(fetchSize, 1));
-        List<TimeRowDto> rawRows = analyticsRepository.findTimeRows(cond, fullPage).getContent();
-
-        if (rawRows.size() > fetchSize && fetchSize > 0) {
-            rawRows = rawRows.subList(0, fetchSize);
-        }
-
-        List<Map<String, Object>> rows = new ArrayList<>(rawRows.size());
-        for (TimeRowDto d : rawRows) {
-            Map<String, Object> m = new java.util.LinkedHashMap<>();
-            m.put("date",       nz(d.getDate()));
-            m.put("storeName",  nz(d.getStoreName()));
-            m.put("hourSlot",   nz(d.getHourSlot()));
-            m.put("dayOfWeek",  nz(d.getDayOfWeek()));
-            m.put("orderId",    d.getOrderId());
-            m.put("orderAmount",d.getOrderAmount());
-            m.put("category",   nz(d.getCategory()));
-            m.put("menu",       nz(d.getMenu()));
-            m.put("orderType",  nz(d.getOrderType()));
-            m.put("orderDate",  nz(d.getOrderDate()));
-            rows.add(m);
-        }
-        if (rows.isEmpty()) rows.add(new java.util.LinkedHashMap<>());
-
         Map<String, Object> criteria = new HashMap<>();
         criteria.put("title", "시간·요일 분석 리포트");
         criteria.put("viewBy", cond.getViewBy() != null ? cond.getViewBy().name() : "DAY");
         criteria.put("startDate", cond.getStartDate() != null ? cond.getStartDate().format(DateTimeFormatter.ISO_DATE) : "");
         criteria.put("endDate",   cond.getEndDate()   != null ? cond.getEndDate().format(DateTimeFormatter.ISO_DATE)   : "");
-        criteria.put("rowCount", rows.size());
         criteria.put("totalCount", total);
-        criteria.put("truncated", truncated);
+        criteria.put("truncated", false);
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("criteria", criteria);
-        payload.put("data", rows);
+        try (ChunkedPdfRenderer.Session<TimeRowDto> pdf = chunkedPdfRenderer.open("/pdf/time", criteria, total, TIME_PDF)) {
+            forEachLabelWindow(cond, analyticsRepository::countTime, analyticsRepository::findTimeRows, pdf::add);
+            pdf.finishTo(out);
+        }
+        log.info("Time PDF ready: total={}", total);
+    }
 
-        byte[] pdf = pythonPdfClient.generateTimeReportPdf(payload);
-        if (pdf == null || pdf.length == 0) {
-            throw new IllegalStateException("Empty PDF from /pdf/time");
+    /**
+     * 내보내기 조회 기간을 닫힌 구간으로 맞춘다.
+     *
+     * <p>비어 있는 날짜는 화면 조회와 같은 기본값(올해 1월 1일 ~ 오늘)으로 채워, 기간 없는 요청이
+     * 전체 이력을 읽지 않게 한다. 시작일이 종료일보다 늦으면 거부한다.</p>
+     *
+     * <p>스트리밍 다운로드는 응답 헤더(200)가 나간 뒤 본문을 쓰므로, 컨트롤러가 응답을 만들기 전에
+     * 먼저 호출해야 잘못된 기간이 400으로 응답된다. 각 write 메서드도 같은 검사를 한 번 더 거친다.</p>
+     *
+     * @param cond 조회 조건(기본값이 채워짐)
+     * @throws IllegalArgumentException 시작일이 종료일보다 늦을 때
+     */
+    public static void requireExportRange(AnalyticsSearchDto cond) {
+        AnalyticsSearchDto.withDefaults(cond);
+        if (cond.getStartDate().isAfter(cond.getEndDate())) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: "
+                    + cond.getStartDate() + " ~ " + cond.getEndDate());
         }
-        log.info("Time PDF ready: total={}, sentRows={}, bytes={}", total, rows.size(), pdf.length);
-        return pdf;
+    }
+
+    /**
+     * 내보내기 조건을 라벨(일/월) 윈도우로 나눠 최신 윈도우부터 순회한다.
+     *
+     * <p>분석 목록은 모두 라벨 내림차순으로 정렬되고 Total 행도 라벨 단위로 계산되므로,
+     * 라벨 경계에 맞춘 윈도우를 최신부터 이어 붙이면 전체를 한 번에 조회한 결과와 같은 순서·값이 된다.</p>
+     *
+     * <p>한 번에 읽는 행 수는 {@code app.export.chunk-size}로 제한한다.</p>
+     * <ul>
+     *   <li>윈도우 건수가 청크 이하이면 한 번에 읽는다.</li>
+     *   <li>Total 행이 없으면 윈도우를 청크 단위 오프셋 페이지로 읽는다
+     *       (집계 행에는 유일 키가 없어 키셋 대신 윈도우 안에서만 오프셋을 쓴다).</li>
+     *   <li>Total 행이 있으면 여러 라벨 윈도우를 라벨 하나씩으로 다시 나눈다. Total과 라벨 내 정렬은
+     *       라벨 전체를 봐야 맞으므로, 라벨 하나가 청크보다 크면 그 라벨만 통째로 읽는다.</li>
+     * </ul>
+     *
+     * @param cond    원본 조건({@link #requireExportRange}로 기간이 채워진 조건)
+     * @param counter 윈도우 건수 조회
+     * @param finder  윈도우 행 조회
+     * @param sink    행 소비자
+     * @param <T>     행 타입
+     */
+    private <T> void forEachLabelWindow(AnalyticsSearchDto cond,
+                                        ToLongFunction<AnalyticsSearchDto> counter,
+                                        BiFunction<AnalyticsSearchDto, Pageable, Page<T>> finder,
+                                        Consumer<T> sink) {
+        int chunk = Math.max(1, exportProperties.getChunkSize());
+        for (AnalyticsSearchDto w : labelWindows(cond, exportProperties.getWindowDays())) {
+            readWindow(w, counter, finder, sink, chunk);
+        }
+    }
+
+    private <T> void readWindow(AnalyticsSearchDto w,
+                                ToLongFunction<AnalyticsSearchDto> counter,
+                                BiFunction<AnalyticsSearchDto, Pageable, Page<T>> finder,
+                                Consumer<T> sink,
+                                int chunk) {
+        long cnt = counter.applyAsLong(w);
+        if (cnt == 0) return;
+
+        if (cnt <= chunk) {
+            finder.apply(w, PageRequest.of(0, (int) cnt)).getContent().forEach(sink);
+        } else if (!Boolean.TRUE.equals(w.getShowTotal())) {
+            ChunkedReader.pages(p -> finder.apply(w, p).getContent(), chunk, Sort.unsorted(), sink);
+        } else if (w.getViewBy() == ViewBy.MONTH || w.getStartDate().equals(w.getEndDate())) {
+            log.debug("[Export] single label over chunk: {}~{} rows={}", w.getStartDate(), w.getEndDate(), cnt);
+            finder.apply(w, PageRequest.of(0, (int) Math.min(cnt, Integer.MAX_VALUE))).getContent().forEach(sink);
+        } else {
+            for (AnalyticsSearchDto day : labelWindows(w, 1)) {
+                readWindow(day, counter, finder, sink, chunk);
+            }
+        }
+    }
+
+    /**
+     * 조회 기간을 라벨 경계(일별: windowDays일, 월별: 달력 월)로 나눈 조건 목록(최신 → 과거).
+     *
+     * @param cond       원본 조건(시작/종료일 포함)
+     * @param windowDays 일별 윈도우 크기(일)
+     * @return 윈도우 조건 목록
+     */
+    private List<AnalyticsSearchDto> labelWindows(AnalyticsSearchDto cond, int windowDays) {
+        LocalDate start = cond.getStartDate();
+        LocalDate end   = cond.getEndDate();
+
+        boolean byMonth = cond.getViewBy() == ViewBy.MONTH;
+        int days = Math.max(1, windowDays);
+
+        List<AnalyticsSearchDto> out = new ArrayList<>();
+        for (LocalDate cursor = end; !cursor.isBefore(start); ) {
+            LocalDate from = byMonth ? cursor.withDayOfMonth(1) : cursor.minusDays(days - 1L);
+            if (from.isBefore(start)) from = start;
+            out.add(AnalyticsSearchDto.builder()
+                    .storeIds(cond.getStoreIds())
+                    .startDate(from)
+                    .endDate(cursor)
+                    .viewBy(cond.getViewBy())
+                    .limit(cond.getLimit())
+                    .showTotal(cond.getShowTotal())
+                    .build());
+            cursor = from.minusDays(1);
+        }
+        return out;
     }
 
     /**
@@ -736,6 +787,26 @@ public class AnalyticsService {
      */
     private static String nz(String s) { return (s == null) ? "" : s; }
 
+    /**
+     * null 금액/수량을 0으로 치환한다.
+     *
+     * @param v 입력 값
+     * @return null이면 0, 아니면 원값
+     */
+    private static BigDecimal nz(BigDecimal v) { return (v == null) ? BigDecimal.ZERO : v; }
+
+    /**
+     * 분모가 0(또는 null)이면 0, 아니면 HALF_UP 반올림 나눗셈.
+     *
+     * @param num   분자
+     * @param den   분모
+     * @param scale 소수 자릿수
+     * @return 나눗셈 결과
+     */
+    private static BigDecimal divOrZero(BigDecimal num, BigDecimal den, int scale) {
+        return (den == null || den.signum() == 0) ? BigDecimal.ZERO : num.divide(den, scale, RoundingMode.HALF_UP);
+    }
+
     /**
      * 헤더 셀 스타일을 생성한다.
      *
@@ -0,0 +1,128 @@
+package com.boot.ict05_final_admin.domain.analytics.service;
+
+import com.boot.ict05_final_admin.domain.analytics.config.AnalyticsRollupProperties;
+import com.boot.ict05_final_admin.domain.analytics.entity.RollupWatermark;
+import com.boot.ict05_final_admin.domain.analytics.repository.MenuSalesDailyRepository;
+import com.boot.ict05_final_admin.domain.analytics.repository.RollupWatermarkRepository;
+import com.boot.ict05_final_admin.domain.analytics.repository.SalesRollupCoverage;
+import com.boot.ict05_final_admin.domain.analytics.repository.SalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 일별 매출 롤업 갱신 서비스.
+ *
+ * <p>매출 롤업({@code analytics_sales_rollup})과 메뉴 판매 집계({@code analytics_menu_sales_daily})를
+ * 각자의 워터마크({@code rolled_through}) 이후 일자와 최근 {@code lookbackDays}일에 대해
+ * 일 단위로 삭제 후 재적재한다. 늦게 완료 처리된 주문도 lookback 구간 안이라면 다음 실행에 반영된다.</p>
+ *
+ * <ul>
+ *   <li>집계 대상은 어제까지(당일은 진행 중이므로 조회 시 원본 테이블로 폴백)</li>
+ *   <li>청크({@code chunkDays})마다 별도 트랜잭션 — 최초 백필 시 긴 잠금/대형 언두를 피한다</li>
+ *   <li>각 청크는 워터마크 행 FOR UPDATE 잠금 하에서 실행되어 다중 노드에서도 직렬화된다</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupService {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final SalesRollupRepository rollupRepository;
+    private final MenuSalesDailyRepository menuDailyRepository;
+    private final RollupWatermarkRepository watermarkRepository;
+    private final SalesRollupCoverage coverage;
+    private final AnalyticsRollupProperties props;
+    private final TransactionTemplate tx;
+
+    /** 청크 재작성 함수: {@code [from, toExclusive)} 구간을 삭제 후 재적재하고 적재 행 수를 반환 */
+    @FunctionalInterface
+    private interface ChunkWriter {
+        long rewrite(LocalDate from, LocalDate toExclusive);
+    }
+
+    /**
+     * 모든 롤업을 워터마크 기준으로 재집계한다.
+     *
+     * @return 적재된 롤업 행 수(전체 롤업·청크 합)
+     */
+    public long refresh() {
+        long rows = refresh(SalesRollupCoverage.SALES_ROLLUP, (from, to) -> {
+            rollupRepository.deleteByDateRange(from, to);
+            return rollupRepository.insertFromCompletedOrders(from.atStartOfDay(), to.atStartOfDay());
+        });
+        rows += refresh(SalesRollupCoverage.MENU_ROLLUP, (from, to) -> {
+            menuDailyRepository.deleteByDateRange(from, to);
+            return menuDailyRepository.insertFromCompletedOrders(from.atStartOfDay(), to.atStartOfDay());
+        });
+        coverage.invalidate();
+        return rows;
+    }
+
+    /**
+     * 단일 롤업을 워터마크 기준으로 재집계한다.
+     *
+     * @param name   롤업(워터마크) 이름
+     * @param writer 청크 재작성 함수
+     * @return 적재된 행 수
+     */
+    private long refresh(String name, ChunkWriter writer) {
+        final LocalDate through = LocalDate.now(ZONE_SEOUL).minusDays(1);
+        final LocalDate from = resolveFrom(name, through);
+        if (from.isAfter(through)) return 0L;
+
+        final int chunk = Math.max(1, props.getChunkDays());
+        long rows = 0L;
+        for (LocalDate d = from; !d.isAfter(through); d = d.plusDays(chunk)) {
+            final LocalDate chunkFrom = d;
+            final LocalDate chunkThrough = d.plusDays(chunk - 1).isAfter(through) ? through : d.plusDays(chunk - 1);
+            Long n = tx.execute(status -> rollChunk(name, writer, chunkFrom, chunkThrough));
+            rows += (n == null ? 0L : n);
+        }
+        log.info("[Rollup] {} refreshed {} ~ {} ({} rows)", name, from, through, rows);
+        return rows;
+    }
+
+    /**
+     * 이번 실행의 시작일을 결정한다.
+     *
+     * <p>워터마크가 없으면 백필 시작일, 있으면 {@code min(rolledThrough+1, today-lookbackDays)}.
+     * 백필 시작일 설정이 기존 집계 시작일보다 과거로 바뀐 경우 그 지점부터 다시 채운다.</p>
+     */
+    private LocalDate resolveFrom(String name, LocalDate through) {
+        final LocalDate backfill = props.getBackfillFrom() != null
+                ? props.getBackfillFrom()
+                : LocalDate.of(through.getYear() - 2, 1, 1);
+
+        RollupWatermark w = watermarkRepository.findById(name).orElse(null);
+        if (w == null || w.getRolledThrough() == null || w.getRolledFrom() == null) return backfill;
+        if (backfill.isBefore(w.getRolledFrom())) return backfill;
+
+        LocalDate next = w.getRolledThrough().plusDays(1);
+        LocalDate lookback = through.minusDays(Math.max(0, props.getLookbackDays() - 1L));
+        return next.isBefore(lookback) ? next : lookback;
+    }
+
+    /**
+     * 단일 청크를 재작성하고 워터마크를 전진시킨다(트랜잭션 내부).
+     */
+    private long rollChunk(String name, ChunkWriter writer, LocalDate from, LocalDate through) {
+        RollupWatermark w = watermarkRepository.findForUpdate(name)
+                .orElseGet(() -> watermarkRepository.saveAndFlush(
+                        RollupWatermark.builder().rollupName(name).build()));
+
+        long n = writer.rewrite(from, through.plusDays(1));
+
+        // 벌크 쿼리(clearAutomatically)로 영속성 컨텍스트가 비워졌으므로 다시 조회해 갱신
+        w = watermarkRepository.findById(w.getRollupName()).orElse(w);
+        w.advance(from, through, n);
+        watermarkRepository.save(w);
+        return n;
+    }
+}
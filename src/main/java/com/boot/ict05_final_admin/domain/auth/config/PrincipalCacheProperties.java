@@ -0,0 +1,34 @@
+package com.boot.ict05_final_admin.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 사용자 스냅샷 캐시 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>화면 렌더링마다 회원/직원 정보를 다시 조회하지 않도록 회원별 스냅샷을 메모리에 보관한다.
+ * 사용 여부, 보관 시간, 최대 보관 건수를 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.principal-cache")
+public class PrincipalCacheProperties {
+
+    /**
+     * 캐시 사용 여부. false면 매번 DB에서 조회한다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 스냅샷 보관 시간(초). 회원 정보 변경은 즉시 무효화되며, 이 값은 다른 경로의 변경을 반영하는 상한이다.
+     */
+    private long ttlSeconds = 60;
+
+    /**
+     * 최대 보관 건수. 넘으면 만료된 항목부터 정리하고, 그래도 넘으면 모두 비운다.
+     */
+    private int maxEntries = 10000;
+}
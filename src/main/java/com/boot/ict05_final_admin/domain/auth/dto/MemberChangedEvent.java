@@ -0,0 +1,12 @@
+package com.boot.ict05_final_admin.domain.auth.dto;
+
+/**
+ * 회원 정보 변경 이벤트.
+ *
+ * <p>프로필 수정, 비밀번호 변경, 탈퇴, 관리자 수정, 직원 부서/근무지 수정과 직원 삭제 시 발행되며
+ * 커밋 이후 로그인 사용자 스냅샷 캐시를 무효화한다.</p>
+ *
+ * @param memberId 변경된 회원 ID
+ */
+public record MemberChangedEvent(Long memberId) {
+}
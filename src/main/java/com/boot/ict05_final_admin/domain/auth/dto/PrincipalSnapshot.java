@@ -0,0 +1,79 @@
+package com.boot.ict05_final_admin.domain.auth.dto;
+
+import com.boot.ict05_final_admin.domain.auth.entity.Member;
+import com.boot.ict05_final_admin.domain.auth.entity.MemberStatus;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+
+/**
+ * 로그인 사용자 스냅샷(불변).
+ *
+ * <p>인증과 화면 공통 모델({@code loginMember})에 필요한 회원 정보와 권한을 한 번에 담는다.
+ * 엔티티가 아니므로 영속성 컨텍스트 밖에서 여러 요청이 안전하게 공유할 수 있다.</p>
+ */
+@Getter
+public final class PrincipalSnapshot {
+
+    /** 회원 ID */
+    private final Long id;
+
+    /** 로그인 이메일 */
+    private final String email;
+
+    /** 회원 이름 */
+    private final String name;
+
+    /** 전화번호 */
+    private final String phone;
+
+    /** 프로필 이미지 파일명 */
+    private final String memberImagePath;
+
+    /** 회원 상태 */
+    private final MemberStatus status;
+
+    /** 권한(ROLE_*) */
+    private final Set<String> authorities;
+
+    /** 인코딩된 비밀번호(인증 전용, 화면에 노출하지 않는다) */
+    @Getter(lombok.AccessLevel.NONE)
+    private final String password;
+
+    private PrincipalSnapshot(Member m, Set<String> authorities) {
+        this.id = m.getId();
+        this.email = m.getEmail();
+        this.name = m.getName();
+        this.phone = m.getPhone();
+        this.memberImagePath = m.getMemberImagePath();
+        this.status = m.getStatus();
+        this.authorities = Set.copyOf(authorities);
+        this.password = m.getPassword();
+    }
+
+    /**
+     * 회원 엔티티와 권한으로 스냅샷을 만든다.
+     *
+     * @param member      회원 엔티티
+     * @param authorities 권한(ROLE_*)
+     * @return 스냅샷
+     */
+    public static PrincipalSnapshot of(Member member, Set<String> authorities) {
+        return new PrincipalSnapshot(member, authorities);
+    }
+
+    /**
+     * Spring Security 인증용 {@link UserDetails}로 변환한다.
+     *
+     * @return 사용자 정보
+     */
+    public UserDetails toUserDetails() {
+        return User.withUsername(email)
+                .password(password)
+                .authorities(authorities.stream().map(SimpleGrantedAuthority::new).toList())
+                .build();
+    }
+}
@@ -1,47 +1,24 @@
 // src/main/java/com/boot/ict05_final_admin/domain/auth/service/MemberUserDetailsService.java
 package com.boot.ict05_final_admin.domain.auth.service;
 
-import com.boot.ict05_final_admin.domain.auth.entity.Member;
-import com.boot.ict05_final_admin.domain.auth.repository.JoinRepository;
-import com.boot.ict05_final_admin.domain.staffresources.repository.StaffRepository;
+import com.boot.ict05_final_admin.domain.auth.dto.PrincipalSnapshot;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class MemberUserDetailsService implements UserDetailsService {
-    private final JoinRepository joinRepository;
-    private final StaffRepository staffRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Member m = joinRepository.findByEmail(email)
+        // 회원 + 직원 부서(ROLE_*) 스냅샷. StaffProfile 없으면 ROLE_HQ (PrincipalCache 참고)
+        // 인증은 캐시를 거치지 않는다: 다른 노드에서 바뀐 비밀번호/상태를 TTL 동안 받아들이지 않도록
+        PrincipalSnapshot p = principalCache.reloadByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("no user: " + email));
 
-        var authorities = new java.util.HashSet<org.springframework.security.core.authority.SimpleGrantedAuthority>();
-
-        // 1) 기본값: StaffProfile 없으면 최소 본사 공통 권한을 주거나(선택) 로그인만 허용
-        staffRepository.findByMember_Id(m.getId()).ifPresentOrElse(sp -> {
-            // Department -> ROLE_* 매핑
-            switch (sp.getStaffDepartment()) {
-                case OFFICE     -> authorities.add(new SimpleGrantedAuthority("ROLE_HQ"));
-                case STORE      -> authorities.add(new SimpleGrantedAuthority("ROLE_STORE"));
-                case FRANCHISE  -> authorities.add(new SimpleGrantedAuthority("ROLE_FRANCHISE"));
-                case OPS        -> authorities.add(new SimpleGrantedAuthority("ROLE_OPS"));
-                case HR         -> authorities.add(new SimpleGrantedAuthority("ROLE_HR"));
-                case ANALYTICS  -> authorities.add(new SimpleGrantedAuthority("ROLE_ANALYTICS"));
-                case ADMIN      -> authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-            }
-        }, () -> {
-            authorities.add(new SimpleGrantedAuthority("ROLE_HQ"));
-        });
-
         // DB 비번은 passwordEncoder.encode(...)로 저장되어 있어야 함.  {bcrypt}... 형태면 OK
-        return User.withUsername(m.getEmail())
-                .password(m.getPassword())
-                .authorities(authorities) // 권한은 임시로 HQ
-                .build();
+        return p.toUserDetails();
     }
 }
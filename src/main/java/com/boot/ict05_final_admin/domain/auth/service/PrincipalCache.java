@@ -0,0 +1,182 @@
+package com.boot.ict05_final_admin.domain.auth.service;
+
+import com.boot.ict05_final_admin.domain.auth.config.PrincipalCacheProperties;
+import com.boot.ict05_final_admin.domain.auth.dto.MemberChangedEvent;
+import com.boot.ict05_final_admin.domain.auth.dto.PrincipalSnapshot;
+import com.boot.ict05_final_admin.domain.auth.entity.Member;
+import com.boot.ict05_final_admin.domain.auth.repository.JoinRepository;
+import com.boot.ict05_final_admin.domain.staffresources.repository.StaffRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 사용자 스냅샷 캐시.
+ *
+ * <p>회원 ID를 키로 {@link PrincipalSnapshot}을 짧은 시간 보관한다. 로그인(UserDetailsService),
+ * 화면 공통 모델({@code GlobalModelAdvice}), 마이페이지의 로그인 회원 ID 확인이 모두 이 캐시를 읽으므로
+ * 로그인 이후 화면 렌더링에서는 인증 관련 조회가 발생하지 않는다.</p>
+ *
+ * <ul>
+ *   <li>조회: 세션 principal은 이메일만 가지므로 이메일 → 회원 ID 색인을 함께 둔다.</li>
+ *   <li>무효화: {@link MemberChangedEvent} 커밋 직후 해당 회원 항목과 색인을 제거한다.</li>
+ *   <li>만료: {@code auth.principal-cache.ttl-seconds}가 지나면 다음 조회 때 다시 읽는다.</li>
+ *   <li>로그인: 비밀번호 해시와 상태는 다른 노드에서 바뀌었을 수 있으므로 {@link #reloadByEmail}로 항상 DB에서 읽고
+ *       그 결과로 캐시를 갱신한다. 캐시는 로그인 이후 화면 렌더링에만 쓰이며, 그 경로의 지연 상한이 TTL이다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrincipalCache {
+
+    private final JoinRepository joinRepository;
+    private final StaffRepository staffRepository;
+    private final PrincipalCacheProperties props;
+
+    /** 회원 ID → 스냅샷 */
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    /** 이메일 → 회원 ID */
+    private final Map<String, Long> idByEmail = new ConcurrentHashMap<>();
+
+    private record Entry(PrincipalSnapshot snapshot, long expiresAt) { }
+
+    /**
+     * 이메일로 스냅샷을 조회한다(없거나 만료되면 DB에서 다시 읽는다).
+     *
+     * @param email 로그인 이메일
+     * @return 스냅샷, 회원이 없으면 empty
+     */
+    public Optional<PrincipalSnapshot> getByEmail(String email) {
+        if (email == null) return Optional.empty();
+        if (props.isEnabled()) {
+            Long id = idByEmail.get(email);
+            if (id != null) {
+                PrincipalSnapshot s = fresh(id);
+                if (s != null && email.equals(s.getEmail())) return Optional.of(s);
+            }
+        }
+        return joinRepository.findByEmail(email).map(this::load);
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB에서 읽어 스냅샷을 갱신한다(로그인 인증용).
+     *
+     * @param email 로그인 이메일
+     * @return 스냅샷, 회원이 없으면 empty
+     */
+    public Optional<PrincipalSnapshot> reloadByEmail(String email) {
+        if (email == null) return Optional.empty();
+        return joinRepository.findByEmail(email).map(this::load);
+    }
+
+    /**
+     * 회원 ID로 스냅샷을 조회한다(없거나 만료되면 DB에서 다시 읽는다).
+     *
+     * @param memberId 회원 ID
+     * @return 스냅샷, 회원이 없으면 empty
+     */
+    public Optional<PrincipalSnapshot> getById(Long memberId) {
+        if (memberId == null) return Optional.empty();
+        if (props.isEnabled()) {
+            PrincipalSnapshot s = fresh(memberId);
+            if (s != null) return Optional.of(s);
+        }
+        return joinRepository.findById(memberId).map(this::load);
+    }
+
+    /**
+     * 회원 항목을 제거한다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void invalidate(Long memberId) {
+        if (memberId == null) return;
+        Entry e = byId.remove(memberId);
+        if (e != null) idByEmail.remove(e.snapshot().getEmail(), memberId);
+        idByEmail.values().removeIf(memberId::equals);
+    }
+
+    /**
+     * 전체 항목을 제거한다.
+     */
+    public void invalidateAll() {
+        byId.clear();
+        idByEmail.clear();
+    }
+
+    /**
+     * 회원 정보 변경 커밋 직후 해당 회원 항목을 제거한다.
+     *
+     * <p>트랜잭션 없이 발행된 경우에도 바로 제거한다.</p>
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.memberId());
+    }
+
+    /** 보관 건수 */
+    public int size() {
+        return byId.size();
+    }
+
+    private PrincipalSnapshot fresh(Long id) {
+        Entry e = byId.get(id);
+        if (e == null) return null;
+        if (e.expiresAt() < System.currentTimeMillis()) {
+            byId.remove(id, e);
+            return null;
+        }
+        return e.snapshot();
+    }
+
+    private PrincipalSnapshot load(Member m) {
+        PrincipalSnapshot s = PrincipalSnapshot.of(m, resolveAuthorities(m.getId()));
+        if (props.isEnabled()) {
+            evictIfFull();
+            byId.put(s.getId(), new Entry(s, System.currentTimeMillis() + props.getTtlSeconds() * 1000L));
+            idByEmail.put(s.getEmail(), s.getId());
+        }
+        return s;
+    }
+
+    /**
+     * 직원 부서로 권한을 정한다. 직원 정보가 없으면 본사 공통 권한(ROLE_HQ)만 부여한다.
+     */
+    private Set<String> resolveAuthorities(Long memberId) {
+        Set<String> authorities = new HashSet<>();
+        staffRepository.findByMember_Id(memberId).ifPresentOrElse(sp -> {
+            // Department -> ROLE_* 매핑
+            switch (sp.getStaffDepartment()) {
+                case OFFICE     -> authorities.add("ROLE_HQ");
+                case STORE      -> authorities.add("ROLE_STORE");
+                case FRANCHISE  -> authorities.add("ROLE_FRANCHISE");
+                case OPS        -> authorities.add("ROLE_OPS");
+                case HR         -> authorities.add("ROLE_HR");
+                case ANALYTICS  -> authorities.add("ROLE_ANALYTICS");
+                case ADMIN      -> authorities.add("ROLE_ADMIN");
+            }
+        }, () -> authorities.add("ROLE_HQ"));
+        return authorities;
+    }
+
+    private void evictIfFull() {
+        if (byId.size() < props.getMaxEntries()) return;
+        long now = System.currentTimeMillis();
+        byId.values().removeIf(e -> e.expiresAt() < now);
+        if (byId.size() >= props.getMaxEntries()) {
+            log.info("[PrincipalCache] full, clearing: size={}", byId.size());
+            invalidateAll();
+        }
+        idByEmail.values().removeIf(id -> !byId.containsKey(id));
+    }
+}
@@ -0,0 +1,27 @@
+package com.boot.ict05_final_admin.domain.fcm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 일괄 전송(sendEach) 설정을 외부 설정으로 바인딩하는 클래스.
+ *
+ * <p>호출 1회에 담을 메시지 수(FCM 상한 500)와 동시에 진행할 호출 수를 관리한다.</p>
+ */
+@Component
+@ConfigurationProperties(prefix = "fcm.batch")
+@Getter
+@Setter
+public class FcmBatchProperties {
+	/**
+	 * 호출 1회에 담을 메시지 수. FCM 상한은 500.
+	 */
+	private int size = 500;
+
+	/**
+	 * 동시에 진행할 일괄 전송 호출 수.
+	 */
+	private int parallelism = 4;
+}
@@ -0,0 +1,43 @@
+package com.boot.ict05_final_admin.domain.fcm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 전송 로그 비동기 적재 설정을 외부 설정으로 바인딩하는 클래스.
+ *
+ * <p>전송 로그는 메모리 대기열에 넣고 백그라운드 작성기가 다건 INSERT로 모아 저장한다.
+ * 대기열 크기, 한 번에 저장할 행 수, 최대 대기 시간과 포화 시 동작을 관리한다.</p>
+ */
+@Component
+@ConfigurationProperties(prefix = "fcm.log")
+@Getter
+@Setter
+public class FcmLogProperties {
+	/**
+	 * 비동기 적재 사용 여부. false면 호출 스레드에서 바로 저장한다.
+	 */
+	private boolean asyncEnabled = true;
+
+	/**
+	 * 대기열 최대 행 수.
+	 */
+	private int queueCapacity = 10000;
+
+	/**
+	 * INSERT 1회에 담을 최대 행 수.
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * 배치가 덜 찼을 때 저장까지 기다리는 최대 시간(ms).
+	 */
+	private long flushIntervalMs = 1000;
+
+	/**
+	 * 대기열이 가득 찼을 때 자리가 날 때까지 기다리는 시간(ms). 0이면 기다리지 않고 버린다(버린 수는 집계).
+	 */
+	private long offerTimeoutMs = 0;
+}
@@ -25,12 +25,17 @@ public class FcmScannerProperties {
     private boolean enabled = false;
 
     /**
-     * 크론 표현식(예: "0 0/30 * * * *").
+     * 유통기한 인덱스 확인 크론 표현식(예: "0 * * * * *"). "-"이면 주기 실행하지 않는다.
      */
-    private String cron = "0 0/30 * * * *";
+    private String cron = "-";
 
     /**
-     * 부족/임박 탐지 시 상한 행수(안전장치).
+     * 재고 변경 이벤트를 모아 한 번에 판정하기까지의 대기 시간(ms).
+     */
+    private long coalesceMs = 500;
+
+    /**
+     * 부족/임박 탐지 시 상한 행수(안전장치, 수동 전체 스캔 및 기동 시 판정용).
      */
     private int stockLowMax = 50;
     private int expireSoonMax = 50;
@@ -39,4 +44,19 @@ public class FcmScannerProperties {
      * 유통기한 임박 기준일(일).
      */
     private int expireSoonDaysDefault = 3;
+
+    /**
+     * 요약 알림 사용 여부. 켜면 한 번에 여러 건이 잡힐 때 건별 알림 대신 요약 1건을 보낸다.
+     */
+    private boolean digestEnabled = false;
+
+    /**
+     * 요약 알림으로 묶는 최소 건수(미만이면 건별 일괄 전송).
+     */
+    private int digestMinRows = 2;
+
+    /**
+     * 요약 본문에 나열할 최대 항목 수(나머지는 "외 N건").
+     */
+    private int digestListMax = 5;
 }
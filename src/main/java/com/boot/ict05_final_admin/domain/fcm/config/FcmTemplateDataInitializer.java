@@ -1,5 +1,6 @@
 package com.boot.ict05_final_admin.domain.fcm.config;
 
+import com.boot.ict05_final_admin.domain.fcm.dto.FcmTemplateChangedEvent;
 import com.boot.ict05_final_admin.domain.fcm.entity.FcmTemplate;
 import com.boot.ict05_final_admin.domain.fcm.repository.FcmTemplateRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class FcmTemplateDataInitializer implements ApplicationRunner {
 
 	private final FcmTemplateRepository templateRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 애플리케이션 시작 시 템플릿을 멱등적으로 upsert 한다.
@@ -45,6 +48,14 @@ public class FcmTemplateDataInitializer implements ApplicationRunner {
 		upsert("HQ_EXPIRE_SOON",
 				"[유통기한 임박] {materialName}",
 				"{days}일 남음 (로트:{lot})");
+
+		upsert("HQ_STOCK_LOW_DIGEST",
+				"[재고] 본사 재고 부족 {count}건",
+				"{items}");
+
+		upsert("HQ_EXPIRE_SOON_DIGEST",
+				"[유통기한 임박] {count}건",
+				"{items}");
 	}
 
 	/**
@@ -60,6 +71,7 @@ public class FcmTemplateDataInitializer implements ApplicationRunner {
 		row.setTitleTemplate(titleTpl);
 		row.setBodyTemplate(bodyTpl);
 		templateRepository.save(row);
+		eventPublisher.publishEvent(new FcmTemplateChangedEvent(code));
 		log.info("[FCM] template upserted: {}", code);
 	}
 }
@@ -0,0 +1,73 @@
+package com.boot.ict05_final_admin.domain.fcm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지 알림 아웃박스 디스패처 설정을 외부 설정으로 바인딩하는 클래스.
+ *
+ * <p>폴링 간격, 한 번에 꺼낼 행 수, 재시도 횟수와 지수 백오프 범위, 완료 행 보관 기간을 관리한다.</p>
+ */
+@Component
+@ConfigurationProperties(prefix = "fcm.outbox")
+@Getter
+@Setter
+public class NoticeOutboxProperties {
+	/**
+	 * 디스패처 활성화 여부.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 폴링 간격(ms). 이전 실행이 끝난 뒤부터 잰다.
+	 */
+	private long pollDelayMs = 2000;
+
+	/**
+	 * 한 번에 꺼낼 최대 행 수.
+	 */
+	private int batchSize = 50;
+
+	/**
+	 * 최대 시도 횟수(초과 시 DEAD).
+	 */
+	private int maxAttempts = 8;
+
+	/**
+	 * 첫 재시도 대기(ms). 이후 시도마다 2배.
+	 */
+	private long backoffBaseMs = 2000;
+
+	/**
+	 * 재시도 대기 상한(ms).
+	 */
+	private long backoffMaxMs = 600000;
+
+	/**
+	 * 선점 유지 시간(ms). 전달 중 노드가 내려가면 이 시간 뒤 다른 노드가 다시 꺼낸다.
+	 * 연결/응답 제한 시간 합보다 길어야 한 번의 전달이 두 노드에서 겹치지 않는다.
+	 */
+	private long leaseMs = 60000;
+
+	/**
+	 * 사용자 앱 연결 제한 시간(ms).
+	 */
+	private long connectTimeoutMs = 2000;
+
+	/**
+	 * 사용자 앱 응답 제한 시간(ms).
+	 */
+	private long readTimeoutMs = 5000;
+
+	/**
+	 * 완료(SENT) 행 보관 일수.
+	 */
+	private int retentionDays = 7;
+
+	/**
+	 * 완료 행 정리 크론 표현식.
+	 */
+	private String purgeCron = "0 20 4 * * *";
+}
@@ -3,6 +3,7 @@ package com.boot.ict05_final_admin.domain.fcm.controller;
 import com.boot.ict05_final_admin.domain.auth.entity.Member;
 import com.boot.ict05_final_admin.domain.fcm.dto.FcmRegisterTokenRequest;
 import com.boot.ict05_final_admin.domain.fcm.dto.FcmTemplatePreviewRequest;
+import com.boot.ict05_final_admin.domain.fcm.dto.FcmTemplateUpsertRequest;
 import com.boot.ict05_final_admin.domain.fcm.dto.FcmTestSendRequest;
 import com.boot.ict05_final_admin.domain.fcm.entity.AppType;
 import com.boot.ict05_final_admin.domain.fcm.service.FcmService;
@@ -30,7 +31,7 @@ import java.util.Optional;
 /**
  * 본사(FQ) 관리자용 FCM 관리 REST API.
  *
- * <p>토큰 등록/해제, 템플릿 미리보기, 테스트 전송, 토픽 구독/해제 등의 관리 기능을 제공한다.
+ * <p>토큰 등록/해제, 템플릿 등록/수정 및 미리보기, 테스트 전송, 토픽 구독/해제 등의 관리 기능을 제공한다.
  * 세션 기반 인증(스프링 시큐리티)을 전제로 하며, HQ/ADMIN 권한을 가진 사용자만 접근할 수 있다.</p>
  *
  * @author 이경욱
@@ -113,6 +114,29 @@ public class HqFcmAdminController {
         return ResponseEntity.ok(Map.of("title", title, "body", body));
     }
 
+    /**
+     * 템플릿 등록/수정(업서트).
+     *
+     * <p>저장이 커밋되면 메모리에 컴파일된 해당 템플릿이 무효화되어 다음 렌더링부터 반영된다.</p>
+     *
+     * @param code 템플릿 코드
+     * @param req  제목/본문 템플릿
+     * @return 처리 결과 맵
+     */
+    @Operation(summary = "템플릿 등록/수정",
+            description = "템플릿 코드의 제목/본문 템플릿을 저장하고 렌더링 캐시를 갱신합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "저장 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @PutMapping("/template/{code}")
+    public ResponseEntity<Map<String, Object>> upsertTemplate(@PathVariable String code,
+                                                              @Valid @RequestBody FcmTemplateUpsertRequest req) {
+        fcmService.upsertTemplate(code, req);
+        return ResponseEntity.ok(Map.of("ok", true, "templateCode", code));
+    }
+
     /**
      * 테스트 전송 엔드포인트.
      *
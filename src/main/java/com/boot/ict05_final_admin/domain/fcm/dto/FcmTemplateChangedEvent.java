@@ -0,0 +1,10 @@
+package com.boot.ict05_final_admin.domain.fcm.dto;
+
+/**
+ * FCM 템플릿 변경 이벤트.
+ *
+ * <p>템플릿을 저장한 트랜잭션이 커밋된 뒤 템플릿 레지스트리가 해당 코드의 컴파일 결과를 버리도록 알린다.</p>
+ *
+ * @param templateCode 변경된 템플릿 코드
+ */
+public record FcmTemplateChangedEvent(String templateCode) { }
@@ -0,0 +1,15 @@
+package com.boot.ict05_final_admin.domain.fcm.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * FCM 템플릿 등록/수정 요청 DTO.
+ *
+ * @param titleTemplate 제목 템플릿(필수, {변수} 치환 가능)
+ * @param bodyTemplate  본문 템플릿(필수, {변수} 치환 가능)
+ */
+public record FcmTemplateUpsertRequest(
+        @NotBlank @Size(max = 200) String titleTemplate,
+        @NotBlank @Size(max = 1000) String bodyTemplate
+) { }
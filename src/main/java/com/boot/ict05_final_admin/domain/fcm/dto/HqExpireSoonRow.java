@@ -9,6 +9,7 @@ import java.time.LocalDate;
  * @param materialId   재료 ID
  * @param materialName 재료명
  * @param batchId      배치(로트) ID
+ * @param lot          LOT 번호
  * @param expireDate   유통기한 일자
  * @param daysLeft     남은 일수
  * @param quantity     해당 배치의 수량
@@ -20,6 +21,7 @@ public record HqExpireSoonRow(
         Long materialId,
         String materialName,
         Long batchId,
+        String lot,
         LocalDate expireDate,
         Integer daysLeft,
         BigDecimal quantity
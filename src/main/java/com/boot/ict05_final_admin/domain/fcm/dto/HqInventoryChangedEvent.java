@@ -0,0 +1,26 @@
+package com.boot.ict05_final_admin.domain.fcm.dto;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 본사 재고 변경 이벤트.
+ *
+ * <p>입고/출고/조정으로 본사 재고 수량이나 LOT 구성이 바뀐 재료 ID를 담는다.
+ * 커밋 이후 재고 부족 판정과 유통기한 인덱스 갱신의 입력으로 사용된다.</p>
+ */
+@Getter
+public class HqInventoryChangedEvent {
+
+    private final Set<Long> materialIds;
+
+    public HqInventoryChangedEvent(Collection<Long> materialIds) {
+        this.materialIds = Set.copyOf(materialIds);
+    }
+
+    public static HqInventoryChangedEvent of(Long materialId) {
+        return new HqInventoryChangedEvent(Set.of(materialId));
+    }
+}
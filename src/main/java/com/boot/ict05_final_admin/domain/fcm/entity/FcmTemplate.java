@@ -3,6 +3,8 @@ package com.boot.ict05_final_admin.domain.fcm.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 알림 템플릿을 저장하는 엔티티.
  *
@@ -44,4 +46,19 @@ public class FcmTemplate {
      */
     @Column(nullable = false, length = 1000)
     private String bodyTemplate;
+
+    /**
+     * 갱신 시각 (템플릿 레지스트리가 다른 노드의 수정을 감지하는 기준)
+     */
+    @Column
+    private LocalDateTime updatedAt;
+
+    /**
+     * 저장/수정 직전 콜백: 갱신 시각을 반영한다.
+     */
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
 }
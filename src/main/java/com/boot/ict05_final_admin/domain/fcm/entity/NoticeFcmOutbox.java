@@ -0,0 +1,127 @@
+package com.boot.ict05_final_admin.domain.fcm.entity;
+
+import com.boot.ict05_final_admin.domain.fcm.dto.NoticeFcmEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본사 → 사용자 앱 공지 알림 브리지 호출 아웃박스 엔티티.
+ *
+ * <p>공지 저장과 같은 트랜잭션에서 한 행을 기록하고, 디스패처가 커밋 이후 별도 스레드에서
+ * 사용자 앱 엔드포인트를 호출한다. 실패 시 시도 횟수와 다음 시도 시각을 갱신해 재시도한다.</p>
+ *
+ * <p>여러 노드가 함께 폴링하므로, 전달 전에 조건부 UPDATE로 행을 SENDING으로 선점하고
+ * 선점 만료 시각({@code lease_until})까지 다른 노드가 꺼내지 않게 한다.</p>
+ */
+@Entity
+@Table(name = "notice_fcm_outbox",
+        indexes = {
+                @Index(name = "ix_outbox_due",    columnList = "status, next_attempt_at, notice_fcm_outbox_id"),
+                @Index(name = "ix_outbox_notice", columnList = "notice_id_fk, status")
+        })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeFcmOutbox {
+
+    /**
+     * 전달 상태
+     */
+    public enum Status {
+        /** 전달 대기(재시도 포함) */
+        PENDING,
+        /** 전달 중(선점됨) */
+        SENDING,
+        /** 전달 완료 */
+        SENT,
+        /** 최대 시도 횟수 초과 */
+        DEAD
+    }
+
+    /**
+     * PK: 아웃박스 ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long noticeFcmOutboxId;
+
+    /**
+     * 공지 ID
+     */
+    @Column(name = "notice_id_fk", nullable = false)
+    private Long noticeIdFk;
+
+    /**
+     * 이벤트 유형 (CREATED / UPDATED)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private NoticeFcmEvent.Type eventType;
+
+    /**
+     * 전달 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 가능 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 선점 만료 시각(SENDING일 때만 의미, 지나면 다시 대기로 되돌림)
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 마지막 실패 사유(요약)
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 생성 시각
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 갱신 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 엔티티 생성 직전 콜백: 시각 기본값을 보장한다.
+     */
+    @PrePersist
+    void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) createdAt = now;
+        if (updatedAt == null) updatedAt = now;
+        if (nextAttemptAt == null) nextAttemptAt = now;
+        if (status == null) status = Status.PENDING;
+    }
+
+    /**
+     * 엔티티 갱신 직전 콜백: 갱신 시각을 반영한다.
+     */
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,157 @@
+package com.boot.ict05_final_admin.domain.fcm.repository;
+
+import com.boot.ict05_final_admin.domain.fcm.entity.AppType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 전송 로그 JDBC 리포지토리.
+ *
+ * <p>영속성 컨텍스트를 거치지 않고 여러 행을 {@code INSERT … VALUES (…), (…)} 한 문장으로 저장한다.
+ * 데이터 맵의 JSON 직렬화도 여기서(작성기 스레드에서) 수행한다.</p>
+ *
+ * <ul>
+ *   <li>문자열은 컬럼 길이({@code FcmSendLog} 매핑)에 맞춰 자르고, NOT NULL 컬럼의 null은 빈 문자열로 저장한다.</li>
+ *   <li>그래도 한 행 때문에 다건 INSERT가 실패하면 행 단위로 다시 저장하고, 실패한 행만 버린다.
+ *       연결 실패/일시 오류는 행 단위로 재시도해도 같으므로 그대로 던진다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class FcmSendLogJdbcRepository {
+
+    private static final String INSERT_HEAD = """
+            INSERT INTO fcm_send_log (app_type, topic, token, title, body, data_json,
+                                      result_message_id, result_error, sent_at,
+                                      store_id_fk, member_id_fk, staff_id_fk)
+            VALUES\s""";
+
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** 컬럼 길이(fcm_send_log) */
+    private static final int TOPIC_MAX = 255;
+    private static final int TOKEN_MAX = 512;
+    private static final int TITLE_MAX = 200;
+    private static final int BODY_MAX = 1000;
+    private static final int MESSAGE_ID_MAX = 255;
+    private static final int ERROR_MAX = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전송 로그를 다건 INSERT 한 문장으로 저장한다.
+     *
+     * <p>다건 INSERT가 데이터 오류로 실패하면 행 단위로 다시 저장한다.</p>
+     *
+     * @param rows 저장할 행
+     * @return 저장된 행 수(버린 행 제외)
+     */
+    public int insertAll(List<LogRow> rows) {
+        if (rows.isEmpty()) return 0;
+        try {
+            return insert(rows);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            if (rows.size() == 1) {
+                log.warn("[FCM] send log row dropped: {}", e.getMessage());
+                return 0;
+            }
+            log.debug("[FCM] multi-row insert failed, retrying per row (rows={}): {}", rows.size(), e.getMessage());
+            return insertEach(rows);
+        }
+    }
+
+    private int insertEach(List<LogRow> rows) {
+        int saved = 0;
+        for (LogRow r : rows) {
+            try {
+                saved += insert(List.of(r));
+            } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+                throw e;
+            } catch (DataAccessException e) {
+                log.warn("[FCM] send log row dropped (sentAt={}, topic={}): {}", r.sentAt(), r.topic(), e.getMessage());
+            }
+        }
+        return saved;
+    }
+
+    private int insert(List<LogRow> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_HEAD.length() + rows.size() * (ROW.length() + 2))
+                .append(INSERT_HEAD);
+        List<Object> args = new ArrayList<>(rows.size() * 12);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+
+            LogRow r = rows.get(i);
+            args.add(r.appType().name());
+            args.add(cut(r.topic(), TOPIC_MAX));
+            args.add(cut(r.token(), TOKEN_MAX));
+            args.add(cut(nz(r.title()), TITLE_MAX));
+            args.add(cut(nz(r.body()), BODY_MAX));
+            args.add(r.data() == null ? null : toJson(r.data()));
+            args.add(cut(r.resultMessageId(), MESSAGE_ID_MAX));
+            args.add(cut(r.resultError(), ERROR_MAX));
+            args.add(Timestamp.valueOf(r.sentAt()));
+            args.add(r.storeId());
+            args.add(r.memberId());
+            args.add(r.staffId());
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private static String nz(String s) {
+        return s == null ? "" : s;
+    }
+
+    /** 최대 길이로 자른다(서로게이트 쌍을 가르지 않음). */
+    private static String cut(String s, int max) {
+        if (s == null || s.length() <= max) return s;
+        int end = Character.isHighSurrogate(s.charAt(max - 1)) ? max - 1 : max;
+        return s.substring(0, end);
+    }
+
+    private String toJson(Map<String, String> data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전송 로그 삽입 행.
+     *
+     * @param appType         앱 타입
+     * @param topic           토픽(토큰 전송이면 null)
+     * @param token           토큰(토픽 전송이면 null)
+     * @param title           제목
+     * @param body            본문
+     * @param data            데이터 맵(저장 시 JSON 직렬화)
+     * @param resultMessageId 결과 메시지 ID(성공 시)
+     * @param resultError     에러 메시지(실패 시)
+     * @param sentAt          전송 시각
+     * @param storeId         점포 ID
+     * @param memberId        회원 ID
+     * @param staffId         직원 ID
+     */
+    public record LogRow(AppType appType, String topic, String token,
+                         String title, String body, Map<String, String> data,
+                         String resultMessageId, String resultError, LocalDateTime sentAt,
+                         Long storeId, Long memberId, Long staffId) {}
+}
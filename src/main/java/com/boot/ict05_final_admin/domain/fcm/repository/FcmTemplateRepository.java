@@ -2,7 +2,10 @@ package com.boot.ict05_final_admin.domain.fcm.repository;
 
 import com.boot.ict05_final_admin.domain.fcm.entity.FcmTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -22,4 +25,13 @@ public interface FcmTemplateRepository extends JpaRepository<FcmTemplate, Long>
      * @return 템플릿(존재 시), 없으면 Optional.empty()
      */
     Optional<FcmTemplate> findByTemplateCode(String templateCode);
+
+    /**
+     * 템플릿 코드의 갱신 시각만 조회한다(레지스트리 재검증용).
+     *
+     * @param templateCode 템플릿 코드
+     * @return 갱신 시각, 행이 없거나 값이 없으면 Optional.empty()
+     */
+    @Query("select t.updatedAt from FcmTemplate t where t.templateCode = :templateCode")
+    Optional<LocalDateTime> findUpdatedAt(@Param("templateCode") String templateCode);
 }
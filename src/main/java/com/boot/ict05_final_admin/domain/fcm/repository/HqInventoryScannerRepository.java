@@ -1,9 +1,12 @@
 package com.boot.ict05_final_admin.domain.fcm.repository;
 
 import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonRow;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowRow;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,4 +37,21 @@ public interface HqInventoryScannerRepository {
      * @return 유통기한 임박 후보 DTO 리스트 (없으면 빈 리스트)
      */
     List<HqExpireSoonCandidate> findExpireSoon(LocalDate today, int daysThreshold, int maxRows);
+
+    /**
+     * 지정한 재료 중 현재 재고 부족 상태인 재료만 조회한다(재고 변경 이벤트용 증분 판정).
+     *
+     * @param materialIds 재고가 바뀐 재료 ID
+     * @return 부족 재료 행(부족하지 않은 재료는 포함하지 않음)
+     */
+    List<HqStockLowRow> findStockLowAmong(Collection<Long> materialIds);
+
+    /**
+     * 유통기한이 지정된 본사 보유 LOT(잔량 &gt; 0, 만료일 &gt;= today)을 조회한다(유통기한 인덱스 적재용).
+     *
+     * @param materialIds 대상 재료 ID(null이면 전체)
+     * @param today       기준 날짜
+     * @return LOT 행
+     */
+    List<HqExpireSoonRow> findExpiringLots(Collection<Long> materialIds, LocalDate today);
 }
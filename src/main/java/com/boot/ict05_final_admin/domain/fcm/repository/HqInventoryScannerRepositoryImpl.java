@@ -1,7 +1,9 @@
 package com.boot.ict05_final_admin.domain.fcm.repository;
 
 import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonRow;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowRow;
 import com.boot.ict05_final_admin.domain.inventory.entity.MaterialStatus;
 import com.boot.ict05_final_admin.domain.inventory.entity.QInventory;
 import com.boot.ict05_final_admin.domain.inventory.entity.QInventoryBatch;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -148,4 +151,81 @@ public class HqInventoryScannerRepositoryImpl implements HqInventoryScannerRepos
                 .setHint("jakarta.persistence.query.timeout", 3000)
                 .fetch();
     }
+
+    /**
+     * (3) 재고 변경 이벤트용 증분 부족 판정
+     *  - 판정식은 (1)과 동일: inv.quantity < COALESCE(inv.optimalQuantity, m.optimalQuantity)
+     *  - 대상은 이번 트랜잭션에서 재고가 바뀐 재료만(material_id IN) → 전체 스캔 없음
+     */
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<HqStockLowRow> findStockLowAmong(Collection<Long> materialIds) {
+        if (materialIds == null || materialIds.isEmpty()) return List.of();
+
+        QInventory inv = QInventory.inventory;
+        QMaterial m      = QMaterial.material;
+
+        NumberExpression<BigDecimal> thresholdExpr =
+                Expressions.numberTemplate(BigDecimal.class,
+                        "COALESCE({0}, {1})", inv.optimalQuantity, m.optimalQuantity);
+
+        return query
+                .select(Projections.constructor(HqStockLowRow.class,
+                        m.id,
+                        m.name,
+                        inv.quantity,
+                        thresholdExpr
+                ))
+                .from(inv)
+                .join(inv.material, m)
+                .where(
+                        m.id.in(materialIds),
+                        m.materialStatus.eq(MaterialStatus.USE),
+                        inv.quantity.lt(thresholdExpr)
+                )
+                .setHint("org.hibernate.readOnly", true)
+                .setHint("org.hibernate.flushMode", "COMMIT")
+                .fetch();
+    }
+
+    /**
+     * (4) 유통기한 인덱스 적재용 LOT 조회
+     *  - 본사 보유(store IS NULL), 잔량 > 0, 만료일 >= today 인 LOT 전부(임박 여부와 무관)
+     *  - 임박 시점 판정은 메모리 인덱스가 담당하므로 여기서는 N일 필터를 걸지 않는다.
+     */
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<HqExpireSoonRow> findExpiringLots(Collection<Long> materialIds, LocalDate today) {
+        if (materialIds != null && materialIds.isEmpty()) return List.of();
+
+        QInventoryBatch b = QInventoryBatch.inventoryBatch;
+        QMaterial m       = QMaterial.material;
+
+        NumberExpression<Integer> daysLeftExpr =
+                Expressions.numberTemplate(Integer.class,
+                        "DATEDIFF({0}, {1})", b.expirationDate, today);
+
+        return query
+                .select(Projections.constructor(HqExpireSoonRow.class,
+                        m.id,
+                        m.name,
+                        b.id,
+                        b.lotNo,
+                        b.expirationDate,
+                        daysLeftExpr,
+                        b.quantity
+                ))
+                .from(b)
+                .join(b.material, m)
+                .where(
+                        materialIds != null ? m.id.in(materialIds) : null,
+                        m.materialStatus.eq(MaterialStatus.USE),
+                        b.store.isNull(),
+                        b.quantity.gt(BigDecimal.ZERO),
+                        b.expirationDate.goe(today)
+                )
+                .setHint("org.hibernate.readOnly", true)
+                .setHint("org.hibernate.flushMode", "COMMIT")
+                .fetch();
+    }
 }
@@ -1,12 +1,15 @@
 package com.boot.ict05_final_admin.domain.fcm.repository;
 
 import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonRow;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowRow;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -49,4 +52,29 @@ public class HqInventoryScannerRepositoryNoop implements HqInventoryScannerRepos
                 today, daysThreshold, maxRows);
         return List.of();
     }
+
+    /**
+     * 지정 재료의 재고 부족 판정 No-Op 구현.
+     *
+     * @param materialIds 재료 ID
+     * @return 항상 빈 리스트를 반환
+     */
+    @Override
+    public List<HqStockLowRow> findStockLowAmong(Collection<Long> materialIds) {
+        log.debug("[HQ-Scanner][NoOp] findStockLowAmong(materialIds={})", materialIds);
+        return List.of();
+    }
+
+    /**
+     * 유통기한 LOT 조회 No-Op 구현.
+     *
+     * @param materialIds 재료 ID(null이면 전체)
+     * @param today       기준 날짜
+     * @return 항상 빈 리스트를 반환
+     */
+    @Override
+    public List<HqExpireSoonRow> findExpiringLots(Collection<Long> materialIds, LocalDate today) {
+        log.debug("[HQ-Scanner][NoOp] findExpiringLots(materialIds={}, today={})", materialIds, today);
+        return List.of();
+    }
 }
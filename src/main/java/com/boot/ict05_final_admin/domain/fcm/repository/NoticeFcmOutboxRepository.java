@@ -0,0 +1,89 @@
+package com.boot.ict05_final_admin.domain.fcm.repository;
+
+import com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공지 알림 아웃박스 JPA 리포지토리.
+ */
+public interface NoticeFcmOutboxRepository extends JpaRepository<NoticeFcmOutbox, Long> {
+
+    /**
+     * 시도 시각이 된 대기 행을 오래된 순으로 조회한다.
+     *
+     * @param status   상태(PENDING)
+     * @param now      기준 시각
+     * @param pageable 조회 상한
+     * @return 대기 행
+     */
+    List<NoticeFcmOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNoticeFcmOutboxIdAsc(
+            NoticeFcmOutbox.Status status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 공지의 대기 행을 조회한다(기록 시 중복 병합 판단용).
+     *
+     * @param noticeIdFk 공지 ID
+     * @param status     상태(PENDING)
+     * @return 대기 행
+     */
+    List<NoticeFcmOutbox> findByNoticeIdFkAndStatus(Long noticeIdFk, NoticeFcmOutbox.Status status);
+
+    /**
+     * 대기 행을 선점한다(PENDING → SENDING).
+     *
+     * <p>다른 노드가 먼저 선점했거나 이미 처리된 행이면 0을 반환하므로, 1일 때만 전달한다.</p>
+     *
+     * @param id         아웃박스 ID
+     * @param now        기준 시각(시도 시각이 된 행만)
+     * @param leaseUntil 선점 만료 시각
+     * @return 갱신 행 수(0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update NoticeFcmOutbox o
+               set o.status = com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox.Status.SENDING,
+                   o.leaseUntil = :leaseUntil, o.updatedAt = :now
+             where o.noticeFcmOutboxId = :id
+               and o.status = com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox.Status.PENDING
+               and o.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 선점 만료 시각이 지난 전달 중 행을 대기로 되돌린다(전달 도중 노드가 내려간 경우).
+     *
+     * @param now 기준 시각
+     * @return 되돌린 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update NoticeFcmOutbox o
+               set o.status = com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox.Status.PENDING,
+                   o.leaseUntil = null, o.updatedAt = :now
+             where o.status = com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox.Status.SENDING
+               and o.leaseUntil < :now
+            """)
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+    /**
+     * 기준 시각 이전에 완료된 행을 삭제한다.
+     *
+     * @param status 상태(SENT)
+     * @param before 기준 시각
+     * @return 삭제 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from NoticeFcmOutbox o where o.status = :status and o.updatedAt < :before")
+    int deleteFinished(@Param("status") NoticeFcmOutbox.Status status, @Param("before") LocalDateTime before);
+}
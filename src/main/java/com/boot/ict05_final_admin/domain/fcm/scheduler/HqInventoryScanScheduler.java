@@ -5,16 +5,21 @@ import com.boot.ict05_final_admin.domain.fcm.service.HqInventoryScanService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 본사 인벤토리 스캐너 스케줄러.
  *
- * <p>설정 값(fcm.scanner.cron)에 따라 주기적으로 재고 부족/유통기한 임박 스캔을 실행하고
- * 결과에 따라 알림을 전송한다. 스케줄러 활성화는 {@code fcm.scanner.enabled=true} 조건으로 제어한다.</p>
+ * <p>기동 직후 1회 전체 판정과 유통기한 인덱스 적재를 수행하고, 이후에는 설정 값(fcm.scanner.cron)에 따라
+ * 메모리 인덱스에서 임박 기준을 넘은 LOT만 꺼내 알림을 전송한다(전체 재스캔 없음).
+ * 재고 부족은 재고 변경 이벤트({@code HqInventoryChangedEventListener})에서 판정한다.
+ * 스케줄러 활성화는 {@code fcm.scanner.enabled=true} 조건으로 제어한다.</p>
  *
- * <p>기본 CRON: {@code 0 0/30 * * * *} (30분 간격)</p>
+ * <p>주기 실행은 기본 꺼짐({@code fcm.scanner.cron=-}). 운영에서 켤 때 예: {@code 0 * * * * *}
+ * (1분 간격, 인덱스 맨 앞만 확인)</p>
  *
  * @author 이경욱
  * @since 2025-11-10
@@ -29,21 +34,32 @@ public class HqInventoryScanScheduler {
     private final FcmScannerProperties props;
 
     /**
-     * 설정된 CRON 표현식에 따라 인벤토리 스캔을 실행한다.
+     * 기동 직후 1회 전체 판정 및 유통기한 인덱스 적재.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        try {
+            var res = service.bootstrap();
+            log.info("[HQ-Scanner][BOOT] done: {}", res);
+        } catch (Exception e) {
+            log.warn("[HQ-Scanner][BOOT] failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 설정된 CRON 표현식에 따라 유통기한 인덱스에서 임박 LOT을 꺼내 전송한다.
      * 성공/실패 결과는 운영 로그로 남긴다.
      *
      * 실행 주기:
-     * - 기본: 30분마다 (0 0/30 * * * *)
-     * - 테스트:
-     *   1분마다   -> fcm.scanner.cron=0 * * * * *
-     *   30초마다 -> fcm.scanner.cron=&#42;&#47;30 * * * * *
-     *   변경하고 싶으면 이부분(프로퍼티 fcm.scanner.cron) 변경
+     * - 기본: 꺼짐 (-) — 스케줄링이 켜져 있어도 명시적으로 설정해야 전송이 시작된다.
+     * - 권장: 1분마다 (0 * * * * *) — 날짜가 바뀐 직후 임박 기준을 넘은 LOT이 바로 발화
+     * - 인덱스 맨 앞만 확인하므로 주기를 짧게 잡아도 DB 부하가 없다.
      */
-    @Scheduled(cron = "${fcm.scanner.cron:0 0/30 * * * *}")
+    @Scheduled(cron = "${fcm.scanner.cron:-}")
     public void run() {
         try {
-            var res = service.scanAll();
-            log.info("[HQ-Scanner][CRON] done: {}", res);
+            int sent = service.fireDueExpiries();
+            if (sent > 0) log.info("[HQ-Scanner][CRON] expireSoon sent={}", sent);
         } catch (Exception e) {
             log.warn("[HQ-Scanner][CRON] failed: {}", e.getMessage());
         }
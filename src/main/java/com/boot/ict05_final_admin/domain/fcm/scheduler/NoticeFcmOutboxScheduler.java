@@ -0,0 +1,52 @@
+package com.boot.ict05_final_admin.domain.fcm.scheduler;
+
+import com.boot.ict05_final_admin.domain.fcm.service.NoticeFcmOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지 알림 아웃박스 디스패처 스케줄러.
+ *
+ * <p>설정 값(fcm.outbox.poll-delay-ms) 간격으로 시도 시각이 된 아웃박스 행을 사용자 앱에 전달하고,
+ * 설정 값(fcm.outbox.purge-cron)에 따라 보관 기간이 지난 완료 행을 정리한다.
+ * 스케줄러 활성화는 {@code fcm.outbox.enabled=true} 조건으로 제어한다.</p>
+ *
+ * <p>기본: 2초 간격 디스패치, 매일 04:20 정리</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class NoticeFcmOutboxScheduler {
+
+    private final NoticeFcmOutboxService service;
+
+    /**
+     * 대기 행을 전달한다(이전 실행이 끝난 뒤 간격을 잰다).
+     */
+    @Scheduled(fixedDelayString = "${fcm.outbox.poll-delay-ms:2000}")
+    public void dispatch() {
+        try {
+            int delivered = service.dispatchDue();
+            if (delivered > 0) log.info("[NoticeOutbox][POLL] delivered={}", delivered);
+        } catch (Exception e) {
+            log.warn("[NoticeOutbox][POLL] failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 행을 삭제한다.
+     */
+    @Scheduled(cron = "${fcm.outbox.purge-cron:0 20 4 * * *}")
+    public void purge() {
+        try {
+            int deleted = service.purgeFinished();
+            log.info("[NoticeOutbox][PURGE] deleted={}", deleted);
+        } catch (Exception e) {
+            log.warn("[NoticeOutbox][PURGE] failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.boot.ict05_final_admin.domain.fcm.service;
+
+import com.boot.ict05_final_admin.domain.fcm.config.FcmLogProperties;
+import com.boot.ict05_final_admin.domain.fcm.repository.FcmSendLogJdbcRepository;
+import com.boot.ict05_final_admin.domain.fcm.repository.FcmSendLogJdbcRepository.LogRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 전송 로그 비동기 작성기.
+ *
+ * <p>전송 경로는 로그 행을 상한이 있는 메모리 대기열에 넣기만 하고 바로 돌아간다.
+ * 백그라운드 스레드 1개가 대기열을 비우며 {@code fcm.log.batch-size}행씩 다건 INSERT로 저장한다.
+ * 배치가 덜 차도 {@code fcm.log.flush-interval-ms}가 지나면 저장한다.</p>
+ *
+ * <ul>
+ *   <li>포화 시: {@code fcm.log.offer-timeout-ms}만큼 기다린 뒤(0이면 즉시) 버리고 버린 수를 집계한다.</li>
+ *   <li>종료 시: 작성기 스레드를 멈추고 남은 행을 모두 저장한다.</li>
+ *   <li>{@code fcm.log.async-enabled=false}: 호출 스레드에서 바로 저장한다.</li>
+ * </ul>
+ *
+ * <p>로그 저장 실패는 전송 결과에 영향을 주지 않는다(경고 로그만 남김).</p>
+ */
+@Slf4j
+@Component
+public class FcmSendLogWriter implements DisposableBean {
+
+    private final FcmSendLogJdbcRepository repository;
+    private final FcmLogProperties props;
+    private final BlockingQueue<LogRow> queue;
+    private final Thread worker;
+
+    /** 대기열 포화로 버린 행 수 */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** 저장에 실패한 행 수 */
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public FcmSendLogWriter(FcmSendLogJdbcRepository repository, FcmLogProperties props) {
+        this.repository = repository;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity()));
+        this.worker = new Thread(this::drainLoop, "fcm-log-writer");
+        this.worker.setDaemon(true);
+        if (props.isAsyncEnabled()) {
+            this.worker.start();
+        }
+    }
+
+    /**
+     * 로그 행을 저장 대기열에 넣는다.
+     *
+     * @param row 로그 행
+     * @return 대기열(또는 즉시 저장)에 들어갔으면 true, 포화로 버렸으면 false
+     */
+    public boolean enqueue(LogRow row) {
+        if (!props.isAsyncEnabled() || !running) {
+            write(List.of(row));
+            return true;
+        }
+        try {
+            long timeout = props.getOfferTimeoutMs();
+            boolean ok = timeout > 0 ? queue.offer(row, timeout, TimeUnit.MILLISECONDS) : queue.offer(row);
+            if (!ok) {
+                long n = dropped.incrementAndGet();
+                if (n == 1 || n % 1000 == 0) {
+                    log.warn("[FCM] send log queue full, dropped={}", n);
+                }
+            }
+            return ok;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * 여러 로그 행을 저장 대기열에 넣는다.
+     *
+     * @param rows 로그 행
+     * @return 대기열에 들어간 행 수
+     */
+    public int enqueueAll(Collection<LogRow> rows) {
+        if (!props.isAsyncEnabled() || !running) {
+            write(new ArrayList<>(rows));
+            return rows.size();
+        }
+        int n = 0;
+        for (LogRow row : rows) {
+            if (enqueue(row)) n++;
+        }
+        return n;
+    }
+
+    /**
+     * @return 대기 중인 행 수
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * @return 대기열 포화로 버린 누적 행 수
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return 저장에 실패한 누적 행 수
+     */
+    public long failed() {
+        return failed.get();
+    }
+
+    /**
+     * 작성기를 멈추고 남은 행을 모두 저장한다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(10_000);
+        flushRemaining();
+        log.info("[FCM] send log writer stopped (dropped={}, failed={})", dropped.get(), failed.get());
+    }
+
+    // ----- internals -----
+
+    private void drainLoop() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, props.getFlushIntervalMs()));
+        List<LogRow> buf = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                LogRow first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) continue;
+                buf.add(first);
+
+                // 배치가 찰 때까지 최대 flush 간격만큼 모은다
+                long deadline = System.nanoTime() + intervalNanos;
+                while (buf.size() < batchSize) {
+                    queue.drainTo(buf, batchSize - buf.size());
+                    if (buf.size() >= batchSize) break;
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) break;
+                    LogRow next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    buf.add(next);
+                }
+                write(buf);
+                buf.clear();
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        // 종료 중 인터럽트로 빠져나온 경우 들고 있던 행도 저장
+        write(buf);
+    }
+
+    private void flushRemaining() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        List<LogRow> buf = new ArrayList<>(batchSize);
+        while (queue.drainTo(buf, batchSize) > 0) {
+            write(buf);
+            buf.clear();
+        }
+    }
+
+    private void write(List<LogRow> rows) {
+        if (rows.isEmpty()) return;
+        int batchSize = Math.max(1, props.getBatchSize());
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<LogRow> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            try {
+                int saved = repository.insertAll(chunk);
+                if (saved < chunk.size()) failed.addAndGet(chunk.size() - saved); // 행 단위 재시도에서 버린 행
+            } catch (Exception e) {
+                failed.addAndGet(chunk.size());
+                log.warn("[FCM] send log insert failed (rows={}): {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+}
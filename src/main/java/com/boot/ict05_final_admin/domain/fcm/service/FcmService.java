@@ -1,27 +1,33 @@
 package com.boot.ict05_final_admin.domain.fcm.service;
 
+import com.boot.ict05_final_admin.domain.fcm.config.FcmBatchProperties;
 import com.boot.ict05_final_admin.domain.fcm.config.FcmTopicPolicyProperties;
 import com.boot.ict05_final_admin.domain.fcm.config.FcmWebpushProperties;
 import com.boot.ict05_final_admin.domain.fcm.dto.FcmRegisterTokenRequest;
+import com.boot.ict05_final_admin.domain.fcm.dto.FcmTemplateChangedEvent;
+import com.boot.ict05_final_admin.domain.fcm.dto.FcmTemplateUpsertRequest;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqTopic;
 import com.boot.ict05_final_admin.domain.fcm.entity.AppType;
 import com.boot.ict05_final_admin.domain.fcm.entity.FcmDeviceToken;
-import com.boot.ict05_final_admin.domain.fcm.entity.FcmSendLog;
 import com.boot.ict05_final_admin.domain.fcm.entity.FcmTemplate;
 import com.boot.ict05_final_admin.domain.fcm.repository.FcmDeviceTokenRepository;
-import com.boot.ict05_final_admin.domain.fcm.repository.FcmSendLogRepository;
+import com.boot.ict05_final_admin.domain.fcm.repository.FcmSendLogJdbcRepository.LogRow;
 import com.boot.ict05_final_admin.domain.fcm.repository.FcmTemplateRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.core.ApiFuture;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.messaging.*;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -33,10 +39,11 @@ import java.util.Map;
  *
  * <ul>
  *   <li>토큰 등록/해제</li>
- *   <li>템플릿 렌더링</li>
+ *   <li>템플릿 렌더링({@link FcmTemplateRegistry}의 컴파일 결과 사용, DB 조회 없음)</li>
  *   <li>토큰/토픽 전송 (WebPush 설정 적용)</li>
+ *   <li>일괄 전송: {@code sendEach}로 호출당 최대 500건, 최대 {@code fcm.batch.parallelism}개 호출을 동시에 진행</li>
  *   <li>토픽 구독/해제</li>
- *   <li>전송 로그 저장</li>
+ *   <li>전송 로그 저장({@link FcmSendLogWriter} 대기열에 넣어 비동기 일괄 적재)</li>
  * </ul>
  *
  * @author 이경욱
@@ -49,10 +56,13 @@ public class FcmService {
 
     private final FcmDeviceTokenRepository tokenRepository;
     private final FcmTemplateRepository templateRepository;
-    private final FcmSendLogRepository logRepository;
+    private final FcmTemplateRegistry templateRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FcmSendLogWriter logWriter;
     private final ObjectMapper objectMapper;
     private final FcmTopicPolicyProperties topicProps;
     private final FcmWebpushProperties webpushProps;
+    private final FcmBatchProperties batchProps;
 
     @Autowired(required = false)
     @Nullable
@@ -104,9 +114,8 @@ public class FcmService {
      * @param vars         템플릿 변수 맵
      * @return 렌더링된 제목
      */
-    @Transactional(readOnly = true)
     public String renderTitle(String templateCode, Map<String, Object> vars) {
-        return render(templateCode, true, vars);
+        return templateRegistry.get(templateCode).title().render(vars);
     }
 
     /**
@@ -116,23 +125,56 @@ public class FcmService {
      * @param vars         템플릿 변수 맵
      * @return 렌더링된 본문
      */
-    @Transactional(readOnly = true)
     public String renderBody(String templateCode, Map<String, Object> vars) {
-        return render(templateCode, false, vars);
+        return templateRegistry.get(templateCode).body().render(vars);
     }
 
-    private String render(String code, boolean title, Map<String, Object> vars) {
-        FcmTemplate t = templateRepository.findByTemplateCode(code)
-                .orElseThrow(() -> new IllegalArgumentException("No template: " + code));
-        String src = title ? t.getTitleTemplate() : t.getBodyTemplate();
-        if (vars == null || vars.isEmpty()) return src;
-        String out = src;
-        for (Map.Entry<String, Object> e : vars.entrySet()) {
-            out = out.replace("{" + e.getKey() + "}", String.valueOf(e.getValue()));
+    /**
+     * 템플릿 코드와 변수로 제목/본문을 함께 렌더링한다.
+     *
+     * @param templateCode 템플릿 코드
+     * @param vars         템플릿 변수 맵
+     * @return 렌더링된 제목/본문
+     */
+    public Rendered render(String templateCode, Map<String, Object> vars) {
+        FcmTemplateRegistry.Compiled t = templateRegistry.get(templateCode);
+        return new Rendered(t.title().render(vars), t.body().render(vars));
+    }
+
+    /**
+     * 같은 템플릿으로 여러 변수 묶음을 렌더링한다.
+     *
+     * @param templateCode 템플릿 코드
+     * @param varsList     변수 맵 목록
+     * @return 입력과 같은 순서의 렌더링 결과
+     */
+    public List<Rendered> renderAll(String templateCode, List<Map<String, Object>> varsList) {
+        FcmTemplateRegistry.Compiled t = templateRegistry.get(templateCode);
+        List<Rendered> out = new ArrayList<>(varsList.size());
+        for (Map<String, Object> vars : varsList) {
+            out.add(new Rendered(t.title().render(vars), t.body().render(vars)));
         }
         return out;
     }
 
+    /**
+     * 템플릿을 등록하거나 수정한다.
+     *
+     * <p>커밋 후 {@link FcmTemplateChangedEvent}로 템플릿 레지스트리의 해당 코드를 무효화한다.</p>
+     *
+     * @param templateCode 템플릿 코드
+     * @param req          제목/본문 템플릿
+     */
+    @Transactional
+    public void upsertTemplate(String templateCode, FcmTemplateUpsertRequest req) {
+        FcmTemplate row = templateRepository.findByTemplateCode(templateCode)
+                .orElseGet(() -> FcmTemplate.builder().templateCode(templateCode).build());
+        row.setTitleTemplate(req.titleTemplate());
+        row.setBodyTemplate(req.bodyTemplate());
+        templateRepository.save(row);
+        eventPublisher.publishEvent(new FcmTemplateChangedEvent(templateCode));
+    }
+
     /**
      * 단일 토큰으로 알림을 전송하고 결과를 로그로 저장한다.
      *
@@ -196,6 +238,85 @@ public class FcmService {
         }
     }
 
+    /**
+     * 여러 토픽 메시지를 일괄 전송하고 결과를 로그로 저장한다.
+     *
+     * <p>{@code fcm.batch.size}(최대 500)건씩 {@code sendEach} 호출로 묶고,
+     * 최대 {@code fcm.batch.parallelism}개 호출을 동시에 진행한다.
+     * 메시지별 실패는 다른 메시지 전송에 영향을 주지 않는다.</p>
+     *
+     * @param appType  앱 타입
+     * @param messages 전송할 메시지
+     * @return 입력과 같은 순서의 메시지 ID(실패한 메시지는 null)
+     */
+    public List<String> sendEachToTopic(AppType appType, List<TopicMessage> messages) {
+        if (messages == null || messages.isEmpty()) return List.of();
+        ensureFirebase();
+
+        String[] ids = new String[messages.size()];
+        List<LogRow> logs = new ArrayList<>(messages.size());
+
+        // 1) 검증/빌드(토픽 오류는 해당 메시지만 실패 처리)
+        List<Integer> index = new ArrayList<>(messages.size());
+        List<Message> built = new ArrayList<>(messages.size());
+        List<Map<String, String>> safe = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            TopicMessage m = messages.get(i);
+            try {
+                String topic = validateTopic(m.topic());
+                Map<String, String> safeData = sanitizeData(m.data());
+                built.add(Message.builder()
+                        .setTopic(topic)
+                        .setNotification(Notification.builder().setTitle(m.title()).setBody(m.body()).build())
+                        .setWebpushConfig(webpushConfigFor(safeData))
+                        .putAllData(safeData)
+                        .build());
+                index.add(i);
+                safe.add(safeData);
+            } catch (Exception ex) {
+                logs.add(buildLog(appType, m.topic(), null, m.title(), m.body(), m.data(), null, ex.getMessage()));
+            }
+        }
+
+        // 2) 호출당 size건, parallelism개씩 동시 전송
+        FirebaseMessaging fm = FirebaseMessaging.getInstance(firebaseApp);
+        int size = Math.min(500, Math.max(1, batchProps.getSize()));
+        int wave = size * Math.max(1, batchProps.getParallelism());
+        for (int start = 0; start < built.size(); start += wave) {
+            int end = Math.min(start + wave, built.size());
+            List<ApiFuture<BatchResponse>> futures = new ArrayList<>();
+            for (int from = start; from < end; from += size) {
+                futures.add(fm.sendEachAsync(built.subList(from, Math.min(from + size, end))));
+            }
+            for (int b = 0; b < futures.size(); b++) {
+                int from = start + b * size;
+                int to = Math.min(from + size, end);
+                try {
+                    List<SendResponse> responses = futures.get(b).get().getResponses();
+                    for (int k = from; k < to; k++) {
+                        SendResponse r = responses.get(k - from);
+                        TopicMessage m = messages.get(index.get(k));
+                        String error = r.isSuccessful() ? null : r.getException().getMessage();
+                        if (r.isSuccessful()) ids[index.get(k)] = r.getMessageId();
+                        logs.add(buildLog(appType, m.topic(), null, m.title(), m.body(), safe.get(k),
+                                r.getMessageId(), error));
+                    }
+                } catch (Exception ex) {
+                    if (ex instanceof InterruptedException) Thread.currentThread().interrupt();
+                    log.error("[FCM] sendEach failed (batch size={}): {}", to - from, ex.getMessage());
+                    for (int k = from; k < to; k++) {
+                        TopicMessage m = messages.get(index.get(k));
+                        logs.add(buildLog(appType, m.topic(), null, m.title(), m.body(), safe.get(k),
+                                null, ex.getMessage()));
+                    }
+                }
+            }
+        }
+
+        persistLogs(logs);
+        return Arrays.asList(ids);
+    }
+
     private void ensureFirebase() {
         if (firebaseApp == null) {
             throw new IllegalStateException("FCM is disabled (no FirebaseApp bean). Set fcm.enabled=true");
@@ -232,32 +353,20 @@ public class FcmService {
                             String title, String body, Map<String, String> data,
                             String msgId, String error,
                             Long storeId, Long memberId, Long staffId) {
-        try {
-            FcmSendLog logRow = FcmSendLog.builder()
-                    .appType(appType)
-                    .topic(topic)
-                    .token(token)
-                    .title(title)
-                    .body(body)
-                    .dataJson(data == null ? null : objectToJsonSafe(data))
-                    .resultMessageId(msgId)
-                    .resultError(error)
-                    .storeIdFk(storeId)
-                    .memberIdFk(memberId)
-                    .staffIdFk(staffId)
-                    .build();
-            logRepository.save(logRow);
-        } catch (Exception e) {
-            log.warn("[FCM] persistLog failed: {}", e.getMessage());
-        }
+        logWriter.enqueue(new LogRow(appType, topic, token, title, body, data, msgId, error,
+                LocalDateTime.now(), storeId, memberId, staffId));
     }
 
-    private String objectToJsonSafe(Object obj) {
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (Exception e) {
-            return null;
-        }
+    private void persistLogs(List<LogRow> rows) {
+        if (rows.isEmpty()) return;
+        logWriter.enqueueAll(rows);
+    }
+
+    private LogRow buildLog(AppType appType, String topic, String token,
+                            String title, String body, Map<String, String> data,
+                            String msgId, String error) {
+        return new LogRow(appType, topic, token, title, body, data, msgId, error,
+                LocalDateTime.now(), null, null, null);
     }
 
     /**
@@ -371,4 +480,27 @@ public class FcmService {
     public void unsubscribeFromTopic(HqTopic topic, Long memberId) {
         unsubscribeFromTopic(topic.value(), memberId);
     }
+
+    /**
+     * 일괄 전송용 토픽 메시지.
+     *
+     * @param topic 대상 토픽
+     * @param title 제목
+     * @param body  본문
+     * @param data  데이터 맵
+     */
+    public record TopicMessage(String topic, String title, String body, Map<String, String> data) {
+
+        public TopicMessage(HqTopic topic, String title, String body, Map<String, String> data) {
+            this(topic.value(), title, body, data);
+        }
+    }
+
+    /**
+     * 렌더링된 제목/본문.
+     *
+     * @param title 제목
+     * @param body  본문
+     */
+    public record Rendered(String title, String body) {}
 }
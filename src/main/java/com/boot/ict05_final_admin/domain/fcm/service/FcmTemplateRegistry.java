@@ -0,0 +1,228 @@
+package com.boot.ict05_final_admin.domain.fcm.service;
+
+import com.boot.ict05_final_admin.domain.fcm.dto.FcmTemplateChangedEvent;
+import com.boot.ict05_final_admin.domain.fcm.entity.FcmTemplate;
+import com.boot.ict05_final_admin.domain.fcm.repository.FcmTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컴파일된 FCM 템플릿 레지스트리.
+ *
+ * <p>템플릿 코드별로 제목/본문을 "고정 문자열 / 변수" 조각 목록으로 한 번만 파싱해 메모리에 보관한다.
+ * 렌더링은 조각을 한 번 훑으며 스레드별로 재사용하는 {@link StringBuilder}에 이어 붙인다.
+ * 변수 맵에 없는 {@code {name}}은 원문 그대로 남긴다.</p>
+ *
+ * <ul>
+ *   <li>적재: 처음 요청된 코드만 DB에서 읽어 컴파일(없는 코드는 캐시하지 않음)</li>
+ *   <li>무효화: 템플릿 저장 트랜잭션 커밋 후 {@link FcmTemplateChangedEvent}로 해당 코드 제거(이 노드만)</li>
+ *   <li>재검증: 적재/확인 후 {@code fcm.template.revalidate-ms}가 지난 항목은 갱신 시각만 조회해 비교하고,
+ *       다르면 다시 컴파일한다. 다른 노드에서 수정한 템플릿도 이 시간 안에 반영된다.</li>
+ *   <li>경합: 무효화마다 세대 번호를 올리고, 적재는 읽기 전 세대와 같을 때만 캐시에 넣는다.
+ *       무효화 전에 읽은 옛 내용이 무효화 뒤에 다시 들어가지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTemplateRegistry {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final FcmTemplateRepository templateRepository;
+
+    /** 템플릿 코드 → 캐시 항목 */
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /** 무효화 세대(무효화마다 증가) */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 재검증 주기(ms) */
+    @Value("${fcm.template.revalidate-ms:5000}")
+    private long revalidateMs;
+
+    /**
+     * 캐시 항목.
+     *
+     * @param compiled  컴파일 결과
+     * @param updatedAt 컴파일한 행의 갱신 시각
+     * @param checkedAt 마지막 적재/재검증 시각({@link System#nanoTime()})
+     */
+    private record Entry(Compiled compiled, LocalDateTime updatedAt, long checkedAt) {
+        Entry checked() {
+            return new Entry(compiled, updatedAt, System.nanoTime());
+        }
+    }
+
+    /**
+     * 컴파일된 템플릿을 반환한다(없거나 바뀌었으면 DB에서 읽어 컴파일).
+     *
+     * @param templateCode 템플릿 코드
+     * @return 컴파일된 템플릿
+     * @throws IllegalArgumentException 존재하지 않는 템플릿 코드
+     */
+    public Compiled get(String templateCode) {
+        Entry e = cache.get(templateCode);
+        if (e == null) return load(templateCode);
+        if (System.nanoTime() - e.checkedAt() < TimeUnit.MILLISECONDS.toNanos(Math.max(0, revalidateMs))) {
+            return e.compiled();
+        }
+
+        LocalDateTime current = templateRepository.findUpdatedAt(templateCode).orElse(null);
+        if (!Objects.equals(current, e.updatedAt())) return load(templateCode);
+        cache.replace(templateCode, e, e.checked());
+        return e.compiled();
+    }
+
+    /**
+     * 템플릿 코드의 컴파일 결과를 버린다.
+     *
+     * @param templateCode 템플릿 코드
+     */
+    public void invalidate(String templateCode) {
+        generation.incrementAndGet();
+        if (cache.remove(templateCode) != null) {
+            log.info("[FCM] template cache invalidated: {}", templateCode);
+        }
+    }
+
+    /**
+     * 모든 컴파일 결과를 버린다.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * 템플릿 저장 커밋 후 해당 코드를 무효화한다(트랜잭션 밖 저장도 즉시 반영).
+     *
+     * @param event 템플릿 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTemplateChanged(FcmTemplateChangedEvent event) {
+        invalidate(event.templateCode());
+    }
+
+    /**
+     * DB에서 읽어 컴파일하고, 읽는 사이 무효화가 없었을 때만 캐시에 넣는다.
+     *
+     * <p>이미 더 새 행으로 만든 항목이 있으면 그대로 둔다(동시 적재 시 늦게 끝난 옛 결과가 덮어쓰지 않도록).</p>
+     */
+    private Compiled load(String templateCode) {
+        long gen = generation.get();
+        FcmTemplate t = templateRepository.findByTemplateCode(templateCode)
+                .orElseThrow(() -> new IllegalArgumentException("No template: " + templateCode));
+        Entry loaded = new Entry(
+                new Compiled(CompiledText.parse(t.getTitleTemplate()), CompiledText.parse(t.getBodyTemplate())),
+                t.getUpdatedAt(), System.nanoTime());
+
+        cache.compute(templateCode, (k, cur) -> {
+            if (generation.get() != gen) return cur;
+            if (cur != null && cur.updatedAt() != null
+                    && (loaded.updatedAt() == null || cur.updatedAt().isAfter(loaded.updatedAt()))) {
+                return cur;
+            }
+            return loaded;
+        });
+        return loaded.compiled();
+    }
+
+    /**
+     * 컴파일된 제목/본문 템플릿.
+     *
+     * @param title 제목
+     * @param body  본문
+     */
+    public record Compiled(CompiledText title, CompiledText body) { }
+
+    /**
+     * 조각 목록으로 파싱된 템플릿 문자열.
+     *
+     * <p>{@code literals[i]} 뒤에 {@code names[i]} 변수가 오는 형태이며,
+     * 마지막 고정 문자열은 {@code literals[names.length]}이다.</p>
+     */
+    public static final class CompiledText {
+
+        private final String source;
+        private final String[] literals;
+        private final String[] names;
+
+        private CompiledText(String source, String[] literals, String[] names) {
+            this.source = source;
+            this.literals = literals;
+            this.names = names;
+        }
+
+        /**
+         * 템플릿 문자열을 조각 목록으로 파싱한다.
+         *
+         * <p>{@code {name}} 형태(중괄호 사이에 중괄호가 없는 경우)만 변수로 인식한다.</p>
+         *
+         * @param src 템플릿 문자열
+         * @return 컴파일 결과
+         */
+        static CompiledText parse(String src) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            int from = 0;
+            int open = src.indexOf('{');
+            while (open >= 0) {
+                int close = src.indexOf('}', open + 1);
+                if (close < 0) break;
+                int nested = src.lastIndexOf('{', close);
+                if (nested > open) {
+                    open = nested; // "{a{b}"는 뒤쪽 "{b}"만 변수
+                }
+                if (close > open + 1) {
+                    literals.add(src.substring(from, open));
+                    names.add(src.substring(open + 1, close));
+                    from = close + 1;
+                }
+                open = src.indexOf('{', close + 1);
+            }
+            literals.add(src.substring(from));
+            return new CompiledText(src, literals.toArray(String[]::new), names.toArray(String[]::new));
+        }
+
+        /**
+         * 변수 맵으로 한 번에 렌더링한다.
+         *
+         * @param vars 변수 맵(null 허용)
+         * @return 렌더링 결과
+         */
+        public String render(Map<String, ?> vars) {
+            if (names.length == 0) return source;
+            if (vars == null || vars.isEmpty()) return source;
+
+            StringBuilder sb = BUFFER.get();
+            sb.setLength(0);
+            for (int i = 0; i < names.length; i++) {
+                sb.append(literals[i]);
+                String name = names[i];
+                if (vars.containsKey(name)) {
+                    sb.append(vars.get(name));
+                } else {
+                    sb.append('{').append(name).append('}');
+                }
+            }
+            sb.append(literals[names.length]);
+            String out = sb.toString();
+            if (sb.capacity() > 8192) BUFFER.remove(); // 큰 결과 뒤 버퍼를 계속 붙잡지 않도록
+            return out;
+        }
+    }
+}
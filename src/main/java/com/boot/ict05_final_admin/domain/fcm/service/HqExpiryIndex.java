@@ -0,0 +1,157 @@
+package com.boot.ict05_final_admin.domain.fcm.service;
+
+import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonRow;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 본사 LOT 유통기한 메모리 인덱스.
+ *
+ * <p>LOT마다 "임박 진입일"({@code 만료일 - N일})을 키로 하는 우선순위 집합을 유지한다.
+ * 스케줄러는 매 주기마다 맨 앞 원소만 확인하므로, 전체 배치를 다시 스캔하지 않고도
+ * LOT이 임박 기준을 넘는 시점에 정확히 한 번 꺼낼 수 있다.</p>
+ *
+ * <ul>
+ *   <li>적재/갱신: 재료 단위로 LOT 목록을 통째로 교체({@link #replace})</li>
+ *   <li>발화: 진입일이 지난 LOT을 꺼내 "전송 중"으로 옮기고({@link #pollDue}),
+ *       전송 결과에 따라 성공은 "알림 완료"로 기록, 실패는 대기열로 되돌린다({@link #complete})</li>
+ *   <li>중복 방지: 전송 중/알림 완료 LOT은 재적재되어도 다시 들어가지 않으며,
+ *       잔량 소진/만료로 목록에서 빠질 때 기록도 함께 정리한다.</li>
+ * </ul>
+ *
+ * <p>단일 인스턴스 메모리 상태이므로 모든 메서드는 동기화되어 있다.</p>
+ */
+@Component
+public class HqExpiryIndex {
+
+    /** 임박 진입일 ↑ → 배치 ID ↑ */
+    private final NavigableSet<Entry> queue = new TreeSet<>(
+            Comparator.comparing(Entry::dueDate).thenComparing(Entry::batchId));
+
+    /** 배치 ID → 대기 중 항목 */
+    private final Map<Long, Entry> pending = new HashMap<>();
+
+    /** 재료 ID → 대기 중 배치 ID */
+    private final Map<Long, Set<Long>> byMaterial = new HashMap<>();
+
+    /** 알림을 보낸 배치 ID → 항목(잔량 소진/만료 시 정리) */
+    private final Map<Long, Entry> notified = new HashMap<>();
+
+    /** 꺼내서 전송 결과를 기다리는 배치 ID → 항목 */
+    private final Map<Long, Entry> inflight = new HashMap<>();
+
+    /**
+     * 재료들의 LOT 목록을 교체한다.
+     *
+     * @param materialIds 교체 대상 재료(목록에 LOT이 없으면 해당 재료 항목은 모두 제거)
+     * @param lots        대상 재료의 현재 LOT(잔량 &gt; 0, 만료일 지정)
+     * @param days        임박 기준 일수
+     */
+    public synchronized void replace(Collection<Long> materialIds, List<HqExpireSoonRow> lots, int days) {
+        Set<Long> alive = new HashSet<>();
+        for (HqExpireSoonRow r : lots) alive.add(r.batchId());
+
+        for (Long materialId : materialIds) {
+            Set<Long> ids = byMaterial.remove(materialId);
+            if (ids != null) ids.forEach(id -> queue.remove(pending.remove(id)));
+        }
+        notified.values().removeIf(e -> materialIds.contains(e.materialId()) && !alive.contains(e.batchId()));
+        // 전송 중 소진된 LOT은 결과와 관계없이 버린다
+        inflight.values().removeIf(e -> materialIds.contains(e.materialId()) && !alive.contains(e.batchId()));
+
+        for (HqExpireSoonRow r : lots) {
+            if (notified.containsKey(r.batchId()) || inflight.containsKey(r.batchId())) continue;
+            Entry e = new Entry(r.batchId(), r.materialId(), r.materialName(), r.lot(),
+                    r.expireDate(), r.expireDate().minusDays(days));
+            pending.put(e.batchId(), e);
+            queue.add(e);
+            byMaterial.computeIfAbsent(e.materialId(), k -> new HashSet<>()).add(e.batchId());
+        }
+    }
+
+    /**
+     * 전체 LOT 목록으로 인덱스를 다시 만든다(기동 시 1회).
+     *
+     * @param lots 본사 LOT 전체
+     * @param days 임박 기준 일수
+     */
+    public synchronized void rebuild(List<HqExpireSoonRow> lots, int days) {
+        Set<Long> materials = new HashSet<>(byMaterial.keySet());
+        for (HqExpireSoonRow r : lots) materials.add(r.materialId());
+        for (Entry e : notified.values()) materials.add(e.materialId());
+        for (Entry e : inflight.values()) materials.add(e.materialId());
+        replace(materials, lots, days);
+    }
+
+    /**
+     * 임박 진입일이 지난 LOT을 꺼낸다(꺼낸 LOT은 전송 중으로 기록).
+     *
+     * <p>이미 만료된 LOT은 알림 없이 버리고, 만료된 알림 기록도 여기서 정리한다.
+     * 호출 측은 전송 후 반드시 {@link #complete}로 결과를 알려야 한다.</p>
+     *
+     * @param today 기준 날짜
+     * @return 알림 대상 LOT(진입일 순)
+     */
+    public synchronized List<Entry> pollDue(LocalDate today) {
+        List<Entry> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.first().dueDate().isAfter(today)) {
+            Entry e = queue.pollFirst();
+            pending.remove(e.batchId());
+            Set<Long> ids = byMaterial.get(e.materialId());
+            if (ids != null && ids.remove(e.batchId()) && ids.isEmpty()) byMaterial.remove(e.materialId());
+
+            if (e.expireDate().isBefore(today)) continue;
+            inflight.put(e.batchId(), e);
+            due.add(e);
+        }
+        notified.values().removeIf(e -> e.expireDate().isBefore(today));
+        return due;
+    }
+
+    /**
+     * 전송 결과를 반영한다. 성공한 LOT은 알림 완료로 기록하고, 실패한 LOT은 대기열로 되돌려
+     * 다음 {@link #pollDue} 때 다시 꺼낸다. 전송 중 목록에서 빠진(소진된) LOT은 무시한다.
+     *
+     * @param entries {@link #pollDue} 결과
+     * @param sent    항목과 같은 순서의 전송 성공 여부
+     */
+    public synchronized void complete(List<Entry> entries, boolean[] sent) {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = inflight.remove(entries.get(i).batchId());
+            if (e == null) continue;
+            if (i < sent.length && sent[i]) {
+                notified.put(e.batchId(), e);
+            } else {
+                pending.put(e.batchId(), e);
+                queue.add(e);
+                byMaterial.computeIfAbsent(e.materialId(), k -> new HashSet<>()).add(e.batchId());
+            }
+        }
+    }
+
+    /**
+     * @return 대기 중 LOT 수
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * 인덱스 항목.
+     *
+     * @param batchId      배치 ID
+     * @param materialId   재료 ID
+     * @param materialName 재료명
+     * @param lot          LOT 번호
+     * @param expireDate   유통기한
+     * @param dueDate      임박 진입일(유통기한 - N일)
+     */
+    public record Entry(Long batchId,
+                        Long materialId,
+                        String materialName,
+                        String lot,
+                        LocalDate expireDate,
+                        LocalDate dueDate) {}
+}
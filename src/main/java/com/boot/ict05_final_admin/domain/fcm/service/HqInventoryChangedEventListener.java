@@ -0,0 +1,88 @@
+package com.boot.ict05_final_admin.domain.fcm.service;
+
+import com.boot.ict05_final_admin.domain.fcm.config.FcmScannerProperties;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqInventoryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 본사 재고 변경 이벤트 리스너.
+ *
+ * <p>입고/출고/조정 트랜잭션이 커밋된 뒤 바뀐 재료만 재고 부족 판정과 유통기한 인덱스 갱신을 수행한다.
+ * 롤백된 변경은 전달되지 않는다. 활성화는 {@code fcm.scanner.enabled=true} 조건으로 제어한다.</p>
+ *
+ * <p>판정과 FCM 전송은 요청 스레드에서 하지 않는다. 이벤트의 재료 ID를 대기 집합에 모아 두고,
+ * 전용 단일 스레드가 {@code fcm.scanner.coalesce-ms} 뒤 한 번에 처리한다. 처리 중 들어온 변경은
+ * 다음 묶음으로 이어서 처리하므로, 대기 상태는 재료 ID 집합 하나로 제한된다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "fcm.scanner.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class HqInventoryChangedEventListener implements DisposableBean {
+
+    private final HqInventoryScanService hqInventoryScanService;
+    private final FcmScannerProperties props;
+    private final ScheduledExecutorService executor;
+
+    /** 처리 대기 중인 재료 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /** 처리 예약 여부(예약은 한 번에 하나) */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public HqInventoryChangedEventListener(HqInventoryScanService hqInventoryScanService,
+                                           FcmScannerProperties props) {
+        this.hqInventoryScanService = hqInventoryScanService;
+        this.props = props;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hq-inventory-changed");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInventoryChanged(HqInventoryChangedEvent event) {
+        pending.addAll(event.getMaterialIds());
+        schedule();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void schedule() {
+        if (pending.isEmpty() || !scheduled.compareAndSet(false, true)) return;
+        executor.schedule(this::flush, Math.max(0, props.getCoalesceMs()), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        Set<Long> batch = new HashSet<>();
+        try {
+            for (Long id : pending) {
+                if (pending.remove(id)) batch.add(id);
+            }
+            if (batch.isEmpty()) return;
+            var res = hqInventoryScanService.onInventoryChanged(batch);
+            log.debug("[HqInventoryChangedEventListener] materials={} result={}", batch, res);
+        } catch (Exception e) {
+            log.warn("[HqInventoryChangedEventListener] evaluation failed materials={}", batch, e);
+        } finally {
+            scheduled.set(false);
+            schedule(); // 처리 중 쌓인 변경
+        }
+    }
+}
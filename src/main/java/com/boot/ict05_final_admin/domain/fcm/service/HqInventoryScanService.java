@@ -2,7 +2,9 @@ package com.boot.ict05_final_admin.domain.fcm.service;
 
 import com.boot.ict05_final_admin.domain.fcm.config.FcmScannerProperties;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqExpireSoonRow;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowCandidate;
+import com.boot.ict05_final_admin.domain.fcm.dto.HqStockLowRow;
 import com.boot.ict05_final_admin.domain.fcm.dto.HqTopic;
 import com.boot.ict05_final_admin.domain.fcm.entity.AppType;
 import com.boot.ict05_final_admin.domain.fcm.repository.HqInventoryScannerRepository;
@@ -11,9 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 본사 인벤토리 스캔 및 알림 발송 서비스.
@@ -21,6 +22,20 @@ import java.util.Map;
  * <p>QueryDSL 스캐너를 통해 재고 부족/유통기한 임박 후보를 조회하고,
  * 템플릿을 렌더링하여 HQ 토픽으로 알림을 전송한다.</p>
  *
+ * <p>상시 감지는 이벤트 기반으로 동작한다.</p>
+ * <ul>
+ *   <li>{@link #onInventoryChanged(Set)} 재고가 바뀐 재료만 부족 여부를 판정하고, 유통기한 인덱스를 갱신</li>
+ *   <li>{@link #fireDueExpiries()} 유통기한 인덱스에서 임박 기준을 넘은 LOT만 꺼내 전송(DB 조회 없음)</li>
+ *   <li>{@link #bootstrap()} 기동 시 1회 전체 판정 및 인덱스 적재</li>
+ * </ul>
+ * <p>재고 부족은 재료당, 유통기한 임박은 LOT당 한 번만 알린다. 재고가 기준 이상으로 회복되면
+ * 해당 재료는 다시 알림 대상이 된다(상태는 인스턴스 메모리에 유지).</p>
+ *
+ * <p>한 번에 잡힌 후보는 템플릿을 한 번만 조회해 렌더링하고 {@link FcmService#sendEachToTopic}으로 묶어 보낸다.
+ * {@code fcm.scanner.digest-enabled=true}이고 후보가 {@code digest-min-rows}건 이상이면
+ * 요약 템플릿({@code HQ_*_DIGEST})으로 1건만 보낸다.</p>
+ *
+ * <p>수동 실행용 전체 스캔:</p>
  * <ul>
  *   <li>{@link #scanAndNotifyStockLow()} 재고 부족 스캔 및 전송</li>
  *   <li>{@link #scanAndNotifyExpireSoon()} 유통기한 임박 스캔 및 전송</li>
@@ -38,6 +53,10 @@ public class HqInventoryScanService {
     private final HqInventoryScannerRepository repo;
     private final FcmService fcmService;
     private final FcmScannerProperties props;
+    private final HqExpiryIndex expiryIndex;
+
+    /** 재고 부족 알림을 보낸(아직 회복되지 않은) 재료 ID */
+    private final Set<Long> stockLowNotified = ConcurrentHashMap.newKeySet();
 
     /**
      * 재고 부족 후보를 스캔하고 HQ 토픽으로 알림을 전송한다.
@@ -46,28 +65,11 @@ public class HqInventoryScanService {
      */
     public int scanAndNotifyStockLow() {
         List<HqStockLowCandidate> rows = repo.findStockLow(props.getStockLowMax());
-        int sent = 0;
+        List<StockLowItem> items = new ArrayList<>(rows.size());
         for (HqStockLowCandidate r : rows) {
-            Map<String, Object> vars = Map.of(
-                    "materialName", r.getMaterialName(),
-                    "qty",          r.getQty(),
-                    "threshold",    r.getThreshold()
-            );
-            String title = fcmService.renderTitle("HQ_STOCK_LOW", vars);
-            String body  = fcmService.renderBody ("HQ_STOCK_LOW", vars);
-
-            Map<String, String> data = new HashMap<>();
-            data.put("type", "HQ_STOCK_LOW");
-            data.put("materialName", r.getMaterialName());
-            data.put("link", "/admin/inventory/list");
-
-            try {
-                fcmService.sendToTopic(AppType.HQ, HqTopic.STOCK_LOW, title, body, data);
-                sent++;
-            } catch (Exception e) {
-                log.warn("[HQ-Scanner] STOCK_LOW send failed: {}", e.getMessage());
-            }
+            items.add(new StockLowItem(r.getMaterialName(), r.getQty(), r.getThreshold()));
         }
+        int sent = count(sendStockLow(items));
         log.info("[HQ-Scanner] STOCK_LOW candidates={}, sent={}", rows.size(), sent);
         return sent;
     }
@@ -82,30 +84,11 @@ public class HqInventoryScanService {
         LocalDate today = LocalDate.now();
 
         List<HqExpireSoonCandidate> rows = repo.findExpireSoon(today, days, props.getExpireSoonMax());
-        int sent = 0;
+        List<ExpireSoonItem> items = new ArrayList<>(rows.size());
         for (HqExpireSoonCandidate r : rows) {
-            Map<String, Object> vars = Map.of(
-                    "materialName", r.getMaterialName(),
-                    "days",         r.getDaysLeft() != null ? r.getDaysLeft() : days,
-                    "lot",          r.getLot() != null ? r.getLot() : "-"
-            );
-            String title = fcmService.renderTitle("HQ_EXPIRE_SOON", vars);
-            String body  = fcmService.renderBody ("HQ_EXPIRE_SOON", vars);
-
-            Map<String, String> data = new HashMap<>();
-            data.put("type", "HQ_EXPIRE_SOON");
-            data.put("materialName", r.getMaterialName());
-            data.put("days", String.valueOf(r.getDaysLeft() != null ? r.getDaysLeft() : days));
-            if (r.getLot() != null) data.put("lot", r.getLot());
-            data.put("link", "/admin/inventory/list");
-
-            try {
-                fcmService.sendToTopic(AppType.HQ, HqTopic.EXPIRE_SOON, title, body, data);
-                sent++;
-            } catch (Exception e) {
-                log.warn("[HQ-Scanner] EXPIRE_SOON send failed: {}", e.getMessage());
-            }
+            items.add(new ExpireSoonItem(r.getMaterialName(), r.getDaysLeft() != null ? r.getDaysLeft() : days, r.getLot()));
         }
+        int sent = count(sendExpireSoon(items));
         log.info("[HQ-Scanner] EXPIRE_SOON candidates={}, sent={}", rows.size(), sent);
         return sent;
     }
@@ -120,4 +103,234 @@ public class HqInventoryScanService {
         int b = scanAndNotifyExpireSoon();
         return Map.of("stockLow", a, "expireSoon", b);
     }
+
+    /**
+     * 재고가 바뀐 재료들의 부족 여부를 판정하고 유통기한 인덱스를 갱신한다(커밋 이후 호출).
+     *
+     * <p>새로 부족해진 재료만 알리고, 부족에서 벗어난 재료는 알림 기록을 지워 다음 부족 시 다시 알린다.
+     * 인덱스 갱신 후 이미 임박 기준을 넘은 LOT(예: 유통기한이 가까운 입고)은 바로 전송한다.</p>
+     *
+     * @param materialIds 재고가 바뀐 재료 ID
+     * @return {"stockLow": 전송수, "expireSoon": 전송수}
+     */
+    public Map<String, Integer> onInventoryChanged(final Set<Long> materialIds) {
+        if (materialIds == null || materialIds.isEmpty()) return Map.of("stockLow", 0, "expireSoon", 0);
+
+        int low = notifyStockLowAmong(materialIds);
+
+        int days = Math.max(1, props.getExpireSoonDaysDefault());
+        expiryIndex.replace(materialIds, repo.findExpiringLots(materialIds, LocalDate.now()), days);
+        int expire = fireDueExpiries();
+
+        return Map.of("stockLow", low, "expireSoon", expire);
+    }
+
+    /**
+     * 유통기한 인덱스에서 임박 기준을 넘은 LOT을 꺼내 전송한다.
+     *
+     * <p>인덱스 맨 앞만 확인하므로 자주 호출해도 비용이 거의 없다.
+     * 전송에 실패한 LOT은 인덱스로 되돌아가 다음 호출 때 다시 전송한다.</p>
+     *
+     * @return 전송 성공 건수
+     */
+    public int fireDueExpiries() {
+        LocalDate today = LocalDate.now();
+        List<HqExpiryIndex.Entry> due = expiryIndex.pollDue(today);
+        List<ExpireSoonItem> items = new ArrayList<>(due.size());
+        for (HqExpiryIndex.Entry e : due) {
+            int daysLeft = (int) (e.expireDate().toEpochDay() - today.toEpochDay());
+            items.add(new ExpireSoonItem(e.materialName(), daysLeft, e.lot()));
+        }
+        boolean[] ok = sendExpireSoon(items);
+        expiryIndex.complete(due, ok); // 실패한 LOT은 다음 주기에 재시도
+        int sent = count(ok);
+        if (!due.isEmpty()) {
+            log.info("[HQ-Scanner] EXPIRE_SOON due={}, sent={}, pending={}", due.size(), sent, expiryIndex.size());
+        }
+        return sent;
+    }
+
+    /**
+     * 기동 시 1회: 전체 재고 부족 판정(이후 중복 방지 기준)과 유통기한 인덱스 적재를 수행한다.
+     *
+     * @return {"stockLow": 전송수, "expireSoon": 전송수}
+     */
+    public Map<String, Integer> bootstrap() {
+        List<HqStockLowCandidate> rows = repo.findStockLow(props.getStockLowMax());
+        List<Long> ids = new ArrayList<>();
+        List<StockLowItem> items = new ArrayList<>();
+        for (HqStockLowCandidate r : rows) {
+            if (!stockLowNotified.add(r.getMaterialId())) continue;
+            ids.add(r.getMaterialId());
+            items.add(new StockLowItem(r.getMaterialName(), r.getQty(), r.getThreshold()));
+        }
+        int low = sendStockLowAndMark(ids, items);
+
+        int days = Math.max(1, props.getExpireSoonDaysDefault());
+        expiryIndex.rebuild(repo.findExpiringLots(null, LocalDate.now()), days);
+        int expire = fireDueExpiries();
+
+        log.info("[HQ-Scanner] bootstrap: stockLow={}, expireSoon={}, indexed={}", low, expire, expiryIndex.size());
+        return Map.of("stockLow", low, "expireSoon", expire);
+    }
+
+    private int notifyStockLowAmong(final Set<Long> materialIds) {
+        List<HqStockLowRow> rows = repo.findStockLowAmong(materialIds);
+        Set<Long> lowNow = new HashSet<>();
+        List<Long> ids = new ArrayList<>();
+        List<StockLowItem> items = new ArrayList<>();
+        for (HqStockLowRow r : rows) {
+            lowNow.add(r.materialId());
+            // 부족 상태로 "진입"한 재료만 전송
+            if (!stockLowNotified.add(r.materialId())) continue;
+            ids.add(r.materialId());
+            items.add(new StockLowItem(r.materialName(), r.quantity(), r.optimal()));
+        }
+        for (Long id : materialIds) {
+            if (!lowNow.contains(id)) stockLowNotified.remove(id); // 회복 → 재무장
+        }
+        return sendStockLowAndMark(ids, items);
+    }
+
+    /** 전송 후 실패한 재료는 알림 기록에서 빼서 다음 변경 때 재시도한다. */
+    private int sendStockLowAndMark(final List<Long> materialIds, final List<StockLowItem> items) {
+        boolean[] ok = sendStockLow(items);
+        for (int i = 0; i < ok.length; i++) {
+            if (!ok[i]) stockLowNotified.remove(materialIds.get(i));
+        }
+        return count(ok);
+    }
+
+    private boolean[] sendStockLow(final List<StockLowItem> items) {
+        if (items.isEmpty()) return new boolean[0];
+
+        if (useDigest(items.size())) {
+            List<String> lines = new ArrayList<>(items.size());
+            for (StockLowItem it : items) lines.add(it.materialName() + " " + it.qty());
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "HQ_STOCK_LOW");
+            data.put("count", String.valueOf(items.size()));
+            data.put("link", "/admin/inventory/list");
+            Boolean ok = sendDigest("HQ_STOCK_LOW_DIGEST", HqTopic.STOCK_LOW, lines, data);
+            if (ok != null) return filled(items.size(), ok);
+        }
+
+        List<Map<String, Object>> varsList = new ArrayList<>(items.size());
+        for (StockLowItem it : items) {
+            varsList.add(Map.of(
+                    "materialName", it.materialName(),
+                    "qty",          it.qty(),
+                    "threshold",    it.threshold()
+            ));
+        }
+
+        List<FcmService.TopicMessage> messages = new ArrayList<>(items.size());
+        List<FcmService.Rendered> rendered = fcmService.renderAll("HQ_STOCK_LOW", varsList);
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "HQ_STOCK_LOW");
+            data.put("materialName", items.get(i).materialName());
+            data.put("link", "/admin/inventory/list");
+            messages.add(new FcmService.TopicMessage(HqTopic.STOCK_LOW,
+                    rendered.get(i).title(), rendered.get(i).body(), data));
+        }
+        return sendEach("STOCK_LOW", messages);
+    }
+
+    private boolean[] sendExpireSoon(final List<ExpireSoonItem> items) {
+        if (items.isEmpty()) return new boolean[0];
+
+        if (useDigest(items.size())) {
+            List<String> lines = new ArrayList<>(items.size());
+            for (ExpireSoonItem it : items) lines.add(it.materialName() + " D-" + it.daysLeft());
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "HQ_EXPIRE_SOON");
+            data.put("count", String.valueOf(items.size()));
+            data.put("link", "/admin/inventory/list");
+            Boolean ok = sendDigest("HQ_EXPIRE_SOON_DIGEST", HqTopic.EXPIRE_SOON, lines, data);
+            if (ok != null) return filled(items.size(), ok);
+        }
+
+        List<Map<String, Object>> varsList = new ArrayList<>(items.size());
+        for (ExpireSoonItem it : items) {
+            varsList.add(Map.of(
+                    "materialName", it.materialName(),
+                    "days",         it.daysLeft(),
+                    "lot",          it.lot() != null ? it.lot() : "-"
+            ));
+        }
+
+        List<FcmService.TopicMessage> messages = new ArrayList<>(items.size());
+        List<FcmService.Rendered> rendered = fcmService.renderAll("HQ_EXPIRE_SOON", varsList);
+        for (int i = 0; i < items.size(); i++) {
+            ExpireSoonItem it = items.get(i);
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "HQ_EXPIRE_SOON");
+            data.put("materialName", it.materialName());
+            data.put("days", String.valueOf(it.daysLeft()));
+            if (it.lot() != null) data.put("lot", it.lot());
+            data.put("link", "/admin/inventory/list");
+            messages.add(new FcmService.TopicMessage(HqTopic.EXPIRE_SOON,
+                    rendered.get(i).title(), rendered.get(i).body(), data));
+        }
+        return sendEach("EXPIRE_SOON", messages);
+    }
+
+    private boolean useDigest(final int rows) {
+        return props.isDigestEnabled() && rows >= Math.max(2, props.getDigestMinRows());
+    }
+
+    /**
+     * 요약 알림 1건을 전송한다.
+     *
+     * @return 전송 결과(요약 템플릿이 없으면 null → 건별 전송으로 대체)
+     */
+    private Boolean sendDigest(final String code, final HqTopic topic,
+                               final List<String> lines, final Map<String, String> data) {
+        int max = Math.max(1, props.getDigestListMax());
+        String items = String.join(", ", lines.subList(0, Math.min(max, lines.size())));
+        if (lines.size() > max) items += " 외 " + (lines.size() - max) + "건";
+
+        FcmService.Rendered r;
+        try {
+            r = fcmService.render(code, Map.of("count", lines.size(), "items", items));
+        } catch (IllegalArgumentException e) {
+            log.warn("[HQ-Scanner] digest template missing ({}), sending individually", code);
+            return null;
+        }
+        try {
+            fcmService.sendToTopic(AppType.HQ, topic, r.title(), r.body(), data);
+            return true;
+        } catch (Exception e) {
+            log.warn("[HQ-Scanner] {} send failed: {}", code, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean[] sendEach(final String kind, final List<FcmService.TopicMessage> messages) {
+        boolean[] ok = new boolean[messages.size()];
+        try {
+            List<String> ids = fcmService.sendEachToTopic(AppType.HQ, messages);
+            for (int i = 0; i < ok.length; i++) ok[i] = ids.get(i) != null;
+        } catch (Exception e) {
+            log.warn("[HQ-Scanner] {} send failed: {}", kind, e.getMessage());
+        }
+        return ok;
+    }
+
+    private static boolean[] filled(final int n, final boolean value) {
+        boolean[] out = new boolean[n];
+        Arrays.fill(out, value);
+        return out;
+    }
+
+    private static int count(final boolean[] ok) {
+        int n = 0;
+        for (boolean b : ok) if (b) n++;
+        return n;
+    }
+
+    private record StockLowItem(String materialName, Object qty, Object threshold) {}
+
+    private record ExpireSoonItem(String materialName, int daysLeft, String lot) {}
 }
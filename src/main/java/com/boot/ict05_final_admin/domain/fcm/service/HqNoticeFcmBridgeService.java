@@ -1,39 +1,56 @@
 package com.boot.ict05_final_admin.domain.fcm.service;
 
-import lombok.RequiredArgsConstructor;
+import com.boot.ict05_final_admin.domain.fcm.config.NoticeOutboxProperties;
+import com.boot.ict05_final_admin.domain.fcm.dto.NoticeFcmEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+/**
+ * 본사 → 사용자 앱 공지 알림 브리지.
+ *
+ * <p>사용자 앱의 공지 알림 엔드포인트를 호출한다. 호출은 {@link NoticeFcmOutboxService} 디스패처가
+ * 커밋 이후 별도 스레드에서 수행하며, 실패는 예외로 올려 재시도 대상이 되게 한다.
+ * 스케줄러 스레드를 오래 붙잡지 않도록 연결/응답 제한 시간을 둔다({@code fcm.outbox.*-timeout-ms}).</p>
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class HqNoticeFcmBridgeService {
 
     @Value("${toastlab.user-api.base-url}")
     private String userApiBase; // 예: http://localhost:8082/user
 
-    private final RestClient restClient; // Spring 6+ 있으면 RestClient, 없으면 RestTemplate
+    private final RestClient restClient;
 
-    public void afterNoticeCreated(Long noticeId) {
-        callUserNoticeEndpoint("/fcm/notice/created/" + noticeId);
+    public HqNoticeFcmBridgeService(RestClient restClient, NoticeOutboxProperties props) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout((int) props.getConnectTimeoutMs());
+        factory.setReadTimeout((int) props.getReadTimeoutMs());
+        this.restClient = restClient.mutate().requestFactory(factory).build();
     }
 
-    public void afterNoticeUpdated(Long noticeId) {
-        callUserNoticeEndpoint("/fcm/notice/updated/" + noticeId);
+    /**
+     * 공지 이벤트를 사용자 앱에 전달한다.
+     *
+     * @param noticeId 공지 ID
+     * @param type     이벤트 유형
+     * @throws org.springframework.web.client.RestClientException 호출 실패(연결 오류, 4xx/5xx)
+     */
+    public void deliver(Long noticeId, NoticeFcmEvent.Type type) {
+        switch (type) {
+            case CREATED -> callUserNoticeEndpoint("/fcm/notice/created/" + noticeId);
+            case UPDATED -> callUserNoticeEndpoint("/fcm/notice/updated/" + noticeId);
+        }
     }
 
     private void callUserNoticeEndpoint(String path) {
-        try {
-            var res = restClient
-                    .post()
-                    .uri(userApiBase + path)
-                    .retrieve()
-                    .toEntity(String.class);
-            log.info("[HQ→USER FCM] {} status={}", path, res.getStatusCode());
-        } catch (Exception e) {
-            log.warn("[HQ→USER FCM] call failed path={}", path, e);
-        }
+        var res = restClient
+                .post()
+                .uri(userApiBase + path)
+                .retrieve()
+                .toBodilessEntity();
+        log.info("[HQ→USER FCM] {} status={}", path, res.getStatusCode());
     }
 }
@@ -7,31 +7,23 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 공지 저장 이벤트를 아웃박스에 기록하는 리스너.
+ *
+ * <p>커밋 직전(BEFORE_COMMIT)에 공지와 같은 트랜잭션으로 아웃박스 행을 남긴다.
+ * 사용자 앱 호출은 {@link NoticeFcmOutboxService#dispatchDue()}가 별도로 수행하므로
+ * 공지 저장 요청은 원격 호출을 기다리지 않는다.</p>
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NoticeFcmEventListener {
 
-    private final HqNoticeFcmBridgeService hqNoticeFcmBridgeService;
+    private final NoticeFcmOutboxService outboxService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onNoticeEvent(NoticeFcmEvent event) {
-        Long noticeId = event.getNoticeId();
-
-        try {
-            switch (event.getType()) {
-                case CREATED -> {
-                    log.info("[NoticeFcmEventListener] AFTER_COMMIT created noticeId={}", noticeId);
-                    hqNoticeFcmBridgeService.afterNoticeCreated(noticeId);
-                }
-                case UPDATED -> {
-                    log.info("[NoticeFcmEventListener] AFTER_COMMIT updated noticeId={}", noticeId);
-                    hqNoticeFcmBridgeService.afterNoticeUpdated(noticeId);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("[NoticeFcmEventListener] bridge call failed noticeId={} type={}",
-                    noticeId, event.getType(), e);
-        }
+        log.info("[NoticeFcmEventListener] outbox {} noticeId={}", event.getType(), event.getNoticeId());
+        outboxService.enqueue(event);
     }
 }
@@ -0,0 +1,187 @@
+package com.boot.ict05_final_admin.domain.fcm.service;
+
+import com.boot.ict05_final_admin.domain.fcm.config.NoticeOutboxProperties;
+import com.boot.ict05_final_admin.domain.fcm.dto.NoticeFcmEvent;
+import com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox;
+import com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox.Status;
+import com.boot.ict05_final_admin.domain.fcm.repository.NoticeFcmOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공지 알림 아웃박스 서비스.
+ *
+ * <p>공지 저장 트랜잭션에서 아웃박스 행을 기록하고({@link #enqueue}), 디스패처가 커밋된 행을
+ * 묶음 단위로 사용자 앱에 전달한다({@link #dispatchDue}).</p>
+ *
+ * <ul>
+ *   <li>병합: 같은 공지의 대기 행이 이미 있으면 새로 기록하지 않는다(CREATED 대기 중이면 UPDATED도 흡수).
+ *       디스패치 시에도 같은 공지의 대기 행은 한 번만 호출한다.</li>
+ *   <li>재시도: 실패하면 {@code backoff-base-ms × 2^(시도-1)}(상한 {@code backoff-max-ms}) 뒤에 다시 시도하고,
+ *       {@code max-attempts}에 도달하면 DEAD로 남긴다.</li>
+ *   <li>선점: 여러 노드가 같은 행을 꺼내도 조건부 UPDATE(PENDING → SENDING)에 성공한 노드만 전달한다.
+ *       선점은 공지 단위로 호출 직전에 하고, {@code lease-ms}가 지나도록 끝나지 않은 행은 다음 실행에서
+ *       대기로 되돌린다.</li>
+ *   <li>원격 호출은 트랜잭션 밖에서 수행하고, 결과 반영만 짧게 저장한다.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NoticeFcmOutboxService {
+
+    private final NoticeFcmOutboxRepository outboxRepository;
+    private final HqNoticeFcmBridgeService bridgeService;
+    private final NoticeOutboxProperties props;
+
+    /**
+     * 공지 이벤트를 아웃박스에 기록한다(호출자 트랜잭션 참여).
+     *
+     * @param event 공지 이벤트
+     */
+    @Transactional
+    public void enqueue(NoticeFcmEvent event) {
+        List<NoticeFcmOutbox> pending = outboxRepository.findByNoticeIdFkAndStatus(event.getNoticeId(), Status.PENDING);
+        for (NoticeFcmOutbox row : pending) {
+            // CREATED 대기 중이면 이후 UPDATED는 흡수, 같은 유형은 중복
+            if (row.getEventType() == NoticeFcmEvent.Type.CREATED || row.getEventType() == event.getType()) {
+                log.debug("[NoticeOutbox] coalesced noticeId={} type={} into id={}",
+                        event.getNoticeId(), event.getType(), row.getNoticeFcmOutboxId());
+                return;
+            }
+        }
+        outboxRepository.save(NoticeFcmOutbox.builder()
+                .noticeIdFk(event.getNoticeId())
+                .eventType(event.getType())
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 시도 시각이 된 대기 행을 묶음 단위로 전달한다.
+     *
+     * <p>한 묶음이 가득 찼으면 다음 묶음을 이어서 처리한다. 실패한 행은 다음 시도 시각이 미래로
+     * 밀리므로 같은 실행에서 다시 꺼내지지 않고, 다른 노드가 선점한 행은 SENDING이라 다시 조회되지 않는다.</p>
+     *
+     * @return 전달 성공한 공지 호출 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dispatchDue() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        int delivered = 0;
+        int released = outboxRepository.releaseExpiredLeases(LocalDateTime.now());
+        if (released > 0) log.warn("[NoticeOutbox] released {} expired leases", released);
+
+        while (true) {
+            List<NoticeFcmOutbox> due = outboxRepository
+                    .findByStatusAndNextAttemptAtLessThanEqualOrderByNoticeFcmOutboxIdAsc(
+                            Status.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (due.isEmpty()) break;
+
+            delivered += dispatch(due);
+            if (due.size() < batchSize) break;
+        }
+        return delivered;
+    }
+
+    /**
+     * 보관 기간이 지난 완료 행을 삭제한다.
+     *
+     * @return 삭제 행 수
+     */
+    public int purgeFinished() {
+        return outboxRepository.deleteFinished(Status.SENT,
+                LocalDateTime.now().minusDays(Math.max(1, props.getRetentionDays())));
+    }
+
+    private int dispatch(List<NoticeFcmOutbox> due) {
+        // 공지별로 묶어 한 번만 호출(CREATED가 있으면 CREATED로)
+        Map<Long, List<NoticeFcmOutbox>> byNotice = new LinkedHashMap<>();
+        for (NoticeFcmOutbox row : due) {
+            byNotice.computeIfAbsent(row.getNoticeIdFk(), k -> new ArrayList<>()).add(row);
+        }
+
+        int delivered = 0;
+        List<NoticeFcmOutbox> changed = new ArrayList<>(due.size());
+        for (Map.Entry<Long, List<NoticeFcmOutbox>> e : byNotice.entrySet()) {
+            List<NoticeFcmOutbox> rows = claim(e.getValue());
+            if (rows.isEmpty()) continue;
+            NoticeFcmEvent.Type type = rows.stream().anyMatch(r -> r.getEventType() == NoticeFcmEvent.Type.CREATED)
+                    ? NoticeFcmEvent.Type.CREATED : NoticeFcmEvent.Type.UPDATED;
+            try {
+                bridgeService.deliver(e.getKey(), type);
+                rows.forEach(r -> {
+                    r.setStatus(Status.SENT);
+                    r.setLeaseUntil(null);
+                    r.setAttempts(r.getAttempts() + 1);
+                    r.setLastError(null);
+                });
+                delivered++;
+            } catch (Exception ex) {
+                rows.forEach(r -> markFailed(r, ex));
+                log.warn("[NoticeOutbox] deliver failed noticeId={} type={} attempts={}: {}",
+                        e.getKey(), type, rows.get(0).getAttempts(), ex.getMessage());
+            }
+            changed.addAll(rows);
+        }
+        outboxRepository.saveAll(changed);
+        return delivered;
+    }
+
+    /**
+     * 행을 선점하고, 선점에 성공한 행만 돌려준다.
+     */
+    private List<NoticeFcmOutbox> claim(List<NoticeFcmOutbox> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(Math.max(1, props.getLeaseMs()) * 1_000_000L);
+        List<NoticeFcmOutbox> claimed = new ArrayList<>(rows.size());
+        for (NoticeFcmOutbox row : rows) {
+            if (outboxRepository.claim(row.getNoticeFcmOutboxId(), now, leaseUntil) == 1) {
+                row.setStatus(Status.SENDING);
+                row.setLeaseUntil(leaseUntil);
+                claimed.add(row);
+            } else {
+                log.debug("[NoticeOutbox] id={} claimed elsewhere", row.getNoticeFcmOutboxId());
+            }
+        }
+        return claimed;
+    }
+
+    private void markFailed(NoticeFcmOutbox row, Exception ex) {
+        int attempts = row.getAttempts() + 1;
+        row.setAttempts(attempts);
+        row.setLeaseUntil(null);
+        String msg = String.valueOf(ex.getMessage());
+        row.setLastError(msg.length() > 500 ? msg.substring(0, 500) : msg);
+        if (attempts >= Math.max(1, props.getMaxAttempts())) {
+            row.setStatus(Status.DEAD);
+            log.error("[NoticeOutbox] giving up noticeId={} type={} after {} attempts",
+                    row.getNoticeIdFk(), row.getEventType(), attempts);
+        } else {
+            row.setStatus(Status.PENDING);
+            row.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000L));
+        }
+    }
+
+    /**
+     * n번째 실패 뒤 대기 시간(ms): base × 2^(n-1), 상한 max.
+     */
+    long backoffMillis(int attempts) {
+        long base = Math.max(1, props.getBackoffBaseMs());
+        long max = Math.max(base, props.getBackoffMaxMs());
+        int shift = Math.min(30, Math.max(0, attempts - 1));
+        return Math.min(max, base << shift);
+    }
+}
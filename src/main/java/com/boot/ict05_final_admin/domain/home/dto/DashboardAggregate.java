@@ -0,0 +1,21 @@
+package com.boot.ict05_final_admin.domain.home.dto;
+
+import java.util.List;
+
+/**
+ * 대시보드 일괄 집계 결과 ({@link DashboardWindows}의 모든 구간을 한 번에 계산)
+ * - weeklyValues : 이번 주 월~일 7칸(데이터 없는 요일은 0)
+ * - topStores    : 이번 달 매출 상위 매장(전월 매출/증감률 포함), 매출 내림차순
+ */
+public record DashboardAggregate(
+        long revenueThisMonth,
+        long orderCountThisMonth,
+        int  activeStores,
+        long curMtdRevenue,
+        long prevMtdRevenue,
+        List<Point<Long>> salesByMonth,
+        List<Long> weeklyValues,
+        List<Point<Long>> logisticsByMonth,
+        List<StoreGrowth> topStores
+) {
+}
@@ -0,0 +1,24 @@
+package com.boot.ict05_final_admin.domain.home.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 집계 기간 묶음 (모든 구간은 [from, to) 반개구간)
+ * - month      : 이번 달 [monthStart, nextMonthStart)
+ * - prevMonth  : 전월 [prevMonthStart, monthStart) — 매장별 증감률 비교용
+ * - sixMonths  : 최근 6개월 [sixMonthsStart, nextMonthStart) — 월별/물류 차트
+ * - week       : 이번 주 [weekStart, weekStart + 7일) — 주간 차트
+ * - curMtd     : 이번 달 누적 [monthStart, curMtdTo)
+ * - prevMtd    : 전월 동기간 누적 [prevMonthStart, prevMtdTo)
+ */
+public record DashboardWindows(
+        LocalDateTime monthStart,
+        LocalDateTime nextMonthStart,
+        LocalDateTime prevMonthStart,
+        LocalDateTime sixMonthsStart,
+        LocalDateTime weekStart,
+        LocalDateTime curMtdTo,
+        LocalDateTime prevMtdTo,
+        int topLimit
+) {
+}
@@ -42,4 +42,8 @@ public interface HomeRepositoryCustom {
 
     // 8) 존재 월/주 목록(차트 축 고정용)
     List<YearMonth> existingMonths(LocalDateTime from, LocalDateTime to);
+
+    // 9) 대시보드 일괄 집계: 1)~6)의 모든 구간을 주문 2회 스캔(일자별/매장별 조건부 합계) + 물류 1회로 계산
+    DashboardAggregate dashboardAggregate(DashboardWindows windows,
+                                          @Nullable Set<Long> storeIds);
 }
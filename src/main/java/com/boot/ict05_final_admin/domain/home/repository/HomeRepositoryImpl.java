@@ -1,5 +1,6 @@
 package com.boot.ict05_final_admin.domain.home.repository;
 
+import com.boot.ict05_final_admin.common.concurrent.ParallelQueryExecutor;
 import com.boot.ict05_final_admin.domain.home.dto.*;
 import com.boot.ict05_final_admin.domain.order.entity.QCustomerOrder;
 import com.boot.ict05_final_admin.domain.receiveOrder.entity.QReceiveOrder;
@@ -15,19 +16,25 @@ import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 @Repository
 @RequiredArgsConstructor
 public class HomeRepositoryImpl implements HomeRepositoryCustom{
 
     private final JPAQueryFactory QueryFactory;
+    private final ParallelQueryExecutor parallel;
 
     private static final QStore store = QStore.store;
     private static final QCustomerOrder customerOrder = QCustomerOrder.customerOrder;
@@ -385,6 +392,138 @@ public class HomeRepositoryImpl implements HomeRepositoryCustom{
 
     }
 
+    // 조건부 합계: SUM(CASE WHEN cond THEN total_price ELSE 0 END)
+    private NumberExpression<BigDecimal> sumIf(BooleanExpression cond) {
+        return new CaseBuilder()
+                .when(cond).then(customerOrder.totalPrice)
+                .otherwise(Expressions.constant(BigDecimal.ZERO))
+                .sum();
+    }
+
+    // 조건부 건수: SUM(CASE WHEN cond THEN 1 ELSE 0 END)
+    private NumberExpression<Long> countIf(BooleanExpression cond) {
+        return Expressions.numberTemplate(Long.class, "SUM(CASE WHEN {0} THEN 1 ELSE 0 END)", cond);
+    }
+
+    private static long toLong(@Nullable BigDecimal v) {
+        return v == null ? 0L : v.longValue();
+    }
+
+    /**
+     * 대시보드 일괄 집계
+     * - 스캔 1: 일자별 합계/건수 + 누적(MTD) 구간 조건부 합계 → KPI·월별·주간 차트
+     * - 스캔 2: 매장별 이번 달/전월 조건부 합계 → 활성 매장 수·상위 매장·증감률
+     * - 물류:   receive_order 월별 합계(기존 logisticsByMonth)
+     */
+    @Override
+    public DashboardAggregate dashboardAggregate(DashboardWindows w, @Nullable Set<Long> storeIds) {
+        LocalDateTime weekEnd  = w.weekStart().plusDays(7);
+        LocalDateTime scanFrom = w.sixMonthsStart().isBefore(w.weekStart()) ? w.sixMonthsStart() : w.weekStart();
+        LocalDateTime scanTo   = w.nextMonthStart().isAfter(weekEnd) ? w.nextMonthStart() : weekEnd;
+
+        // 스캔 1) 일자 버킷
+        StringExpression day = ymdKey(customerOrder.orderedAt);
+        NumberExpression<BigDecimal> daySum  = customerOrder.totalPrice.sum();
+        NumberExpression<Long>       dayCnt  = customerOrder.id.count();
+        NumberExpression<BigDecimal> curMtd  = sumIf(range(customerOrder.orderedAt, w.monthStart(), w.curMtdTo()));
+        NumberExpression<BigDecimal> prevMtd = sumIf(range(customerOrder.orderedAt, w.prevMonthStart(), w.prevMtdTo()));
+
+        // 스캔 2) 매장 버킷: 이번 달 / 전월
+        BooleanExpression inMonth = range(customerOrder.orderedAt, w.monthStart(), w.nextMonthStart());
+        BooleanExpression inPrev  = range(customerOrder.orderedAt, w.prevMonthStart(), w.monthStart());
+        NumberExpression<BigDecimal> curSum  = sumIf(inMonth);
+        NumberExpression<BigDecimal> prevSum = sumIf(inPrev);
+        NumberExpression<Long>       curCnt  = countIf(inMonth);
+
+        // 세 스캔(일자/매장/물류)은 서로 독립 → 동시에 실행
+        List<Tuple> days, stores;
+        List<Point<Long>> logistics;
+        try (var scope = parallel.scope()) {
+            var daysTask = scope.fork(() -> QueryFactory
+                    .select(day, daySum, dayCnt, curMtd, prevMtd)
+                    .from(customerOrder)
+                    .where(
+                            range(customerOrder.orderedAt, scanFrom, scanTo),
+                            storeFilter(storeIds, customerOrder.store.id)
+                    )
+                    .groupBy(day)
+                    .orderBy(day.asc())
+                    .fetch());
+            var storesTask = scope.fork(() -> QueryFactory
+                    .select(store.id, store.name, curSum, prevSum, curCnt)
+                    .from(customerOrder)
+                    .join(customerOrder.store, store)
+                    .where(
+                            range(customerOrder.orderedAt, w.prevMonthStart(), w.nextMonthStart()),
+                            storeFilter(storeIds, store.id)
+                    )
+                    .groupBy(store.id, store.name)
+                    .fetch());
+            // 물류(월간)
+            var logisticsTask = scope.fork(() -> logisticsByMonth(w.sixMonthsStart(), w.nextMonthStart(), storeIds));
+            scope.join();
+            days = daysTask.get();
+            stores = storesTask.get();
+            logistics = logisticsTask.get();
+        }
+
+        LocalDate monthFrom = w.monthStart().toLocalDate();
+        LocalDate monthTo   = w.nextMonthStart().toLocalDate();
+        LocalDate sixFrom   = w.sixMonthsStart().toLocalDate();
+        LocalDate weekFrom  = w.weekStart().toLocalDate();
+
+        long revenueThisMonth = 0L, orderCountThisMonth = 0L, curMtdRevenue = 0L, prevMtdRevenue = 0L;
+        Map<String, Long> byMonth = new TreeMap<>();
+        List<Long> weekly = new ArrayList<>(Collections.nCopies(7, 0L));
+
+        for (Tuple t : days) {
+            LocalDate d = LocalDate.parse(t.get(day));
+            long sum = toLong(t.get(daySum));
+
+            if (!d.isBefore(monthFrom) && d.isBefore(monthTo)) {
+                revenueThisMonth += sum;
+                Long c = t.get(dayCnt);
+                orderCountThisMonth += c == null ? 0L : c;
+            }
+            if (!d.isBefore(sixFrom) && d.isBefore(monthTo)) {
+                byMonth.merge(YearMonth.from(d).toString(), sum, Long::sum);
+            }
+            long weekIdx = java.time.temporal.ChronoUnit.DAYS.between(weekFrom, d);
+            if (weekIdx >= 0 && weekIdx < 7) {
+                weekly.set((int) weekIdx, sum);
+            }
+            curMtdRevenue  += toLong(t.get(curMtd));
+            prevMtdRevenue += toLong(t.get(prevMtd));
+        }
+
+        List<Point<Long>> salesByMonth = byMonth.entrySet().stream()
+                .map(e -> toMonthPoint(e.getKey(), e.getValue()))
+                .toList();
+
+        int activeStores = 0;
+        List<StoreGrowth> ranked = new ArrayList<>();
+        for (Tuple t : stores) {
+            Long cnt = t.get(curCnt);
+            if (cnt == null || cnt == 0L) continue; // 이번 달 주문이 있는 매장만
+            activeStores++;
+            long cur  = toLong(t.get(curSum));
+            long prev = toLong(t.get(prevSum));
+            double pct = (prev > 0)
+                    ? ((cur - prev) * 100.0 / prev)
+                    : (cur > 0 ? 100.0 : 0.0);
+            ranked.add(new StoreGrowth(t.get(store.id), t.get(store.name), cur, prev, pct));
+        }
+        ranked.sort(Comparator.comparingLong(StoreGrowth::currentRevenue).reversed());
+        List<StoreGrowth> topStores = ranked.size() > w.topLimit() ? ranked.subList(0, w.topLimit()) : ranked;
+
+        return new DashboardAggregate(
+                revenueThisMonth, orderCountThisMonth, activeStores,
+                curMtdRevenue, prevMtdRevenue,
+                salesByMonth, weekly, logistics,
+                List.copyOf(topStores)
+        );
+    }
+
     @Override
     public List<YearMonth> existingMonths(LocalDateTime from, LocalDateTime to) {
         StringExpression bucket = monthKey(customerOrder.orderedAt);
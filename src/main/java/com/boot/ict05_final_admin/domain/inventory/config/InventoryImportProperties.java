@@ -0,0 +1,33 @@
+package com.boot.ict05_final_admin.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본사 일괄 입고(XLSX/CSV 업로드) 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>한 트랜잭션에서 저장할 행 수, 파일당 최대 행 수, 응답에 담을 최대 오류 수를 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "inventory.import")
+public class InventoryImportProperties {
+
+    /**
+     * 한 트랜잭션(청크)에서 저장할 유효 행 수.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 파일당 최대 데이터 행 수(헤더 제외). 넘는 행은 읽지 않고 오류로 보고한다.
+     */
+    private int maxRows = 50000;
+
+    /**
+     * 응답에 담을 최대 행 오류 수(초과분은 개수만 집계).
+     */
+    private int maxErrors = 1000;
+}
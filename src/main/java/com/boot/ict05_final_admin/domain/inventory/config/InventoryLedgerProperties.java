@@ -0,0 +1,39 @@
+package com.boot.ict05_final_admin.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본사 재고 원장(inventory_ledger) 백필 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>기존 {@code v_inventory_log} 이력을 원장으로 복사하는 백필 작업의 on/off, 기동 시 실행 여부,
+ * cron, 한 번에 복사할 원본 PK 구간 크기를 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "inventory.ledger")
+public class InventoryLedgerProperties {
+
+    /**
+     * 백필 스케줄러 활성화 여부.
+     */
+    private boolean backfillEnabled = false;
+
+    /**
+     * 애플리케이션 기동 직후 백필을 한 번 실행할지 여부(백필 스케줄러 활성화 시).
+     */
+    private boolean backfillOnStartup = true;
+
+    /**
+     * 백필 크론 표현식(기본: 매일 03:40). 완료 위치 이후 구간만 확인하며 중복 적재는 없다.
+     */
+    private String backfillCron = "0 40 3 * * *";
+
+    /**
+     * 한 트랜잭션에서 복사할 원본 PK 구간 크기.
+     */
+    private int backfillChunkSize = 5000;
+}
@@ -0,0 +1,39 @@
+package com.boot.ict05_final_admin.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본사 현재고 잔액(running balance) 대사 설정을 위한 프로퍼티 바인딩 클래스.
+ *
+ * <p>대사 스케줄러 on/off, cron, 불일치 자동 보정 여부와 로그 상한을 외부 설정으로 주입받는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "inventory.stock-ledger")
+public class StockLedgerProperties {
+
+    /**
+     * 대사 스케줄러 활성화 여부.
+     */
+    private boolean reconcileEnabled = false;
+
+    /**
+     * 대사 크론 표현식(기본: 매일 03:20).
+     */
+    private String reconcileCron = "0 20 3 * * *";
+
+    /**
+     * 불일치 발견 시 배치 합계로 잔액을 다시 맞출지 여부(false면 보고만 한다).
+     * 잔액 행이 없는 재료는 이 값과 관계없이 시드한다.
+     */
+    private boolean autoRepair = false;
+
+    /**
+     * 한 번의 대사에서 상세 로그로 남길 최대 불일치 건수.
+     */
+    private int driftLogLimit = 50;
+}
@@ -260,33 +260,41 @@ public class InventoryController {
     }
 
     /**
-     * 본사 재고 로그(JSON)를 필터로 페이징 조회한다.
+     * 본사 재고 로그(JSON)를 필터로 키셋 조회한다.
+     *
+     * <p>첫 요청은 커서 없이 호출하고, 이후에는 응답의 {@code nextCursorDate}/{@code nextCursorId}를
+     * 그대로 넘긴다. OFFSET/COUNT가 없어 깊은 위치에서도 응답 시간이 일정하다.</p>
      *
      * @param materialId 재료 ID
      * @param type       구분(입고/출고/조정) 문자열, null 가능
      * @param startDate  시작일(yyyy-MM-dd), null 가능
      * @param endDate    종료일(yyyy-MM-dd), null 가능
-     * @param page       페이지 번호(0-base)
-     * @param size       페이지 크기
-     * @return 로그 페이지
+     * @param cursorDate 직전 응답의 다음 커서 일시, null 가능
+     * @param cursorId   직전 응답의 다음 커서 로그 ID, null 가능
+     * @param size       조각 크기(최대 500)
+     * @return 로그 조각
      */
     @GetMapping("/logs")
     @ResponseBody
-    public Page<InventoryLogDTO> logs(@RequestParam Long materialId,
-                                      @RequestParam(required = false) String type,
-                                      @RequestParam(required = false)
-                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-                                      @RequestParam(required = false)
-                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-                                      @RequestParam(defaultValue = "0") int page,
-                                      @RequestParam(defaultValue = "10") int size) {
-
-        return inventoryLogViewService.getFilteredLogs(
+    public InventoryLogSliceDTO logs(@RequestParam Long materialId,
+                                     @RequestParam(required = false) String type,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                     @RequestParam(required = false) Long cursorId,
+                                     @RequestParam(defaultValue = "10") int size) {
+
+        return inventoryLogViewService.getLogSlice(
                 materialId,
                 type,
                 startDate,
                 endDate,
-                PageRequest.of(page, size)
+                cursorDate,
+                cursorId,
+                size
         );
     }
 
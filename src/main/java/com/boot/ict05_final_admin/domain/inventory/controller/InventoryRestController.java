@@ -1,5 +1,8 @@
 package com.boot.ict05_final_admin.domain.inventory.controller;
 
+import com.boot.ict05_final_admin.common.export.ExportJob;
+import com.boot.ict05_final_admin.common.export.ExportJobDTO;
+import com.boot.ict05_final_admin.common.export.ExportJobService;
 import com.boot.ict05_final_admin.domain.inventory.dto.*;
 import com.boot.ict05_final_admin.domain.inventory.service.*;
 import com.boot.ict05_final_admin.domain.inventory.utility.ExcelFilename;
@@ -12,8 +15,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -22,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * 본사 재고 관련 REST API 컨트롤러.
@@ -48,11 +55,13 @@ public class InventoryRestController {
 
     private final InventoryService inventoryService;
     private final InventoryInService inventoryInService;
+    private final InventoryInImportService inventoryInImportService;
     private final InventoryOutService inventoryOutService;
     private final InventoryBatchService inventoryBatchService;
     private final InventoryAdjustmentService inventoryAdjustmentService;
     private final UnitPriceService unitPriceService;
     private final MaterialService materialService;
+    private final ExportJobService exportJobService;
 
     // -------------------- Out --------------------
 
@@ -83,6 +92,20 @@ public class InventoryRestController {
         return ResponseEntity.ok(plan);
     }
 
+    /**
+     * 여러 재료의 출고 미리보기를 한 번에 수행한다(FIFO).
+     *
+     * <p>수주 상세/배송 계획 화면에서 여러 라인을 함께 미리볼 때 사용한다.
+     * 재고가 부족한 라인도 가능한 만큼 분할하고, 라인별/재료별 부족 수량을 함께 반환한다.</p>
+     *
+     * @param req 출고 라인 목록(재료 ID, 수량)
+     * @return 라인별 분할과 재료별 부족 수량
+     */
+    @PostMapping("/inventory/out/preview/batch")
+    public InventoryOutBatchPreviewDTO previewOutBatch(@RequestBody InventoryOutBatchPreviewRequest req) {
+        return inventoryOutService.previewFifoBatch(req);
+    }
+
     /**
      * 출고를 확정한다(배치 할당 포함, FIFO).
      *
@@ -119,6 +142,21 @@ public class InventoryRestController {
         return inventoryInService.insertInventoryIn(dto);
     }
 
+    /**
+     * 본사 입고를 XLSX/CSV 파일로 일괄 등록한다.
+     *
+     * <p>첫 행은 헤더(materialCode 또는 materialId, quantity, unitPrice, expirationDate 필수)이며,
+     * 검증에 실패한 행은 건너뛰고 파일 행 번호와 사유를 결과에 담는다.</p>
+     *
+     * @param file 업로드 파일(.xlsx, .csv)
+     * @return 일괄 입고 결과
+     * @throws IOException 파일을 읽을 수 없을 때
+     */
+    @PostMapping(value = "/inventory/in/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public InventoryInImportResultDTO importInventoryIn(@RequestParam("file") MultipartFile file) throws IOException {
+        return inventoryInImportService.importFile(file);
+    }
+
     // -------------------- Adjustment --------------------
 
     /**
@@ -182,14 +220,14 @@ public class InventoryRestController {
      *
      * @param searchDTO 검색 조건(재료명, 상태 등)
      * @param pageable  페이징 정보(정렬 힌트로도 사용)
-     * @return Excel 파일 바이너리 응답
-     * @throws IOException 워크북 생성/쓰기 오류
+     * @return Excel 파일 스트리밍 응답
      */
     @GetMapping("/inventory/download")
     @Operation(summary = "재고 목록 엑셀 다운로드", description = "재고 목록을 Excel 파일로 다운로드합니다.")
-    public ResponseEntity<byte[]> downloadInventory(InventorySearchDTO searchDTO, Pageable pageable) throws IOException {
-        byte[] xlsx = inventoryService.downloadExcel(searchDTO, pageable);
-        return ExcelResponse.ok(xlsx, ExcelFilename.hqInventory());
+    public ResponseEntity<StreamingResponseBody> downloadInventory(InventorySearchDTO searchDTO, Pageable pageable) {
+        return ExcelResponse.stream(
+                out -> inventoryService.writeExcel(searchDTO, pageable, out),
+                ExcelFilename.hqInventory());
     }
 
     /**
@@ -229,6 +267,43 @@ public class InventoryRestController {
         return ExcelResponse.ok(xlsx, ExcelFilename.inventoryLogByName(materialName));
     }
 
+    /**
+     * 재고 로그 전체 엑셀 비동기 내보내기 API.
+     *
+     * <p>페이지와 무관하게 필터에 맞는 전체 로그를 내보내기 작업 큐에서 생성한다.
+     * 같은 조건의 파일이 캐시 TTL 안에 있으면 DB 조회 없이 완료 상태로 응답한다.
+     * 진행률/다운로드는 {@code /API/export/jobs/{jobId}}를 사용한다.</p>
+     *
+     * @param materialId 재료 ID
+     * @param type       로그 유형(INCOME/OUTGO/ADJUST 등), 선택
+     * @param startDate  시작일(포함, ISO yyyy-MM-dd), 선택
+     * @param endDate    종료일(포함, ISO yyyy-MM-dd), 선택
+     * @return 202 Accepted + 작업 상태
+     */
+    @Operation(summary = "본사 재고 로그 엑셀 비동기 내보내기", description = "재료별 전체 재고 로그 엑셀 생성을 작업 큐에 제출합니다.")
+    @PostMapping("/inventory/{materialId}/log/export")
+    public ResponseEntity<ExportJobDTO> exportInventoryLog(@PathVariable Long materialId,
+                                                           @RequestParam(required = false) String type,
+                                                           @RequestParam(required = false)
+                                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                           @RequestParam(required = false)
+                                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        String materialName = Optional.ofNullable(materialService.findById(materialId))
+                .map(m -> m.getName())
+                .orElse(null);
+
+        Map<String, Object> params = new TreeMap<>();
+        params.put("materialId", materialId);
+        params.put("type", type);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+
+        ExportJob job = exportJobService.submit("inventory-log-xlsx", params,
+                ExcelFilename.inventoryLogByName(materialName),
+                out -> inventoryService.writeLogExcel(materialId, type, startDate, endDate, out));
+        return ResponseEntity.accepted().body(ExportJobDTO.from(job));
+    }
+
     /**
      * 본사 재고 배치(LOT) 엑셀 다운로드 API.
      *
@@ -19,8 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -168,19 +168,18 @@ public class MaterialRestController {
      *
      * @param searchDTO 검색 조건 (이름·코드·카테고리·상태 등)
      * @param pageable  페이징/정렬 정보 (정렬 조건 힌트로도 사용)
-     * @return 재료 목록 Excel 파일(XLSX) 바이너리 응답
-     * @throws IOException 워크북 생성/쓰기 중 발생한 I/O 오류
+     * @return 재료 목록 Excel 파일(XLSX) 스트리밍 응답
      */
     @GetMapping("/download")
     @Operation(
             summary = "재료 목록 엑셀 다운로드",
             description = "검색 조건과 정렬 정보가 반영된 재료 목록을 Excel 파일(XLSX)로 다운로드합니다."
     )
-    public ResponseEntity<byte[]> downloadMaterial(MaterialSearchDTO searchDTO,
-                                                   Pageable pageable)
-            throws IOException {
-        byte[] xlsx = materialService.downloadExcel(searchDTO, pageable);
-        return ExcelResponse.ok(xlsx, ExcelFilename.hqMaterial());
+    public ResponseEntity<StreamingResponseBody> downloadMaterial(MaterialSearchDTO searchDTO,
+                                                                  Pageable pageable) {
+        return ExcelResponse.stream(
+                out -> materialService.writeExcel(searchDTO, pageable, out),
+                ExcelFilename.hqMaterial());
     }
 
     /**
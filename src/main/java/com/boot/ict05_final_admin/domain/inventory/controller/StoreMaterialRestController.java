@@ -13,8 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.io.IOException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 가맹점 재료 REST API 컨트롤러.
@@ -65,17 +64,16 @@ public class StoreMaterialRestController {
      * @param searchDTO 검색 조건
      * @param pageable  페이징/정렬 정보(정렬 힌트)
      * @param storeId   가맹점 ID(선택, null이면 전체)
-     * @return XLSX 바이너리 응답(적절한 Content-Disposition 포함)
-     * @throws IOException 워크북 생성/쓰기 중 I/O 오류
+     * @return XLSX 스트리밍 응답(적절한 Content-Disposition 포함)
      */
     @GetMapping("/download")
     @Operation(summary = "가맹점 재료 목록 엑셀 다운로드")
-    public ResponseEntity<byte[]> downloadStoreMaterial(final StoreMaterialSearchDTO searchDTO,
-                                                        final Pageable pageable,
-                                                        @RequestParam(required = false) final Long storeId)
-            throws IOException {
-        byte[] xlsx = storeMaterialService.downloadExcel(searchDTO, pageable);
+    public ResponseEntity<StreamingResponseBody> downloadStoreMaterial(final StoreMaterialSearchDTO searchDTO,
+                                                                       final Pageable pageable,
+                                                                       @RequestParam(required = false) final Long storeId) {
         String storeName = (storeId == null) ? null : storeNameResolver.resolveOrFallback(storeId);
-        return ExcelResponse.ok(xlsx, ExcelFilename.storeMaterial(storeName));
+        return ExcelResponse.stream(
+                out -> storeMaterialService.writeExcel(searchDTO, pageable, out),
+                ExcelFilename.storeMaterial(storeName));
     }
 }
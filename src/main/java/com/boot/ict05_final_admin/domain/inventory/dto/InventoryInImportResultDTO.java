@@ -0,0 +1,62 @@
+package com.boot.ict05_final_admin.domain.inventory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 본사 일괄 입고 결과 DTO.
+ *
+ * <p>저장 성공/실패 행 수와 행 단위 오류(파일 기준 행 번호)를 담는다.
+ * 오류는 {@code inventory.import.max-errors}건까지만 담고, 나머지는 {@code failedRows}에만 집계한다.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "InventoryInImportResultDTO", description = "본사 일괄 입고 결과")
+public class InventoryInImportResultDTO {
+
+    /** 읽은 데이터 행 수(헤더 제외) */
+    @Schema(description = "읽은 데이터 행 수", example = "1200")
+    private int totalRows;
+
+    /** 저장된 행 수 */
+    @Schema(description = "저장된 행 수", example = "1195")
+    private int importedRows;
+
+    /** 실패한 행 수 */
+    @Schema(description = "실패한 행 수", example = "5")
+    private int failedRows;
+
+    /** 처리 시간(ms) */
+    @Schema(description = "처리 시간(ms)", example = "840")
+    private long elapsedMs;
+
+    /** 행 오류(파일 행 번호 순) */
+    @Schema(description = "행 오류")
+    private List<RowError> errors;
+
+    /** 행 오류가 잘렸는지 여부 */
+    @Schema(description = "행 오류 목록 잘림 여부", example = "false")
+    private boolean errorsTruncated;
+
+    /**
+     * 행 오류.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Schema(name = "InventoryInImportRowError", description = "일괄 입고 행 오류")
+    public static class RowError {
+
+        /** 파일 기준 행 번호(헤더 = 1) */
+        @Schema(description = "파일 기준 행 번호", example = "17")
+        private int row;
+
+        /** 오류 사유 */
+        @Schema(description = "오류 사유", example = "quantity must be > 0")
+        private String message;
+    }
+}
@@ -0,0 +1,38 @@
+package com.boot.ict05_final_admin.domain.inventory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 로그 키셋 조회 응답 DTO.
+ *
+ * <p>전체 건수/페이지 번호 없이 "다음 조각"만 표현한다. 다음 요청에는
+ * {@code nextCursorDate}, {@code nextCursorId}를 그대로 커서로 넘긴다.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "InventoryLogSliceDTO", description = "재고 로그 키셋 조회 결과")
+public class InventoryLogSliceDTO {
+
+    /** 로그 행(일시 DESC, 로그 ID DESC) */
+    @Schema(description = "로그 행")
+    private List<InventoryLogDTO> content;
+
+    /** 다음 조각 존재 여부 */
+    @Schema(description = "다음 조각 존재 여부", example = "true")
+    private boolean hasNext;
+
+    /** 다음 요청 커서: 마지막 행의 로그 일시(다음 조각이 없으면 null) */
+    @Schema(description = "다음 커서 일시", example = "2025-11-10T13:45:12")
+    private LocalDateTime nextCursorDate;
+
+    /** 다음 요청 커서: 마지막 행의 로그 ID(다음 조각이 없으면 null) */
+    @Schema(description = "다음 커서 로그 ID", example = "1000000123")
+    private Long nextCursorId;
+}
@@ -63,7 +63,7 @@ public class InventoryLotDetailDTO {
     private BigDecimal unitPrice;
 
     // ---------- 로그 팝업 상단 표시용(선택) ----------
-    /** 연동된 로그 ID (v_inventory_log 에서 전달되는 경우 세팅) */
+    /** 연동된 로그 ID (재고 원장 합성 ID가 전달되는 경우 세팅) */
     private Long logId;
 
     /** 로그 유형(예: "INCOME", "OUTGO") */
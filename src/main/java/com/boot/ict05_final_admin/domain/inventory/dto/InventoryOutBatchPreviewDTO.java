@@ -0,0 +1,88 @@
+package com.boot.ict05_final_admin.domain.inventory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 출고 FIFO 일괄 미리보기 결과 DTO.
+ *
+ * <p>라인별 배치 분할과 재료별 부족 수량을 담는다. 재고가 부족해도 오류로 처리하지 않고
+ * 가능한 만큼 분할한 결과와 부족 수량을 함께 돌려준다.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "InventoryOutBatchPreviewDTO", description = "출고 FIFO 일괄 미리보기 결과")
+public class InventoryOutBatchPreviewDTO {
+
+    /** 모든 라인을 현재고로 충족할 수 있는지 여부 */
+    @Schema(description = "전체 충족 가능 여부", example = "false")
+    private boolean fulfillable;
+
+    /** 라인별 분할(요청 라인과 같은 순서) */
+    @Schema(description = "라인별 분할")
+    private List<Line> lines;
+
+    /** 재료별 요청/가용/부족 수량(재료 ID 순) */
+    @Schema(description = "재료별 합계")
+    private List<MaterialSummary> materials;
+
+    /**
+     * 라인 한 건의 분할.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Schema(name = "InventoryOutBatchPreviewLine", description = "출고 FIFO 일괄 미리보기 라인 결과")
+    public static class Line {
+
+        /** 재료 ID */
+        @Schema(description = "재료 ID", example = "12")
+        private Long materialId;
+
+        /** 요청 수량 */
+        @Schema(description = "요청 수량", example = "30.000")
+        private BigDecimal qty;
+
+        /** 분할된 수량 */
+        @Schema(description = "분할된 수량", example = "25.000")
+        private BigDecimal plannedQty;
+
+        /** 부족 수량(요청 - 분할) */
+        @Schema(description = "부족 수량", example = "5.000")
+        private BigDecimal shortageQty;
+
+        /** 배치별 출고 분할(FIFO 순) */
+        @Schema(description = "배치별 출고 분할")
+        private List<InventoryOutPreviewItemDTO> plan;
+    }
+
+    /**
+     * 재료 한 건의 합계.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Schema(name = "InventoryOutBatchPreviewMaterial", description = "출고 FIFO 일괄 미리보기 재료 합계")
+    public static class MaterialSummary {
+
+        /** 재료 ID */
+        @Schema(description = "재료 ID", example = "12")
+        private Long materialId;
+
+        /** 라인 요청 합계 */
+        @Schema(description = "요청 합계", example = "30.000")
+        private BigDecimal requestedQty;
+
+        /** 본사 LOT 가용 합계 */
+        @Schema(description = "가용 합계", example = "25.000")
+        private BigDecimal availableQty;
+
+        /** 부족 수량(0 이상) */
+        @Schema(description = "부족 수량", example = "5.000")
+        private BigDecimal shortageQty;
+    }
+}
@@ -0,0 +1,44 @@
+package com.boot.ict05_final_admin.domain.inventory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 출고 FIFO 일괄 미리보기 요청 DTO.
+ *
+ * <p>여러 재료(여러 수주의 상세 라인)의 출고 수량을 한 번에 받는다.
+ * 같은 재료가 여러 라인에 나오면 라인 순서대로 FIFO 후보를 이어서 소진한다(출고 확정과 같은 규칙).</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "InventoryOutBatchPreviewRequest", description = "출고 FIFO 일괄 미리보기 요청")
+public class InventoryOutBatchPreviewRequest {
+
+    /** 출고 라인(응답 라인과 같은 순서) */
+    @Schema(description = "출고 라인")
+    private List<Item> items;
+
+    /**
+     * 출고 라인.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "InventoryOutBatchPreviewItem", description = "출고 FIFO 일괄 미리보기 라인")
+    public static class Item {
+
+        /** 재료 ID */
+        @Schema(description = "재료 ID", example = "12")
+        private Long materialId;
+
+        /** 출고 수량(DECIMAL(15,3)) */
+        @Schema(description = "출고 수량", example = "30.000")
+        private BigDecimal qty;
+    }
+}
@@ -0,0 +1,36 @@
+package com.boot.ict05_final_admin.domain.inventory.dto;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 단가 이력 변경 이벤트.
+ *
+ * <p>커밋 이후 단가 캐시에 반영된다.</p>
+ * <ul>
+ *   <li>{@code points}: 저장/수정된 행(캐시에 그대로 기록)</li>
+ *   <li>{@code evictMaterialIds}: 행 ID를 모르는 일괄 삽입 등 — 해당 재료 이력을 버리고 다음 조회 때 다시 적재</li>
+ * </ul>
+ */
+@Getter
+public class UnitPriceChangedEvent {
+
+    private final List<UnitPricePoint> points;
+    private final Set<Long> evictMaterialIds;
+
+    private UnitPriceChangedEvent(List<UnitPricePoint> points, Collection<Long> evictMaterialIds) {
+        this.points = List.copyOf(points);
+        this.evictMaterialIds = Set.copyOf(evictMaterialIds);
+    }
+
+    public static UnitPriceChangedEvent written(List<UnitPricePoint> points) {
+        return new UnitPriceChangedEvent(points, Set.of());
+    }
+
+    public static UnitPriceChangedEvent evict(Collection<Long> materialIds) {
+        return new UnitPriceChangedEvent(List.of(), materialIds);
+    }
+}
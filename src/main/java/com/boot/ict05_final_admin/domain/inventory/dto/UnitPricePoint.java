@@ -0,0 +1,42 @@
+package com.boot.ict05_final_admin.domain.inventory.dto;
+
+import com.boot.ict05_final_admin.domain.inventory.entity.UnitPrice;
+import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 단가 이력 한 행의 불변 스냅샷(단가 캐시 저장 단위).
+ *
+ * @param id            단가 ID
+ * @param materialId    재료 ID
+ * @param type          단가 구분
+ * @param purchasePrice 매입 단가
+ * @param sellingPrice  판매 단가
+ * @param validFrom     적용 시작일시
+ * @param validTo       적용 종료일시(NULL = 오픈엔드)
+ */
+public record UnitPricePoint(Long id,
+                             Long materialId,
+                             UnitPriceType type,
+                             BigDecimal purchasePrice,
+                             BigDecimal sellingPrice,
+                             LocalDateTime validFrom,
+                             LocalDateTime validTo) {
+
+    public static UnitPricePoint of(UnitPrice up, Long materialId) {
+        return new UnitPricePoint(up.getId(), materialId, up.getType(), up.getPurchasePrice(),
+                up.getSellingPrice(), up.getValidFrom(), up.getValidTo());
+    }
+
+    /** 구분에 해당하는 단가(PURCHASE → 매입가, SELLING → 판매가) */
+    public BigDecimal price() {
+        return type == UnitPriceType.SELLING ? sellingPrice : purchasePrice;
+    }
+
+    /** 기준 시각 {@code t} 이후에도 유효한지(validTo &gt; t) */
+    public boolean openAfter(LocalDateTime t) {
+        return validTo == null || validTo.isAfter(t);
+    }
+}
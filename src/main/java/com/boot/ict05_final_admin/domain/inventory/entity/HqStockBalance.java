@@ -0,0 +1,56 @@
+package com.boot.ict05_final_admin.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 본사 재료별 현재고 잔액(running balance) 엔티티.
+ *
+ * <p>{@code hq_stock_balance}와 매핑되며, 본사 LOT({@code inventory_batch.store_id_fk IS NULL})
+ * 잔량 합계를 재료당 한 행으로 유지한다. 배치 수량을 바꾸는 입고/출고/조정 트랜잭션 안에서
+ * 같은 증감치를 원자적으로 반영하므로, 현재고 조회는 배치 이력 크기와 무관하게 PK 한 번으로 끝난다.</p>
+ *
+ * <p>변경 정책: 이 엔티티는 조회 전용으로 사용하고, 증감/재동기화는
+ * {@code HqStockBalanceRepository}의 원자적 네이티브 쿼리로만 수행한다.
+ * 배치 합계와의 일치 여부는 정기 대사 작업이 검증한다.</p>
+ */
+@Entity
+@Table(name = "hq_stock_balance")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HqStockBalance {
+
+    /** 재료 ID(PK, material.material_id) */
+    @Id
+    @Column(name = "material_id", columnDefinition = "BIGINT UNSIGNED")
+    @Comment("재료 ID")
+    private Long materialId;
+
+    /** 본사 LOT 잔량 합계(DECIMAL(15,3)) */
+    @Column(
+            name = "balance_quantity",
+            precision = 15, scale = 3, nullable = false,
+            columnDefinition = "DECIMAL(15,3) DEFAULT 0"
+    )
+    @Comment("본사 LOT 잔량 합계")
+    private BigDecimal quantity;
+
+    /** 마지막 증감 반영 일시 */
+    @Column(name = "updated_at", columnDefinition = "DATETIME")
+    @Comment("마지막 증감 반영 일시")
+    private LocalDateTime updatedAt;
+
+    /** 마지막으로 배치 합계로 재동기화(시드/보정)된 일시 */
+    @Column(name = "verified_at", columnDefinition = "DATETIME")
+    @Comment("마지막 재동기화 일시")
+    private LocalDateTime verifiedAt;
+}
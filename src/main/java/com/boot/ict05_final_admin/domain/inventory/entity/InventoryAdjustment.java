@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
  * 본사 재고 수량 조정 이력.
  *
  * <p>입출고 외 사유(분실, 파손, 오입력 등)로 재고를 직접 수정한 내역을 저장한다.
- * v_inventory_log 뷰와 UNION 되어 입출고 내역과 함께 조회된다.</p>
+ * 저장 시 재고 원장(inventory_ledger)에 함께 적재되어 입출고 내역과 함께 조회된다.</p>
  */
 @Entity
 @Table(name = "inventory_adjustment")
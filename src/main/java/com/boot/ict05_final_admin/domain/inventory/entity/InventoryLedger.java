@@ -0,0 +1,106 @@
+package com.boot.ict05_final_admin.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 본사 재고 원장(append-only) 엔티티.
+ *
+ * <p>{@code inventory_ledger}와 매핑되며, 입고/출고/조정 헤더가 저장되는 같은 트랜잭션에서
+ * 한 행씩 추가된다. 기존 {@code v_inventory_log} 뷰(UNION 합성)를 대체하는 로그 조회 원천으로,
+ * {@code (log_date, log_id)} 인덱스를 따라 키셋 페이징한다.</p>
+ *
+ * <p>필드 규칙:</p>
+ * <ul>
+ *   <li>{@code logId}: 유형 버킷이 가산된 합성 ID(PK, 뷰의 row_id와 같은 규칙, {@code InventoryLogIdUtil})</li>
+ *   <li>{@code sourceId}: 입고/출고/조정 원본 PK. {@code (log_type, source_id)} 유니크로 중복 적재 방지</li>
+ *   <li>{@code quantity}: 부호 포함 변동 수량(+입고, -출고, ±조정)</li>
+ *   <li>행은 수정하지 않는다. 원본 헤더가 삭제될 때만 함께 삭제된다.</li>
+ * </ul>
+ */
+@Entity
+@Table(
+        name = "inventory_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_source", columnNames = {"log_type", "source_id"}),
+        indexes = {
+                @Index(name = "ix_ledger_material_date", columnList = "material_id, log_date, log_id"),
+                @Index(name = "ix_ledger_material_type_date", columnList = "material_id, log_type, log_date, log_id"),
+                @Index(name = "ix_ledger_date", columnList = "log_date, log_id")
+        }
+)
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryLedger {
+
+    /** 합성 로그 ID(PK, 유형 버킷 + 원본 PK) */
+    @Id
+    @Column(name = "log_id", columnDefinition = "BIGINT UNSIGNED")
+    @Comment("합성 로그 ID")
+    private Long logId;
+
+    /** 원본 PK(입고/출고/조정 ID) */
+    @Column(name = "source_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    @Comment("원본 PK")
+    private Long sourceId;
+
+    /** 로그 유형: INCOME / OUTGO / ADJUST */
+    @Column(name = "log_type", nullable = false, length = 10)
+    @Comment("로그 유형")
+    private String type;
+
+    /** 로그 일시 */
+    @Column(name = "log_date", nullable = false, columnDefinition = "DATETIME")
+    @Comment("로그 일시")
+    private LocalDateTime date;
+
+    /** 재료 ID */
+    @Column(name = "material_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    @Comment("재료 ID")
+    private Long materialId;
+
+    /** 변동 수량(+입고, -출고, ±조정) */
+    @Column(name = "quantity", precision = 15, scale = 3, nullable = false)
+    @Comment("변동 수량")
+    private BigDecimal quantity;
+
+    /** 로그 반영 후 재고 */
+    @Column(name = "stock_after", precision = 15, scale = 3)
+    @Comment("반영 후 재고")
+    private BigDecimal stockAfter;
+
+    /** 단가(입고 단가 또는 출고 단가, 조정은 기준 시점 매입단가) */
+    @Column(name = "unit_price", precision = 15, scale = 3)
+    @Comment("단가")
+    private BigDecimal unitPrice;
+
+    /** 메모 */
+    @Column(name = "memo", length = 255)
+    @Comment("메모")
+    private String memo;
+
+    /** 가맹점 ID(본사 로그는 null) */
+    @Column(name = "store_id", columnDefinition = "BIGINT UNSIGNED")
+    @Comment("가맹점 ID")
+    private Long storeId;
+
+    /** LOT 상세용 배치 PK(입고, 증가 조정에서 세팅) */
+    @Column(name = "batch_id", columnDefinition = "BIGINT UNSIGNED")
+    @Comment("배치 ID")
+    private Long batchId;
+
+    /** 원장 적재 일시 */
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "DATETIME")
+    @Comment("적재 일시")
+    private LocalDateTime createdAt;
+}
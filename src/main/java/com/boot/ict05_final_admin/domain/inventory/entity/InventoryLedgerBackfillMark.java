@@ -0,0 +1,39 @@
+package com.boot.ict05_final_admin.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본사 재고 원장 백필 진행 위치.
+ *
+ * <p>로그 유형마다 백필이 끝난 원본 PK를 한 행으로 보관한다. 백필은 이 값 다음부터 이어서 복사하므로,
+ * 첫 전체 복사 이후에는 그 뒤에 생긴 구간만 확인한다.</p>
+ */
+@Entity
+@Table(name = "inventory_ledger_backfill")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryLedgerBackfillMark {
+
+    /** 로그 유형: INCOME / OUTGO / ADJUST */
+    @Id
+    @Column(name = "log_type", length = 10)
+    @Comment("로그 유형")
+    private String type;
+
+    /** 백필이 끝난 원본 PK(포함) */
+    @Column(name = "done_until", nullable = false)
+    @Comment("백필 완료 원본 PK")
+    private long doneUntil;
+
+    /** 마지막 갱신 시각 */
+    @Column(name = "updated_at", nullable = false)
+    @Comment("갱신 시각")
+    private LocalDateTime updatedAt;
+}
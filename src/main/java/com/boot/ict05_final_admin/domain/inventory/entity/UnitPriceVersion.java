@@ -0,0 +1,28 @@
+package com.boot.ict05_final_admin.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 단가 이력 버전
+ *
+ * 역할
+ * - 단가가 등록/수정될 때마다 1씩 증가하는 단일 행 카운터
+ * - 각 노드는 단가 캐시가 마지막으로 확인한 버전과 비교하여 다른 노드의 변경을 감지한다
+ */
+@Entity
+@Table(name = "unit_price_version")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class UnitPriceVersion {
+
+    /** 단일 행 식별자 (항상 1) */
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "unit_price_version_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+}
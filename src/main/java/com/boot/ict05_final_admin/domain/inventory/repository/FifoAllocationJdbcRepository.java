@@ -0,0 +1,141 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import com.boot.ict05_final_admin.domain.inventory.dto.FifoCandidateDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * FIFO 출고 할당용 JDBC 리포지토리.
+ *
+ * <p>
+ * 배치 후보를 {@code SELECT … FOR UPDATE}로 한 번에 잠가 읽고, 배치 잔량 차감과
+ * 출고-로트 생성을 JDBC 배치로 처리한다. 영속성 컨텍스트를 거치지 않으므로
+ * 호출 측은 같은 트랜잭션에서 해당 배치를 엔티티로 다시 읽어 수량을 판단하지 않아야 한다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class FifoAllocationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 본사 LOT 중 잔량이 남은 배치를 재료별 FIFO 순서로 잠가 조회한다.
+     *
+     * <p>정렬: 재료 ID ↑ → 입고일 ↑ → 배치 ID ↑. 모든 호출이 같은 순서로 행을 잠그므로
+     * 여러 재료를 동시에 출고하는 트랜잭션끼리 교착 상태가 생기지 않는다.</p>
+     *
+     * @param materialIds 재료 ID 목록(정렬된 순서 권장)
+     * @return 재료 ID → FIFO 후보 목록(후보가 없는 재료는 키 없음)
+     */
+    public Map<Long, List<FifoCandidateDTO>> lockHqCandidates(Collection<Long> materialIds) {
+        return queryHqCandidates(materialIds, true);
+    }
+
+    /**
+     * 본사 LOT 중 잔량이 남은 배치를 재료별 FIFO 순서로 조회한다(잠금 없음, 미리보기용).
+     *
+     * <p>정렬과 조건은 {@link #lockHqCandidates(Collection)}와 같다.</p>
+     *
+     * @param materialIds 재료 ID 목록
+     * @return 재료 ID → FIFO 후보 목록(후보가 없는 재료는 키 없음)
+     */
+    public Map<Long, List<FifoCandidateDTO>> findHqCandidates(Collection<Long> materialIds) {
+        return queryHqCandidates(materialIds, false);
+    }
+
+    private Map<Long, List<FifoCandidateDTO>> queryHqCandidates(Collection<Long> materialIds, boolean forUpdate) {
+        Map<Long, List<FifoCandidateDTO>> result = new LinkedHashMap<>();
+        if (materialIds == null || materialIds.isEmpty()) return result;
+
+        String sql = """
+                SELECT b.material_id_fk, b.inventory_batch_id, b.inventory_batch_lot_no,
+                       b.inventory_batch_expiration_date, b.inventory_batch_quantity
+                  FROM inventory_batch b
+                 WHERE b.material_id_fk IN (:ids)
+                   AND b.store_id_fk IS NULL
+                   AND b.inventory_batch_quantity > 0
+                 ORDER BY b.material_id_fk, b.inventory_batch_received_date, b.inventory_batch_id
+                """ + (forUpdate ? "   FOR UPDATE\n" : "");
+
+        namedJdbcTemplate.query(sql, new MapSqlParameterSource("ids", materialIds), rs -> {
+            Date exp = rs.getDate(4);
+            result.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>())
+                    .add(FifoCandidateDTO.builder()
+                            .batchId(rs.getLong(2))
+                            .lotNo(rs.getString(3))
+                            .expirationDate(exp != null ? exp.toLocalDate() : null)
+                            .available(rs.getBigDecimal(5))
+                            .build());
+        });
+        return result;
+    }
+
+    /**
+     * 배치 잔량을 일괄 차감한다(잔량 부족 행은 갱신하지 않음).
+     *
+     * @param deductions 배치 ID → 차감 수량
+     * @throws IllegalStateException 갱신되지 않은 배치가 있을 때(잠금 없이 호출된 경우 등)
+     */
+    public void deductBatches(Map<Long, BigDecimal> deductions) {
+        if (deductions.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deductions.size());
+        deductions.forEach((batchId, qty) -> args.add(new Object[]{qty, batchId, qty}));
+
+        int[] counts = jdbcTemplate.batchUpdate("""
+                UPDATE inventory_batch
+                   SET inventory_batch_quantity = inventory_batch_quantity - ?
+                 WHERE inventory_batch_id = ?
+                   AND inventory_batch_quantity >= ?
+                """, args);
+
+        for (int i = 0; i < counts.length; i++) {
+            // SUCCESS_NO_INFO(-2): 드라이버가 배치를 묶어 보내 건별 결과를 주지 않는 경우
+            boolean ok = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+            if (!ok) {
+                throw new IllegalStateException("배치 잔량 차감 실패: batchId=" + args.get(i)[1]);
+            }
+        }
+    }
+
+    /**
+     * 출고-로트 행을 일괄 삽입한다.
+     *
+     * @param rows 삽입할 행(출고 헤더 ID, 배치 ID, 수량)
+     */
+    public void insertOutLots(List<OutLotRow> rows) {
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (OutLotRow r : rows) {
+            args.add(new Object[]{r.outId(), r.batchId(), r.quantity(), now});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO inventory_out_lot (inventory_out_id_fk, inventory_batch_id_fk, quantity, created_at)
+                VALUES (?, ?, ?, ?)
+                """, args);
+    }
+
+    /**
+     * 출고-로트 삽입 행.
+     *
+     * @param outId    출고 헤더 ID
+     * @param batchId  배치 ID
+     * @param quantity 출고 수량
+     */
+    public record OutLotRow(Long outId, Long batchId, BigDecimal quantity) {}
+}
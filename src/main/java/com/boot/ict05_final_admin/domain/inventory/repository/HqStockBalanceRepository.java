@@ -0,0 +1,130 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import com.boot.ict05_final_admin.domain.inventory.entity.HqStockBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 본사 재료별 현재고 잔액({@code hq_stock_balance}) 저장소.
+ *
+ * <p>증감은 {@code INSERT … SELECT … ON DUPLICATE KEY UPDATE} 한 문장으로 처리한다.
+ * 행이 없으면 현재 본사 LOT 합계로 시드하고(이미 이번 변경이 반영된 합계), 행이 있으면 증감치만 더한다.
+ * 따라서 호출 측은 배치 변경을 먼저 DB에 반영한 뒤 호출해야 한다({@code flushAutomatically}).</p>
+ */
+public interface HqStockBalanceRepository extends JpaRepository<HqStockBalance, Long> {
+
+    /**
+     * 재료의 현재고 잔액을 조회한다(영속성 컨텍스트 캐시를 거치지 않는 스칼라 조회).
+     *
+     * @param materialId 재료 ID
+     * @return 잔액(행이 없으면 empty)
+     */
+    @Query("select b.quantity from HqStockBalance b where b.materialId = :materialId")
+    Optional<BigDecimal> findQuantity(@Param("materialId") Long materialId);
+
+    /**
+     * 재료의 현재고 잔액에 증감치를 반영한다(행이 없으면 본사 LOT 합계로 생성).
+     *
+     * @param materialId 재료 ID
+     * @param delta      증감치(+입고, -출고, ±조정)
+     * @return 영향 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO hq_stock_balance (material_id, balance_quantity, updated_at)
+            SELECT :materialId, COALESCE(SUM(b.inventory_batch_quantity), 0), NOW()
+              FROM inventory_batch b
+             WHERE b.material_id_fk = :materialId
+               AND b.store_id_fk IS NULL
+            ON DUPLICATE KEY UPDATE
+               balance_quantity = balance_quantity + :delta,
+               updated_at       = NOW()
+            """, nativeQuery = true)
+    int applyDelta(@Param("materialId") Long materialId, @Param("delta") BigDecimal delta);
+
+    /**
+     * 재료의 현재고 잔액을 본사 LOT 합계로 다시 맞춘다(없으면 생성).
+     *
+     * @param materialId 재료 ID
+     * @return 영향 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO hq_stock_balance (material_id, balance_quantity, updated_at, verified_at)
+            SELECT :materialId, COALESCE(SUM(b.inventory_batch_quantity), 0), NOW(), NOW()
+              FROM inventory_batch b
+             WHERE b.material_id_fk = :materialId
+               AND b.store_id_fk IS NULL
+            ON DUPLICATE KEY UPDATE
+               balance_quantity = VALUES(balance_quantity),
+               updated_at       = NOW(),
+               verified_at      = NOW()
+            """, nativeQuery = true)
+    int resync(@Param("materialId") Long materialId);
+
+    /**
+     * 잔액 행이 없는 재료의 본사 현재고를 배치 합계로 계산한다(시드 전 폴백용, DB 집계).
+     *
+     * @param materialId 재료 ID
+     * @return 본사 LOT 잔량 합계
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(b.inventory_batch_quantity), 0)
+              FROM inventory_batch b
+             WHERE b.material_id_fk = :materialId
+               AND b.store_id_fk IS NULL
+            """, nativeQuery = true)
+    BigDecimal sumHqBatches(@Param("materialId") Long materialId);
+
+    /**
+     * 잔액과 본사 LOT 합계가 다른 재료를 찾는다(잔액 행 누락 포함).
+     *
+     * <p>한 문장의 일관된 스냅샷에서 비교하므로, 배치 변경과 잔액 반영이 같은 트랜잭션에서
+     * 커밋되는 한 진행 중인 출고 때문에 오탐이 생기지 않는다.</p>
+     *
+     * @return 불일치 행
+     */
+    @Query(value = """
+            SELECT s.material_id AS materialId,
+                   bal.balance_quantity AS balance,
+                   s.batch_sum AS batchSum
+              FROM (SELECT b.material_id_fk AS material_id,
+                           SUM(b.inventory_batch_quantity) AS batch_sum
+                      FROM inventory_batch b
+                     WHERE b.store_id_fk IS NULL
+                     GROUP BY b.material_id_fk) s
+              LEFT JOIN hq_stock_balance bal ON bal.material_id = s.material_id
+             WHERE bal.material_id IS NULL
+                OR bal.balance_quantity <> s.batch_sum
+            UNION ALL
+            SELECT bal.material_id, bal.balance_quantity, 0
+              FROM hq_stock_balance bal
+             WHERE bal.balance_quantity <> 0
+               AND NOT EXISTS (SELECT 1
+                                 FROM inventory_batch b
+                                WHERE b.material_id_fk = bal.material_id
+                                  AND b.store_id_fk IS NULL)
+            """, nativeQuery = true)
+    List<DriftRow> findDrift();
+
+    /**
+     * 대사 불일치 행.
+     */
+    interface DriftRow {
+
+        /** 재료 ID */
+        Long getMaterialId();
+
+        /** 잔액 테이블 값(행 누락 시 null) */
+        BigDecimal getBalance();
+
+        /** 본사 LOT 잔량 합계 */
+        BigDecimal getBatchSum();
+    }
+}
@@ -2,6 +2,8 @@ package com.boot.ict05_final_admin.domain.inventory.repository;
 
 import com.boot.ict05_final_admin.domain.inventory.entity.InventoryBatch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +22,11 @@ public interface InventoryBatchRepository
 
     /** LOT 번호 중복 체크 */
     boolean existsByLotNo(String lotNo);
+
+    /**
+     * 접두사로 시작하는 LOT 번호 목록.
+     * 일자별 LOT 시퀀스가 이미 쓰인 번호(기존 무작위 LOT 포함)를 건너뛸 때 사용.
+     */
+    @Query("SELECT b.lotNo FROM InventoryBatch b WHERE b.lotNo LIKE CONCAT(:prefix, '%')")
+    List<String> findLotNosByPrefix(@Param("prefix") String prefix);
 }
@@ -2,8 +2,12 @@ package com.boot.ict05_final_admin.domain.inventory.repository;
 
 import com.boot.ict05_final_admin.domain.inventory.entity.InventoryIn;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 입고 헤더(InventoryIn) JPA 리포지토리.
  *
@@ -16,4 +20,11 @@ public interface InventoryInRepository extends JpaRepository<InventoryIn, Long>
      * LOT 번호 중복 체크.
      */
     boolean existsByLotNo(String lotNo);
+
+    /**
+     * 접두사로 시작하는 LOT 번호 목록.
+     * 일자별 LOT 시퀀스가 이미 쓰인 번호를 건너뛸 때 사용.
+     */
+    @Query("SELECT i.lotNo FROM InventoryIn i WHERE i.lotNo LIKE CONCAT(:prefix, '%')")
+    List<String> findLotNosByPrefix(@Param("prefix") String prefix);
 }
@@ -0,0 +1,194 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.boot.ict05_final_admin.domain.inventory.utility.InventoryLogIdUtil.INCOME;
+import static com.boot.ict05_final_admin.domain.inventory.utility.InventoryLogIdUtil.wrap;
+
+/**
+ * 본사 일괄 입고용 JDBC 리포지토리.
+ *
+ * <p>
+ * 입고 헤더, 배치(LOT), 단가 이력, 재고 원장 행을 JDBC 배치로 삽입한다.
+ * 생성된 헤더/배치 ID는 LOT 번호(유니크)로 한 번에 다시 읽어 연결한다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출 측은 같은 트랜잭션에서 해당 행을 엔티티로 다시 읽지 않아야 한다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryInboundJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 재료 코드로 재료 ID를 조회한다.
+     *
+     * @param codes 재료 코드
+     * @return 재료 코드 → 재료 ID(없는 코드는 키 없음)
+     */
+    public Map<String, Long> findMaterialIdsByCode(Collection<String> codes) {
+        Map<String, Long> result = new HashMap<>();
+        if (codes.isEmpty()) return result;
+        namedJdbcTemplate.query("SELECT material_code, material_id FROM material WHERE material_code IN (:codes)",
+                new MapSqlParameterSource("codes", codes),
+                rs -> { result.put(rs.getString(1), rs.getLong(2)); });
+        return result;
+    }
+
+    /**
+     * 존재하는 재료 ID만 골라낸다.
+     *
+     * @param ids 재료 ID
+     * @return 존재하는 재료 ID
+     */
+    public Set<Long> findExistingMaterialIds(Collection<Long> ids) {
+        Set<Long> result = new HashSet<>();
+        if (ids.isEmpty()) return result;
+        namedJdbcTemplate.query("SELECT material_id FROM material WHERE material_id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                rs -> { result.add(rs.getLong(1)); });
+        return result;
+    }
+
+    /**
+     * 재료별 매입/판매 단가 이력 행을 일괄 삽입한다(재료당 2행).
+     *
+     * @param prices    재료 ID → 단가
+     * @param validFrom 적용 시작 일시
+     */
+    public void insertUnitPrices(Map<Long, PriceRow> prices, LocalDateTime validFrom) {
+        if (prices.isEmpty()) return;
+
+        Timestamp from = Timestamp.valueOf(validFrom);
+        List<Object[]> args = new ArrayList<>(prices.size() * 2);
+        prices.forEach((materialId, p) -> {
+            args.add(new Object[]{materialId, "PURCHASE", nz(p.purchasePrice()), BigDecimal.ZERO, from, from});
+            args.add(new Object[]{materialId, "SELLING", BigDecimal.ZERO, nz(p.sellingPrice()), from, from});
+        });
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO unit_price (material_id_fk, unit_price_type, unit_price_purchase, unit_price_selling,
+                                        unit_price_date_from, unit_price_created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, args);
+    }
+
+    /**
+     * 입고 헤더와 배치(LOT)를 일괄 삽입하고, 재고 원장 행까지 연결해 삽입한다.
+     *
+     * @param rows      삽입할 입고 행(LOT 번호/입고 후 재고 확정 상태)
+     * @param createdAt 등록 일시
+     * @return 삽입한 입고 헤더 ID(행 순서)
+     */
+    public List<Long> insertInbound(List<InboundRow> rows, LocalDateTime createdAt) {
+        if (rows.isEmpty()) return List.of();
+
+        Timestamp now = Timestamp.valueOf(createdAt);
+        List<Object[]> inArgs = new ArrayList<>(rows.size());
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        for (InboundRow r : rows) {
+            Timestamp inDate = Timestamp.valueOf(r.inDate());
+            inArgs.add(new Object[]{r.materialId(), r.quantity(), r.stockAfter(), r.unitPrice(), r.sellingPrice(),
+                    r.lotNo(), inDate, r.memo(), now});
+            batchArgs.add(new Object[]{r.lotNo(), r.materialId(), inDate, r.unitPrice(),
+                    Date.valueOf(r.expirationDate()), r.quantity(), r.quantity(), now});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO inventory_in (material_id_fk, inventory_in_quantity, inventory_in_stock_after,
+                                          inventory_in_unit_price, inventory_in_selling_price, inventory_lot,
+                                          inventory_in_date, inventory_in_memo, inventory_in_created_at,
+                                          inventory_record_status)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'CONFIRMED')
+                """, inArgs);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO inventory_batch (inventory_batch_lot_no, material_id_fk, inventory_batch_received_date,
+                                             inventory_batch_unit_price, inventory_batch_expiration_date,
+                                             inventory_batch_received_quantity, inventory_batch_quantity,
+                                             inventory_batch_created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, batchArgs);
+
+        List<String> lots = rows.stream().map(InboundRow::lotNo).toList();
+        Map<String, Long> inIds = idsByLot(
+                "SELECT inventory_lot, inventory_in_id FROM inventory_in WHERE inventory_lot IN (:lots)", lots);
+        Map<String, Long> batchIds = idsByLot(
+                "SELECT inventory_batch_lot_no, inventory_batch_id FROM inventory_batch WHERE inventory_batch_lot_no IN (:lots)", lots);
+
+        List<Long> result = new ArrayList<>(rows.size());
+        List<Object[]> ledgerArgs = new ArrayList<>(rows.size());
+        for (InboundRow r : rows) {
+            Long inId = inIds.get(r.lotNo());
+            Long batchId = batchIds.get(r.lotNo());
+            if (inId == null || batchId == null) {
+                throw new IllegalStateException("입고 ID 연결 실패: lotNo=" + r.lotNo());
+            }
+            result.add(inId);
+            ledgerArgs.add(new Object[]{wrap(INCOME, inId), inId, INCOME, Timestamp.valueOf(r.inDate()),
+                    r.materialId(), r.quantity(), r.stockAfter(), r.unitPrice(), r.memo(), batchId, now});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO inventory_ledger (log_id, source_id, log_type, log_date, material_id, quantity,
+                                              stock_after, unit_price, memo, batch_id, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, ledgerArgs);
+
+        return result;
+    }
+
+    private Map<String, Long> idsByLot(String sql, List<String> lots) {
+        Map<String, Long> result = new HashMap<>(lots.size() * 2);
+        namedJdbcTemplate.query(sql, new MapSqlParameterSource("lots", lots),
+                rs -> { result.put(rs.getString(1), rs.getLong(2)); });
+        return result;
+    }
+
+    private static BigDecimal nz(BigDecimal v) {
+        return v != null ? v : BigDecimal.ZERO;
+    }
+
+    /**
+     * 단가 이력 삽입 값.
+     *
+     * @param purchasePrice 매입 단가
+     * @param sellingPrice  판매(공급) 단가(선택)
+     */
+    public record PriceRow(BigDecimal purchasePrice, BigDecimal sellingPrice) {}
+
+    /**
+     * 입고 삽입 행.
+     *
+     * @param materialId     재료 ID
+     * @param quantity       입고 수량
+     * @param unitPrice      매입 단가
+     * @param sellingPrice   공급가(선택)
+     * @param inDate         입고 일시
+     * @param expirationDate 유통기한
+     * @param memo           비고(선택)
+     * @param lotNo          LOT 번호
+     * @param stockAfter     입고 후 본사 재고
+     */
+    public record InboundRow(Long materialId,
+                             BigDecimal quantity,
+                             BigDecimal unitPrice,
+                             BigDecimal sellingPrice,
+                             LocalDateTime inDate,
+                             LocalDate expirationDate,
+                             String memo,
+                             String lotNo,
+                             BigDecimal stockAfter) {}
+}
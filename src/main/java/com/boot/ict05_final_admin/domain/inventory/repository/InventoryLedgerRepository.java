@@ -0,0 +1,98 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 본사 재고 원장({@code inventory_ledger}) 리포지토리.
+ *
+ * <p>키셋/페이징 조회는 {@link InventoryLedgerRepositoryCustom}, 원본 헤더 삭제 동기화와
+ * 기존 {@code v_inventory_log} 이력 백필은 여기의 쿼리로 처리한다.</p>
+ */
+@Repository
+public interface InventoryLedgerRepository
+        extends JpaRepository<InventoryLedger, Long>, InventoryLedgerRepositoryCustom {
+
+    /**
+     * 원본 헤더 삭제 시 대응하는 원장 행을 함께 삭제한다.
+     *
+     * @param type     로그 유형
+     * @param sourceId 원본 PK
+     * @return 삭제 행 수
+     */
+    @Modifying
+    @Query("delete from InventoryLedger l where l.type = :type and l.sourceId = :sourceId")
+    int deleteBySource(@Param("type") String type, @Param("sourceId") Long sourceId);
+
+    /**
+     * 원본 PK 구간의 뷰 행을 원장으로 복사한다(이미 있는 행은 무시).
+     *
+     * <p>{@code (log_type, source_id)} 유니크 키로 실시간 적재분과 겹쳐도 중복되지 않으므로
+     * 몇 번을 다시 실행해도 결과가 같다. 구간 조건은 뷰의 UNION 각 분기로 밀려 들어가 원본 PK 범위로 읽힌다.</p>
+     *
+     * @param type   로그 유형
+     * @param fromId 시작 원본 PK(미포함)
+     * @param toId   끝 원본 PK(포함)
+     * @return 삽입 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO inventory_ledger
+                   (log_id, source_id, log_type, log_date, material_id, quantity,
+                    stock_after, unit_price, memo, store_id, batch_id, created_at)
+            SELECT v.row_id, v.log_id, v.log_type, v.log_date, v.material_id, COALESCE(v.quantity, 0),
+                   v.stock_after, v.unit_price, v.memo, v.store_id, v.batch_id, NOW()
+              FROM v_inventory_log v
+             WHERE v.log_type = :type
+               AND v.log_id > :fromId
+               AND v.log_id <= :toId
+            """, nativeQuery = true)
+    int backfillRange(@Param("type") String type,
+                      @Param("fromId") long fromId,
+                      @Param("toId") long toId);
+
+    /**
+     * 유형별 백필 완료 위치.
+     *
+     * @param type 로그 유형
+     * @return 백필이 끝난 원본 PK(기록이 없으면 0)
+     */
+    @Query(value = "SELECT COALESCE(MAX(done_until), 0) FROM inventory_ledger_backfill WHERE log_type = :type",
+            nativeQuery = true)
+    long backfillDoneUntil(@Param("type") String type);
+
+    /**
+     * 유형별 백필 완료 위치를 기록한다(뒤로 돌아가지 않음).
+     *
+     * @param type      로그 유형
+     * @param doneUntil 백필이 끝난 원본 PK(포함)
+     * @return 갱신 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO inventory_ledger_backfill (log_type, done_until, updated_at)
+            VALUES (:type, :doneUntil, NOW())
+            ON DUPLICATE KEY UPDATE done_until = GREATEST(done_until, VALUES(done_until)),
+                                    updated_at = NOW()
+            """, nativeQuery = true)
+    int markBackfilled(@Param("type") String type, @Param("doneUntil") long doneUntil);
+
+    /** @return 입고 원본 최대 PK(없으면 0) */
+    @Query(value = "SELECT COALESCE(MAX(inventory_in_id), 0) FROM inventory_in", nativeQuery = true)
+    long maxIncomeSourceId();
+
+    /** @return 출고 원본 최대 PK(없으면 0) */
+    @Query(value = "SELECT COALESCE(MAX(inventory_out_id), 0) FROM inventory_out", nativeQuery = true)
+    long maxOutgoSourceId();
+
+    /** @return 조정 원본 최대 PK(없으면 0) */
+    @Query(value = "SELECT COALESCE(MAX(adjustment_id), 0) FROM inventory_adjustment", nativeQuery = true)
+    long maxAdjustSourceId();
+}
@@ -0,0 +1,71 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLedger;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * inventory_ledger 커스텀 조회.
+ */
+public interface InventoryLedgerRepositoryCustom {
+
+    /**
+     * 재료/유형/기간 필터 기반 키셋 조회.
+     *
+     * <p>정렬: 일시 DESC, 로그 ID DESC. {@code cursor}보다 뒤(더 오래된) 행부터 최대 {@code limit}건을 읽는다.
+     * OFFSET/COUNT 없이 인덱스 범위만 따라가므로 페이지 깊이와 무관하게 비용이 일정하다.</p>
+     *
+     * @param materialId 재료 ID(옵션)
+     * @param type       로그 유형(옵션, null/blank=전체)
+     * @param startDate  시작일(옵션, 포함)
+     * @param endDate    종료일(옵션, 포함)
+     * @param cursor     직전 조회의 마지막 행 키(null이면 처음부터)
+     * @param limit      최대 행 수
+     * @return 정렬된 행
+     */
+    List<InventoryLedger> findLogsAfter(Long materialId,
+                                        String type,
+                                        LocalDate startDate,
+                                        LocalDate endDate,
+                                        Cursor cursor,
+                                        int limit);
+
+    /**
+     * 재료/유형/기간 필터 기반 페이징 조회(페이지 번호가 필요한 화면용).
+     *
+     * @param materialId 재료 ID(옵션)
+     * @param type       로그 유형(옵션, null/blank=전체)
+     * @param startDate  시작일(옵션, 포함)
+     * @param endDate    종료일(옵션, 포함)
+     * @param pageable   페이징
+     * @return 로그 페이지
+     */
+    Page<InventoryLedger> findLogsByFilter(Long materialId,
+                                           String type,
+                                           LocalDate startDate,
+                                           LocalDate endDate,
+                                           Pageable pageable);
+
+    /**
+     * 키셋 커서(정렬 키).
+     *
+     * @param date  로그 일시
+     * @param logId 합성 로그 ID
+     */
+    record Cursor(LocalDateTime date, Long logId) {
+
+        /**
+         * 행의 정렬 키.
+         *
+         * @param row 원장 행
+         * @return 커서
+         */
+        public static Cursor of(InventoryLedger row) {
+            return new Cursor(row.getDate(), row.getLogId());
+        }
+    }
+}
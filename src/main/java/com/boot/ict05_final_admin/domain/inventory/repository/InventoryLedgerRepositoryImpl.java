@@ -0,0 +1,111 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLedger;
+import com.boot.ict05_final_admin.domain.inventory.entity.QInventoryLedger;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * inventory_ledger 커스텀 구현(QueryDSL).
+ *
+ * <p>모든 조회는 {@code (material_id[, log_type], log_date, log_id)} 인덱스 순서로 정렬하므로
+ * 필터 + 정렬이 인덱스 범위 스캔 한 번으로 끝난다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryLedgerRepositoryImpl implements InventoryLedgerRepositoryCustom {
+
+    private final JPAQueryFactory qf;
+    private static final QInventoryLedger l = QInventoryLedger.inventoryLedger;
+
+    @Override
+    public List<InventoryLedger> findLogsAfter(final Long materialId,
+                                               final String type,
+                                               final LocalDate startDate,
+                                               final LocalDate endDate,
+                                               final Cursor cursor,
+                                               final int limit) {
+
+        return qf.selectFrom(l)
+                .where(
+                        eqMaterial(materialId),
+                        eqType(type),
+                        betweenDate(startDate, endDate),
+                        before(cursor)
+                )
+                .orderBy(l.date.desc(), l.logId.desc())
+                .limit(Math.max(1, limit))
+                .fetch();
+    }
+
+    @Override
+    public Page<InventoryLedger> findLogsByFilter(final Long materialId,
+                                                  final String type,
+                                                  final LocalDate startDate,
+                                                  final LocalDate endDate,
+                                                  final Pageable pageable) {
+
+        List<InventoryLedger> rows = qf.selectFrom(l)
+                .where(
+                        eqMaterial(materialId),
+                        eqType(type),
+                        betweenDate(startDate, endDate)
+                )
+                .orderBy(l.date.desc(), l.logId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막 페이지가 덜 찼으면 COUNT 생략
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            Long total = qf.select(l.count())
+                    .from(l)
+                    .where(
+                            eqMaterial(materialId),
+                            eqType(type),
+                            betweenDate(startDate, endDate)
+                    )
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    // ---------- helpers ----------
+
+    private BooleanExpression eqMaterial(Long materialId) {
+        return materialId != null ? l.materialId.eq(materialId) : null;
+    }
+
+    private BooleanExpression eqType(String type) {
+        return (type != null && !type.isBlank()) ? l.type.eq(type) : null;
+    }
+
+    private BooleanExpression betweenDate(LocalDate startDate, LocalDate endDate) {
+        final LocalDateTime from = (startDate != null) ? startDate.atStartOfDay() : null;
+        final LocalDateTime to   = (endDate != null) ? endDate.plusDays(1).atStartOfDay() : null; // 상한 미포함
+
+        if (from != null && to != null) return l.date.goe(from).and(l.date.lt(to));
+        if (from != null) return l.date.goe(from);
+        if (to != null)   return l.date.lt(to);
+        return null;
+    }
+
+    /**
+     * {@code (log_date, log_id) < (cursor)} 를 인덱스가 범위로 쓸 수 있는 형태로 전개한다.
+     */
+    private BooleanExpression before(Cursor cursor) {
+        if (cursor == null || cursor.date() == null || cursor.logId() == null) return null;
+        return l.date.loe(cursor.date())
+                .and(l.date.lt(cursor.date())
+                        .or(l.logId.lt(cursor.logId())));
+    }
+}
@@ -1,8 +1,10 @@
 package com.boot.ict05_final_admin.domain.inventory.repository;
 
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPricePoint;
 import com.boot.ict05_final_admin.domain.inventory.entity.UnitPrice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +24,7 @@ public interface UnitPriceRepositoryCustom {
 
     /** 출고단가 이력 최근 N건 */
     List<UnitPrice> historySellingPrice(Long materialId, int limit);
+
+    /** 재료들의 단가 이력 전체(단가 캐시 적재용 프로젝션) */
+    List<UnitPricePoint> findPricePoints(Collection<Long> materialIds);
 }
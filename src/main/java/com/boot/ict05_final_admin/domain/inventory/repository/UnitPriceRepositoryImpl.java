@@ -1,13 +1,16 @@
 package com.boot.ict05_final_admin.domain.inventory.repository;
 
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPricePoint;
 import com.boot.ict05_final_admin.domain.inventory.entity.QUnitPrice;
 import com.boot.ict05_final_admin.domain.inventory.entity.UnitPrice;
 import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceType;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -82,4 +85,15 @@ public class UnitPriceRepositoryImpl implements UnitPriceRepositoryCustom {
                 .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public List<UnitPricePoint> findPricePoints(Collection<Long> materialIds) {
+        if (materialIds.isEmpty()) return List.of();
+
+        return qf.select(Projections.constructor(UnitPricePoint.class,
+                        p.id, p.material.id, p.type, p.purchasePrice, p.sellingPrice, p.validFrom, p.validTo))
+                .from(p)
+                .where(p.material.id.in(materialIds))
+                .fetch();
+    }
 }
@@ -0,0 +1,21 @@
+package com.boot.ict05_final_admin.domain.inventory.repository;
+
+import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface UnitPriceVersionRepository extends JpaRepository<UnitPriceVersion, Long> {
+
+    /** 현재 단가 버전 (행이 없으면 empty) */
+    @Query("select v.version from UnitPriceVersion v where v.id = 1")
+    Optional<Long> currentVersion();
+
+    /** 단가 버전을 1 증가시킨다 (행이 없으면 1로 생성) */
+    @Modifying
+    @Query(value = "INSERT INTO unit_price_version (unit_price_version_id, version) VALUES (1, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int bump();
+}
@@ -0,0 +1,38 @@
+package com.boot.ict05_final_admin.domain.inventory.scheduler;
+
+import com.boot.ict05_final_admin.domain.inventory.service.HqStockLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본사 현재고 잔액 대사 스케줄러.
+ *
+ * <p>설정 값(inventory.stock-ledger.reconcile-cron)에 따라 잔액과 본사 LOT 합계를 비교한다.
+ * 스케줄러 활성화는 {@code inventory.stock-ledger.reconcile-enabled=true} 조건으로 제어한다.</p>
+ *
+ * <p>기본 CRON: {@code 0 20 3 * * *} (매일 03:20)</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.stock-ledger.reconcile-enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class HqStockReconcileScheduler {
+
+    private final HqStockLedgerService service;
+
+    /**
+     * 설정된 CRON 표현식에 따라 대사를 수행한다.
+     */
+    @Scheduled(cron = "${inventory.stock-ledger.reconcile-cron:0 20 3 * * *}")
+    public void run() {
+        try {
+            int drift = service.reconcile();
+            log.info("[StockLedger][CRON] done: drift={}", drift);
+        } catch (Exception e) {
+            log.warn("[StockLedger][CRON] failed: {}", e.getMessage());
+        }
+    }
+}
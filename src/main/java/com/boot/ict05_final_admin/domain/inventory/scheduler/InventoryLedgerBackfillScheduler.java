@@ -0,0 +1,53 @@
+package com.boot.ict05_final_admin.domain.inventory.scheduler;
+
+import com.boot.ict05_final_admin.domain.inventory.config.InventoryLedgerProperties;
+import com.boot.ict05_final_admin.domain.inventory.service.InventoryLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본사 재고 원장 백필 스케줄러.
+ *
+ * <p>설정 값(inventory.ledger.backfill-cron)에 따라 {@code v_inventory_log}의 기존 이력 중
+ * 원장에 없는 행을 복사한다. 유형별 완료 위치 이후 구간만 읽으므로 첫 전체 복사 뒤에는 거의 비용이 없다. 스케줄러 활성화는 {@code inventory.ledger.backfill-enabled=true} 조건으로 제어하며,
+ * {@code inventory.ledger.backfill-on-startup=true}이면 기동 직후에도 한 번 실행한다.</p>
+ *
+ * <p>기본 CRON: {@code 0 40 3 * * *} (매일 03:40)</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.ledger.backfill-enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class InventoryLedgerBackfillScheduler {
+
+    private final InventoryLedgerService service;
+    private final InventoryLedgerProperties props;
+
+    /**
+     * 기동 직후 1회 백필.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (props.isBackfillOnStartup()) {
+            run();
+        }
+    }
+
+    /**
+     * 설정된 CRON 표현식에 따라 백필을 수행한다.
+     */
+    @Scheduled(cron = "${inventory.ledger.backfill-cron:0 40 3 * * *}")
+    public void run() {
+        try {
+            long inserted = service.backfill();
+            log.info("[Ledger][CRON] done: inserted={}", inserted);
+        } catch (Exception e) {
+            log.warn("[Ledger][CRON] failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.boot.ict05_final_admin.domain.inventory.scheduler;
+
+import com.boot.ict05_final_admin.domain.inventory.service.UnitPriceCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단가 캐시 갱신 스케줄러.
+ *
+ * <p>주기적으로 단가 버전을 비교하여 다른 노드에서 바뀐 단가를 반영한다(바뀌었으면 캐시 전체를 버림).</p>
+ *
+ * <p>기본 주기: 5초 ({@code inventory.unit-price-cache.version-check-ms})</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnitPriceCacheRefreshScheduler {
+
+    private final UnitPriceCache unitPriceCache;
+
+    /** 버전 비교 후 필요하면 캐시를 비운다 */
+    @Scheduled(fixedDelayString = "${inventory.unit-price-cache.version-check-ms:5000}")
+    public void refresh() {
+        try {
+            unitPriceCache.refreshIfStale();
+        } catch (Exception e) {
+            log.warn("[UnitPriceCache][REFRESH] failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.boot.ict05_final_admin.domain.inventory.service;
+
+import com.boot.ict05_final_admin.domain.inventory.dto.FifoCandidateDTO;
+import com.boot.ict05_final_admin.domain.inventory.dto.InventoryOutPreviewItemDTO;
+import com.boot.ict05_final_admin.domain.inventory.repository.FifoAllocationJdbcRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.FifoAllocationJdbcRepository.OutLotRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 본사 재고 FIFO 출고 할당 엔진.
+ *
+ * <p>
+ * 여러 재료(여러 수주)의 출고 라인을 한 번에 받아 다음 순서로 처리한다.
+ * </p>
+ * <ol>
+ *   <li>재료 ID 오름차순으로 정렬(트랜잭션 간 잠금 순서 고정 → 교착 방지)</li>
+ *   <li>본사 LOT 후보를 {@code SELECT … FOR UPDATE} 한 번으로 잠가 조회</li>
+ *   <li>재료별 재고 검증과 FIFO(입고일 ↑, 배치 ID ↑) 분할을 메모리에서 계산</li>
+ *   <li>배치 잔량 차감을 JDBC 배치 UPDATE 한 번으로 반영하고, 재료별 현재고 잔액을 같은 트랜잭션에서 차감</li>
+ * </ol>
+ *
+ * <p>출고-로트 생성은 출고 헤더 ID가 정해진 뒤 {@link #insertLots(List, List)}로 일괄 삽입한다.
+ * 반드시 호출 측 트랜잭션 안에서 사용해야 한다(잠금은 커밋 시 해제).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FifoAllocationEngine {
+
+    private final FifoAllocationJdbcRepository fifoAllocationJdbcRepository;
+    private final HqStockLedgerService hqStockLedgerService;
+
+    /**
+     * 출고 라인들을 잠금 하에 FIFO로 할당하고 배치 잔량을 차감한다.
+     *
+     * <p>같은 재료가 여러 라인(예: 여러 수주)에 나오면 라인 순서대로 FIFO 후보를 이어서 소진한다.
+     * 재고 검증은 재료별 라인 합계 기준이며, 하나라도 부족하면 아무것도 차감하지 않는다.</p>
+     *
+     * @param lines 출고 라인(재료 ID, 양수 수량)
+     * @return 라인과 같은 순서의 할당 결과
+     * @throws IllegalArgumentException 수량이 0 이하이거나 현재고가 부족할 때
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Allocation> allocate(final List<Line> lines) {
+        SortedMap<Long, BigDecimal> demand = demandOf(lines);
+
+        // 재료 ID 오름차순으로 한 번에 잠금 조회
+        Map<Long, List<FifoCandidateDTO>> candidates =
+                fifoAllocationJdbcRepository.lockHqCandidates(demand.keySet());
+
+        Map<Long, BigDecimal> stock = new HashMap<>();
+        demand.forEach((materialId, qty) -> {
+            BigDecimal current = candidates.getOrDefault(materialId, List.of()).stream()
+                    .map(FifoCandidateDTO::getAvailable)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (current.compareTo(qty) < 0) {
+                throw new IllegalArgumentException("출고 수량이 현재고를 초과합니다. materialId=" + materialId
+                        + ", current=" + current + ", out=" + qty);
+            }
+            stock.put(materialId, current);
+        });
+
+        List<List<InventoryOutPreviewItemDTO>> plans = plan(lines, candidates);
+
+        Map<Long, BigDecimal> deductions = new LinkedHashMap<>();
+        List<Allocation> result = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Line l = lines.get(i);
+            List<InventoryOutPreviewItemDTO> plan = plans.get(i);
+
+            BigDecimal planned = BigDecimal.ZERO;
+            for (InventoryOutPreviewItemDTO p : plan) {
+                deductions.merge(p.getBatchId(), p.getQty(), BigDecimal::add);
+                planned = planned.add(p.getQty());
+            }
+            if (planned.compareTo(l.quantity()) < 0) {
+                // 재고 검증을 통과했으므로 정상 흐름에서는 도달하지 않는다
+                throw new IllegalStateException("FIFO 후보가 부족합니다.");
+            }
+
+            BigDecimal after = stock.merge(l.materialId(), l.quantity(), BigDecimal::subtract);
+            result.add(new Allocation(l.materialId(), l.quantity(), after, plan));
+        }
+
+        fifoAllocationJdbcRepository.deductBatches(deductions);
+
+        Map<Long, BigDecimal> ledgerDeltas = new HashMap<>();
+        demand.forEach((materialId, qty) -> ledgerDeltas.put(materialId, qty.negate()));
+        hqStockLedgerService.applyAll(ledgerDeltas);
+        log.debug("[FIFO] allocated lines={}, materials={}, batches={}",
+                lines.size(), demand.size(), deductions.size());
+        return result;
+    }
+
+    /**
+     * 출고 라인들의 FIFO 분할을 잠금 없이 미리 계산한다.
+     *
+     * <p>후보 배치는 라인 수와 관계없이 한 번의 조회로 읽고, 분할 규칙은 {@link #allocate(List)}와 같다
+     * (같은 재료의 라인은 라인 순서대로 후보를 이어서 소진). 재고가 부족해도 예외를 던지지 않고
+     * 가능한 만큼 분할한 뒤 라인별/재료별 부족 수량을 돌려준다.</p>
+     *
+     * @param lines 출고 라인(재료 ID, 양수 수량)
+     * @return 미리보기 결과
+     * @throws IllegalArgumentException 재료 ID가 없거나 수량이 0 이하일 때
+     */
+    @Transactional(readOnly = true)
+    public Preview preview(final List<Line> lines) {
+        SortedMap<Long, BigDecimal> demand = demandOf(lines);
+
+        Map<Long, List<FifoCandidateDTO>> candidates =
+                fifoAllocationJdbcRepository.findHqCandidates(demand.keySet());
+        List<List<InventoryOutPreviewItemDTO>> plans = plan(lines, candidates);
+
+        List<LinePreview> linePreviews = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Line l = lines.get(i);
+            List<InventoryOutPreviewItemDTO> plan = plans.get(i);
+            BigDecimal planned = plan.stream()
+                    .map(InventoryOutPreviewItemDTO::getQty)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            linePreviews.add(new LinePreview(l.materialId(), l.quantity(), planned,
+                    l.quantity().subtract(planned), plan));
+        }
+
+        List<MaterialPreview> materialPreviews = new ArrayList<>(demand.size());
+        demand.forEach((materialId, qty) -> {
+            BigDecimal available = candidates.getOrDefault(materialId, List.of()).stream()
+                    .map(FifoCandidateDTO::getAvailable)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            materialPreviews.add(new MaterialPreview(materialId, qty, available,
+                    qty.subtract(available).max(BigDecimal.ZERO)));
+        });
+
+        log.debug("[FIFO] previewed lines={}, materials={}", lines.size(), demand.size());
+        return new Preview(linePreviews, materialPreviews);
+    }
+
+    /**
+     * 라인을 검증하고 재료별 수량 합계를 구한다.
+     *
+     * @param lines 출고 라인
+     * @return 재료 ID ↑ → 수량 합계
+     * @throws IllegalArgumentException 재료 ID가 없거나 수량이 0 이하일 때
+     */
+    private static SortedMap<Long, BigDecimal> demandOf(final List<Line> lines) {
+        SortedMap<Long, BigDecimal> demand = new TreeMap<>();
+        for (Line l : lines) {
+            if (l.materialId() == null) {
+                throw new IllegalArgumentException("재료 ID가 없습니다.");
+            }
+            if (l.quantity() == null || l.quantity().signum() <= 0) {
+                throw new IllegalArgumentException("출고 수량이 0 이하입니다. materialId=" + l.materialId());
+            }
+            demand.merge(l.materialId(), l.quantity(), BigDecimal::add);
+        }
+        return demand;
+    }
+
+    /**
+     * 라인 순서대로 재료별 FIFO 후보를 소진하며 분할을 계산한다(한 번의 순회).
+     *
+     * <p>후보가 모자라면 해당 라인은 가능한 만큼만 분할한다.</p>
+     *
+     * @param lines      출고 라인
+     * @param candidates 재료 ID → FIFO 순 후보
+     * @return 라인과 같은 순서의 배치별 분할
+     */
+    private static List<List<InventoryOutPreviewItemDTO>> plan(final List<Line> lines,
+                                                              final Map<Long, List<FifoCandidateDTO>> candidates) {
+        // 재료별 FIFO 커서(후보 인덱스 + 해당 후보의 남은 수량)
+        Map<Long, Cursor> cursors = new HashMap<>();
+        List<List<InventoryOutPreviewItemDTO>> plans = new ArrayList<>(lines.size());
+
+        for (Line l : lines) {
+            Cursor cur = cursors.computeIfAbsent(l.materialId(),
+                    id -> new Cursor(candidates.getOrDefault(id, List.of())));
+
+            BigDecimal remain = l.quantity();
+            List<InventoryOutPreviewItemDTO> plan = new ArrayList<>();
+            FifoCandidateDTO c;
+            while (remain.signum() > 0 && (c = cur.current()) != null) {
+                BigDecimal take = cur.left.min(remain);
+
+                plan.add(InventoryOutPreviewItemDTO.builder()
+                        .batchId(c.getBatchId())
+                        .lotNo(c.getLotNo())
+                        .qty(take)
+                        .expirationDate(c.getExpirationDate())
+                        .build());
+                cur.take(take);
+                remain = remain.subtract(take);
+            }
+            plans.add(plan);
+        }
+        return plans;
+    }
+
+    /**
+     * 할당 결과를 출고-로트로 일괄 삽입한다.
+     *
+     * @param outIds      할당 결과와 같은 순서의 출고 헤더 ID
+     * @param allocations {@link #allocate(List)} 결과
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertLots(final List<Long> outIds, final List<Allocation> allocations) {
+        if (outIds.size() != allocations.size()) {
+            throw new IllegalStateException("출고 헤더 수와 할당 수가 다릅니다. headers="
+                    + outIds.size() + ", allocations=" + allocations.size());
+        }
+
+        List<OutLotRow> rows = new ArrayList<>();
+        for (int i = 0; i < allocations.size(); i++) {
+            Long outId = outIds.get(i);
+            for (InventoryOutPreviewItemDTO p : allocations.get(i).plan()) {
+                rows.add(new OutLotRow(outId, p.getBatchId(), p.getQty()));
+            }
+        }
+        fifoAllocationJdbcRepository.insertOutLots(rows);
+    }
+
+    /**
+     * 출고 라인.
+     *
+     * @param materialId 재료 ID
+     * @param quantity   출고 수량(양수)
+     */
+    public record Line(Long materialId, BigDecimal quantity) {}
+
+    /**
+     * 출고 라인 한 건의 할당 결과.
+     *
+     * @param materialId 재료 ID
+     * @param quantity   출고 수량
+     * @param stockAfter 이 라인까지 차감한 뒤의 본사 현재고
+     * @param plan       배치별 출고 분할(FIFO 순)
+     */
+    public record Allocation(Long materialId,
+                             BigDecimal quantity,
+                             BigDecimal stockAfter,
+                             List<InventoryOutPreviewItemDTO> plan) {}
+
+    /**
+     * 미리보기 결과.
+     *
+     * @param lines     라인과 같은 순서의 라인별 분할
+     * @param materials 재료 ID 순의 재료별 요청/가용/부족 수량
+     */
+    public record Preview(List<LinePreview> lines, List<MaterialPreview> materials) {}
+
+    /**
+     * 출고 라인 한 건의 미리보기.
+     *
+     * @param materialId 재료 ID
+     * @param quantity   요청 수량
+     * @param planned    분할된 수량
+     * @param shortage   부족 수량(요청 - 분할)
+     * @param plan       배치별 출고 분할(FIFO 순)
+     */
+    public record LinePreview(Long materialId,
+                              BigDecimal quantity,
+                              BigDecimal planned,
+                              BigDecimal shortage,
+                              List<InventoryOutPreviewItemDTO> plan) {}
+
+    /**
+     * 재료 한 건의 미리보기 합계.
+     *
+     * @param materialId 재료 ID
+     * @param requested  라인 요청 합계
+     * @param available  본사 LOT 가용 합계
+     * @param shortage   부족 수량(0 이상)
+     */
+    public record MaterialPreview(Long materialId,
+                                  BigDecimal requested,
+                                  BigDecimal available,
+                                  BigDecimal shortage) {}
+
+    /** 재료 한 건의 FIFO 후보 순회 상태 */
+    private static final class Cursor {
+
+        private final List<FifoCandidateDTO> rows;
+        private int index;
+        private BigDecimal left;
+
+        private Cursor(List<FifoCandidateDTO> rows) {
+            this.rows = rows;
+            this.left = rows.isEmpty() ? BigDecimal.ZERO : rows.get(0).getAvailable();
+        }
+
+        /** @return 잔량이 남은 현재 후보, 모두 소진했으면 null */
+        private FifoCandidateDTO current() {
+            while (left.signum() <= 0) {
+                index++;
+                if (index >= rows.size()) return null;
+                left = rows.get(index).getAvailable();
+            }
+            return rows.get(index);
+        }
+
+        private void take(BigDecimal qty) {
+            left = left.subtract(qty);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.boot.ict05_final_admin.domain.inventory.service;
+
+import com.boot.ict05_final_admin.domain.inventory.config.StockLedgerProperties;
+import com.boot.ict05_final_admin.domain.inventory.repository.HqStockBalanceRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.HqStockBalanceRepository.DriftRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 본사 재료별 현재고 잔액(running balance) 서비스.
+ *
+ * <p>
+ * 배치(LOT) 수량을 바꾸는 입고/출고/조정 서비스가 같은 트랜잭션에서 증감치를 반영하고,
+ * 현재고 조회는 잔액 행 하나를 읽는다(배치 이력 크기와 무관).
+ * 잔액 행이 아직 없는 재료는 첫 증감 때 본사 LOT 합계로 시드되며, 그 전까지의 조회는 DB 합계로 폴백한다.
+ * </p>
+ *
+ * <p>정기 대사({@link #reconcile()})는 잔액과 본사 LOT 합계를 비교해 불일치를 보고하고,
+ * 설정({@code inventory.stock-ledger.auto-repair})에 따라 배치 합계로 보정한다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HqStockLedgerService {
+
+    private final HqStockBalanceRepository hqStockBalanceRepository;
+    private final StockLedgerProperties props;
+
+    /**
+     * 재료의 본사 현재고를 조회한다.
+     *
+     * @param materialId 재료 ID
+     * @return 현재고(배치가 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal balanceOf(final Long materialId) {
+        return hqStockBalanceRepository.findQuantity(materialId)
+                .orElseGet(() -> hqStockBalanceRepository.sumHqBatches(materialId));
+    }
+
+    /**
+     * 재료의 현재고 잔액에 증감치를 반영한다.
+     *
+     * <p>배치 변경 이후, 같은 트랜잭션 안에서 호출해야 한다.</p>
+     *
+     * @param materialId 재료 ID
+     * @param delta      증감치(0이면 무시)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(final Long materialId, final BigDecimal delta) {
+        if (delta == null || delta.signum() == 0) return;
+        hqStockBalanceRepository.applyDelta(materialId, delta);
+    }
+
+    /**
+     * 여러 재료의 증감치를 재료 ID 오름차순으로 반영한다(잔액 행 잠금 순서 고정).
+     *
+     * @param deltas 재료 ID → 증감치
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyAll(final Map<Long, BigDecimal> deltas) {
+        new TreeMap<>(deltas).forEach(this::apply);
+    }
+
+    /**
+     * 잔액과 본사 LOT 합계를 대사한다.
+     *
+     * <p>잔액 행이 없는 재료는 시드하고, 값이 다른 재료는 경고 로그로 보고한다.
+     * {@code auto-repair=true}이면 불일치 재료를 배치 합계로 다시 맞춘다.</p>
+     *
+     * @return 불일치(누락 제외) 재료 수
+     */
+    @Transactional
+    public int reconcile() {
+        List<DriftRow> rows = hqStockBalanceRepository.findDrift();
+
+        int seeded = 0;
+        int drift = 0;
+        for (DriftRow r : rows) {
+            if (r.getBalance() == null) {
+                hqStockBalanceRepository.resync(r.getMaterialId());
+                seeded++;
+                continue;
+            }
+
+            if (drift < props.getDriftLogLimit()) {
+                log.warn("[StockLedger] drift materialId={}, balance={}, batchSum={}, diff={}",
+                        r.getMaterialId(), r.getBalance(), r.getBatchSum(),
+                        r.getBalance().subtract(r.getBatchSum()));
+            }
+            drift++;
+
+            if (props.isAutoRepair()) {
+                hqStockBalanceRepository.resync(r.getMaterialId());
+            }
+        }
+
+        if (drift > 0 || seeded > 0) {
+            log.warn("[StockLedger] reconcile: drift={}, seeded={}, repaired={}",
+                    drift, seeded, props.isAutoRepair() ? drift : 0);
+        } else {
+            log.info("[StockLedger] reconcile: balances match batch sums");
+        }
+        return drift;
+    }
+}
@@ -1,13 +1,14 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.domain.fcm.dto.HqInventoryChangedEvent;
 import com.boot.ict05_final_admin.domain.inventory.dto.InventoryAdjustDTO;
 import com.boot.ict05_final_admin.domain.inventory.entity.*;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryAdjustmentRepository;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryBatchRepository;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryRepository;
-import com.boot.ict05_final_admin.domain.inventory.repository.UnitPriceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,7 +42,10 @@ public class InventoryAdjustmentService {
     private final InventoryRepository inventoryRepository;
     private final InventoryBatchRepository inventoryBatchRepository;
     private final InventoryAdjustmentRepository inventoryAdjustmentRepository;
-    private final UnitPriceRepository unitPriceRepository;
+    private final UnitPriceService unitPriceService;
+    private final HqStockLedgerService hqStockLedgerService;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 기준 시점(at)의 최신 매입단가 조회.
@@ -51,9 +55,7 @@ public class InventoryAdjustmentService {
      * @return 최신 매입단가(없으면 0)
      */
     private BigDecimal getLatestPurchasePrice(final Long materialId, final LocalDateTime at) {
-        return unitPriceRepository.findLatestPurchasePrice(materialId, at)
-                .map(UnitPrice::getPurchasePrice)
-                .orElse(ZERO);
+        return unitPriceService.purchasePriceAt(materialId, at).orElse(ZERO);
     }
 
     /**
@@ -64,7 +66,8 @@ public class InventoryAdjustmentService {
      *   <li>인벤토리 수량 업데이트(상태/갱신일시 동기화)</li>
      *   <li>diff &gt; 0: ADJ 배치 생성(증가분만큼 단일 LOT)</li>
      *   <li>diff &lt; 0: FIFO로 배치 차감(부족 시 예외)</li>
-     *   <li>조정 로그 기록(단가=기준 시점 최신 매입단가)</li>
+     *   <li>배치 변경분을 본사 현재고 잔액에 반영({@link HqStockLedgerService})</li>
+     *   <li>조정 로그 기록(단가=기준 시점 최신 매입단가) 및 재고 원장 적재</li>
      * </ol>
      *
      * @param dto 재고 수량 조정 요청 DTO
@@ -107,6 +110,7 @@ public class InventoryAdjustmentService {
         final BigDecimal latestPrice = getLatestPurchasePrice(material.getId(), now);
 
         // 4) 배치 처리
+        Long adjBatchId = null;
         if (diff.compareTo(ZERO) > 0) {
             // 수량 증가 → ADJ 배치 1건 생성
             String lotNo = String.format("%s-%s-ADJ",
@@ -125,7 +129,8 @@ public class InventoryAdjustmentService {
                     .createdAt(now)
                     .build();
 
-            inventoryBatchRepository.saveAndFlush(batch);
+            adjBatchId = inventoryBatchRepository.saveAndFlush(batch).getId();
+            hqStockLedgerService.apply(material.getId(), diff);
 
         } else if (diff.compareTo(ZERO) < 0) {
             // 수량 감소 → FIFO 차감
@@ -151,6 +156,7 @@ public class InventoryAdjustmentService {
                         "배치 잔량이 부족해 FIFO 차감에 실패했습니다. 부족수량=" + remaining
                 );
             }
+            hqStockLedgerService.apply(material.getId(), diff); // diff < 0
         }
 
         // 5) 조정 로그 기록(단가: 기준 시점 최신 매입단가)
@@ -165,7 +171,9 @@ public class InventoryAdjustmentService {
                 .createdAt(now)
                 .build();
 
-        inventoryAdjustmentRepository.save(adj);
+        adj = inventoryAdjustmentRepository.save(adj);
+        inventoryLedgerService.recordAdjust(adj, material.getId(), adjBatchId);
+        eventPublisher.publishEvent(HqInventoryChangedEvent.of(material.getId()));
 
         // 6) 로그
         log.info("[INVENTORY ADJUST] material={}, diff={}, before={}, after={}, reason={}",
@@ -0,0 +1,393 @@
+package com.boot.ict05_final_admin.domain.inventory.service;
+
+import com.boot.ict05_final_admin.domain.inventory.config.InventoryImportProperties;
+import com.boot.ict05_final_admin.domain.inventory.dto.InventoryInImportResultDTO;
+import com.boot.ict05_final_admin.domain.inventory.dto.InventoryInImportResultDTO.RowError;
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPriceChangedEvent;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryInboundJdbcRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryInboundJdbcRepository.InboundRow;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryInboundJdbcRepository.PriceRow;
+import com.boot.ict05_final_admin.domain.inventory.utility.TabularRowReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 본사 일괄 입고(XLSX/CSV 업로드) 서비스.
+ *
+ * <p>
+ * 파일을 한 행씩 스트리밍으로 읽어 검증하고, 유효 행을 {@code inventory.import.chunk-size}건씩 모아
+ * 청크 하나를 한 트랜잭션으로 저장한다. 청크 안에서는 재료별로 묶어
+ * </p>
+ * <ol>
+ *   <li>본사 재고를 재료당 한 번만 잠가 합계 수량만큼 증가시키고({@link InventoryStockService})</li>
+ *   <li>행마다 LOT 번호와 입고 후 재고(stockAfter)를 파일 순서대로 매긴 뒤</li>
+ *   <li>단가 이력(재료당 매입/판매 1쌍, 청크 내 마지막 행 기준), 입고 헤더, 배치, 재고 원장을 JDBC 배치로 삽입하고</li>
+ *   <li>본사 현재고 잔액을 재료 ID 순으로 반영한다({@link HqStockLedgerService}).</li>
+ * </ol>
+ *
+ * <p>검증 실패 행과 저장에 실패한 청크의 행은 파일 행 번호와 사유를 결과에 담고, 나머지 행은 계속 처리한다.</p>
+ *
+ * <p>파일 형식: 첫 번째 비어 있지 않은 행이 헤더이며, 열 순서는 자유다.</p>
+ * <ul>
+ *   <li>필수: {@code materialCode}(재료코드) 또는 {@code materialId}(재료ID), {@code quantity}(수량),
+ *       {@code unitPrice}(매입단가), {@code expirationDate}(유통기한)</li>
+ *   <li>선택: {@code sellingPrice}(공급가), {@code inDate}(입고일시, 없으면 업로드 시각), {@code memo}(비고)</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryInImportService {
+
+    private final InventoryInboundJdbcRepository inboundRepository;
+    private final InventoryStockService stockService;
+    private final HqStockLedgerService hqStockLedgerService;
+    private final InventoryInService inventoryInService;
+    private final InventoryImportProperties props;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 헤더 열 정의(별칭은 대소문자/공백/밑줄/하이픈 무시) */
+    private enum Col {
+        MATERIAL_ID("materialid", "재료id"),
+        MATERIAL_CODE("materialcode", "재료코드"),
+        QUANTITY("quantity", "수량", "입고수량"),
+        UNIT_PRICE("unitprice", "단가", "매입단가", "입고단가"),
+        SELLING_PRICE("sellingprice", "공급가", "판매단가"),
+        IN_DATE("indate", "입고일", "입고일시"),
+        EXPIRATION_DATE("expirationdate", "유통기한"),
+        MEMO("memo", "비고");
+
+        private final String[] aliases;
+
+        Col(String... aliases) {
+            this.aliases = aliases;
+        }
+
+        static Col of(String header) {
+            String key = header.toLowerCase(Locale.ROOT).replaceAll("[\\s_\\-]", "");
+            for (Col c : values()) {
+                for (String a : c.aliases) {
+                    if (a.equals(key)) return c;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** 검증을 통과한 행(재료는 코드 또는 ID 중 하나) */
+    private record ParsedRow(int rowNumber,
+                             Long materialId,
+                             String materialCode,
+                             BigDecimal quantity,
+                             BigDecimal unitPrice,
+                             BigDecimal sellingPrice,
+                             LocalDateTime inDate,
+                             LocalDate expirationDate,
+                             String memo) {
+
+        ParsedRow withMaterialId(Long id) {
+            return new ParsedRow(rowNumber, id, materialCode, quantity, unitPrice, sellingPrice,
+                    inDate, expirationDate, memo);
+        }
+    }
+
+    /** 최대 행 수 초과 시 읽기 중단 */
+    private static final class StopReading extends RuntimeException {
+        StopReading() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * 업로드 파일을 일괄 입고한다.
+     *
+     * @param file XLSX 또는 CSV(UTF-8) 파일
+     * @return 처리 결과(행 오류 포함)
+     * @throws IOException              파일을 읽을 수 없을 때
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 헤더에 필수 열이 없을 때
+     */
+    public InventoryInImportResultDTO importFile(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드 파일이 비어 있습니다.");
+        }
+        String name = Objects.requireNonNullElse(file.getOriginalFilename(), "").toLowerCase(Locale.ROOT);
+        long started = System.nanoTime();
+        Session session = new Session();
+
+        try {
+            if (name.endsWith(".xlsx")) {
+                // 이벤트 API는 ZIP 임의 접근이 필요하므로 임시 파일로 받아 읽는다
+                Path tmp = Files.createTempFile("inbound-import-", ".xlsx");
+                try {
+                    file.transferTo(tmp);
+                    TabularRowReader.readXlsx(tmp, session::accept);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            } else if (name.endsWith(".csv")) {
+                try (InputStream in = file.getInputStream()) {
+                    TabularRowReader.readCsv(in, session::accept);
+                }
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 파일 형식입니다(xlsx, csv): " + file.getOriginalFilename());
+            }
+        } catch (StopReading ignored) {
+            // 최대 행 수 초과: 이미 읽은 행까지만 저장
+        }
+        session.flush();
+
+        InventoryInImportResultDTO result = session.result((System.nanoTime() - started) / 1_000_000);
+        log.info("[InboundImport] file={}, total={}, imported={}, failed={}, elapsedMs={}",
+                file.getOriginalFilename(), result.getTotalRows(), result.getImportedRows(),
+                result.getFailedRows(), result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * 파일 1건 처리 상태(헤더 매핑, 대기 청크, 집계).
+     */
+    private final class Session {
+
+        private Map<Col, Integer> columns;
+        private final List<ParsedRow> pending = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        void accept(int rowNumber, List<String> cells) {
+            if (columns == null) {
+                columns = mapHeader(cells);
+                return;
+            }
+            if (total >= props.getMaxRows()) {
+                error(rowNumber, "최대 행 수(" + props.getMaxRows() + ")를 초과하여 이후 행은 처리하지 않았습니다.");
+                throw new StopReading();
+            }
+            total++;
+
+            ParsedRow row;
+            try {
+                row = parse(rowNumber, cells);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                error(rowNumber, e.getMessage());
+                return;
+            }
+            pending.add(row);
+            if (pending.size() >= Math.max(1, props.getChunkSize())) flush();
+        }
+
+        /** 대기 행의 재료를 확인하고 한 트랜잭션으로 저장한다. */
+        void flush() {
+            if (pending.isEmpty()) return;
+            List<ParsedRow> rows = resolveMaterials(new ArrayList<>(pending));
+            pending.clear();
+            if (rows.isEmpty()) return;
+
+            try {
+                tx.executeWithoutResult(status -> writeChunk(rows));
+                imported += rows.size();
+            } catch (RuntimeException e) {
+                log.warn("[InboundImport] chunk failed: rows={}~{}, cause={}",
+                        rows.get(0).rowNumber(), rows.get(rows.size() - 1).rowNumber(), e.getMessage());
+                String msg = "저장 실패: " + rootMessage(e);
+                for (ParsedRow r : rows) error(r.rowNumber(), msg);
+            }
+        }
+
+        private List<ParsedRow> resolveMaterials(List<ParsedRow> rows) {
+            Set<String> codes = new HashSet<>();
+            Set<Long> ids = new HashSet<>();
+            for (ParsedRow r : rows) {
+                if (r.materialId() != null) ids.add(r.materialId());
+                else codes.add(r.materialCode());
+            }
+            Map<String, Long> idByCode = inboundRepository.findMaterialIdsByCode(codes);
+            Set<Long> existing = inboundRepository.findExistingMaterialIds(ids);
+
+            List<ParsedRow> resolved = new ArrayList<>(rows.size());
+            for (ParsedRow r : rows) {
+                if (r.materialId() != null) {
+                    if (existing.contains(r.materialId())) resolved.add(r);
+                    else error(r.rowNumber(), "재료를 찾을 수 없습니다: materialId=" + r.materialId());
+                } else {
+                    Long id = idByCode.get(r.materialCode());
+                    if (id != null) resolved.add(r.withMaterialId(id));
+                    else error(r.rowNumber(), "재료를 찾을 수 없습니다: materialCode=" + r.materialCode());
+                }
+            }
+            return resolved;
+        }
+
+        private void error(int rowNumber, String message) {
+            failed++;
+            if (errors.size() < props.getMaxErrors()) errors.add(new RowError(rowNumber, message));
+        }
+
+        InventoryInImportResultDTO result(long elapsedMs) {
+            errors.sort(Comparator.comparingInt(RowError::getRow));
+            return InventoryInImportResultDTO.builder()
+                    .totalRows(total)
+                    .importedRows(imported)
+                    .failedRows(failed)
+                    .elapsedMs(elapsedMs)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+
+        private ParsedRow parse(int rowNumber, List<String> cells) {
+            String materialIdText = cell(cells, Col.MATERIAL_ID);
+            String materialCode = cell(cells, Col.MATERIAL_CODE);
+            Long materialId = null;
+            if (!materialIdText.isEmpty()) {
+                materialId = parseNumber(materialIdText, "materialId").longValueExact();
+            } else if (materialCode.isEmpty()) {
+                throw new IllegalArgumentException("materialCode or materialId is required");
+            }
+
+            BigDecimal qty = s3(parseNumber(required(cells, Col.QUANTITY, "quantity"), "quantity"));
+            if (qty.signum() <= 0) throw new IllegalArgumentException("quantity must be > 0");
+
+            BigDecimal unitPrice = s3(parseNumber(required(cells, Col.UNIT_PRICE, "unitPrice"), "unitPrice"));
+            if (unitPrice.signum() < 0) throw new IllegalArgumentException("unitPrice must be >= 0");
+
+            String sellingText = cell(cells, Col.SELLING_PRICE);
+            BigDecimal sellingPrice = sellingText.isEmpty() ? null : s3(parseNumber(sellingText, "sellingPrice"));
+            if (sellingPrice != null && sellingPrice.signum() < 0) {
+                throw new IllegalArgumentException("sellingPrice must be >= 0");
+            }
+
+            String inDateText = cell(cells, Col.IN_DATE);
+            LocalDateTime inDate = inDateText.isEmpty() ? LocalDateTime.now() : parseDateTime(inDateText);
+            LocalDate expirationDate = parseDate(required(cells, Col.EXPIRATION_DATE, "expirationDate"));
+
+            String memo = cell(cells, Col.MEMO);
+            if (memo.length() > 255) throw new IllegalArgumentException("memo must be <= 255 chars");
+
+            return new ParsedRow(rowNumber, materialId, materialCode, qty, unitPrice, sellingPrice,
+                    inDate, expirationDate, memo.isEmpty() ? null : memo);
+        }
+
+        private String cell(List<String> cells, Col col) {
+            Integer idx = columns.get(col);
+            return idx == null || idx >= cells.size() ? "" : cells.get(idx);
+        }
+
+        private String required(List<String> cells, Col col, String name) {
+            String v = cell(cells, col);
+            if (v.isEmpty()) throw new IllegalArgumentException(name + " is required");
+            return v;
+        }
+    }
+
+    /**
+     * 청크 저장(호출 측 트랜잭션 안에서 실행).
+     */
+    private void writeChunk(List<ParsedRow> rows) {
+        // 재료 ID 오름차순(재고 행 잠금 순서 고정), 재료 안에서는 파일 순서
+        Map<Long, List<ParsedRow>> byMaterial = new TreeMap<>();
+        for (ParsedRow r : rows) byMaterial.computeIfAbsent(r.materialId(), k -> new ArrayList<>()).add(r);
+
+        List<InboundRow> inbound = new ArrayList<>(rows.size());
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        Map<Long, PriceRow> prices = new TreeMap<>();
+
+        byMaterial.forEach((materialId, list) -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (ParsedRow r : list) sum = sum.add(r.quantity());
+
+            // 재고 += 합계 (재료당 잠금 1회) → 행별 입고 후 재고는 파일 순서로 누적
+            BigDecimal running = stockService.addToInventory(materialId, sum).subtract(sum);
+            for (ParsedRow r : list) {
+                running = running.add(r.quantity());
+                inbound.add(new InboundRow(materialId, r.quantity(), r.unitPrice(), r.sellingPrice(),
+                        r.inDate(), r.expirationDate(), r.memo(), inventoryInService.generateLotNo(), running));
+            }
+
+            ParsedRow last = list.get(list.size() - 1);
+            prices.put(materialId, new PriceRow(last.unitPrice(), last.sellingPrice()));
+            deltas.put(materialId, sum);
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        inboundRepository.insertUnitPrices(prices, now);
+        eventPublisher.publishEvent(UnitPriceChangedEvent.evict(prices.keySet())); // 행 ID 미조회 → 캐시 재적재
+        inboundRepository.insertInbound(inbound, now);
+
+        // 배치 삽입 이후 같은 트랜잭션에서 현재고 잔액 반영
+        hqStockLedgerService.applyAll(deltas);
+    }
+
+    private static Map<Col, Integer> mapHeader(List<String> cells) {
+        Map<Col, Integer> columns = new EnumMap<>(Col.class);
+        for (int i = 0; i < cells.size(); i++) {
+            Col c = Col.of(cells.get(i));
+            if (c != null) columns.putIfAbsent(c, i);
+        }
+        if (!columns.containsKey(Col.MATERIAL_ID) && !columns.containsKey(Col.MATERIAL_CODE)) {
+            throw new IllegalArgumentException("헤더에 materialCode 또는 materialId 열이 필요합니다.");
+        }
+        for (Col c : List.of(Col.QUANTITY, Col.UNIT_PRICE, Col.EXPIRATION_DATE)) {
+            if (!columns.containsKey(c)) {
+                throw new IllegalArgumentException("헤더에 필수 열이 없습니다: " + c.aliases[0]);
+            }
+        }
+        return columns;
+    }
+
+    private static BigDecimal parseNumber(String text, String name) {
+        try {
+            return new BigDecimal(text.replace(",", "").trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number: " + text);
+        }
+    }
+
+    /** 소수점 3자리 HALF_UP 고정 */
+    private static BigDecimal s3(BigDecimal v) {
+        return v.setScale(3, RoundingMode.HALF_UP);
+    }
+
+    /** {@code yyyy-MM-dd}, {@code yyyy/MM/dd}, {@code yyyy.MM.dd} (시각이 붙어 있으면 날짜만 사용) */
+    private static LocalDate parseDate(String text) {
+        String t = text.trim().replace('/', '-').replace('.', '-');
+        int cut = indexOfTime(t);
+        return LocalDate.parse(cut > 0 ? t.substring(0, cut) : t);
+    }
+
+    /** 날짜만 있으면 00:00, {@code yyyy-MM-dd HH:mm[:ss]} 또는 ISO-8601 */
+    private static LocalDateTime parseDateTime(String text) {
+        String t = text.trim();
+        int cut = indexOfTime(t);
+        if (cut < 0) return parseDate(t).atStartOfDay();
+        return LocalDateTime.parse(t.substring(0, cut).replace('/', '-').replace('.', '-') + "T" + t.substring(cut + 1).trim());
+    }
+
+    private static int indexOfTime(String t) {
+        int i = t.indexOf('T');
+        return i >= 0 ? i : t.indexOf(' ');
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable t = e;
+        while (t.getCause() != null && t.getCause() != t) t = t.getCause();
+        return t.getMessage() != null ? t.getMessage() : t.getClass().getSimpleName();
+    }
+}
@@ -1,13 +1,17 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.common.keygen.KeyAllocator;
+import com.boot.ict05_final_admin.common.keygen.KeygenProperties;
 import com.boot.ict05_final_admin.domain.inventory.dto.InventoryInWriteDTO;
 import com.boot.ict05_final_admin.domain.inventory.entity.InventoryBatch;
 import com.boot.ict05_final_admin.domain.inventory.entity.InventoryIn;
 import com.boot.ict05_final_admin.domain.inventory.entity.Material;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryBatchRepository;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryInRepository;
+import com.boot.ict05_final_admin.domain.inventory.utility.InventoryLogIdUtil;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +19,8 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * 본사 입고 서비스.
@@ -26,6 +32,7 @@ import java.time.LocalDateTime;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class InventoryInService {
 
     private final EntityManager em;
@@ -33,6 +40,19 @@ public class InventoryInService {
     private final InventoryBatchRepository batchRepo;
     private final InventoryStockService stockService; // 재고 증감/상태 갱신 전담
     private final UnitPriceService unitPriceService;
+    private final HqStockLedgerService hqStockLedgerService;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final KeyAllocator keyAllocator;
+    private final KeygenProperties keygenProperties;
+
+    /** LOT 일련번호 최댓값(6자리) */
+    private static final long MAX_LOT_SEQ = 999_999L;
+
+    /** 현재 LOT 일자 상태(일자가 바뀌면 이전 키의 메모리 블록을 버린다) */
+    private volatile LotDay lotDay;
+
+    /** LOT 일자 키와 그날 이미 쓰인 LOT 번호 */
+    private record LotDay(String key, Set<String> used) {}
 
     /** 소수점 3자리 HALF_UP 고정 */
     private static BigDecimal s3(final BigDecimal v) {
@@ -49,6 +69,7 @@ public class InventoryInService {
      *   <li>본사 재고 += qty (비관잠금은 {@link InventoryStockService} 내부에서 수행)</li>
      *   <li>입고 로그 저장(헤더: {@code stockAfter=after})</li>
      *   <li>동일 {@code lotNo}로 배치(InventoryBatch) 생성</li>
+     *   <li>본사 현재고 잔액 반영({@link HqStockLedgerService})</li>
      * </ol>
      *
      * @param dto 입고 등록 DTO
@@ -108,7 +129,13 @@ public class InventoryInService {
                 .unitPrice(unitPrice)
                 .lotNo(lotNo)
                 .build();
-        batchRepo.save(batch);
+        batch = batchRepo.save(batch);
+
+        // 7) 본사 현재고 잔액 += qty (배치 저장 이후 같은 트랜잭션에서 반영)
+        hqStockLedgerService.apply(materialRef.getId(), qty);
+
+        // 8) 재고 원장 적재
+        inventoryLedgerService.recordIn(in, batch.getId());
 
         return in.getId();
     }
@@ -117,7 +144,7 @@ public class InventoryInService {
      * 입고 삭제.
      *
      * <p>
-     * 단순 헤더 삭제만 수행한다. 배치/재고 롤백은 별도 정책에 따른다.
+     * 헤더와 대응하는 재고 원장 행만 삭제한다. 배치/재고 롤백은 별도 정책에 따른다.
      * </p>
      *
      * @param inId 입고 ID
@@ -125,25 +152,51 @@ public class InventoryInService {
     @Transactional
     public void deleteIn(final Long inId) {
         inRepo.deleteById(inId);
+        inventoryLedgerService.remove(InventoryLogIdUtil.INCOME, inId);
     }
 
     /**
      * LOT 번호 생성기.
      *
-     * <p>포맷: {@code LOT-YYMMDD-######}. 충돌 시 최대 5회 재시도 후 타임베이스 시퀀스로 폴백.</p>
+     * <p>포맷: {@code LOT-YYMMDD-######}. 일자별 시퀀스({@code key_sequence})에서 블록 단위로 예약한 값을
+     * 메모리에서 발급하므로 노드 간 충돌이 없고, 입고마다 중복 확인 조회를 하지 않는다.
+     * 일괄 입고({@link InventoryInImportService})도 같은 생성기를 사용한다.</p>
+     *
+     * <p>시퀀스는 매일 1부터 시작한다. 이전 방식의 무작위 LOT 번호가 같은 일자에 이미 있을 수 있으므로,
+     * 노드마다 일자가 바뀔 때(기동 직후 포함) 그날 쓰인 LOT 번호를 한 번 읽어 두고 발급 시 건너뛴다.</p>
+     *
+     * @throws IllegalStateException 해당 일자 LOT 일련번호가 {@value #MAX_LOT_SEQ}를 넘은 경우
      */
-    private String generateLotNo() {
+    String generateLotNo() {
         final LocalDate today = LocalDate.now();
         final String ymd = String.format("%02d%02d%02d",
                 today.getYear() % 100, today.getMonthValue(), today.getDayOfMonth());
+        final String prefix = "LOT-" + ymd + "-";
+        final String key = "LOT-" + ymd;
+
+        LotDay day = lotDay;
+        if (day == null || !key.equals(day.key())) {
+            final LotDay prev = day;
+            day = new LotDay(key, usedLotNos(prefix));
+            lotDay = day;
+            if (prev != null) keyAllocator.release(prev.key());
+        }
 
-        for (int i = 0; i < 5; i++) {
-            String seq = String.format("%06d", Math.floorMod(System.nanoTime(), 1_000_000));
-            String lot = "LOT-" + ymd + "-" + seq;
-            if (!inRepo.existsByLotNo(lot) && !batchRepo.existsByLotNo(lot)) {
-                return lot;
+        String lotNo;
+        do {
+            long seq = keyAllocator.next(key, keygenProperties.getLotBlockSize(), () -> 1L);
+            if (seq > MAX_LOT_SEQ) {
+                throw new IllegalStateException("일일 LOT 번호 한도(" + MAX_LOT_SEQ + ")를 초과했습니다: " + prefix + seq);
             }
-        }
-        return "LOT-" + ymd + "-" + String.format("%06d", Math.floorMod(System.currentTimeMillis(), 1_000_000));
+            lotNo = prefix + String.format("%06d", seq);
+        } while (day.used().contains(lotNo));
+        return lotNo;
+    }
+
+    /** 해당 일자에 이미 쓰인 LOT 번호(입고 헤더 + 배치) */
+    private Set<String> usedLotNos(final String prefix) {
+        final Set<String> used = new HashSet<>(batchRepo.findLotNosByPrefix(prefix));
+        used.addAll(inRepo.findLotNosByPrefix(prefix));
+        return Set.copyOf(used);
     }
 }
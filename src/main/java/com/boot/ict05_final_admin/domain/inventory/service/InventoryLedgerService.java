@@ -0,0 +1,153 @@
+package com.boot.ict05_final_admin.domain.inventory.service;
+
+import com.boot.ict05_final_admin.domain.inventory.config.InventoryLedgerProperties;
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryAdjustment;
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryIn;
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLedger;
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryOut;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLedgerRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static com.boot.ict05_final_admin.domain.inventory.utility.InventoryLogIdUtil.*;
+
+/**
+ * 본사 재고 원장(append-only) 적재 서비스.
+ *
+ * <p>
+ * 입고/출고/조정 서비스가 헤더를 저장한 같은 트랜잭션에서 원장 행을 한 건씩 추가한다.
+ * 원장 행은 수정하지 않으며, 원본 헤더가 삭제될 때만 함께 삭제한다.
+ * </p>
+ *
+ * <p>{@link #backfill()}은 원장 도입 이전 이력을 {@code v_inventory_log} 뷰에서 원본 PK 구간 단위로 복사한다.
+ * 구간마다 별도 트랜잭션으로 커밋하고 유형별 완료 위치({@code inventory_ledger_backfill})를 남기므로,
+ * 다음 실행은 그 뒤 구간만 확인한다. 유니크 키 덕분에 같은 구간을 다시 복사해도 중복되지 않는다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerService {
+
+    private final InventoryLedgerRepository inventoryLedgerRepository;
+    private final InventoryLedgerProperties props;
+    private final EntityManager em;
+
+    /**
+     * 입고 원장 행을 추가한다.
+     *
+     * @param in      저장된 입고 헤더
+     * @param batchId 입고로 생성된 배치 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordIn(final InventoryIn in, final Long batchId) {
+        append(InventoryLedger.builder()
+                .logId(wrap(INCOME, in.getId()))
+                .sourceId(in.getId())
+                .type(INCOME)
+                .date(in.getInDate())
+                .materialId(in.getMaterial().getId())
+                .quantity(in.getQuantity())
+                .stockAfter(in.getStockAfter())
+                .unitPrice(in.getUnitPrice())
+                .memo(in.getMemo())
+                .storeId(in.getStore() != null ? in.getStore().getId() : null)
+                .batchId(batchId));
+    }
+
+    /**
+     * 출고 원장 행을 추가한다(수량은 음수로 기록).
+     *
+     * @param out 저장된 출고 헤더
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOut(final InventoryOut out) {
+        append(InventoryLedger.builder()
+                .logId(wrap(OUTGO, out.getId()))
+                .sourceId(out.getId())
+                .type(OUTGO)
+                .date(out.getOutDate())
+                .materialId(out.getMaterial().getId())
+                .quantity(out.getQuantity().negate())
+                .stockAfter(out.getStockAfter())
+                .unitPrice(out.getUnitPrice())
+                .memo(out.getMemo())
+                .storeId(out.getStore() != null ? out.getStore().getId() : null));
+    }
+
+    /**
+     * 조정 원장 행을 추가한다.
+     *
+     * @param adj        저장된 조정 로그
+     * @param materialId 재료 ID
+     * @param batchId    증가 조정으로 생성된 배치 ID(감소 조정은 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdjust(final InventoryAdjustment adj, final Long materialId, final Long batchId) {
+        append(InventoryLedger.builder()
+                .logId(wrap(ADJUST, adj.getId()))
+                .sourceId(adj.getId())
+                .type(ADJUST)
+                .date(adj.getCreatedAt())
+                .materialId(materialId)
+                .quantity(adj.getDifference())
+                .stockAfter(adj.getQuantityAfter())
+                .unitPrice(adj.getUnitPrice())
+                .memo(adj.getMemo())
+                .batchId(batchId));
+    }
+
+    /**
+     * 원본 헤더 삭제에 맞춰 원장 행을 삭제한다.
+     *
+     * @param type     로그 유형
+     * @param sourceId 원본 PK
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(final String type, final Long sourceId) {
+        inventoryLedgerRepository.deleteBySource(type, sourceId);
+    }
+
+    /**
+     * 원장 도입 이전 이력을 뷰에서 복사한다.
+     *
+     * <p>유형별로 기록된 완료 위치부터 원본 최대 PK까지 {@code inventory.ledger.backfill-chunk-size} 구간씩 나눠 복사한다.
+     * 구간 하나가 한 트랜잭션이므로 긴 잠금이나 거대한 언두 로그를 만들지 않는다.
+     * 구간을 마칠 때마다 완료 위치를 올리므로 중간에 멈춰도 이어서 진행하며,
+     * 원장 도입 이후 행은 실시간으로 적재되므로 첫 전체 복사 이후에는 새 구간만 빠르게 확인하고 끝난다.</p>
+     *
+     * @return 새로 적재한 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long backfill() {
+        long inserted = 0;
+        inserted += backfillType(INCOME, inventoryLedgerRepository.maxIncomeSourceId());
+        inserted += backfillType(OUTGO, inventoryLedgerRepository.maxOutgoSourceId());
+        inserted += backfillType(ADJUST, inventoryLedgerRepository.maxAdjustSourceId());
+        return inserted;
+    }
+
+    private long backfillType(final String type, final long maxId) {
+        final int chunk = Math.max(1, props.getBackfillChunkSize());
+        final long doneUntil = inventoryLedgerRepository.backfillDoneUntil(type);
+        long inserted = 0;
+        for (long from = doneUntil; from < maxId; from += chunk) {
+            long to = Math.min(from + chunk, maxId);
+            inserted += inventoryLedgerRepository.backfillRange(type, from, to);
+            inventoryLedgerRepository.markBackfilled(type, to);
+        }
+        if (doneUntil < maxId) {
+            log.info("[Ledger][BACKFILL] type={}, range=({}, {}], inserted={}", type, doneUntil, maxId, inserted);
+        }
+        return inserted;
+    }
+
+    private void append(final InventoryLedger.InventoryLedgerBuilder row) {
+        em.persist(row.createdAt(LocalDateTime.now()).build());
+    }
+}
@@ -1,8 +1,10 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
 import com.boot.ict05_final_admin.domain.inventory.dto.InventoryLogDTO;
-import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLogView;
-import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLogViewRepository;
+import com.boot.ict05_final_admin.domain.inventory.dto.InventoryLogSliceDTO;
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLedger;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLedgerRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLedgerRepositoryCustom.Cursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,13 +14,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * 재고 로그 뷰 서비스.
+ * 재고 로그 조회 서비스.
  *
  * <p>
- * 화면용 집계/뷰 테이블(v_inventory_log)의 페이징 조회를 제공한다.
+ * 본사 재고 원장(inventory_ledger)의 키셋/페이징 조회를 제공한다.
+ * 원장은 입고/출고/조정 시점에 함께 적재되며, 과거 이력은 {@code v_inventory_log}에서 백필된다.
  * </p>
  */
 @Slf4j
@@ -26,13 +32,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InventoryLogViewService {
 
-    private final InventoryLogViewRepository inventoryLogViewRepository;
+    /** 키셋 조회 1회 최대 행 수 */
+    private static final int MAX_SLICE_SIZE = 500;
+
+    private final InventoryLedgerRepository inventoryLedgerRepository;
+    private final StoreNameResolver storeNameResolver;
 
     /**
      * 재료/유형/기간 조건으로 로그를 페이징 조회한다.
      *
      * <p>
-     * 리포지토리에서 {@link InventoryLogView} 페이지를 조회한 뒤,
+     * 리포지토리에서 {@link InventoryLedger} 페이지를 조회한 뒤,
      * 화면/엑셀 공용 DTO({@link InventoryLogDTO})로 매핑하여 반환한다.
      * </p>
      *
@@ -50,12 +60,10 @@ public class InventoryLogViewService {
                                                  final LocalDate endDate,
                                                  final Pageable pageable) {
 
-        Page<InventoryLogView> page =
-                inventoryLogViewRepository.findLogsByFilter(materialId, type, startDate, endDate, pageable);
+        Page<InventoryLedger> page =
+                inventoryLedgerRepository.findLogsByFilter(materialId, type, startDate, endDate, pageable);
 
-        List<InventoryLogDTO> dtoList = page.getContent().stream()
-                .map(this::toDto)
-                .toList();
+        List<InventoryLogDTO> dtoList = toDtos(page.getContent());
 
         // 디버그 로그(필요 시 레벨 조정)
         dtoList.forEach(d ->
@@ -66,18 +74,79 @@ public class InventoryLogViewService {
     }
 
     /**
-     * v_inventory_log 행을 화면/엑셀 공용 DTO로 변환한다.
+     * 재료/유형/기간 조건으로 로그를 키셋 조회한다.
+     *
+     * <p>
+     * 커서({@code cursorDate}, {@code cursorId})보다 오래된 행을 {@code size}건 읽는다.
+     * {@code size + 1}건을 조회해 다음 조각 존재 여부를 판단하므로 COUNT 쿼리가 없다.
+     * </p>
+     *
+     * @param materialId 재료 ID(옵션)
+     * @param type       로그 유형(옵션)
+     * @param startDate  시작일(옵션, 포함)
+     * @param endDate    종료일(옵션, 포함)
+     * @param cursorDate 직전 조각 마지막 행의 일시(옵션, 없으면 처음부터)
+     * @param cursorId   직전 조각 마지막 행의 로그 ID(옵션)
+     * @param size       조각 크기(1~500)
+     * @return 키셋 조회 결과
+     */
+    @Transactional(readOnly = true)
+    public InventoryLogSliceDTO getLogSlice(final Long materialId,
+                                            final String type,
+                                            final LocalDate startDate,
+                                            final LocalDate endDate,
+                                            final LocalDateTime cursorDate,
+                                            final Long cursorId,
+                                            final int size) {
+
+        final int limit = Math.min(Math.max(1, size), MAX_SLICE_SIZE);
+        Cursor cursor = (cursorDate != null && cursorId != null) ? new Cursor(cursorDate, cursorId) : null;
+
+        List<InventoryLedger> rows =
+                inventoryLedgerRepository.findLogsAfter(materialId, type, startDate, endDate, cursor, limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+
+        InventoryLedger last = (hasNext && !rows.isEmpty()) ? rows.get(rows.size() - 1) : null;
+        return InventoryLogSliceDTO.builder()
+                .content(toDtos(rows))
+                .hasNext(hasNext)
+                .nextCursorDate(last != null ? last.getDate() : null)
+                .nextCursorId(last != null ? last.getLogId() : null)
+                .build();
+    }
+
+    /**
+     * 원장 행들을 DTO로 변환한다(가맹점명은 한 번에 조회).
+     *
+     * @param rows 원장 행
+     * @return 변환된 DTO
+     */
+    private List<InventoryLogDTO> toDtos(final List<InventoryLedger> rows) {
+        Map<Long, String> names = storeNameResolver.resolveAll(rows.stream()
+                .map(InventoryLedger::getStoreId)
+                .filter(Objects::nonNull)
+                .toList());
+        return rows.stream()
+                .map(r -> toDto(r, names))
+                .toList();
+    }
+
+    /**
+     * 원장 행을 화면/엑셀 공용 DTO로 변환한다.
      *
      * <p>
-     * {@code logType}은 재계산하지 않고 뷰의 값을 그대로 사용한다.
+     * {@code logId}는 뷰 시절과 같은 합성 ID(유형 버킷 + 원본 PK)를 그대로 사용한다.
      * </p>
      *
-     * @param row 뷰 엔티티
+     * @param row   원장 엔티티
+     * @param names 가맹점 ID → 이름
      * @return 변환된 DTO
      */
-    private InventoryLogDTO toDto(final InventoryLogView row) {
+    private InventoryLogDTO toDto(final InventoryLedger row, final Map<Long, String> names) {
         return InventoryLogDTO.builder()
-                .logId(row.getRowId())
+                .logId(row.getLogId())
                 .logDate(row.getDate())
                 .logType(row.getType())
                 .quantity(row.getQuantity())
@@ -85,7 +154,7 @@ public class InventoryLogViewService {
                 .unitPrice(row.getUnitPrice())
                 .memo(row.getMemo())
                 .storeId(row.getStoreId())
-                .storeName(row.getStoreName())
+                .storeName(row.getStoreId() != null ? names.get(row.getStoreId()) : null)
                 .batchId(row.getBatchId())
                 .build();
     }
@@ -1,30 +1,36 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.domain.fcm.dto.HqInventoryChangedEvent;
+import com.boot.ict05_final_admin.domain.inventory.dto.InventoryOutBatchPreviewDTO;
+import com.boot.ict05_final_admin.domain.inventory.dto.InventoryOutBatchPreviewRequest;
 import com.boot.ict05_final_admin.domain.inventory.dto.InventoryOutPreviewItemDTO;
 import com.boot.ict05_final_admin.domain.inventory.entity.*;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryBatchQueryRepository;
-import com.boot.ict05_final_admin.domain.inventory.repository.InventoryBatchRepository;
-import com.boot.ict05_final_admin.domain.inventory.repository.InventoryOutLotRepository;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryOutRepository;
+import com.boot.ict05_final_admin.domain.inventory.utility.InventoryLogIdUtil;
 import com.boot.ict05_final_admin.domain.receiveOrder.dto.ReceiveOrderDetailDTO;
 import com.boot.ict05_final_admin.domain.receiveOrder.dto.ReceiveOrderItemDTO;
 import com.boot.ict05_final_admin.domain.store.entity.Store;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 출고 도메인 서비스.
  *
  * <p>
  * FIFO 기반 출고 분할 미리보기와 출고 확정을 담당한다.
- * 조회는 QueryRepository에 위임한다.
+ * 조회는 QueryRepository에, 출고 확정의 배치 잠금·차감·LOT 생성은 {@link FifoAllocationEngine}에 위임한다.
  * </p>
  */
 @Service
@@ -33,13 +39,14 @@ public class InventoryOutService {
 
     private final InventoryBatchQueryRepository inventoryBatchQueryRepository;
     private final InventoryOutRepository inventoryOutRepository;
-    private final InventoryOutLotRepository inventoryOutLotRepository;
-    private final InventoryBatchRepository inventoryBatchRepository;
+    private final FifoAllocationEngine fifoAllocationEngine;
+    private final InventoryLedgerService inventoryLedgerService;
 
     private final EntityManager em;
 
     private final UnitPriceService unitPriceService;
     private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 출고(FIFO) 분할 미리보기.
@@ -85,6 +92,45 @@ public class InventoryOutService {
         return plan;
     }
 
+    /**
+     * 여러 재료의 출고(FIFO) 분할 일괄 미리보기.
+     *
+     * <p>
+     * 수주 상세 화면/배송 계획처럼 많은 라인을 한 번에 미리볼 때 사용한다.
+     * 후보 배치는 라인 수와 관계없이 한 번의 조회(재료 ↑, 입고일 ↑, 배치 ID ↑)로 읽고
+     * 분할은 메모리에서 한 번에 계산한다. 재고 부족은 예외 대신 라인별/재료별 부족 수량으로 돌려준다.
+     * </p>
+     *
+     * @param request 출고 라인 목록
+     * @return 라인별 분할과 재료별 부족 수량
+     * @throws IllegalArgumentException 라인이 없거나 재료 ID 누락/수량 0 이하일 때
+     */
+    @Transactional(readOnly = true)
+    public InventoryOutBatchPreviewDTO previewFifoBatch(final InventoryOutBatchPreviewRequest request) {
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("미리보기 라인이 없습니다.");
+        }
+
+        FifoAllocationEngine.Preview preview = fifoAllocationEngine.preview(request.getItems().stream()
+                .map(i -> new FifoAllocationEngine.Line(i.getMaterialId(), i.getQty()))
+                .toList());
+
+        List<InventoryOutBatchPreviewDTO.Line> lines = preview.lines().stream()
+                .map(l -> new InventoryOutBatchPreviewDTO.Line(
+                        l.materialId(), l.quantity(), l.planned(), l.shortage(), l.plan()))
+                .toList();
+        List<InventoryOutBatchPreviewDTO.MaterialSummary> materials = preview.materials().stream()
+                .map(m -> new InventoryOutBatchPreviewDTO.MaterialSummary(
+                        m.materialId(), m.requested(), m.available(), m.shortage()))
+                .toList();
+
+        return InventoryOutBatchPreviewDTO.builder()
+                .fulfillable(materials.stream().allMatch(m -> m.getShortageQty().signum() == 0))
+                .lines(lines)
+                .materials(materials)
+                .build();
+    }
+
     /**
      * 본사 재고 현재고 조회(위임).
      *
@@ -111,8 +157,7 @@ public class InventoryOutService {
      */
     private BigDecimal resolveOutUnitPrice(final Long materialId, final LocalDateTime ts) {
         BigDecimal fromUnitPriceTable = unitPriceService
-                .latestPurchasePrice(materialId, ts)
-                .map(UnitPrice::getPurchasePrice)
+                .purchasePriceAt(materialId, ts)
                 .orElse(null);
 
         if (fromUnitPriceTable != null && fromUnitPriceTable.signum() > 0) {
@@ -135,8 +180,9 @@ public class InventoryOutService {
      * 출고 확정.
      *
      * <p>
-     * 검증 → FIFO 분할 → 배치 차감 → 현재고 재계산 → 단가 확정/단가이력 기록 →
-     * 출고 헤더/LOT 생성 → 인벤토리 수량 동기화 순으로 처리한다.
+     * 단일 재료 출고를 {@link FifoAllocationEngine}으로 처리한다.
+     * 잠금 조회(검증 + FIFO 분할) → 배치 일괄 차감 → 단가 확정/단가이력 기록 →
+     * 출고 헤더 생성 → LOT 일괄 생성 → 인벤토리 수량 동기화 순으로 처리한다.
      * </p>
      *
      * @param materialId 재료 ID
@@ -146,7 +192,7 @@ public class InventoryOutService {
      * @param memo       비고
      * @return 생성된 출고 헤더 ID
      * @throws IllegalArgumentException 현재고 부족 또는 수량 오류 시
-     * @throws IllegalStateException    FIFO 합계 불일치 등 내부 상태 오류 시
+     * @throws IllegalStateException    배치 차감 실패 등 내부 상태 오류 시
      */
     @Transactional
     public Long confirmOut(final Long materialId,
@@ -161,83 +207,81 @@ public class InventoryOutService {
 
         final LocalDateTime ts = (outDate != null) ? outDate : LocalDateTime.now();
 
-        // 1) 현재 HQ 재고 검증
-        BigDecimal currentStock = inventoryService.hqRemainOfMaterial(materialId);
-        if (currentStock == null) currentStock = BigDecimal.ZERO;
-        if (currentStock.compareTo(totalQty) < 0) {
-            throw new IllegalArgumentException("출고 수량이 현재고를 초과합니다. current="
-                    + currentStock + ", out=" + totalQty);
-        }
-
-        // 2) FIFO plan 생성
-        List<InventoryOutPreviewItemDTO> plan = previewFifo(materialId, totalQty);
-
-        BigDecimal plannedSum = BigDecimal.ZERO;
-        for (InventoryOutPreviewItemDTO p : plan) {
-            plannedSum = plannedSum.add(p.getQty());
-
-            // 배치 조회 + 차감 + 저장
-            InventoryBatch batch = inventoryBatchRepository.findById(p.getBatchId())
-                    .orElseThrow(() ->
-                            new IllegalArgumentException("배치를 찾을 수 없습니다. id=" + p.getBatchId()));
+        return confirmOutLines(List.of(new OutLine(materialId, totalQty, storeId, memo)), ts).get(0).getId();
+    }
 
-            batch.subtractQuantity(p.getQty());
-            inventoryBatchRepository.save(batch); // @DynamicUpdate 로 quantity만 UPDATE
+    /**
+     * 여러 출고 라인을 한 번에 확정한다.
+     *
+     * <p>
+     * 배치 잠금 조회·차감·LOT 생성은 라인 수와 관계없이 각각 한 번의 왕복으로 처리하고,
+     * 단가 확정과 인벤토리 동기화는 재료별 1회, 헤더 생성만 라인별로 수행한다.
+     * 하나라도 재고가 부족하면 전체가 롤백된다.
+     * </p>
+     *
+     * @param lines 출고 라인(라인마다 출고 헤더 1건)
+     * @param ts    출고 일시
+     * @return 라인과 같은 순서의 출고 헤더
+     */
+    private List<InventoryOut> confirmOutLines(final List<OutLine> lines, final LocalDateTime ts) {
+        // 1) 잠금 조회 + 재고 검증 + FIFO 분할 + 배치 일괄 차감
+        List<FifoAllocationEngine.Allocation> allocations = fifoAllocationEngine.allocate(
+                lines.stream().map(l -> new FifoAllocationEngine.Line(l.materialId(), l.quantity())).toList());
+
+        Map<Long, BigDecimal> unitPrices = new HashMap<>();
+        Map<Long, BigDecimal> stockAfter = new LinkedHashMap<>();
+        List<InventoryOut> outs = new ArrayList<>(lines.size());
+        List<Long> outIds = new ArrayList<>(lines.size());
+
+        for (int i = 0; i < lines.size(); i++) {
+            OutLine line = lines.get(i);
+            FifoAllocationEngine.Allocation a = allocations.get(i);
+            Long materialId = a.materialId();
+
+            // 2) 단가 결정 및 단가 이력 기록(출고가=매입가 정책, 재료별 1회)
+            BigDecimal unitPrice = unitPrices.computeIfAbsent(materialId, id -> {
+                BigDecimal p = resolveOutUnitPrice(id, ts);
+                unitPriceService.addPricesForMaterial(id, p, p);
+                return p;
+            });
+
+            // 3) 출고 헤더 생성(차감 후 현재고는 잠금 조회 결과로 계산)
+            InventoryOut out = inventoryOutRepository.save(InventoryOut.builder()
+                    .material(em.getReference(Material.class, materialId))
+                    .store(line.storeId() != null ? em.getReference(Store.class, line.storeId()) : null)
+                    .outDate(ts)
+                    .quantity(a.quantity())
+                    .stockAfter(a.stockAfter())
+                    .unitPrice(unitPrice)
+                    .memo(line.memo())
+                    .build());
+            inventoryLedgerService.recordOut(out);
+            outs.add(out);
+            outIds.add(out.getId());
+            stockAfter.put(materialId, a.stockAfter());
         }
 
-        if (plannedSum.compareTo(totalQty) != 0) {
-            throw new IllegalStateException("FIFO 분할 합계가 요청 수량과 일치하지 않습니다. planned="
-                    + plannedSum + ", requested=" + totalQty);
-        }
+        // 4) LOT 일괄 생성(할당 계획 기준)
+        fifoAllocationEngine.insertLots(outIds, allocations);
 
-        // 3) 배치 차감 이후 현재고 재계산
-        BigDecimal remain = inventoryService.hqRemainOfMaterial(materialId);
-
-        // 4) 단가 결정 및 단가 이력 기록(출고가=매입가 정책)
-        BigDecimal unitPrice = resolveOutUnitPrice(materialId, ts);
-        unitPriceService.addPricesForMaterial(materialId, unitPrice, unitPrice);
-
-        // 5) 출고 헤더 생성
-        InventoryOut out = InventoryOut.builder()
-                .material(em.getReference(Material.class, materialId))
-                .store(storeId != null ? em.getReference(Store.class, storeId) : null)
-                .outDate(ts)
-                .quantity(totalQty)
-                .stockAfter(remain)
-                .unitPrice(unitPrice)
-                .memo(memo)
-                .build();
-        out = inventoryOutRepository.save(out);
-
-        // 6) LOT 생성(미리보기 계획 기준)
-        for (InventoryOutPreviewItemDTO p : plan) {
-            InventoryOutLot lot = InventoryOutLot.builder()
-                    .out(out)
-                    .batch(em.getReference(InventoryBatch.class, p.getBatchId()))
-                    .quantity(p.getQty())
-                    .build();
-            inventoryOutLotRepository.save(lot);
-        }
-
-        // 7) inventory 테이블 현재고 동기화
-        inventoryService.syncInventoryQuantity(materialId, remain);
+        // 5) inventory 테이블 현재고 동기화(재료별 최종 잔량)
+        stockAfter.forEach(inventoryService::syncInventoryQuantity);
+        eventPublisher.publishEvent(new HqInventoryChangedEvent(stockAfter.keySet()));
 
-        return out.getId();
+        return outs;
     }
 
     /**
      * 수주 기반 본사→가맹점 출고 생성.
      *
      * <p>
-     * 수주 상세({@link ReceiveOrderDetailDTO})의 품목 리스트를 순회하며
-     * 자재별로 {@link #confirmOut(Long, Long, BigDecimal, LocalDateTime, String)} 를 호출한다.
-     * 여러 자재가 포함된 경우 여러 개의 출고 헤더가 생성될 수 있으며,
-     * 이 메서드는 그 중 첫 번째 헤더를 반환한다(핵심 효과는 재고 차감 및 로그 생성).
+     * 단일 수주에 대해 {@link #createOutByReceiveOrders(List)}를 호출하고
+     * 첫 품목 재료의 출고 헤더를 반환한다(핵심 효과는 재고 차감 및 로그 생성).
      * </p>
      *
      * @param orderDetail 수주 상세 DTO(헤더+아이템 포함)
-     * @return 생성된 출고 헤더 중 첫 번째
-     * @throws IllegalArgumentException 입력이 null 일 때
+     * @return 생성된 출고 헤더 중 첫 품목 재료의 헤더
+     * @throws IllegalArgumentException 입력이 null 이거나 현재고가 부족할 때
      * @throws IllegalStateException    품목이 없거나 재료 ID 누락 등 데이터 오류일 때
      */
     @Transactional
@@ -245,54 +289,89 @@ public class InventoryOutService {
         if (orderDetail == null) {
             throw new IllegalArgumentException("수주 상세 정보가 null 입니다.");
         }
+        return createOutByReceiveOrders(List.of(orderDetail)).get(orderDetail.getId()).get(0);
+    }
 
-        List<ReceiveOrderItemDTO> items = orderDetail.getItems();
-        if (items == null || items.isEmpty()) {
-            throw new IllegalStateException("수주 상세 품목이 없습니다. orderId=" + orderDetail.getId()
-                    + ", orderCode=" + orderDetail.getOrderCode());
-        }
+    /**
+     * 여러 수주를 한 번에 본사→가맹점 출고한다.
+     *
+     * <p>
+     * 모든 수주의 품목을 (수주, 재료) 단위 라인으로 모은 뒤 한 트랜잭션에서
+     * 후보 배치 잠금 조회 1회, 배치 차감 1회, LOT 삽입 1회로 할당한다.
+     * 같은 재료를 여러 수주가 요청하면 전달된 수주 순서대로 오래된 LOT부터 배분한다.
+     * 수주 하나의 같은 재료 품목은 합산하여 헤더 1건으로 만든다.
+     * </p>
+     *
+     * @param orderDetails 수주 상세 DTO 목록(헤더+아이템 포함)
+     * @return 수주 ID → 생성된 출고 헤더 목록(품목 순서)
+     * @throws IllegalArgumentException 현재고가 부족할 때
+     * @throws IllegalStateException    품목이 없거나 재료 ID 누락 등 데이터 오류일 때
+     */
+    @Transactional
+    public Map<Long, List<InventoryOut>> createOutByReceiveOrders(final List<ReceiveOrderDetailDTO> orderDetails) {
+        List<OutLine> lines = new ArrayList<>();
+        List<Long> lineOrderIds = new ArrayList<>();
+
+        for (ReceiveOrderDetailDTO orderDetail : orderDetails) {
+            List<ReceiveOrderItemDTO> items = orderDetail.getItems();
+            if (items == null || items.isEmpty()) {
+                throw new IllegalStateException("수주 상세 품목이 없습니다. orderId=" + orderDetail.getId()
+                        + ", orderCode=" + orderDetail.getOrderCode());
+            }
 
-        final Long storeId = orderDetail.getStoreId();
-        final String baseMemo = "수주 자동 출고: " + orderDetail.getOrderCode();
-        final LocalDateTime outDate = LocalDateTime.now();
+            // 품목 순서를 유지하며 재료별 수량 합산
+            Map<Long, BigDecimal> demand = new LinkedHashMap<>();
+            for (ReceiveOrderItemDTO item : items) {
+                if (item == null) continue;
 
-        InventoryOut firstOut = null;
+                Integer cnt = item.getDetailCount();
+                if (cnt == null || cnt <= 0) continue;
 
-        for (ReceiveOrderItemDTO item : items) {
-            if (item == null) continue;
+                Long materialId = item.getMaterialId();
+                if (materialId == null) {
+                    throw new IllegalStateException(
+                            "수주 상세 품목에 재료 ID가 없습니다. orderId=" + orderDetail.getId()
+                                    + ", orderCode=" + orderDetail.getOrderCode()
+                                    + ", itemName=" + item.getName()
+                    );
+                }
 
-            Integer cnt = item.getDetailCount();
-            if (cnt == null || cnt <= 0) continue;
+                demand.merge(materialId, BigDecimal.valueOf(cnt.longValue()), BigDecimal::add);
+            }
 
-            Long materialId = item.getMaterialId();
-            if (materialId == null) {
+            if (demand.isEmpty()) {
                 throw new IllegalStateException(
-                        "수주 상세 품목에 재료 ID가 없습니다. orderId=" + orderDetail.getId()
+                        "출고 대상 수량이 없습니다. orderId=" + orderDetail.getId()
                                 + ", orderCode=" + orderDetail.getOrderCode()
-                                + ", itemName=" + item.getName()
                 );
             }
 
-            BigDecimal qty = BigDecimal.valueOf(cnt.longValue());
-            Long outId = confirmOut(materialId, storeId, qty, outDate, baseMemo);
-
-            if (firstOut == null) {
-                firstOut = inventoryOutRepository.findById(outId)
-                        .orElseThrow(() ->
-                                new IllegalStateException("출고 헤더를 찾을 수 없습니다. id=" + outId));
-            }
+            String memo = "수주 자동 출고: " + orderDetail.getOrderCode();
+            demand.forEach((materialId, qty) -> {
+                lines.add(new OutLine(materialId, qty, orderDetail.getStoreId(), memo));
+                lineOrderIds.add(orderDetail.getId());
+            });
         }
 
-        if (firstOut == null) {
-            throw new IllegalStateException(
-                    "출고 대상 수량이 없습니다. orderId=" + orderDetail.getId()
-                            + ", orderCode=" + orderDetail.getOrderCode()
-            );
-        }
+        List<InventoryOut> outs = confirmOutLines(lines, LocalDateTime.now());
 
-        return firstOut;
+        Map<Long, List<InventoryOut>> byOrder = new LinkedHashMap<>();
+        for (int i = 0; i < outs.size(); i++) {
+            byOrder.computeIfAbsent(lineOrderIds.get(i), k -> new ArrayList<>()).add(outs.get(i));
+        }
+        return byOrder;
     }
 
+    /**
+     * 출고 확정 라인(헤더 1건).
+     *
+     * @param materialId 재료 ID
+     * @param quantity   출고 수량
+     * @param storeId    가맹점 ID(선택)
+     * @param memo       비고
+     */
+    private record OutLine(Long materialId, BigDecimal quantity, Long storeId, String memo) {}
+
     /**
      * 출고 헤더 삭제.
      *
@@ -301,5 +380,6 @@ public class InventoryOutService {
     @Transactional
     public void deleteOut(final Long outId) {
         inventoryOutRepository.deleteById(outId);
+        inventoryLedgerService.remove(InventoryLogIdUtil.OUTGO, outId);
     }
 }
@@ -1,21 +1,27 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.common.export.ChunkedReader;
+import com.boot.ict05_final_admin.common.export.ExportProperties;
+import com.boot.ict05_final_admin.common.export.XlsxStreamWriter;
 import com.boot.ict05_final_admin.domain.inventory.dto.*;
 import com.boot.ict05_final_admin.domain.inventory.entity.Inventory;
 import com.boot.ict05_final_admin.domain.inventory.entity.InventoryBatch;
-import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLogView;
+import com.boot.ict05_final_admin.domain.inventory.entity.InventoryLedger;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryBatchRepository;
-import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLogViewRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLedgerRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.InventoryLedgerRepositoryCustom.Cursor;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -37,9 +43,11 @@ import static com.boot.ict05_final_admin.domain.inventory.utility.ExcelUtil.n;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
-    private final InventoryLogViewRepository inventoryLogViewRepository;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
     private final InventoryBatchRepository inventoryBatchRepository;
     private final StoreNameResolver storeNameResolver;
+    private final HqStockLedgerService hqStockLedgerService;
+    private final ExportProperties exportProperties;
 
     private final InventoryBatchService inventoryBatchService;
     private final InventoryLotService inventoryLotService;
@@ -90,82 +98,70 @@ public class InventoryService {
     }
 
     /**
-     * 본사 현재고(배치 합계 기준).
+     * 본사 현재고(본사 LOT 잔량 합계).
      *
-     * <p>해당 재료의 배치 잔량 총합을 반환한다.</p>
+     * <p>배치를 모두 읽어 합산하지 않고, 입고/출고/조정 시 함께 갱신되는
+     * 재료별 잔액 행을 조회한다({@link HqStockLedgerService}).</p>
      *
      * @param materialId 재료 ID
      * @return 현재고(없으면 0)
      */
     @Transactional(readOnly = true)
     public BigDecimal hqRemainOfMaterial(final Long materialId) {
-        return inventoryBatchRepository.findHqBatchesForMaterial(materialId).stream()
-                .map(InventoryBatch::getQuantity)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return hqStockLedgerService.balanceOf(materialId);
     }
 
     /**
-     * 본사 재고 목록을 XLSX로 생성한다.
+     * 본사 재고 목록을 XLSX로 스트리밍 생성한다.
      *
      * <p>
-     * 전체 건수를 조회해 단일 페이지로 일괄 조회하고, 정렬은 전달된
-     * {@code pageable.getSort()}가 비어 있지 않으면 이를 반영한다.
+     * {@code app.export.chunk-size} 단위로 나눠 조회해 SXSSF 행 윈도우만 메모리에 유지한다.
+     * 정렬은 전달된 {@code pageable.getSort()}가 비어 있지 않으면 이를 반영하고(기본 updateDate DESC),
+     * id 타이브레이커를 덧붙여 청크 경계가 흔들리지 않게 한다.
+     * 트랜잭션 밖에서 실행되어 청크 조회마다 짧은 읽기만 수행한다.
      * </p>
      *
      * @param inventorySearchDTO 검색 조건 DTO
      * @param pageable           정렬 힌트용 Pageable(페이지/사이즈는 무시)
-     * @return XLSX 바이트 배열
-     * @throws IOException 워크북 쓰기/닫기 중 I/O 오류
+     * @param out                XLSX를 기록할 출력 스트림(닫지 않음)
+     * @throws IOException 워크북 쓰기 중 I/O 오류
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcel(final InventorySearchDTO inventorySearchDTO,
-                                final Pageable pageable) throws IOException {
-        long total = countInventory(inventorySearchDTO);
-        int size = (int) Math.min(Integer.MAX_VALUE, Math.max(1, total));
-
-        Sort sort = pageable.getSort().isSorted()
-                ? pageable.getSort()
-                : Sort.by(Sort.Direction.DESC, "updateDate");
-
-        PageRequest onePage = PageRequest.of(0, size, sort);
-        Page<InventoryListDTO> page = listInventory(inventorySearchDTO, onePage);
-
-        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            Sheet sheet = wb.createSheet("본사재고");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcel(final InventorySearchDTO inventorySearchDTO,
+                           final Pageable pageable,
+                           final OutputStream out) throws IOException {
+        Sort sort = ChunkedReader.stable(pageable == null ? null : pageable.getSort(),
+                Sort.by(Sort.Direction.DESC, "updateDate"), "id");
+
+        try (XlsxStreamWriter x = new XlsxStreamWriter("본사재고", exportProperties.getRowWindow())) {
+            Workbook wb = x.workbook();
             String[] cols = {"재고ID", "재료코드", "재료명", "카테고리", "현재고", "판매단위", "상태", "최종변경일"};
 
             // 헤더
-            Row h = sheet.createRow(0);
             CellStyle hs = wb.createCellStyle();
             Font f = wb.createFont();
             f.setBold(true);
             hs.setFont(f);
-            for (int i = 0; i < cols.length; i++) {
-                Cell c = h.createCell(i);
-                c.setCellValue(cols[i]);
-                c.setCellStyle(hs);
-            }
+            x.header(cols, hs);
+            x.trackAutoSize();
 
             // 데이터
-            int r = 1;
-            for (InventoryListDTO v : page) {
-                Row row = sheet.createRow(r++);
-                row.createCell(0).setCellValue(v.getId());
-                row.createCell(1).setCellValue(v.getMaterialId());
-                row.createCell(2).setCellValue(n(v.getMaterialName()));
-                row.createCell(3).setCellValue(n(v.getCategoryName()));
-                row.createCell(4).setCellValue(v.getQuantity() == null ? 0d : v.getQuantity().doubleValue());
-                row.createCell(5).setCellValue(n(v.getMaterialSalesUnit()));
-                row.createCell(6).setCellValue(String.valueOf(v.getStatus()));
-                row.createCell(7).setCellValue(v.getUpdateDate() == null ? "" : v.getUpdateDate().toString());
-            }
-
-            for (int i = 0; i < cols.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            wb.write(bos);
-            return bos.toByteArray();
+            ChunkedReader.pages(p -> listInventory(inventorySearchDTO, p).getContent(),
+                    exportProperties.getChunkSize(), sort, v -> {
+                        Row row = x.nextRow();
+                        row.createCell(0).setCellValue(v.getId());
+                        row.createCell(1).setCellValue(v.getMaterialId());
+                        row.createCell(2).setCellValue(n(v.getMaterialName()));
+                        row.createCell(3).setCellValue(n(v.getCategoryName()));
+                        row.createCell(4).setCellValue(v.getQuantity() == null ? 0d : v.getQuantity().doubleValue());
+                        row.createCell(5).setCellValue(n(v.getMaterialSalesUnit()));
+                        row.createCell(6).setCellValue(String.valueOf(v.getStatus()));
+                        row.createCell(7).setCellValue(v.getUpdateDate() == null ? "" : v.getUpdateDate().toString());
+                    });
+
+            x.autoSize(cols.length);
+
+            x.writeTo(out);
         }
     }
 
@@ -192,12 +188,12 @@ public class InventoryService {
                                    final LocalDate endDate,
                                    final Pageable pageable) throws IOException {
         // 1) 로그 페이지 조회
-        Page<InventoryLogView> page =
-                inventoryLogViewRepository.findLogsByFilter(materialId, type, startDate, endDate, pageable);
+        Page<InventoryLedger> page =
+                inventoryLedgerRepository.findLogsByFilter(materialId, type, startDate, endDate, pageable);
 
         // 2) storeId 집합 → 이름 맵 일괄 조회
         Set<Long> ids = page.getContent().stream()
-                .map(InventoryLogView::getStoreId)
+                .map(InventoryLedger::getStoreId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         Map<Long, String> nameMap = storeNameResolver.resolveAllWithFallback(ids);
@@ -221,9 +217,9 @@ public class InventoryService {
 
             // 데이터
             int r = 1;
-            for (InventoryLogView v : page) {
+            for (InventoryLedger v : page) {
                 Row row = sheet.createRow(r++);
-                row.createCell(0).setCellValue(v.getLogId());
+                row.createCell(0).setCellValue(v.getSourceId());
                 row.createCell(1).setCellValue(v.getDate() == null ? "" : v.getDate().toString());
                 row.createCell(2).setCellValue(v.getType() == null ? "" : v.getType());
                 row.createCell(3).setCellValue(v.getQuantity() == null ? 0d : v.getQuantity().doubleValue());
@@ -247,6 +243,71 @@ public class InventoryService {
         }
     }
 
+    /**
+     * 재고 로그 전체(페이지 무관)를 XLSX로 스트리밍 생성한다.
+     *
+     * <p>
+     * 필터에 맞는 로그를 {@code app.export.chunk-size} 단위(일시 DESC, 로그ID DESC)로 키셋 조회하고,
+     * 청크마다 처음 보는 {@code storeId}만 {@link StoreNameResolver}로 일괄 매핑한다.
+     * 비동기 내보내기 작업에서 사용한다.
+     * </p>
+     *
+     * @param materialId 재료 ID
+     * @param type       로그 유형 필터(옵션)
+     * @param startDate  시작일(옵션)
+     * @param endDate    종료일(옵션)
+     * @param out        XLSX를 기록할 출력 스트림(닫지 않음)
+     * @throws IOException 워크북 쓰기 중 I/O 오류
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeLogExcel(final Long materialId,
+                              final String type,
+                              final LocalDate startDate,
+                              final LocalDate endDate,
+                              final OutputStream out) throws IOException {
+        Map<Long, String> nameMap = new HashMap<>();
+
+        try (XlsxStreamWriter x = new XlsxStreamWriter("재고로그_" + materialId, exportProperties.getRowWindow())) {
+            Workbook wb = x.workbook();
+            String[] cols = {"로그ID", "일시", "유형", "수량", "재고후", "단가", "메모", "가맹점명"};
+
+            // 헤더
+            CellStyle hs = wb.createCellStyle();
+            Font f = wb.createFont();
+            f.setBold(true);
+            hs.setFont(f);
+            x.header(cols, hs);
+            x.trackAutoSize();
+
+            // 데이터
+            ChunkedReader.keyset((Cursor last, Integer size) -> {
+                List<InventoryLedger> chunk = inventoryLedgerRepository
+                        .findLogsAfter(materialId, type, startDate, endDate, last, size);
+                Set<Long> unseen = chunk.stream()
+                        .map(InventoryLedger::getStoreId)
+                        .filter(id -> id != null && !nameMap.containsKey(id))
+                        .collect(Collectors.toSet());
+                if (!unseen.isEmpty()) nameMap.putAll(storeNameResolver.resolveAllWithFallback(unseen));
+                return chunk;
+            }, Cursor::of, exportProperties.getChunkSize(), v -> {
+                Row row = x.nextRow();
+                row.createCell(0).setCellValue(v.getSourceId());
+                row.createCell(1).setCellValue(v.getDate() == null ? "" : v.getDate().toString());
+                row.createCell(2).setCellValue(v.getType() == null ? "" : v.getType());
+                row.createCell(3).setCellValue(v.getQuantity() == null ? 0d : v.getQuantity().doubleValue());
+                row.createCell(4).setCellValue(v.getStockAfter() == null ? 0d : v.getStockAfter().doubleValue());
+                row.createCell(5).setCellValue(v.getUnitPrice() == null ? 0d : v.getUnitPrice().doubleValue());
+                row.createCell(6).setCellValue(v.getMemo() == null ? "" : v.getMemo());
+                String storeName = v.getStoreId() == null ? "" : nameMap.getOrDefault(v.getStoreId(), "");
+                row.createCell(7).setCellValue(storeName);
+            });
+
+            x.autoSize(cols.length);
+
+            x.writeTo(out);
+        }
+    }
+
     /**
      * 본사 재고 배치(LOT) 목록을 XLSX로 생성한다.
      *
@@ -1,10 +1,12 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.domain.fcm.dto.HqInventoryChangedEvent;
 import com.boot.ict05_final_admin.domain.inventory.entity.Inventory;
 import com.boot.ict05_final_admin.domain.inventory.entity.Material;
 import com.boot.ict05_final_admin.domain.inventory.repository.InventoryRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class InventoryStockService {
 
     private final InventoryRepository inventoryRepository;
     private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 본사 재고 수량을 증가시킨다(없으면 생성 후 0에서 시작).
@@ -64,6 +67,9 @@ public class InventoryStockService {
         inv.setQuantity(after);
         inv.touchAfterQuantityChange(); // 상태 + updateDate 동기화
 
+        // 커밋 후 재고 부족/유통기한 판정
+        eventPublisher.publishEvent(HqInventoryChangedEvent.of(materialId));
+
         // Flush는 트랜잭션 종료 시점에 위임
         return after;
     }
@@ -1,5 +1,10 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.common.export.ChunkedReader;
+import com.boot.ict05_final_admin.common.export.ExportProperties;
+import com.boot.ict05_final_admin.common.export.XlsxStreamWriter;
+import com.boot.ict05_final_admin.common.keygen.KeyAllocator;
+import com.boot.ict05_final_admin.common.keygen.KeygenProperties;
 import com.boot.ict05_final_admin.domain.inventory.dto.MaterialListDTO;
 import com.boot.ict05_final_admin.domain.inventory.dto.MaterialModifyFormDTO;
 import com.boot.ict05_final_admin.domain.inventory.dto.MaterialSearchDTO;
@@ -13,13 +18,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,6 +47,9 @@ public class MaterialService {
 
     private final MaterialRepository materialRepository;
     private final InventoryRepository inventoryRepository;
+    private final ExportProperties exportProperties;
+    private final KeyAllocator keyAllocator;
+    private final KeygenProperties keygenProperties;
 
     /**
      * 본사 재료를 등록한다.
@@ -167,75 +175,62 @@ public class MaterialService {
     }
 
     /**
-     * 재료 목록을 XLSX로 생성한다.
+     * 재료 목록을 XLSX로 스트리밍 생성한다.
      *
      * <p>
-     * 전체 건수를 조회한 뒤, 단일 페이지로 일괄 조회하여 워크북을 생성한다.
+     * {@code app.export.chunk-size} 단위로 id DESC 청크를 조회하며 SXSSF 행 윈도우만 메모리에 유지한다.
      * 헤더는 본 메서드에서 고정 정의하며, 문자열 컬럼은
      * {@link com.boot.ict05_final_admin.domain.inventory.utility.ExcelUtil#n(String)}
      * 로 null-safe 처리한다.
      * </p>
      *
      * <p>
-     * 전달받은 {@link Pageable}은 정렬 힌트로만 사용하고,
-     * 실제 쿼리는 전체 행을 한 번에 조회하여 덤프한다.
+     * 트랜잭션 밖에서 실행되어 청크 조회마다 짧은 읽기만 수행한다.
+     * 전달받은 {@link Pageable}은 정렬 힌트로만 사용한다(id 타이브레이커 부가).
      * </p>
      *
      * @param materialSearchDTO 검색 조건 DTO
      * @param pageable          스프링 페이징(정렬 힌트용). 페이지/사이즈는 무시하고 전체 덤프
-     * @return 생성된 XLSX 파일 바이트 배열
-     * @throws IOException           워크북 쓰기/닫기 과정의 I/O 오류
-     * @throws IllegalStateException 리포지토리/변환 중 일반 예외 래핑
+     * @param out               XLSX를 기록할 출력 스트림(닫지 않음)
+     * @throws IOException 워크북 쓰기 과정의 I/O 오류
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcel(final MaterialSearchDTO materialSearchDTO,
-                                final Pageable pageable) throws IOException {
-        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            final Sheet sheet = wb.createSheet("재료목록");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcel(final MaterialSearchDTO materialSearchDTO,
+                           final Pageable pageable,
+                           final OutputStream out) throws IOException {
+        final Sort sort = ChunkedReader.stable(pageable == null ? null : pageable.getSort(),
+                Sort.by("id").descending(), "id");
+
+        try (XlsxStreamWriter x = new XlsxStreamWriter("재료목록", exportProperties.getRowWindow())) {
+            final Workbook wb = x.workbook();
 
             // Header
             final String[] cols = {"ID", "CODE", "카테고리", "재료명", "기본단위", "판매단위", "공급업체", "상태"};
-            final Row h = sheet.createRow(0);
             final CellStyle hs = wb.createCellStyle();
             final Font f = wb.createFont();
             f.setBold(true);
             hs.setFont(f);
-            for (int i = 0; i < cols.length; i++) {
-                final Cell c = h.createCell(i);
-                c.setCellValue(cols[i]);
-                c.setCellStyle(hs);
-            }
+            x.header(cols, hs);
+            x.trackAutoSize();
 
             // Data
-            final long total = materialRepository.countMaterial(materialSearchDTO);
-            final int size = (int) Math.min(Integer.MAX_VALUE, total);
-            final PageRequest p0 = PageRequest.of(0, Math.max(1, size), Sort.by("id").descending());
-            final Page<MaterialListDTO> page = materialRepository.listMaterial(materialSearchDTO, p0);
-
-            int r = 1;
-            for (MaterialListDTO m : page) {
-                final Row row = sheet.createRow(r++);
-                row.createCell(0).setCellValue(m.getId());
-                row.createCell(1).setCellValue(n(m.getCode()));
-                row.createCell(2).setCellValue(String.valueOf(m.getMaterialCategory()));
-                row.createCell(3).setCellValue(n(m.getName()));
-                row.createCell(4).setCellValue(n(m.getBaseUnit()));
-                row.createCell(5).setCellValue(n(m.getSalesUnit()));
-                row.createCell(6).setCellValue(n(m.getSupplier()));
-                row.createCell(7).setCellValue(String.valueOf(m.getMaterialStatus()));
-            }
+            ChunkedReader.pages(p -> materialRepository.listMaterial(materialSearchDTO, p).getContent(),
+                    exportProperties.getChunkSize(), sort, m -> {
+                        final Row row = x.nextRow();
+                        row.createCell(0).setCellValue(m.getId());
+                        row.createCell(1).setCellValue(n(m.getCode()));
+                        row.createCell(2).setCellValue(String.valueOf(m.getMaterialCategory()));
+                        row.createCell(3).setCellValue(n(m.getName()));
+                        row.createCell(4).setCellValue(n(m.getBaseUnit()));
+                        row.createCell(5).setCellValue(n(m.getSalesUnit()));
+                        row.createCell(6).setCellValue(n(m.getSupplier()));
+                        row.createCell(7).setCellValue(String.valueOf(m.getMaterialStatus()));
+                    });
 
             // Autosize
-            for (int i = 0; i < cols.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+            x.autoSize(cols.length);
 
-            wb.write(bos);
-            return bos.toByteArray();
-        } catch (IOException ioe) {
-            throw ioe; // 체크 예외는 원인 보존하여 전파
-        } catch (Exception e) {
-            throw new IllegalStateException("재료 목록 엑셀 생성 실패", e);
+            x.writeTo(out);
         }
     }
 
@@ -243,9 +238,9 @@ public class MaterialService {
      * 카테고리 기반 재료 코드 생성.
      *
      * <p>
-     * {@link MaterialCategory#getCodePrefix()}를 접두사로 사용하고,
-     * 리포지토리에서 해당 카테고리의 최대 코드를 조회해 다음 일련번호를 산정한다.
-     * 접두사 길이는 카테고리 정책을 따른다(현재 3자 접두사 전제).
+     * {@link MaterialCategory#getCodePrefix()}를 접두사로 사용하고, 카테고리별 시퀀스({@code key_sequence})에서
+     * 다음 일련번호를 발급받는다. 시퀀스가 처음 만들어질 때만 해당 카테고리의 최대 코드를 조회해
+     * 그 다음 번호부터 시작한다. 접두사 길이는 카테고리 정책을 따른다(현재 3자 접두사 전제).
      * </p>
      *
      * @param category 재료 카테고리
@@ -253,19 +248,26 @@ public class MaterialService {
      */
     private String generateMaterialCode(final MaterialCategory category) {
         final String prefix = category.getCodePrefix(); // Enum에서 제공
+        final long nextNum = keyAllocator.next("MAT-" + prefix, keygenProperties.getMaterialCodeBlockSize(),
+                () -> nextMaterialNumFromDb(category, prefix));
+
+        return String.format("%s%04d", prefix, nextNum);
+    }
+
+    /** 카테고리 최대 코드의 일련번호 + 1 (시퀀스 행 생성 시 1회) */
+    private long nextMaterialNumFromDb(final MaterialCategory category, final String prefix) {
         final String lastCode = materialRepository.findMaxCodeByCategory(category);
-        int nextNum = 1;
+        long nextNum = 1;
 
         if (lastCode != null && lastCode.length() >= prefix.length()) {
             try {
                 // 접두사 뒤 일련번호만 파싱
-                nextNum = Integer.parseInt(lastCode.substring(prefix.length())) + 1;
+                nextNum = Long.parseLong(lastCode.substring(prefix.length())) + 1;
             } catch (NumberFormatException e) {
                 log.warn("잘못된 코드 형식: {}", lastCode);
             }
         }
-
-        return String.format("%s%04d", prefix, nextNum);
+        return nextNum;
     }
 
     /**
@@ -1,19 +1,22 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.common.export.ChunkedReader;
+import com.boot.ict05_final_admin.common.export.ExportProperties;
+import com.boot.ict05_final_admin.common.export.XlsxStreamWriter;
 import com.boot.ict05_final_admin.domain.inventory.dto.StoreMaterialListDTO;
 import com.boot.ict05_final_admin.domain.inventory.dto.StoreMaterialSearchDTO;
 import com.boot.ict05_final_admin.domain.inventory.repository.StoreMaterialRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import static com.boot.ict05_final_admin.domain.inventory.utility.ExcelUtil.n;
 
@@ -27,6 +30,7 @@ import static com.boot.ict05_final_admin.domain.inventory.utility.ExcelUtil.n;
 public class StoreMaterialService {
 
     private final StoreMaterialRepository storeMaterialRepository;
+    private final ExportProperties exportProperties;
 
     /**
      * 가맹점 재료 목록을 페이지 단위로 조회한다.
@@ -53,72 +57,53 @@ public class StoreMaterialService {
     }
 
     /**
-     * 가맹점 재료 목록을 XLSX로 생성한다.
+     * 가맹점 재료 목록을 XLSX로 스트리밍 생성한다.
      *
      * <p>
-     * 총 건수를 기준으로 단일 페이지로 전체 데이터를 조회한 뒤, 정렬은
-     * 컨트롤러에서 전달된 {@code pageable.getSort()}만 반영하여 워크북을 생성한다.
+     * {@code app.export.chunk-size} 단위로 나눠 조회하며, 정렬은 컨트롤러에서 전달된 {@code pageable.getSort()}에
+     * id 타이브레이커를 덧붙여 반영한다. 트랜잭션 밖에서 실행되어 청크 조회마다 짧은 읽기만 수행한다.
      * 생성 컬럼: CODE, 재료명, 기본단위, 판매단위.
      * 문자열 컬럼은 {@link com.boot.ict05_final_admin.domain.inventory.utility.ExcelUtil#n(String)}로 null-safe 처리한다.
      * </p>
      *
      * @param searchDTO 검색 조건 DTO
      * @param pageable  정렬 힌트용 Pageable(페이지/사이즈는 무시)
-     * @return 생성된 XLSX 바이트 배열
-     * @throws IOException           워크북 쓰기/닫기 중 I/O 오류
-     * @throws IllegalStateException 생성 과정의 일반 예외 래핑
+     * @param out       XLSX를 기록할 출력 스트림(닫지 않음)
+     * @throws IOException 워크북 쓰기 중 I/O 오류
      */
-    @Transactional(readOnly = true)
-    public byte[] downloadExcel(final StoreMaterialSearchDTO searchDTO,
-                                final Pageable pageable) throws IOException {
-        long total = countStoreMaterials(searchDTO);
-        int size = (int) Math.min(Integer.MAX_VALUE, Math.max(1, total));
-
-        Page<StoreMaterialListDTO> page = listStoreMaterials(
-                searchDTO, PageRequest.of(0, size, pageable.getSort())
-        );
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcel(final StoreMaterialSearchDTO searchDTO,
+                           final Pageable pageable,
+                           final OutputStream out) throws IOException {
+        Sort sort = ChunkedReader.stable(pageable == null ? null : pageable.getSort(),
+                Sort.by(Sort.Direction.DESC, "id"), "id");
 
-        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            Sheet sheet = wb.createSheet("가맹점재료");
+        try (XlsxStreamWriter x = new XlsxStreamWriter("가맹점재료", exportProperties.getRowWindow())) {
+            Workbook wb = x.workbook();
 
             // 헤더
             String[] cols = {"CODE", "재료명", "기본단위", "판매단위"};
-            Row header = sheet.createRow(0);
             CellStyle headerStyle = wb.createCellStyle();
             Font bold = wb.createFont();
             bold.setBold(true);
             headerStyle.setFont(bold);
-            for (int i = 0; i < cols.length; i++) {
-                Cell c = header.createCell(i);
-                c.setCellValue(cols[i]);
-                c.setCellStyle(headerStyle);
-            }
+            x.header(cols, headerStyle);
+            x.trackAutoSize();
 
             // 데이터
-            int r = 1;
-            for (StoreMaterialListDTO m : page) {
-                Row row = sheet.createRow(r++);
-                row.createCell(0).setCellValue(n(m.getCode()));
-                row.createCell(1).setCellValue(n(m.getName()));
-                row.createCell(2).setCellValue(n(m.getBaseUnit()));
-                row.createCell(3).setCellValue(n(m.getSalesUnit()));
-                // 필요 시, DTO에 실제로 존재하면 아래 항목을 추가:
-                // row.createCell(4).setCellValue(n(String.valueOf(m.getStatus())));
-                // row.createCell(5).setCellValue(n(String.valueOf(m.getPurchasePrice())));
-                // row.createCell(6).setCellValue(n(String.valueOf(m.getSellingPrice())));
-            }
+            ChunkedReader.pages(p -> listStoreMaterials(searchDTO, p).getContent(),
+                    exportProperties.getChunkSize(), sort, m -> {
+                        Row row = x.nextRow();
+                        row.createCell(0).setCellValue(n(m.getCode()));
+                        row.createCell(1).setCellValue(n(m.getName()));
+                        row.createCell(2).setCellValue(n(m.getBaseUnit()));
+                        row.createCell(3).setCellValue(n(m.getSalesUnit()));
+                    });
 
-            // 컬럼 너비 자동 조정
-            for (int i = 0; i < cols.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+            // 컬럼 너비 자동 조정(추적된 윈도우 기준)
+            x.autoSize(cols.length);
 
-            wb.write(bos);
-            return bos.toByteArray();
-        } catch (IOException ioe) {
-            throw ioe; // 체크 예외는 원인 보존하여 전파
-        } catch (Exception e) {
-            throw new IllegalStateException("가맹점 재료 엑셀 생성 실패", e);
+            x.writeTo(out);
         }
     }
 }
@@ -0,0 +1,228 @@
+package com.boot.ict05_final_admin.domain.inventory.service;
+
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPriceChangedEvent;
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPricePoint;
+import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceType;
+import com.boot.ict05_final_admin.domain.inventory.repository.UnitPriceRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.UnitPriceVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 재료별 단가 이력 메모리 캐시.
+ *
+ * <p>
+ * 재료마다 매입/판매 단가 이력을 {@code (validFrom, id)} 순으로 정렬해 두고,
+ * "시각 t에 유효한 단가"를 DB 조회 없이 계산한다. 판정 규칙은
+ * {@code UnitPriceRepositoryImpl.findLatest*Price}와 같다
+ * ({@code validFrom <= t < validTo(NULL 허용)} 중 validFrom, id 최댓값).
+ * </p>
+ *
+ * <ul>
+ *   <li>적재: 재료 단위로 처음 조회될 때 이력 전체를 읽는다. 호출 측 트랜잭션의 미커밋 행이 섞이지 않도록
+ *       별도(REQUIRES_NEW, 읽기 전용) 트랜잭션에서 읽는다.</li>
+ *   <li>쓰기 반영: {@link UnitPriceChangedEvent}를 커밋 이후 받아 적재된 재료에만 기록한다(write-through).
+ *       적재되지 않은 재료는 다음 적재 때 DB에서 읽히므로 건너뛴다.</li>
+ *   <li>다른 노드의 변경: 같은 이벤트를 커밋 직전에 받아 단가 버전({@code unit_price_version})을 올린다.
+ *       각 노드는 주기적으로 버전을 비교해({@code UnitPriceCacheRefreshScheduler}) 바뀌었으면 전체를 버린다.</li>
+ *   <li>경합: 적재 결과는 이미 있는 항목을 덮어쓰지 않으므로, 적재 중 먼저 반영된 변경이 유지된다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class UnitPriceCache {
+
+    /** 한 번에 적재할 재료 수(IN 목록 크기) */
+    private static final int LOAD_CHUNK = 1000;
+
+    private final UnitPriceRepository unitPriceRepository;
+    private final UnitPriceVersionRepository unitPriceVersionRepository;
+    private final TransactionTemplate readTx;
+
+    /** 재료 ID → 이력 */
+    private final Map<Long, History> histories = new ConcurrentHashMap<>();
+
+    /** 마지막으로 확인한 단가 버전(-1 = 아직 확인 전) */
+    private volatile long version = -1;
+
+    public UnitPriceCache(UnitPriceRepository unitPriceRepository,
+                          UnitPriceVersionRepository unitPriceVersionRepository,
+                          PlatformTransactionManager txManager) {
+        this.unitPriceRepository = unitPriceRepository;
+        this.unitPriceVersionRepository = unitPriceVersionRepository;
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTx.setReadOnly(true);
+    }
+
+    /** 정렬 키(적용 시작일시 ↑ → 단가 ID ↑) */
+    private record Key(LocalDateTime validFrom, long id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            int c = validFrom.compareTo(o.validFrom);
+            return c != 0 ? c : Long.compare(id, o.id);
+        }
+    }
+
+    /** 재료 1건의 구분별 이력 */
+    private static final class History {
+        final ConcurrentNavigableMap<Key, UnitPricePoint> purchase = new ConcurrentSkipListMap<>();
+        final ConcurrentNavigableMap<Key, UnitPricePoint> selling = new ConcurrentSkipListMap<>();
+        volatile boolean loaded;
+
+        ConcurrentNavigableMap<Key, UnitPricePoint> of(UnitPriceType type) {
+            return type == UnitPriceType.SELLING ? selling : purchase;
+        }
+
+        void put(UnitPricePoint p) {
+            of(p.type()).put(new Key(p.validFrom(), p.id()), p);
+        }
+
+        void putIfAbsent(UnitPricePoint p) {
+            of(p.type()).putIfAbsent(new Key(p.validFrom(), p.id()), p);
+        }
+    }
+
+    /**
+     * 기준 시각에 유효한 매입 단가.
+     *
+     * @param materialId 재료 ID
+     * @param at         기준 시각
+     * @return 매입 단가(유효 행이 없으면 empty)
+     */
+    public Optional<BigDecimal> purchasePriceAt(Long materialId, LocalDateTime at) {
+        return find(materialId, UnitPriceType.PURCHASE, at, at).map(UnitPricePoint::price);
+    }
+
+    /**
+     * 기준 시각에 유효한 판매 단가.
+     *
+     * @param materialId 재료 ID
+     * @param at         기준 시각
+     * @return 판매 단가(유효 행이 없으면 empty)
+     */
+    public Optional<BigDecimal> sellingPriceAt(Long materialId, LocalDateTime at) {
+        return find(materialId, UnitPriceType.SELLING, at, at).map(UnitPricePoint::price);
+    }
+
+    /**
+     * 구간 {@code [from, to]}와 겹치는 행 중 가장 늦게 시작한 행.
+     *
+     * <p>{@code validFrom <= to} 이고 {@code validTo}가 NULL이거나 {@code from}보다 뒤인 행 중
+     * {@code (validFrom, id)}가 가장 큰 행을 고른다. {@code from == to}이면 시점 조회와 같다.</p>
+     *
+     * @param materialId 재료 ID
+     * @param type       단가 구분
+     * @param from       구간 시작
+     * @param to         구간 끝(포함)
+     * @return 해당 행(없으면 empty)
+     */
+    public Optional<UnitPricePoint> find(Long materialId, UnitPriceType type, LocalDateTime from, LocalDateTime to) {
+        if (materialId == null) return Optional.empty();
+        History h = histories.computeIfAbsent(materialId, k -> new History());
+        if (!h.loaded) load(Map.of(materialId, h));
+
+        for (UnitPricePoint p : h.of(type).headMap(new Key(to, Long.MAX_VALUE), true).descendingMap().values()) {
+            if (p.openAfter(from)) return Optional.of(p);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 재료들의 이력을 한 번에 적재한다(목록/집계에서 재료별 적재 쿼리를 피하기 위함).
+     *
+     * @param materialIds 재료 ID(NULL 무시)
+     */
+    public void preload(Collection<Long> materialIds) {
+        Map<Long, History> missing = new HashMap<>();
+        for (Long id : materialIds) {
+            if (id == null) continue;
+            History h = histories.computeIfAbsent(id, k -> new History());
+            if (!h.loaded) missing.put(id, h);
+            if (missing.size() >= LOAD_CHUNK) {
+                load(missing);
+                missing = new HashMap<>();
+            }
+        }
+        if (!missing.isEmpty()) load(missing);
+    }
+
+    /**
+     * 재료 이력을 버린다(다음 조회 때 다시 적재).
+     *
+     * @param materialIds 재료 ID
+     */
+    public void evict(Collection<Long> materialIds) {
+        materialIds.forEach(histories::remove);
+    }
+
+    /** 전체를 버린다. */
+    public void evictAll() {
+        histories.clear();
+    }
+
+    /**
+     * 저장소 버전이 마지막으로 확인한 버전과 다르면 전체를 버린다.
+     *
+     * <p>버전을 먼저 읽고 버리므로, 그 사이 커밋된 변경은 다음 비교에서 다시 감지된다.
+     * 첫 확인은 기동 이후 적재분의 기준 버전을 알 수 없으므로 항상 버린다.</p>
+     *
+     * @return 버렸으면 true
+     */
+    public synchronized boolean refreshIfStale() {
+        long current = unitPriceVersionRepository.currentVersion().orElse(0L);
+        if (current == version) return false;
+        long prev = version;
+        version = current;
+        evictAll();
+        log.debug("[UnitPriceCache] version {} -> {}, evicted", prev, current);
+        return true;
+    }
+
+    /** 단가 버전을 올린다(단가 저장 트랜잭션 안, 커밋 직전). */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void bumpVersion(UnitPriceChangedEvent event) {
+        unitPriceVersionRepository.bump();
+    }
+
+    /** 커밋된 단가 변경을 반영한다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnitPriceChanged(UnitPriceChangedEvent event) {
+        evict(event.getEvictMaterialIds());
+        for (UnitPricePoint p : event.getPoints()) {
+            History h = histories.get(p.materialId());
+            if (h != null) h.put(p);
+        }
+    }
+
+    /**
+     * 이력을 읽어 대상 History에 채운다.
+     *
+     * <p>조회 전에 만들어 둔 History 인스턴스에만 채우므로, 적재 중 evict된 재료는
+     * 맵에 남지 않고 다음 조회 때 새로 적재된다.</p>
+     */
+    private void load(Map<Long, History> targets) {
+        Set<Long> ids = targets.keySet();
+        List<UnitPricePoint> rows = Objects.requireNonNull(
+                readTx.execute(status -> unitPriceRepository.findPricePoints(ids)));
+
+        for (UnitPricePoint p : rows) {
+            History h = targets.get(p.materialId());
+            if (h != null) h.putIfAbsent(p);
+        }
+        targets.values().forEach(h -> h.loaded = true);
+        log.debug("[UnitPriceCache] loaded materials={}, rows={}", ids.size(), rows.size());
+    }
+}
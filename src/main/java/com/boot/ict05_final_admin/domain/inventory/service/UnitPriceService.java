@@ -1,22 +1,27 @@
 package com.boot.ict05_final_admin.domain.inventory.service;
 
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPriceChangedEvent;
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPricePoint;
 import com.boot.ict05_final_admin.domain.inventory.entity.Material;
 import com.boot.ict05_final_admin.domain.inventory.entity.UnitPrice;
 import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceType;
 import com.boot.ict05_final_admin.domain.inventory.repository.UnitPriceRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 단가 서비스.
  *
- * <p>재료별 매입/판매 단가의 등록·수정·조회 이력을 관리한다.</p>
+ * <p>재료별 매입/판매 단가의 등록·수정·조회 이력을 관리한다.
+ * 조회는 {@link UnitPriceCache}에서 처리하고, 등록/수정한 행은 커밋 이후 캐시에 반영한다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -24,6 +29,8 @@ public class UnitPriceService {
 
     private final UnitPriceRepository unitPriceRepository;
     private final EntityManager em;
+    private final UnitPriceCache unitPriceCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매입가 신규 등록.
@@ -52,6 +59,7 @@ public class UnitPriceService {
                 .build();
 
         unitPriceRepository.save(up);
+        eventPublisher.publishEvent(UnitPriceChangedEvent.written(List.of(UnitPricePoint.of(up, materialId))));
         return up.getId();
     }
 
@@ -70,20 +78,31 @@ public class UnitPriceService {
         UnitPrice row = unitPriceRepository.findById(unitPriceId)
                 .orElseThrow(() -> new IllegalArgumentException("단가를 찾을 수 없습니다. id=" + unitPriceId));
         row.setPurchasePrice(price != null ? price : BigDecimal.ZERO); // dirty checking
+        eventPublisher.publishEvent(UnitPriceChangedEvent.written(
+                List.of(UnitPricePoint.of(row, row.getMaterial().getId()))));
         return row.getId();
     }
 
     /**
-     * 기준 시점의 최신 매입가 조회.
+     * 기준 시점의 최신 매입가 조회(캐시).
      *
      * @param materialId 재료 ID
      * @param at         기준 시각(null 허용 → now)
      * @return 기준 시점 유효 매입가(Optional)
      */
-    @Transactional(readOnly = true)
-    public Optional<UnitPrice> latestPurchasePrice(Long materialId, LocalDateTime at) {
-        return unitPriceRepository.findLatestPurchasePrice(
-                materialId, at != null ? at : LocalDateTime.now());
+    public Optional<BigDecimal> purchasePriceAt(Long materialId, LocalDateTime at) {
+        return unitPriceCache.purchasePriceAt(materialId, at != null ? at : LocalDateTime.now());
+    }
+
+    /**
+     * 기준 시점의 최신 판매가 조회(캐시).
+     *
+     * @param materialId 재료 ID
+     * @param at         기준 시각(null 허용 → now)
+     * @return 기준 시점 유효 판매가(Optional)
+     */
+    public Optional<BigDecimal> sellingPriceAt(Long materialId, LocalDateTime at) {
+        return unitPriceCache.sellingPriceAt(materialId, at != null ? at : LocalDateTime.now());
     }
 
     /**
@@ -118,5 +137,9 @@ public class UnitPriceService {
                 .validFrom(now)
                 .build();
         unitPriceRepository.save(sellPrice);
+
+        eventPublisher.publishEvent(UnitPriceChangedEvent.written(List.of(
+                UnitPricePoint.of(purchasePrice, materialId),
+                UnitPricePoint.of(sellPrice, materialId))));
     }
 }
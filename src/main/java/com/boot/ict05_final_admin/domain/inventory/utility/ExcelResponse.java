@@ -3,6 +3,7 @@ package com.boot.ict05_final_admin.domain.inventory.utility;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * XLSX 바이너리 응답 헬퍼.
@@ -21,6 +22,9 @@ import org.springframework.http.ResponseEntity;
  */
 public final class ExcelResponse {
 
+    /** XLSX Content-Type */
+    public static final String XLSX_MIME = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
     private ExcelResponse() {}
 
     /**
@@ -36,22 +40,42 @@ public final class ExcelResponse {
             throw new IllegalArgumentException("bytes must not be null or empty");
         }
 
+        return ResponseEntity.ok()
+                .headers(headers(filename))
+                .contentLength(bytes.length)
+                .body(bytes);
+    }
+
+    /**
+     * XLSX 스트리밍 본문을 다운로드 응답으로 래핑한다.
+     *
+     * <p>본문 길이를 미리 알 수 없으므로 Content-Length는 설정하지 않는다(chunked 전송).</p>
+     *
+     * @param body     응답 스트림 작성기(널 불가)
+     * @param filename 다운로드 파일명(원문; fallback/filename* 모두 생성)
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    public static ResponseEntity<StreamingResponseBody> stream(StreamingResponseBody body, String filename) {
+        if (body == null) {
+            throw new IllegalArgumentException("body must not be null");
+        }
+        return ResponseEntity.ok()
+                .headers(headers(filename))
+                .body(body);
+    }
+
+    private static HttpHeaders headers(String filename) {
         String fallback = ExcelFilename.fallbackAscii(filename);
         String encoded = ExcelFilename.encodeRFC5987(filename);
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        headers.setContentType(MediaType.parseMediaType(XLSX_MIME));
         headers.set(HttpHeaders.CACHE_CONTROL, "no-cache");
         headers.set(HttpHeaders.PRAGMA, "no-cache");
         headers.set(
                 HttpHeaders.CONTENT_DISPOSITION,
                 "attachment; filename=\"" + fallback + "\"; filename*=UTF-8''" + encoded
         );
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .contentLength(bytes.length)
-                .body(bytes);
+        return headers;
     }
 }
@@ -19,6 +19,15 @@ public final class InventoryLogIdUtil {
     /** 유형 프리픽스 경계(1e9). 이 값 이상이면 합성 ID로 간주. */
     private static final long BASE = 1_000_000_000L;
 
+    /** 로그 유형: 입고 */
+    public static final String INCOME = "INCOME";
+
+    /** 로그 유형: 출고 */
+    public static final String OUTGO = "OUTGO";
+
+    /** 로그 유형: 조정 */
+    public static final String ADJUST = "ADJUST";
+
     private InventoryLogIdUtil() {
         // no-op
     }
@@ -37,4 +46,26 @@ public final class InventoryLogIdUtil {
         long v = logId;
         return (v >= BASE) ? (v % BASE) : v;
     }
+
+    /**
+     * 원본 PK에 유형 프리픽스를 가산해 합성 로그 ID를 만든다({@link #unwrap(Long)}의 역).
+     *
+     * <p>버킷: INCOME=0, OUTGO=1e9, ADJUST=2e9 ({@code v_inventory_log}의 row_id 규칙과 동일).</p>
+     *
+     * @param logType 로그 유형(INCOME / OUTGO / ADJUST)
+     * @param pk      원본 PK
+     * @return 합성 로그 ID
+     * @throws IllegalArgumentException 알 수 없는 유형이거나 PK가 버킷 범위를 벗어난 경우
+     */
+    public static long wrap(String logType, long pk) {
+        if (pk < 0 || pk >= BASE) {
+            throw new IllegalArgumentException("로그 원본 PK가 범위를 벗어났습니다. pk=" + pk);
+        }
+        return switch (logType) {
+            case INCOME -> pk;
+            case OUTGO -> BASE + pk;
+            case ADJUST -> 2 * BASE + pk;
+            default -> throw new IllegalArgumentException("알 수 없는 로그 유형: " + logType);
+        };
+    }
 }
@@ -0,0 +1,198 @@
+package com.boot.ict05_final_admin.domain.inventory.utility;
+
+import lombok.experimental.UtilityClass;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 표 형식 파일(XLSX/CSV) 스트리밍 행 리더.
+ *
+ * <p>파일 전체를 메모리에 올리지 않고 한 행씩 {@link RowHandler}로 넘긴다.</p>
+ *
+ * <ul>
+ *   <li>XLSX: POI 이벤트(SAX) API로 첫 번째 시트만 읽는다. 날짜 서식 셀은 ISO-8601 문자열로,
+ *       그 밖의 숫자 셀은 표시 서식(반올림·천 단위 구분 등)을 무시한 저장값 그대로 넘긴다.</li>
+ *   <li>CSV: UTF-8(BOM 허용), 쉼표 구분, 큰따옴표 이스케이프(RFC 4180)를 지원한다.</li>
+ * </ul>
+ *
+ * <p>행 번호는 파일 기준 1부터 시작한다(헤더 포함). 빈 행은 넘기지 않는다.</p>
+ */
+@UtilityClass
+public class TabularRowReader {
+
+    /**
+     * 행 콜백.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNumber 파일 기준 행 번호(1부터)
+         * @param cells     셀 값(빈 셀은 빈 문자열, 앞뒤 공백 제거)
+         */
+        void row(int rowNumber, List<String> cells);
+    }
+
+    /**
+     * XLSX 파일의 첫 번째 시트를 스트리밍으로 읽는다.
+     *
+     * @param file    XLSX 파일(임시 파일 등 로컬 경로)
+     * @param handler 행 콜백
+     * @throws IOException 파일을 읽을 수 없거나 XLSX 형식이 아닐 때
+     */
+    public static void readXlsx(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new SheetRowCollector(handler), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("XLSX 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * CSV 스트림을 읽는다.
+     *
+     * @param in      CSV 입력 스트림(UTF-8)
+     * @param handler 행 콜백
+     * @throws IOException 스트림을 읽을 수 없을 때
+     */
+    public static void readCsv(InputStream in, RowHandler handler) throws IOException {
+        Reader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        r.mark(1);
+        if (r.read() != '\uFEFF') r.reset(); // BOM 제거
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        int rowNumber = 1;
+        int c;
+        while ((c = r.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    r.mark(1);
+                    if (r.read() == '"') {
+                        cell.append('"');
+                    } else {
+                        r.reset();
+                        quoted = false;
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> quoted = true;
+                case ',' -> {
+                    cells.add(cell.toString().trim());
+                    cell.setLength(0);
+                }
+                case '\r' -> { /* CRLF의 CR은 무시 */ }
+                case '\n' -> {
+                    cells.add(cell.toString().trim());
+                    cell.setLength(0);
+                    emit(rowNumber++, cells, handler);
+                    cells = new ArrayList<>();
+                }
+                default -> cell.append((char) c);
+            }
+        }
+        if (cell.length() > 0 || !cells.isEmpty()) {
+            cells.add(cell.toString().trim());
+            emit(rowNumber, cells, handler);
+        }
+    }
+
+    private static void emit(int rowNumber, List<String> cells, RowHandler handler) {
+        for (String v : cells) {
+            if (!v.isEmpty()) {
+                handler.row(rowNumber, cells);
+                return;
+            }
+        }
+    }
+
+    /**
+     * SAX 셀 이벤트를 행 단위로 모은다.
+     */
+    private static final class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private List<String> cells = new ArrayList<>();
+        private int nextCol;
+
+        SheetRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+            nextCol = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            emit(rowNum + 1, cells, handler);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : nextCol;
+            while (cells.size() < col) cells.add(""); // 건너뛴 빈 셀
+            cells.add(formattedValue == null ? "" : formattedValue.trim());
+            nextCol = col + 1;
+        }
+    }
+
+    /**
+     * 숫자 셀 포매터.
+     *
+     * <p>날짜 서식 셀은 로캘 서식 대신 ISO-8601로, 그 밖의 숫자 셀은 저장값을 {@link BigDecimal#valueOf(double)}로
+     * 변환한다. 표시 서식을 따르면 {@code 0} 서식의 1.5가 "2"로 넘어와 수량/단가가 바뀐다.</p>
+     */
+    private static final class IsoDateFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                LocalDateTime dt = DateUtil.getLocalDateTime(value, use1904Windowing);
+                return dt.toLocalTime().equals(LocalTime.MIDNIGHT) ? dt.toLocalDate().toString() : dt.toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
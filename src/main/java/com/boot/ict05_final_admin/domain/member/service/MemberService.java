@@ -1,5 +1,6 @@
 package com.boot.ict05_final_admin.domain.member.service;
 
+import com.boot.ict05_final_admin.domain.auth.dto.MemberChangedEvent;
 import com.boot.ict05_final_admin.domain.auth.entity.Member;
 import com.boot.ict05_final_admin.domain.member.dto.MemberListDTO;
 import com.boot.ict05_final_admin.domain.member.dto.MemberModifyFormDTO;
@@ -7,6 +8,7 @@ import com.boot.ict05_final_admin.domain.member.dto.MemberSearchDTO;
 import com.boot.ict05_final_admin.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 목록 페이지 조회.
@@ -71,6 +74,7 @@ public class MemberService {
      * 비고
      * - 비밀번호와 같은 민감 정보가 DTO에 포함될 경우 별도 인코딩 처리와 변경 정책 검증이 필요하다.
      *   현재는 Member.updateMember(dto) 내부 정책에 위임한다.
+     * - 이메일/상태가 바뀔 수 있으므로 커밋 후 로그인 사용자 스냅샷 캐시를 무효화한다.
      */
     public Member memberModify(MemberModifyFormDTO dto) {
 
@@ -78,6 +82,7 @@ public class MemberService {
         if (member == null) throw new IllegalArgumentException("해당 회원이 존재하지 않습니다.");
 
         member.updateMember(dto);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
 
         return member;
     }
@@ -0,0 +1,65 @@
+package com.boot.ict05_final_admin.domain.menu.repository;
+
+import com.boot.ict05_final_admin.domain.menu.entity.StoreMenuSoldout;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가맹점 메뉴(store_menu) 일괄 생성용 JDBC 리포지토리.
+ *
+ * <p>
+ * 신규 메뉴 → 전체 가맹점, 신규 가맹점 → 전체 메뉴 방향으로 빠진 {@code store_menu} 행을
+ * {@code INSERT … SELECT} 한 문장으로 만든다. 가맹점/메뉴 수와 무관하게 왕복 1회이며,
+ * 이미 있는 (가맹점, 메뉴) 조합은 {@code NOT EXISTS}로 건너뛰므로 다시 실행해도 중복되지 않는다.
+ * </p>
+ *
+ * <p>영속성 컨텍스트를 거치지 않으므로, 대상 메뉴/가맹점 행은 호출 전에 DB에 반영되어 있어야 한다
+ * (IDENTITY 키는 {@code save} 시점에 INSERT 된다).</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreMenuFanoutJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메뉴 하나에 대해 모든 가맹점의 {@code store_menu} 행을 만든다(없는 조합만).
+     *
+     * @param menuId  대상 메뉴 ID
+     * @param soldout 초기 판매 상태
+     * @return 생성된 행 수
+     */
+    public int insertForMenu(Long menuId, StoreMenuSoldout soldout) {
+        String sql = """
+                INSERT INTO store_menu (menu_id_fk, store_id_fk, store_menu_soldout)
+                SELECT ?, s.store_id, ?
+                  FROM store s
+                 WHERE NOT EXISTS (SELECT 1
+                                     FROM store_menu sm
+                                    WHERE sm.store_id_fk = s.store_id
+                                      AND sm.menu_id_fk = ?)
+                """;
+        return jdbcTemplate.update(sql, menuId, soldout.getCode(), menuId);
+    }
+
+    /**
+     * 가맹점 하나에 대해 모든 메뉴의 {@code store_menu} 행을 만든다(없는 조합만).
+     *
+     * @param storeId 대상 가맹점 ID
+     * @param soldout 초기 판매 상태
+     * @return 생성된 행 수
+     */
+    public int insertForStore(Long storeId, StoreMenuSoldout soldout) {
+        String sql = """
+                INSERT INTO store_menu (menu_id_fk, store_id_fk, store_menu_soldout)
+                SELECT m.menu_id, ?, ?
+                  FROM menu m
+                 WHERE NOT EXISTS (SELECT 1
+                                     FROM store_menu sm
+                                    WHERE sm.store_id_fk = ?
+                                      AND sm.menu_id_fk = m.menu_id)
+                """;
+        return jdbcTemplate.update(sql, storeId, soldout.getCode(), storeId);
+    }
+}
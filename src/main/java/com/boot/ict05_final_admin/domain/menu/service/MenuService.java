@@ -8,9 +8,7 @@ import com.boot.ict05_final_admin.domain.menu.entity.*;
 import com.boot.ict05_final_admin.domain.menu.repository.MenuCategoryRepository;
 import com.boot.ict05_final_admin.domain.menu.repository.MenuRecipeRepository;
 import com.boot.ict05_final_admin.domain.menu.repository.MenuRepository;
-import com.boot.ict05_final_admin.domain.menu.repository.StoreMenuRepository;
-import com.boot.ict05_final_admin.domain.store.entity.Store;
-import com.boot.ict05_final_admin.domain.store.repository.StoreRepository;
+import com.boot.ict05_final_admin.domain.menu.repository.StoreMenuFanoutJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -39,9 +37,8 @@ public class MenuService {
     private final MenuRecipeRepository menuRecipeRepository;
     private final MenuCategoryRepository menuCategoryRepository;
 
-    // 🔹 가맹점 / 가맹점 메뉴
-    private final StoreRepository storeRepository;
-    private final StoreMenuRepository storeMenuRepository;
+    // 🔹 가맹점 메뉴 일괄 생성
+    private final StoreMenuFanoutJdbcRepository storeMenuFanoutJdbcRepository;
 
     /**
      * 메뉴 목록을 페이지 단위로 조회한다.
@@ -104,30 +101,14 @@ public class MenuService {
     /**
      * 새로 등록된 본사 메뉴에 대해 모든 가맹점의 {@code StoreMenu} 행을 기본값 {@code ON_SALE}로 생성한다.
      *
-     * @param menu 대상 메뉴
+     * <p>가맹점 수와 무관하게 {@code INSERT … SELECT} 한 문장으로 처리하며, 이미 있는 조합은 건너뛴다.</p>
+     *
+     * @param menu 대상 메뉴(저장되어 PK가 있는 상태)
      */
     private void createStoreMenusForNewMenu(Menu menu) {
-        List<Store> stores = storeRepository.findAll();
-
-        int created = 0;
-        for (Store store : stores) {
-            // 중복 방지
-            boolean exists = storeMenuRepository.existsByStoreAndMenu(store, menu);
-            if (exists) continue;
-
-            // ✅ 엔티티 타입으로 선언
-            StoreMenu sm = StoreMenu.builder()
-                    .store(store)
-                    .menu(menu)
-                    .storeMenuSoldout(StoreMenuSoldout.ON_SALE)
-                    .build();
-
-            storeMenuRepository.save(sm);
-            created++;
-        }
+        int created = storeMenuFanoutJdbcRepository.insertForMenu(menu.getMenuId(), StoreMenuSoldout.ON_SALE);
 
-        log.info("[createStoreMenusForNewMenu] menuId={}, stores={}, createdRows={}",
-                menu.getMenuId(), stores.size(), created);
+        log.info("[createStoreMenusForNewMenu] menuId={}, createdRows={}", menu.getMenuId(), created);
     }
 
 
@@ -1,6 +1,7 @@
 package com.boot.ict05_final_admin.domain.myPage.controller;
 
 import com.boot.ict05_final_admin.domain.auth.entity.Member;
+import com.boot.ict05_final_admin.domain.auth.service.PrincipalCache;
 import com.boot.ict05_final_admin.domain.myPage.dto.MyPageDTO;
 import com.boot.ict05_final_admin.domain.myPage.service.MyPageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,6 +35,7 @@ import java.util.UUID;
 public class MyPageController {
 
     private final MyPageService myPageService;
+    private final PrincipalCache principalCache;
     private Member member;
 
     @Value("${file.upload-dir.profile}")
@@ -64,7 +66,7 @@ public class MyPageController {
      *
      * <ul>
      *   <li>principal이 {@code Member} 타입이면 해당 엔티티의 ID를 바로 반환한다.</li>
-     *   <li>principal이 {@code UserDetails} 타입이면 username(email)을 이용해 DB에서 회원을 조회한 후 ID를 반환한다.</li>
+     *   <li>principal이 {@code UserDetails} 타입이면 username(email)로 로그인 사용자 스냅샷 캐시를 조회한 후 ID를 반환한다.</li>
      * </ul>
      *
      * @return 로그인된 회원의 ID
@@ -86,10 +88,10 @@ public class MyPageController {
 
         // principal 이 UserDetails 타입이라면
         if (principal instanceof UserDetails userDetails) {
-            // email(username)로 회원 조회
-            com.boot.ict05_final_admin.domain.auth.entity.Member memberEntity =
-                    myPageService.findByEmail(userDetails.getUsername());
-            return memberEntity.getId();
+            // email(username)로 회원 조회 (스냅샷 캐시)
+            return principalCache.getByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("해당 이메일의 회원이 존재하지 않습니다."))
+                    .getId();
         }
 
         throw new IllegalStateException("사용자 정보를 가져올 수 없습니다.");
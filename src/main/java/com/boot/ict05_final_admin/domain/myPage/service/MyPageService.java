@@ -1,10 +1,12 @@
 package com.boot.ict05_final_admin.domain.myPage.service;
 
+import com.boot.ict05_final_admin.domain.auth.dto.MemberChangedEvent;
 import com.boot.ict05_final_admin.domain.auth.entity.Member;
 import com.boot.ict05_final_admin.domain.myPage.dto.MyPageDTO;
 import com.boot.ict05_final_admin.domain.myPage.repository.MyPageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,7 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
  * 마이페이지 관련 비즈니스 로직 서비스 클래스.
  *
  * <p>로그인된 회원의 정보를 기반으로 마이페이지 조회, 수정, 비밀번호 변경, 탈퇴(Soft Delete)를 수행한다.<br>
- * 모든 변경은 로그인된 사용자의 ID를 SecurityContext에서 추출하여 처리한다.</p>
+ * 모든 변경은 로그인된 사용자의 ID를 SecurityContext에서 추출하여 처리한다.<br>
+ * 변경 메서드는 {@link MemberChangedEvent}를 발행하여 커밋 후 로그인 사용자 스냅샷 캐시를 무효화한다.</p>
  */
 @RequiredArgsConstructor
 @Service
@@ -23,6 +26,7 @@ public class MyPageService {
 
     private final MyPageRepository myPageRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 마이페이지 조회
@@ -80,6 +84,7 @@ public class MyPageService {
         }
         // 강제로 저장 및 flush (강제 DB 반영 (dirty-check 무시)
         myPageRepository.saveAndFlush(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
     }
 
     /**
@@ -102,6 +107,7 @@ public class MyPageService {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
         member.setPassword(passwordEncoder.encode(newPassword));
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
     }
 
     /**
@@ -135,6 +141,7 @@ public class MyPageService {
         Member member = myPageRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("회원이 존재하지 않습니다."));
         member.withdraw(); // 상태를 WITHDRAWN으로 변경
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
     }
 
 }
@@ -0,0 +1,11 @@
+package com.boot.ict05_final_admin.domain.nav.dto;
+
+/**
+ * 메뉴 활성화 상태 변경 이벤트
+ *
+ * 커밋 이후 메모리 게이트를 다시 만들도록 알린다.
+ *
+ * @param navItemId 변경된 메뉴 식별자
+ */
+public record NavItemChangedEvent(Long navItemId) {
+}
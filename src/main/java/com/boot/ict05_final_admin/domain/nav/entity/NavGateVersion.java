@@ -0,0 +1,28 @@
+package com.boot.ict05_final_admin.domain.nav.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 네비게이션 게이트 정책 버전
+ *
+ * 역할
+ * - 메뉴 활성화 상태가 바뀔 때마다 1씩 증가하는 단일 행 카운터
+ * - 각 노드는 메모리 트라이를 만든 시점의 버전과 비교하여 다른 노드의 변경을 감지한다
+ */
+@Entity
+@Table(name = "nav_gate_version")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class NavGateVersion {
+
+    /** 단일 행 식별자 (항상 1) */
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "nav_gate_version_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,46 @@
+package com.boot.ict05_final_admin.domain.nav.scheduler;
+
+import com.boot.ict05_final_admin.domain.nav.service.NavGateRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네비게이션 게이트 갱신 스케줄러
+ *
+ * 역할
+ * - 기동 직후 메뉴 트라이를 적재한다
+ * - 주기적으로 정책 버전을 비교하여 다른 노드에서 바뀐 메뉴 상태를 반영한다
+ *
+ * 기본 주기: 5초 (nav.gate.version-check-ms)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NavGateRefreshScheduler {
+
+    private final NavGateRegistry registry;
+
+    /** 기동 직후 1회 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            registry.reload();
+        } catch (Exception e) {
+            log.warn("[NavGate][BOOT] failed: {}", e.getMessage());
+        }
+    }
+
+    /** 버전 비교 후 필요하면 다시 적재 */
+    @Scheduled(fixedDelayString = "${nav.gate.version-check-ms:5000}")
+    public void refresh() {
+        try {
+            registry.refreshIfStale();
+        } catch (Exception e) {
+            log.warn("[NavGate][REFRESH] failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.boot.ict05_final_admin.domain.nav.service;
+
+import com.boot.ict05_final_admin.domain.nav.dto.NavItemChangedEvent;
+import com.boot.ict05_final_admin.domain.nav.entity.NavItem;
+import com.boot.ict05_final_admin.domain.nav.repository.NavGateVersionRepository;
+import com.boot.ict05_final_admin.domain.nav.repository.NavItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 네비게이션 게이트 메모리 레지스트리
+ *
+ * 역할
+ * - 메뉴 경로 트라이를 메모리에 두고 요청마다 DB 조회 없이 활성 여부를 판정한다
+ *
+ * 갱신
+ * - 첫 판정 시(또는 기동 직후) 전체 메뉴를 읽어 트라이를 만든다
+ * - 이 노드에서 상태를 바꾸면 커밋 직후 다시 만든다 (NavItemChangedEvent)
+ * - 다른 노드의 변경은 주기적인 버전 비교로 감지한다 (NavGateRefreshScheduler)
+ * - 새 트라이를 다 만든 뒤 참조만 교체하므로 판정 중인 요청은 항상 완성된 트라이를 본다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NavGateRegistry {
+
+    private final NavItemRepository navItemRepository;
+    private final NavGateVersionRepository navGateVersionRepository;
+
+    /** 현재 트라이와 그 트라이를 만든 시점의 버전 */
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(NavPathTrie trie, long version) { }
+
+    /**
+     * 요청 URI와 가장 길게 일치하는 메뉴의 활성 상태를 찾는다.
+     *
+     * @param uri 요청 URI (컨텍스트 경로 제외)
+     * @return 활성 상태, 관리 대상이 아니면 null
+     */
+    public Boolean match(String uri) {
+        Snapshot s = snapshot;
+        if (s == null) s = reload();
+        return s.trie().longestMatch(uri);
+    }
+
+    /**
+     * 저장소 버전이 메모리 버전과 다르면 다시 만든다.
+     *
+     * @return 다시 만들었으면 true
+     */
+    public boolean refreshIfStale() {
+        Snapshot s = snapshot;
+        long current = currentVersion();
+        if (s != null && s.version() == current) return false;
+        reload();
+        return true;
+    }
+
+    /**
+     * 커밋 직후 이 노드의 트라이를 다시 만든다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNavItemChanged(NavItemChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * 전체 메뉴를 읽어 트라이를 새로 만들고 교체한다.
+     *
+     * 버전을 먼저 읽으므로, 읽는 사이에 바뀐 내용은 다음 버전 비교에서 다시 반영된다.
+     */
+    public synchronized Snapshot reload() {
+        long version = currentVersion();
+        List<NavItem> items = navItemRepository.findAll(Sort.by("id"));
+        Snapshot next = new Snapshot(NavPathTrie.build(items), version);
+        snapshot = next;
+        log.info("[NavGate] trie loaded: paths={}, version={}", next.trie().size(), version);
+        return next;
+    }
+
+    private long currentVersion() {
+        return navGateVersionRepository.currentVersion().orElse(0L);
+    }
+}
@@ -1,19 +1,19 @@
 package com.boot.ict05_final_admin.domain.nav.service;
 
+import com.boot.ict05_final_admin.domain.nav.dto.NavItemChangedEvent;
 import com.boot.ict05_final_admin.domain.nav.dto.NavListDTO;
 import com.boot.ict05_final_admin.domain.nav.dto.NavSearchDTO;
 import com.boot.ict05_final_admin.domain.nav.entity.NavItem;
+import com.boot.ict05_final_admin.domain.nav.repository.NavGateVersionRepository;
 import com.boot.ict05_final_admin.domain.nav.repository.NavItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
-
 /**
  * 시스템 내 네비게이션 항목 접근 제어 게이트 서비스
  *
@@ -25,6 +25,11 @@ import java.util.Optional;
  * 트랜잭션
  * - 클래스 기본은 읽기 전용
  * - 상태 변경 메소드는 개별적으로 @Transactional 로 격리
+ * - 경로 판정은 메모리 트라이({@link NavGateRegistry})만 사용하므로 트랜잭션 없이 수행
+ *
+ * 정책 갱신
+ * - 상태 변경 시 정책 버전을 올리고 NavItemChangedEvent를 발행한다
+ * - 이 노드는 커밋 직후, 다른 노드는 버전 비교 주기 안에 트라이를 다시 만든다
  *
  * 보안
  * - 여기서 true/false는 네비게이션 관점의 허용 여부
@@ -36,31 +41,31 @@ import java.util.Optional;
 public class NavGateService {
 
     private final NavItemRepository navItemRepository;
+    private final NavGateVersionRepository navGateVersionRepository;
+    private final NavGateRegistry navGateRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 요청 URI가 nav 정책상 활성인지 판정한다.
      *
      * 동작
-     * - 모든 NavItem을 로드한 뒤 요청 URI로 시작하는 항목들 중
-     *   경로가 가장 긴 항목을 선택한다 (가장 구체적인 정책 우선).
+     * - 메모리 트라이에서 요청 URI로 시작하는 메뉴 경로 중
+     *   가장 긴 항목을 찾는다 (가장 구체적인 정책 우선).
      * - 매칭되는 항목이 없으면 nav에서 관리하지 않는 경로로 간주하고 통과(true)시킨다.
      *   최종 보안은 Security가 수행한다.
+     * - 요청마다 DB를 조회하지 않는다.
      *
      * 예
      * - /admin/API 와 /admin/API/staff 가 모두 등록된 경우
      *   /admin/API/staff/modify 요청은 후자를 우선한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean isEnabledPath(String requestUri) {
-        List<NavItem> all = navItemRepository.findAll();
-
-        // 가장 긴 prefix를 가진 항목 우선
-        Optional<NavItem> match = all.stream()
-                .filter(n -> requestUri.startsWith(n.getNavItemPath()))
-                .max(Comparator.comparingInt(n -> n.getNavItemPath().length()));
+        Boolean enabled = navGateRegistry.match(requestUri);
 
         // nav에서 관리하지 않는 경로면 true 반환
         // 최종 차단은 Security가 담당
-        return match.map(NavItem::isNavItemEnabled).orElse(true);
+        return enabled == null || enabled;
     }
 
     /**
@@ -89,6 +94,7 @@ public class NavGateService {
     public boolean setEnabled(Long id, boolean enabled) {
         int cnt = navItemRepository.updateEnabled(id, enabled);
         if (cnt == 0) throw new IllegalArgumentException("대상 메뉴가 없습니다: " + id);
+        publishChanged(id);
         return enabled;
     }
 
@@ -108,6 +114,15 @@ public class NavGateService {
                 .orElseThrow(() -> new IllegalArgumentException("대상 메뉴가 없습니다: " + id));
         boolean next = !nav.isNavItemEnabled();
         nav.setNavItemEnabled(next); // dirty checking
+        publishChanged(id);
         return next;
     }
+
+    /**
+     * 정책 버전을 올리고 변경 이벤트를 발행한다 (트라이 재구성은 커밋 이후).
+     */
+    private void publishChanged(Long id) {
+        navGateVersionRepository.bump();
+        eventPublisher.publishEvent(new NavItemChangedEvent(id));
+    }
 }
@@ -0,0 +1,81 @@
+package com.boot.ict05_final_admin.domain.nav.service;
+
+import com.boot.ict05_final_admin.domain.nav.entity.NavItem;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 경로 최장 접두사 트라이 (불변)
+ *
+ * 역할
+ * - 메뉴 경로를 문자 단위로 적재하고, 요청 URI와 가장 길게 일치하는 경로의 활성 상태를 찾는다
+ * - 판정 비용은 URI 길이에 비례하며 메뉴 수와 무관하다
+ *
+ * 규칙
+ * - 기존 구현과 같이 문자열 접두사로 비교한다 (/inventory 는 /inventory-x 에도 일치)
+ * - 같은 경로가 여러 번 등록되면 먼저 적재된 항목을 사용한다
+ * - 한 번 만든 트라이는 바꾸지 않는다. 갱신은 새 트라이를 만들어 통째로 교체한다
+ */
+final class NavPathTrie {
+
+    private static final class Node {
+        final Map<Character, Node> next = new HashMap<>(4);
+        Boolean enabled; // 이 지점에서 끝나는 메뉴 경로가 있으면 그 활성 상태
+    }
+
+    private final Node root;
+    private final int size;
+
+    private NavPathTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 메뉴 목록으로 트라이를 만든다.
+     *
+     * @param items 메뉴 목록 (식별자 순)
+     * @return 새 트라이
+     */
+    static NavPathTrie build(List<NavItem> items) {
+        Node root = new Node();
+        int size = 0;
+        for (NavItem item : items) {
+            String path = item.getNavItemPath();
+            if (path == null) continue;
+            Node n = root;
+            for (int i = 0; i < path.length(); i++) {
+                n = n.next.computeIfAbsent(path.charAt(i), k -> new Node());
+            }
+            if (n.enabled == null) {
+                n.enabled = item.isNavItemEnabled();
+                size++;
+            }
+        }
+        return new NavPathTrie(root, size);
+    }
+
+    /**
+     * 요청 URI와 가장 길게 일치하는 메뉴 경로의 활성 상태를 찾는다.
+     *
+     * @param uri 요청 URI (컨텍스트 경로 제외)
+     * @return 활성 상태, 일치하는 메뉴가 없으면 null
+     */
+    Boolean longestMatch(String uri) {
+        Node n = root;
+        Boolean found = n.enabled; // 빈 경로("")로 등록된 메뉴
+        for (int i = 0; i < uri.length(); i++) {
+            n = n.next.get(uri.charAt(i));
+            if (n == null) break;
+            if (n.enabled != null) found = n.enabled;
+        }
+        return found;
+    }
+
+    /** 적재된 메뉴 경로 수 */
+    int size() {
+        return size;
+    }
+}
@@ -1,5 +1,6 @@
 package com.boot.ict05_final_admin.domain.notice.controller;
 
+import com.boot.ict05_final_admin.domain.inventory.utility.ExcelResponse;
 import com.boot.ict05_final_admin.domain.notice.dto.NoticeModifyFormDTO;
 import com.boot.ict05_final_admin.domain.notice.dto.NoticeSearchDTO;
 import com.boot.ict05_final_admin.domain.notice.entity.NoticeCategory;
@@ -14,10 +15,8 @@ import com.boot.ict05_final_admin.domain.notice.service.NoticeService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
@@ -25,9 +24,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -194,20 +192,15 @@ public class NoticeRestController {
     }
 
 
+    /**
+     * 공지사항 목록 엑셀 다운로드(스트리밍).
+     *
+     * @param noticeSearchDTO 검색 조건
+     * @return XLSX 스트리밍 응답
+     */
     @GetMapping("/notice/download")
-    public ResponseEntity<?> downloadNotice(NoticeSearchDTO noticeSearchDTO,
-                                            Pageable pageable) throws IOException {
-
-        byte[] excelBytes = noticeService.downloadExcel(noticeSearchDTO, pageable);
-
-        String filename = "공지사항.xlsx";
-        String encodeFilename = java.net.URLEncoder.encode(filename, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Disposition", "attachment; filename=" + encodeFilename);
-        headers.add("Cache-Control", "no-cache");
-
-        return new ResponseEntity<>(excelBytes, headers, HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> downloadNotice(NoticeSearchDTO noticeSearchDTO) {
+        return ExcelResponse.stream(out -> noticeService.writeExcel(noticeSearchDTO, out), "공지사항.xlsx");
     }
 
 }
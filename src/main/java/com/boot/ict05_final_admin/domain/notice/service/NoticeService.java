@@ -1,5 +1,8 @@
 package com.boot.ict05_final_admin.domain.notice.service;
 
+import com.boot.ict05_final_admin.common.export.ChunkedReader;
+import com.boot.ict05_final_admin.common.export.ExportProperties;
+import com.boot.ict05_final_admin.common.export.XlsxStreamWriter;
 import com.boot.ict05_final_admin.domain.fcm.dto.NoticeFcmEvent;
 import com.boot.ict05_final_admin.domain.fcm.service.HqNoticeFcmBridgeService;
 import com.boot.ict05_final_admin.domain.notice.dto.NoticeListDTO;
@@ -14,20 +17,17 @@ import com.boot.ict05_final_admin.domain.notice.repository.NoticeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -46,6 +46,7 @@ public class NoticeService {
     private final NoticeAttachmentRepository noticeAttachmentRepository;
     private final NoticeAttachmentService noticeAttachmentService;
     private final ApplicationEventPublisher eventPublisher;
+    private final ExportProperties exportProperties;
 
     /**
      * 새로운 공지사항을 등록하고 첨부파일을 저장한다.
@@ -170,40 +171,31 @@ public class NoticeService {
 
     /**
      * 공지사항 액셀 다운로드
-     * @return
+     *
+     * <p>청크 단위(id DESC)로 나눠 조회하며 SXSSF 행 윈도우만 메모리에 유지한 채 {@code out}에 바로 기록한다.</p>
+     *
+     * @param noticeSearchDTO 검색 조건
+     * @param out             XLSX를 기록할 출력 스트림(닫지 않음)
      * @throws IOException
      */
-    public byte[] downloadExcel(NoticeSearchDTO noticeSearchDTO, Pageable pageable)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcel(NoticeSearchDTO noticeSearchDTO, OutputStream out)
             throws IOException {
 
-        Workbook workbook = new XSSFWorkbook();
-
-        Sheet sheet = workbook.createSheet("Sheet1");
+        try (XlsxStreamWriter x = new XlsxStreamWriter("Sheet1", exportProperties.getRowWindow())) {
 
-        Row sheet_row = sheet.createRow(0);
-        sheet_row.createCell(0).setCellValue("ID");
-        sheet_row.createCell(1).setCellValue("제목");
-        sheet_row.createCell(2).setCellValue("작성자");
-        sheet_row.createCell(3).setCellValue("작성일");
+            x.header(new String[]{"ID", "제목", "작성자", "작성일"}, null);
 
-        long count = noticeRepository.countNotice(noticeSearchDTO);
-        PageRequest pageRequest = PageRequest.of(0, (int) count, Sort.by("id").descending());
-        Page<NoticeListDTO> lists = noticeRepository.listNotice(noticeSearchDTO, pageRequest);
+            ChunkedReader.pages(p -> noticeRepository.listNotice(noticeSearchDTO, p).getContent(),
+                    exportProperties.getChunkSize(), Sort.by("id").descending(), notice -> {
+                        Row sheet1_row = x.nextRow();
+                        sheet1_row.createCell(0).setCellValue(notice.getId());
+                        sheet1_row.createCell(1).setCellValue(notice.getTitle());
+                        sheet1_row.createCell(2).setCellValue(notice.getWriter());
+                        sheet1_row.createCell(3).setCellValue(notice.getRegisteredAt());
+                    });
 
-        int i = 1;
-        for (NoticeListDTO notice : lists) {
-            Row sheet1_row = sheet.createRow(i);
-            sheet1_row.createCell(0).setCellValue(notice.getId());
-            sheet1_row.createCell(1).setCellValue(notice.getTitle());
-            sheet1_row.createCell(2).setCellValue(notice.getWriter());
-            sheet1_row.createCell(3).setCellValue(notice.getRegisteredAt());
-            i++;
+            x.writeTo(out);
         }
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
     }
 }
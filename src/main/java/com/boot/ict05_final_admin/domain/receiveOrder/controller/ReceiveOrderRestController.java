@@ -1,6 +1,11 @@
 package com.boot.ict05_final_admin.domain.receiveOrder.controller;
 
+import com.boot.ict05_final_admin.common.export.ExportJob;
+import com.boot.ict05_final_admin.common.export.ExportJobDTO;
+import com.boot.ict05_final_admin.common.export.ExportJobService;
+import com.boot.ict05_final_admin.domain.inventory.utility.ExcelResponse;
 import com.boot.ict05_final_admin.domain.receiveOrder.dto.ReceiveOrderSearchDTO;
+import com.boot.ict05_final_admin.domain.receiveOrder.dto.ReceiveOrderStatusSyncDTO;
 
 import com.boot.ict05_final_admin.domain.receiveOrder.repository.ReceiveOrderRepositoryImpl;
 import com.boot.ict05_final_admin.domain.receiveOrder.service.ReceiveOrderService;
@@ -12,15 +17,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * 수주(Receive Order) 관련 REST API 컨트롤러.
@@ -28,8 +34,9 @@ import java.nio.charset.StandardCharsets;
  * <p>본 컨트롤러는 수주 현황 관리와 관련된 비동기 요청을 처리한다.<br>
  * 주요 기능은 다음과 같다:
  * <ul>
- *   <li>수주 상태(배송 진행 단계) 변경</li>
- *   <li>수주 목록 엑셀 파일 다운로드</li>
+ *   <li>수주 상태(배송 진행 단계) 변경, 여러 수주 일괄 배송 시작</li>
+ *   <li>가맹점 → 본사 수주 상태 동기화(단건/일괄)</li>
+ *   <li>수주 목록 엑셀 파일 다운로드(동기 스트리밍/비동기 내보내기 작업)</li>
  * </ul>
  * </p>
  *
@@ -59,6 +66,7 @@ public class ReceiveOrderRestController {
 
     private final ReceiveOrderService receiveOrderService;
     private final ReceiveOrderRepositoryImpl receiveOrderRepository;
+    private final ExportJobService exportJobService;
 
     // 공유 시크릿 주입(없으면 local-dev-secret 사용)
     @Value("${sync.shared-secret:local-dev-secret}")
@@ -117,6 +125,41 @@ public class ReceiveOrderRestController {
     }
 
 
+    /**
+     * 여러 수주를 한 번에 배송 시작하고 본사 재고에서 출고한다.
+     *
+     * <p>오전 배송 준비처럼 다수의 수주를 동시에 처리할 때 사용한다.
+     * 모든 수주가 RECEIVED 상태여야 하며, 한 건이라도 실패하면 전체가 취소된다.</p>
+     *
+     * @param ids 배송 시작할 수주 ID 목록
+     * @return 처리 결과 메시지
+     */
+    @PostMapping("/receive/ship")
+    @Operation(
+            summary = "수주 일괄 배송 시작",
+            description = "여러 수주를 한 트랜잭션에서 RECEIVED → SHIPPING 으로 전환하고, " +
+                    "전체 품목을 FIFO로 한 번에 할당하여 출고합니다. 한 건이라도 실패하면 전체가 취소됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 출고 완료",
+                            content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "빈 목록, 없는 수주 또는 재고 부족"),
+                    @ApiResponse(responseCode = "409", description = "RECEIVED 상태가 아닌 수주 포함")
+            }
+    )
+    public ResponseEntity<String> shipOrders(@RequestBody List<Long> ids) {
+
+        log.info("📦 [HQ] 수주 일괄 배송 요청: count={}", ids == null ? 0 : ids.size());
+
+        try {
+            int shipped = receiveOrderService.shipOrders(ids);
+            return ResponseEntity.ok(shipped + "건 출고 완료");
+        } catch (IllegalArgumentException e) { // 빈 목록, 미존재 ID, 재고 부족
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) { // 전이 불가 또는 경쟁 갱신 충돌
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+    }
+
     /**
      * 가맹점 서버로부터 수주 상태를 동기화받는다.
      *
@@ -160,22 +203,57 @@ public class ReceiveOrderRestController {
         }
 
         log.info("Sync 수신 orderCode={}, status={}", orderCode, status);
-        receiveOrderService.applyStatusFromStore(orderCode, status);
 
         // 본문 없는 성공은 204가 더 깔끔
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 가맹점으로부터 여러 수주 상태 변경을 한 번에 동기화받는다.
+     *
+     * <p>가맹점이 장애 복구 후 밀린 상태 변경을 재전송할 때 사용한다. 항목마다 발주별 시퀀스 번호를 포함하며,
+     * 본사는 이미 반영한 시퀀스 이하의 항목을 건너뛰므로 같은 요청을 다시 보내도 결과가 같다.
+     * 전체를 한 트랜잭션에서 처리하고 항목별 결과를 입력 순서대로 돌려준다.</p>
+     *
+     * @param items 상태 변경 목록
+     * @param token 가맹점 공유 토큰 헤더
+     * @return 항목별 처리 결과
+     */
+    @PutMapping("/receive/sync/status/batch")
+    @Operation(
+            summary = "가맹점 → 본사 수주 상태 일괄 동기화",
+            description = "여러 상태 변경(발주 코드, 상태, 시퀀스)을 한 트랜잭션에서 반영합니다. " +
+                    "이미 반영한 시퀀스 이하의 항목은 DUPLICATE 로 건너뜁니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "항목별 결과(APPLIED/DUPLICATE/NOT_FOUND/INVALID)",
+                            content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "빈 목록 또는 항목 수 초과"),
+                    @ApiResponse(responseCode = "401", description = "동기화 토큰 불일치")
+            }
+    )
+    public ResponseEntity<?> syncStatusesFromStore(
+            @RequestBody List<ReceiveOrderStatusSyncDTO> items,
+            @RequestHeader(value = "X-Sync-Auth", required = false) String token
+    ) {
+        if (token == null || !token.equals(sharedSecret)) {
+            log.warn("Sync 인증 실패(일괄) count={}", items == null ? 0 : items.size());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(receiveOrderService.syncStatusesFromStore(items));
+        } catch (IllegalArgumentException e) { // 빈 목록, 항목 수 초과
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 수주 목록 엑셀 다운로드 API
      *
-     * <p>검색 조건과 페이징 정보를 바탕으로 현재 수주 목록을 조회한 뒤,
-     * Excel 파일로 생성하여 다운로드할 수 있도록 응답한다.</p>
+     * <p>검색 조건에 맞는 수주 목록을 청크 단위로 읽어 Excel 파일로 응답 스트림에 직접 기록한다.</p>
      *
      * @param searchDTO 검색 필터 조건 (예: 가맹점명, 상태, 기간 등)
-     * @param pageable 페이징 정보 (페이지 번호, 사이즈)
-     * @return Excel 파일 데이터가 포함된 {@link ResponseEntity} (Content-Disposition 헤더 포함)
-     * @throws IOException 파일 생성 실패 시 발생
+     * @return Excel 스트리밍 응답 (Content-Disposition 헤더 포함)
      *
      */
     @GetMapping("/receive/download")
@@ -187,20 +265,26 @@ public class ReceiveOrderRestController {
                     @ApiResponse(responseCode = "500", description = "서버 내부 오류 (엑셀 생성 실패)")
             }
     )
-    public ResponseEntity<?> downloadMaterial(ReceiveOrderSearchDTO searchDTO, Pageable pageable)
-            throws IOException {
-
-        byte[] excelBytes = receiveOrderService.downloadExcel(searchDTO, pageable);
-
-        String filename = "수주 목록.xlsx";
-        String encodeFilename = java.net.URLEncoder.encode(filename, StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Disposition", "attachment; filename=" + encodeFilename);
-        headers.add("Cache-Control", "no-cache");
+    public ResponseEntity<StreamingResponseBody> downloadMaterial(ReceiveOrderSearchDTO searchDTO) {
+        return ExcelResponse.stream(out -> receiveOrderService.writeExcel(searchDTO, out), "수주 목록.xlsx");
+    }
 
-        return new ResponseEntity<>(excelBytes, headers, HttpStatus.OK);
+    /**
+     * 수주 목록 엑셀 비동기 내보내기 API
+     *
+     * <p>엑셀 생성을 내보내기 작업 큐에 제출하고 즉시 작업 ID를 반환한다.
+     * 같은 검색 조건의 파일이 캐시 TTL 안에 있으면 DB 조회 없이 완료 상태로 응답한다.
+     * 진행률/다운로드는 {@code /API/export/jobs/{jobId}}를 사용한다.</p>
+     *
+     * @param searchDTO 검색 필터 조건
+     * @return 202 Accepted + 작업 상태
+     */
+    @PostMapping("/receive/export")
+    @Operation(summary = "수주 목록 엑셀 비동기 내보내기", description = "엑셀 생성을 작업 큐에 제출하고 작업 ID를 반환합니다.")
+    public ResponseEntity<ExportJobDTO> exportReceiveOrders(ReceiveOrderSearchDTO searchDTO) {
+        ExportJob job = exportJobService.submit("receive-order-xlsx", searchDTO, "수주 목록.xlsx",
+                out -> receiveOrderService.writeExcel(searchDTO, out));
+        return ResponseEntity.accepted().body(ExportJobDTO.from(job));
     }
 
     /**
@@ -34,6 +34,9 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 public class ReceiveOrderItemDTO {
 
+    /** 수주 ID (여러 수주 품목을 한 번에 조회할 때만 채움) */
+    private Long orderId;
+
     /** 자재 ID (출고/재고 연동용 FK) */
     private Long materialId;
     
@@ -0,0 +1,32 @@
+package com.boot.ict05_final_admin.domain.receiveOrder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가맹점 → 본사 수주 상태 동기화 항목 DTO
+ *
+ * <p>가맹점에서 발생한 상태 변경 한 건을 나타낸다. {@code seq}는 가맹점이 발주별로
+ * 증가시키는 시퀀스 번호로, 본사는 이미 반영한 번호 이하의 변경을 재전송으로 보고 건너뛴다.
+ * 필수 값 누락/알 수 없는 상태는 요청 전체를 거절하지 않고 항목 결과 {@code INVALID}로 돌려준다.</p>
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "수주 상태 동기화 항목")
+public class ReceiveOrderStatusSyncDTO {
+
+    /** 발주 코드 (본사 수주 코드와 동일) */
+    @Schema(description = "발주 코드", requiredMode = Schema.RequiredMode.REQUIRED, example = "PO-20251110-0001")
+    private String orderCode;
+
+    /** 가맹점 상태 값 (RECEIVED, SHIPPING, DELIVERED, CANCELED) */
+    @Schema(description = "가맹점 상태", requiredMode = Schema.RequiredMode.REQUIRED, example = "DELIVERED")
+    private String status;
+
+    /** 발주별 상태 변경 시퀀스 번호 (증가값) */
+    @Schema(description = "상태 변경 시퀀스 번호", requiredMode = Schema.RequiredMode.REQUIRED, example = "3")
+    private Long seq;
+}
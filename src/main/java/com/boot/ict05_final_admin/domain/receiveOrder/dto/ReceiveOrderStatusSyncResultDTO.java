@@ -0,0 +1,46 @@
+package com.boot.ict05_final_admin.domain.receiveOrder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가맹점 → 본사 수주 상태 동기화 항목별 결과 DTO
+ *
+ * <p>주요 필드:</p>
+ * <ul>
+ *     <li><b>result</b> — 처리 결과
+ *         <ul>
+ *             <li>{@code APPLIED}: 상태 반영</li>
+ *             <li>{@code DUPLICATE}: 이미 반영한 시퀀스 이하(재전송) 또는 같은 요청 안의 더 낮은 시퀀스 — 변경 없음</li>
+ *             <li>{@code NOT_FOUND}: 해당 발주 코드 없음</li>
+ *             <li>{@code INVALID}: 알 수 없는 상태 값 또는 필수 값 누락</li>
+ *         </ul>
+ *     </li>
+ *     <li><b>appliedSeq</b> — 처리 후 본사에 반영되어 있는 시퀀스 번호</li>
+ * </ul>
+ *
+ * <p>{@code APPLIED}와 {@code DUPLICATE}는 모두 성공으로 보고 가맹점은 해당 항목을 재전송 대상에서 제외한다.</p>
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "수주 상태 동기화 결과")
+public class ReceiveOrderStatusSyncResultDTO {
+
+    /** 처리 결과 */
+    public enum Result { APPLIED, DUPLICATE, NOT_FOUND, INVALID }
+
+    /** 발주 코드 */
+    private String orderCode;
+
+    /** 요청 시퀀스 번호 */
+    private Long seq;
+
+    /** 처리 결과 */
+    private Result result;
+
+    /** 처리 후 반영되어 있는 시퀀스 번호 (없으면 null) */
+    private Long appliedSeq;
+}
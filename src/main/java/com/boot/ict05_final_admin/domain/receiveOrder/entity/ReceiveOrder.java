@@ -89,6 +89,10 @@ public class ReceiveOrder {
     @Column(name = "purchase_order_actual_delivery_date")
     private LocalDate actualDeliveryDate;
 
+    /** 가맹점 상태 동기화로 마지막 반영한 시퀀스 번호 (재전송 중복 방지) */
+    @Column(name = "purchase_order_sync_seq")
+    private Long syncSeq;
+
     /** 수주 상세 목록 (1:N 관계) */
     @OneToMany(mappedBy = "receiveOrder")
     private List<ReceiveOrderDetail> details;
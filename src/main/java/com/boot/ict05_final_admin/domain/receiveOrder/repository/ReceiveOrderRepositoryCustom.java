@@ -7,19 +7,27 @@ import org.springframework.data.domain.Page;
 
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ReceiveOrderRepositoryCustom {
 
     // 수주 목록 조회
     Page<ReceiveOrderListDTO> listReceive(ReceiveOrderSearchDTO receiveOrderSearchDTO, Pageable pageable);
+    // 수주 목록 키셋 청크 조회(엑셀 내보내기용, id 내림차순, beforeId 미만)
+    List<ReceiveOrderListDTO> listReceiveChunk(ReceiveOrderSearchDTO receiveOrderSearchDTO, Long beforeId, int limit);
     // 수주 총 개수
     long countReceive(ReceiveOrderSearchDTO receiveOrderSearchDTO);
     // 수주 상세 조회
     Optional<ReceiveOrderDetailDTO> findDetailById(Long id);
     // 수주 상세 - 주문 상품 리스트
     List<ReceiveOrderItemDTO> findItemsByOrderId(Long id);
+    // 여러 수주 상세 헤더 일괄 조회(일괄 출고용)
+    List<ReceiveOrderDetailDTO> findDetailsByIds(Collection<Long> ids);
+    // 여러 수주 품목 일괄 조회(orderId 포함, 일괄 출고용)
+    List<ReceiveOrderItemDTO> findItemsByOrderIds(Collection<Long> ids);
     // 상단 카드 데이터
     ReceiveOrderSummaryDTO getSummary();
     // 수주 코드로 상태 변경 시에도 필요
@@ -27,6 +35,12 @@ public interface ReceiveOrderRepositoryCustom {
     // 수주 상태 조건부 변경
     // 주어진 id 와 curr 값이 현재 DB 에 저장된 상태와 일치할 때에만 상태를 next 로 변경. 동시 수정 충돌을 방지
     int updateStatusIfCurrent(Long id, ReceiveOrderStatus curr, ReceiveOrderStatus next);
+    // 여러 수주 상태 조건부 일괄 변경(현재 상태가 curr 인 행만)
+    int updateStatusIfCurrentIn(Collection<Long> ids, ReceiveOrderStatus curr, ReceiveOrderStatus next);
     // 주문 코드 기준으로 수주 상태 일괄 변경
     int updateStatusByOrderCode(String orderCode, ReceiveOrderStatus status);
+    // 주문 코드별 마지막 동기화 시퀀스 일괄 조회(존재하는 코드만 키, 값은 null 가능)
+    Map<String, Long> findSyncSeqByOrderCodes(Collection<String> orderCodes);
+    // 주문 코드 → 시퀀스 묶음을 한 상태로 일괄 변경(저장된 시퀀스보다 큰 행만)
+    int updateStatusFromSync(ReceiveOrderStatus status, Map<String, Long> seqByOrderCode);
 }
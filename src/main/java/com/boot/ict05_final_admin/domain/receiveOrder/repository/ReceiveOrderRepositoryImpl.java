@@ -8,8 +8,11 @@ import com.boot.ict05_final_admin.domain.receiveOrder.entity.*;
 import com.boot.ict05_final_admin.domain.store.entity.QStore;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -23,7 +26,10 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -40,7 +46,8 @@ import java.util.Optional;
  *     <li>대시보드 상단 카드용 요약 데이터 조회(getSummary)</li>
  *     <li>검색/필터/페이징이 적용된 수주 목록 조회(listReceive, countReceive)</li>
  *     <li>수주 상세 헤더 및 품목 리스트 조회(findDetailById, findItemsByOrderId)</li>
- *     <li>수주 상태 변경용 벌크 업데이트(updateStatusIfCurrent, updateStatusByOrderCode)</li>
+ *     <li>일괄 출고용 다건 조회(findDetailsByIds, findItemsByOrderIds)</li>
+ *     <li>수주 상태 변경용 벌크 업데이트(updateStatusIfCurrent, updateStatusIfCurrentIn, updateStatusByOrderCode, updateStatusFromSync)</li>
  * </ul>
  *
  * <p>
@@ -158,6 +165,38 @@ public class ReceiveOrderRepositoryImpl implements ReceiveOrderRepositoryCustom{
         return (int) updated;
     }
 
+    /**
+     * 현재 상태가 지정된 상태인 수주들만 다음 상태로 일괄 변경한다.
+     *
+     * <p>
+     * 일괄 출고에서 사용하며, 반환값이 요청 건수보다 작으면
+     * 일부 수주가 이미 다른 상태로 바뀐 것이다.
+     * </p>
+     *
+     * @param ids  수주 ID 목록
+     * @param curr 현재 기대하는 상태
+     * @param next 변경할 다음 상태
+     * @return 실제로 업데이트된 행 수
+     */
+    @Override
+    public int updateStatusIfCurrentIn(Collection<Long> ids, ReceiveOrderStatus curr, ReceiveOrderStatus next) {
+        QReceiveOrder ro = QReceiveOrder.receiveOrder;
+
+        long updated = queryFactory
+                .update(ro)
+                .set(ro.status, next)
+                .where(
+                        ro.id.in(ids)
+                                .and(ro.status.eq(curr))
+                )
+                .execute();
+
+        em.flush();
+        em.clear();
+
+        return (int) updated;
+    }
+
     /**
      * 주문 번호를 기준으로 수주 상태를 일괄 변경한다.
      *
@@ -190,6 +229,77 @@ public class ReceiveOrderRepositoryImpl implements ReceiveOrderRepositoryCustom{
         return (int) updated;
     }
 
+    /**
+     * 주문 번호별 마지막 동기화 시퀀스를 한 번에 조회한다.
+     *
+     * @param orderCodes 주문 번호 목록
+     * @return 주문 번호 → 시퀀스(한 번도 동기화되지 않았으면 null). 없는 주문 번호는 키 없음
+     */
+    @Override
+    public Map<String, Long> findSyncSeqByOrderCodes(Collection<String> orderCodes) {
+        Map<String, Long> result = new HashMap<>();
+        if (orderCodes == null || orderCodes.isEmpty()) return result;
+
+        QReceiveOrder ro = QReceiveOrder.receiveOrder;
+        List<Tuple> rows = queryFactory
+                .select(ro.orderCode, ro.syncSeq)
+                .from(ro)
+                .where(ro.orderCode.in(orderCodes))
+                .fetch();
+        for (Tuple t : rows) {
+            result.put(t.get(ro.orderCode), t.get(ro.syncSeq));
+        }
+        return result;
+    }
+
+    /**
+     * 여러 주문 번호를 한 상태로 일괄 변경하고 주문 번호별 시퀀스를 기록한다.
+     *
+     * <p>
+     * {@code UPDATE … SET status = ?, sync_seq = CASE order_code WHEN … END
+     * WHERE order_code IN (…) AND (sync_seq IS NULL OR sync_seq < CASE …)} 한 문장으로 처리한다.
+     * 저장된 시퀀스가 요청 시퀀스 이상인 행(재전송, 경쟁 갱신)은 변경하지 않는다.
+     * DELIVERED 로 변경되는 행은 실제 납기일을 오늘로 기록한다.
+     * </p>
+     *
+     * @param status         변경할 상태
+     * @param seqByOrderCode 주문 번호 → 요청 시퀀스
+     * @return 변경된 행 수
+     */
+    @Override
+    public int updateStatusFromSync(ReceiveOrderStatus status, Map<String, Long> seqByOrderCode) {
+        if (seqByOrderCode.isEmpty()) return 0;
+        QReceiveOrder ro = QReceiveOrder.receiveOrder;
+
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<String, Long> e : seqByOrderCode.entrySet()) {
+            cases = (cases == null)
+                    ? new CaseBuilder().when(ro.orderCode.eq(e.getKey())).then(e.getValue())
+                    : cases.when(ro.orderCode.eq(e.getKey())).then(e.getValue());
+        }
+        NumberExpression<Long> requestedSeq = cases.otherwise(ro.syncSeq);
+
+        var updateClause = queryFactory
+                .update(ro)
+                .set(ro.status, status)
+                .set(ro.syncSeq, requestedSeq)
+                .where(
+                        ro.orderCode.in(seqByOrderCode.keySet())
+                                .and(ro.syncSeq.isNull().or(ro.syncSeq.lt(requestedSeq)))
+                );
+
+        if (status == ReceiveOrderStatus.DELIVERED) {
+            updateClause.set(ro.actualDeliveryDate, LocalDate.now());
+        }
+
+        long updated = updateClause.execute();
+
+        em.flush();
+        em.clear();
+
+        return (int) updated;
+    }
+
     /**
      * 수주 목록을 페이지 단위로 조회한다.
      *
@@ -272,6 +382,63 @@ public class ReceiveOrderRepositoryImpl implements ReceiveOrderRepositoryCustom{
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * 수주 목록을 키셋 방식으로 한 청크 조회한다(엑셀 스트리밍 내보내기용).
+     *
+     * <p>
+     * {@link #listReceive}와 같은 필터·정렬(id 내림차순)을 사용하되, OFFSET 대신 {@code id < beforeId}로
+     * 다음 청크를 읽으므로 뒤쪽 청크도 인덱스 범위 스캔 비용이 일정하다. 전체 카운트는 조회하지 않는다.
+     * </p>
+     *
+     * @param receiveOrderSearchDTO 검색 조건 DTO
+     * @param beforeId              직전 청크의 마지막 id(첫 청크는 null)
+     * @param limit                 청크 크기
+     * @return 수주 목록 청크
+     */
+    @Override
+    public List<ReceiveOrderListDTO> listReceiveChunk(ReceiveOrderSearchDTO receiveOrderSearchDTO, Long beforeId, int limit) {
+        QReceiveOrder ro = QReceiveOrder.receiveOrder;
+        QReceiveOrderDetail rod = QReceiveOrderDetail.receiveOrderDetail;
+        QStore store = QStore.store;
+
+        BooleanExpression hasDetails = JPAExpressions
+                .selectOne()
+                .from(rod)
+                .where(rod.receiveOrder.eq(ro))
+                .exists();
+
+        var totalItemCountExpr = ExpressionUtils.as(
+                JPAExpressions
+                        .select(rod.count.sum().coalesce(0))
+                        .from(rod)
+                        .where(rod.receiveOrder.eq(ro)),
+                "totalCount"
+        );
+
+        return queryFactory
+                .select(Projections.fields(ReceiveOrderListDTO.class,
+                        ro.id,
+                        ro.orderCode,
+                        ro.store.name.as("storeName"),
+                        ro.store.location.as("storeLocation"),
+                        ro.status,
+                        ro.priority,
+                        ro.totalPrice,
+                        totalItemCountExpr,
+                        ro.actualDeliveryDate
+                ))
+                .from(ro)
+                .join(ro.store, store)
+                .where(
+                        eqOrderCode(receiveOrderSearchDTO, ro),
+                        hasDetails,
+                        beforeId == null ? null : ro.id.lt(beforeId)
+                )
+                .orderBy(ro.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 수주 검색용 동적 조건을 생성한다.
      *
@@ -449,7 +616,71 @@ public class ReceiveOrderRepositoryImpl implements ReceiveOrderRepositoryCustom{
                 .fetch();
     }
 
+    /**
+     * 여러 수주의 상세 헤더를 한 번에 조회한다.
+     *
+     * @param ids 수주 ID 목록
+     * @return 수주 상세 헤더 목록(id 오름차순, 품목은 비어 있음)
+     */
+    @Override
+    public List<ReceiveOrderDetailDTO> findDetailsByIds(Collection<Long> ids) {
+        QReceiveOrder ro = QReceiveOrder.receiveOrder;
+        QStore store = QStore.store;
+
+        return queryFactory
+                .select(Projections.fields(ReceiveOrderDetailDTO.class,
+                        ro.id,
+                        ro.orderCode,
+                        ro.orderDate,
+                        ro.actualDeliveryDate,
+                        ro.status,
+                        ro.priority,
+                        store.name.as("storeName"),
+                        store.id.as("storeId"),
+                        store.location.as("storeLocation"),
+                        ro.totalCount.as("totalCount"),
+                        ro.totalPrice,
+                        ro.remark
+                ))
+                .from(ro)
+                .leftJoin(ro.store, store)
+                .where(ro.id.in(ids))
+                .orderBy(ro.id.asc())
+                .fetch();
+    }
 
+    /**
+     * 여러 수주의 품목 리스트를 한 번에 조회한다.
+     *
+     * <p>{@link #findItemsByOrderId(Long)}와 같은 조인에 수주 ID(orderId)를 함께 담는다.</p>
+     *
+     * @param ids 수주 ID 목록
+     * @return 품목 리스트(수주 ID 오름차순)
+     */
+    @Override
+    public List<ReceiveOrderItemDTO> findItemsByOrderIds(Collection<Long> ids) {
+        QReceiveOrderDetail rod = QReceiveOrderDetail.receiveOrderDetail;
+        QStoreMaterial sm = QStoreMaterial.storeMaterial;
+        QMaterial material = QMaterial.material;
+        QInventory hq = QInventory.inventory;
 
+        return queryFactory
+                .selectDistinct(Projections.fields(ReceiveOrderItemDTO.class,
+                        rod.receiveOrder.id.as("orderId"),
+                        material.id.as("materialId"),
+                        material.name.as("name"),
+                        material.materialCategory.as("materialCategory"),
+                        rod.count.as("detailCount"),
+                        rod.unitPrice.as("detailUnitPrice"),
+                        rod.totalPrice.as("detailTotalPrice"),
+                        hq.status.as("inventoryStatus")
+                ))
+                .from(rod)
+                .join(rod.storeMaterial, sm)
+                .leftJoin(sm.material, material)
+                .leftJoin(rod.inventory, hq)
+                .where(rod.receiveOrder.id.in(ids))
+                .orderBy(rod.receiveOrder.id.asc())
+                .fetch();
+    }
 }
-
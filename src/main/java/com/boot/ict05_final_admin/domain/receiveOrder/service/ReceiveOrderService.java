@@ -1,5 +1,8 @@
 package com.boot.ict05_final_admin.domain.receiveOrder.service;
 
+import com.boot.ict05_final_admin.common.export.ChunkedReader;
+import com.boot.ict05_final_admin.common.export.ExportProperties;
+import com.boot.ict05_final_admin.common.export.XlsxStreamWriter;
 import com.boot.ict05_final_admin.domain.inventory.service.InventoryOutService;
 import com.boot.ict05_final_admin.domain.receiveOrder.dto.*;
 import com.boot.ict05_final_admin.domain.receiveOrder.entity.ReceiveOrder;
@@ -10,20 +13,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Pageable;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 수주(Receive Order) 서비스 클래스
@@ -34,7 +45,8 @@ import java.util.NoSuchElementException;
  * <ul>
  *     <li>수주 목록 조회 (검색 및 페이징)</li>
  *     <li>수주 상세 내역 조회 (하위 품목 포함)</li>
- *     <li>배송 상태 단계별 변경</li>
+ *     <li>배송 상태 단계별 변경(단건/여러 수주 일괄 출고)</li>
+ *     <li>가맹점 상태 동기화(단건/시퀀스 기반 일괄)</li>
  *     <li>상단 대시보드 요약 정보 조회</li>
  *     <li>수주 목록 엑셀 다운로드</li>
  * </ul>
@@ -52,6 +64,11 @@ public class ReceiveOrderService {
 
     private final InventoryOutService inventoryOutService;
 
+    private final ExportProperties exportProperties;
+
+    /** 가맹점 상태 일괄 동기화 1회 최대 항목 수 */
+    public static final int MAX_SYNC_ITEMS = 500;
+
     /**
      * 수주 목록을 페이지 단위로 조회한다.
      *
@@ -139,6 +156,63 @@ public class ReceiveOrderService {
         // orderSyncService.syncFromHQ(order.getOrderCode(), next);
     }
 
+    /**
+     * 여러 수주를 한 번에 배송 시작(RECEIVED → SHIPPING)하고 본사 재고에서 출고한다.
+     *
+     * <p>
+     * 한 트랜잭션에서 상태 조건부 일괄 변경 → 상세/품목 일괄 조회 →
+     * {@link InventoryOutService#createOutByReceiveOrders(List)} 순으로 처리한다.
+     * 한 건이라도 RECEIVED 가 아니거나 재고가 부족하면 전체가 롤백된다.
+     * 수주는 id 오름차순으로 처리하며, 같은 재료는 먼저 처리되는 수주가 오래된 LOT을 가져간다.
+     * </p>
+     *
+     * @param ids 배송 시작할 수주 ID 목록(중복은 무시)
+     * @return 처리한 수주 수
+     * @throws IllegalArgumentException 목록이 비었거나, 존재하지 않는 수주가 있거나, 재고가 부족할 때
+     * @throws IllegalStateException    RECEIVED 상태가 아닌 수주가 있을 때(경쟁 갱신 포함)
+     */
+    public int shipOrders(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("출고할 수주가 없습니다.");
+        }
+        List<Long> sorted = ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+
+        List<ReceiveOrderDetailDTO> details = receiveOrderRepository.findDetailsByIds(sorted);
+        if (details.size() != sorted.size()) {
+            Set<Long> found = details.stream().map(ReceiveOrderDetailDTO::getId).collect(Collectors.toSet());
+            List<Long> missing = sorted.stream().filter(id -> !found.contains(id)).toList();
+            throw new IllegalArgumentException("해당 주문이 없습니다. ids=" + missing);
+        }
+
+        int updated = receiveOrderRepository.updateStatusIfCurrentIn(
+                sorted, ReceiveOrderStatus.RECEIVED, ReceiveOrderStatus.SHIPPING);
+        if (updated != sorted.size()) {
+            List<Long> invalid = details.stream()
+                    .filter(d -> d.getStatus() != ReceiveOrderStatus.RECEIVED)
+                    .map(ReceiveOrderDetailDTO::getId)
+                    .toList();
+            throw new IllegalStateException("상태 업데이트 실패(RECEIVED 아님): ids="
+                    + (invalid.isEmpty() ? sorted : invalid));
+        }
+
+        Map<Long, List<ReceiveOrderItemDTO>> itemsByOrder = receiveOrderRepository.findItemsByOrderIds(sorted)
+                .stream()
+                .collect(Collectors.groupingBy(ReceiveOrderItemDTO::getOrderId));
+        for (ReceiveOrderDetailDTO d : details) {
+            d.setItems(itemsByOrder.getOrDefault(d.getId(), List.of()));
+        }
+
+        try {
+            inventoryOutService.createOutByReceiveOrders(details);
+        } catch (IllegalStateException e) {
+            log.error("[shipOrders] 일괄 출고 생성 중 예외 발생 ids={} msg={}", sorted, e.getMessage(), e);
+            throw e;
+        }
+
+        log.info("[shipOrders] 일괄 출고 완료 orders={}", sorted.size());
+        return sorted.size();
+    }
+
     /**
      * 가맹점 시스템에서 전달한 상태를 본사 수주 상태에 반영한다.
      *
@@ -157,6 +231,110 @@ public class ReceiveOrderService {
         if (updated == 0) throw new IllegalArgumentException("해당 주문코드 없음: " + orderCode);
     }
 
+    /**
+     * 가맹점에서 전달된 여러 상태 변경을 한 트랜잭션에서 반영한다.
+     *
+     * <p>가맹점이 장애 복구 후 밀린 변경을 한 번에 재전송하는 경우를 위한 일괄 동기화이다.</p>
+     * <ul>
+     *     <li>같은 요청 안에서 한 발주 코드의 변경이 여러 건이면 시퀀스가 가장 큰 것만 반영한다.</li>
+     *     <li>저장된 시퀀스 이하의 변경은 재전송으로 보고 건너뛴다({@code DUPLICATE}).</li>
+     *     <li>반영은 목표 상태별로 한 번의 벌크 업데이트로 처리한다(상태 종류 수만큼만 쿼리).</li>
+     *     <li>잘못된 항목은 요청 전체를 실패시키지 않고 항목 결과로 알린다.</li>
+     * </ul>
+     *
+     * @param items 상태 변경 목록 (최대 {@value #MAX_SYNC_ITEMS}건)
+     * @return 입력 순서와 같은 항목별 처리 결과
+     * @throws IllegalArgumentException 빈 목록이거나 상한을 넘는 경우
+     */
+    public List<ReceiveOrderStatusSyncResultDTO> syncStatusesFromStore(List<ReceiveOrderStatusSyncDTO> items) {
+        if (items == null || items.isEmpty()) throw new IllegalArgumentException("동기화할 항목이 없습니다.");
+        if (items.size() > MAX_SYNC_ITEMS) {
+            throw new IllegalArgumentException("한 번에 동기화할 수 있는 항목은 최대 " + MAX_SYNC_ITEMS + "건입니다.");
+        }
+
+        ReceiveOrderStatusSyncResultDTO[] results = new ReceiveOrderStatusSyncResultDTO[items.size()];
+        ReceiveOrderStatus[] parsed = new ReceiveOrderStatus[items.size()];
+
+        // 1) 검증 + 발주 코드별 최신(시퀀스 최대) 항목 선택
+        Map<String, Integer> latest = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            ReceiveOrderStatusSyncDTO it = items.get(i);
+            parsed[i] = parseSyncStatus(it);
+            if (parsed[i] == null) {
+                results[i] = syncResult(it, ReceiveOrderStatusSyncResultDTO.Result.INVALID, null);
+                continue;
+            }
+            latest.merge(it.getOrderCode(), i,
+                    (prev, cur) -> items.get(cur).getSeq() > items.get(prev).getSeq() ? cur : prev);
+        }
+
+        // 2) 저장된 시퀀스 일괄 조회 후 반영 대상 분류
+        Map<String, Long> stored = receiveOrderRepository.findSyncSeqByOrderCodes(latest.keySet());
+        Map<ReceiveOrderStatus, Map<String, Long>> toApply = new EnumMap<>(ReceiveOrderStatus.class);
+        for (Map.Entry<String, Integer> e : latest.entrySet()) {
+            ReceiveOrderStatusSyncDTO it = items.get(e.getValue());
+            if (!stored.containsKey(e.getKey())) continue;
+            Long cur = stored.get(e.getKey());
+            if (cur == null || cur < it.getSeq()) {
+                toApply.computeIfAbsent(parsed[e.getValue()], k -> new LinkedHashMap<>()).put(e.getKey(), it.getSeq());
+            }
+        }
+
+        // 3) 상태별 벌크 업데이트(저장 시퀀스보다 큰 행만)
+        Map<String, Long> applied = new HashMap<>(stored);
+        boolean raced = false;
+        for (Map.Entry<ReceiveOrderStatus, Map<String, Long>> e : toApply.entrySet()) {
+            int updated = receiveOrderRepository.updateStatusFromSync(e.getKey(), e.getValue());
+            applied.putAll(e.getValue());
+            if (updated < e.getValue().size()) raced = true;
+        }
+        if (raced) {
+            // 동시 동기화로 일부 행이 먼저 갱신됨 → 실제 저장 값으로 결과 판정
+            applied = receiveOrderRepository.findSyncSeqByOrderCodes(latest.keySet());
+        }
+
+        // 4) 항목별 결과
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) continue;
+            ReceiveOrderStatusSyncDTO it = items.get(i);
+            if (!applied.containsKey(it.getOrderCode())) {
+                results[i] = syncResult(it, ReceiveOrderStatusSyncResultDTO.Result.NOT_FOUND, null);
+                continue;
+            }
+            Long now = applied.get(it.getOrderCode());
+            boolean mine = latest.get(it.getOrderCode()) == i
+                    && Objects.equals(now, it.getSeq())
+                    && !Objects.equals(stored.get(it.getOrderCode()), it.getSeq());
+            results[i] = syncResult(it, mine
+                    ? ReceiveOrderStatusSyncResultDTO.Result.APPLIED
+                    : ReceiveOrderStatusSyncResultDTO.Result.DUPLICATE, now);
+        }
+
+        log.info("[ReceiveSync] items={}, orders={}, updates={}", items.size(), latest.size(), toApply.size());
+        return Arrays.asList(results);
+    }
+
+    private static ReceiveOrderStatus parseSyncStatus(ReceiveOrderStatusSyncDTO it) {
+        if (it == null || it.getOrderCode() == null || it.getOrderCode().isBlank()
+                || it.getSeq() == null || it.getStatus() == null) {
+            return null;
+        }
+        try {
+            return ReceiveOrderStatus.valueOf(it.getStatus().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ReceiveOrderStatusSyncResultDTO syncResult(ReceiveOrderStatusSyncDTO it,
+                                                             ReceiveOrderStatusSyncResultDTO.Result result,
+                                                             Long appliedSeq) {
+        return new ReceiveOrderStatusSyncResultDTO(
+                it == null ? null : it.getOrderCode(),
+                it == null ? null : it.getSeq(),
+                result, appliedSeq);
+    }
+
     /**
      * 수주 현황 요약 데이터를 조회한다.
      *
@@ -169,102 +347,89 @@ public class ReceiveOrderService {
     }
 
     /**
-     * 수주 목록을 Excel 파일로 생성하여 다운로드한다.
+     * 수주 목록을 Excel 파일로 생성하여 출력 스트림에 기록한다.
      *
-     * <p>검색 조건 및 페이징 정보에 따라 데이터를 조회하고,
-     * Apache POI를 이용해 Excel 워크북을 생성한다.</p>
+     * <p>검색 조건에 맞는 수주를 id 내림차순 키셋 청크로 읽어 SXSSF 워크북에 바로 기록한다.
+     * 힙에는 한 청크와 SXSSF 행 윈도우만 머물며, 열 너비는 기록하면서 누적한 최대 길이로 맞춘다.
+     * 트랜잭션 없이 청크마다 짧게 읽으므로 응답 전송 중 커넥션을 점유하지 않는다.</p>
      *
      * @param receiveOrderSearchDTO 검색 조건 DTO
-     * @param pageable 페이지 정보
-     * @return 엑셀 파일 데이터 (byte[])
-     * @throws IOException Excel 파일 생성 중 오류 발생 시
+     * @param out 출력 스트림(닫지 않음)
+     * @throws IOException Excel 파일 생성/전송 중 오류 발생 시
      */
-    public byte[] downloadExcel(ReceiveOrderSearchDTO receiveOrderSearchDTO, Pageable pageable)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExcel(ReceiveOrderSearchDTO receiveOrderSearchDTO, OutputStream out)
             throws IOException {
 
-        Workbook workbook = new XSSFWorkbook();
-
-        Sheet sheet = workbook.createSheet("수주 목록");
-
-        // 날짜 포맷 스타일 생성
-        CellStyle dateCellStyle = workbook.createCellStyle();
-        CreationHelper createHelper = workbook.getCreationHelper();
-        dateCellStyle.setDataFormat(
-                createHelper.createDataFormat().getFormat("yyyy-MM-dd")
-        );
-
-        // 금액 포맷 (천 단위 콤마)
-        CellStyle moneyCellStyle = workbook.createCellStyle();
-        moneyCellStyle.setDataFormat(
-                createHelper.createDataFormat().getFormat("#,##0")
-        );
-
-        Row header = sheet.createRow(0);
-        header.createCell(0).setCellValue("ID");
-        header.createCell(1).setCellValue("가맹점명");
-        header.createCell(2).setCellValue("주문번호");
-        header.createCell(3).setCellValue("지역");
-        header.createCell(4).setCellValue("상태");
-        header.createCell(5).setCellValue("우선순위");
-        header.createCell(6).setCellValue("주문액");
-        header.createCell(7).setCellValue("품목수");
-        header.createCell(8).setCellValue("배송완료일");
-
-        long count = receiveOrderRepository.countReceive(receiveOrderSearchDTO);
-        PageRequest pageRequest = PageRequest.of(0, (int) count, Sort.by("id").descending());
-        Page<ReceiveOrderListDTO> list = receiveOrderRepository.listReceive(receiveOrderSearchDTO, pageRequest);
-
-        int i = 1;
-        for (ReceiveOrderListDTO ro : list) {
-            Row sheet1_row = sheet.createRow(i);
-
-            sheet1_row.createCell(0).setCellValue(ro.getId());
-            sheet1_row.createCell(1).setCellValue(ro.getStoreName());
-            sheet1_row.createCell(2).setCellValue(ro.getOrderCode());
-            sheet1_row.createCell(3).setCellValue(ro.getStoreLocation());
-            sheet1_row.createCell(4).setCellValue(String.valueOf(ro.getStatus()));
-            sheet1_row.createCell(5).setCellValue(String.valueOf(ro.getPriority()));
-            Cell priceCell = sheet1_row.createCell(6);
-            priceCell.setCellValue(ro.getTotalPrice() != null ? ro.getTotalPrice().doubleValue() : 0.0);
-            priceCell.setCellStyle(moneyCellStyle);
-            sheet1_row.createCell(7).setCellValue(ro.getTotalCount());
-
-            if (ro.getActualDeliveryDate() != null) {
-                Cell dateCell = sheet1_row.createCell(8);
-                Date excelDate = Date.from(ro.getActualDeliveryDate().atStartOfDay(ZoneId.systemDefault()).toInstant());
-                dateCell.setCellValue(excelDate);
-                dateCell.setCellStyle(dateCellStyle);
-            } else {
-                sheet1_row.createCell(8).setCellValue("");
+        try (XlsxStreamWriter x = new XlsxStreamWriter("수주 목록", exportProperties.getRowWindow())) {
+            Workbook workbook = x.workbook();
+            Sheet sheet = x.sheet();
+
+            // 날짜 포맷 스타일 생성
+            CellStyle dateCellStyle = workbook.createCellStyle();
+            CreationHelper createHelper = workbook.getCreationHelper();
+            dateCellStyle.setDataFormat(
+                    createHelper.createDataFormat().getFormat("yyyy-MM-dd")
+            );
+
+            // 금액 포맷 (천 단위 콤마)
+            CellStyle moneyCellStyle = workbook.createCellStyle();
+            moneyCellStyle.setDataFormat(
+                    createHelper.createDataFormat().getFormat("#,##0")
+            );
+
+            String[] cols = {"ID", "가맹점명", "주문번호", "지역", "상태", "우선순위", "주문액", "품목수", "배송완료일"};
+            x.header(cols, null);
+
+            // 열별 최대 길이(헤더 포함) — flush된 행은 다시 읽을 수 없으므로 기록 시점에 누적
+            int[] maxLength = new int[cols.length];
+            for (int col = 0; col < cols.length; col++) {
+                maxLength[col] = cols[col].getBytes(StandardCharsets.UTF_8).length;
             }
-            i++;
-        }
 
-        // 모든 열을 내용 길이에 맞게 자동 조정
-        for (int col = 0; col <= 8; col++) {
-            int maxLength = 0;
-
-            // 헤더 포함 전체 행 탐색
-            for (int rowIdx = 0; rowIdx <= sheet.getLastRowNum(); rowIdx++) {
-                Row row = sheet.getRow(rowIdx);
-                if (row != null) {
-                    Cell cell = row.getCell(col);
-                    if (cell != null) {
-                        int length = cell.toString().getBytes(StandardCharsets.UTF_8).length;
-                        if (length > maxLength) maxLength = length;
-                    }
-                }
-            }
+            ChunkedReader.keyset(
+                    (Long beforeId, Integer size) -> receiveOrderRepository.listReceiveChunk(receiveOrderSearchDTO, beforeId, size),
+                    ReceiveOrderListDTO::getId,
+                    exportProperties.getChunkSize(),
+                    ro -> {
+                        Row sheet1_row = x.nextRow();
+
+                        sheet1_row.createCell(0).setCellValue(ro.getId());
+                        sheet1_row.createCell(1).setCellValue(ro.getStoreName());
+                        sheet1_row.createCell(2).setCellValue(ro.getOrderCode());
+                        sheet1_row.createCell(3).setCellValue(ro.getStoreLocation());
+                        sheet1_row.createCell(4).setCellValue(String.valueOf(ro.getStatus()));
+                        sheet1_row.createCell(5).setCellValue(String.valueOf(ro.getPriority()));
+                        Cell priceCell = sheet1_row.createCell(6);
+                        priceCell.setCellValue(ro.getTotalPrice() != null ? ro.getTotalPrice().doubleValue() : 0.0);
+                        priceCell.setCellStyle(moneyCellStyle);
+                        sheet1_row.createCell(7).setCellValue(ro.getTotalCount());
+
+                        if (ro.getActualDeliveryDate() != null) {
+                            Cell dateCell = sheet1_row.createCell(8);
+                            Date excelDate = Date.from(ro.getActualDeliveryDate().atStartOfDay(ZoneId.systemDefault()).toInstant());
+                            dateCell.setCellValue(excelDate);
+                            dateCell.setCellStyle(dateCellStyle);
+                        } else {
+                            sheet1_row.createCell(8).setCellValue("");
+                        }
+
+                        for (int col = 0; col < cols.length; col++) {
+                            Cell cell = sheet1_row.getCell(col);
+                            if (cell != null) {
+                                int length = cell.toString().getBytes(StandardCharsets.UTF_8).length;
+                                if (length > maxLength[col]) maxLength[col] = length;
+                            }
+                        }
+                    });
 
             // 글자 수 × 256 단위로 변환 (엑셀 단위), 여유 폭 +2글자
-            sheet.setColumnWidth(col, (maxLength + 2) * 256);
-        }
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
+            for (int col = 0; col < cols.length; col++) {
+                sheet.setColumnWidth(col, (maxLength[col] + 2) * 256);
+            }
 
-        return outputStream.toByteArray();
+            x.writeTo(out);
+        }
     }
 
     /**
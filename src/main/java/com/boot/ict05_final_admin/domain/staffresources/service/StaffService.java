@@ -1,5 +1,6 @@
 package com.boot.ict05_final_admin.domain.staffresources.service;
 
+import com.boot.ict05_final_admin.domain.auth.dto.MemberChangedEvent;
 import com.boot.ict05_final_admin.domain.staffresources.dto.StaffModifyFormDTO;
 import com.boot.ict05_final_admin.domain.staffresources.dto.StaffWriteFormDTO;
 import com.boot.ict05_final_admin.domain.staffresources.dto.StaffListDTO;
@@ -11,6 +12,7 @@ import com.boot.ict05_final_admin.domain.store.entity.Store;
 import com.boot.ict05_final_admin.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,7 @@ public class StaffService {
 
     private final StaffRepository staffRepository;
     private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 검색어로 필터링하여 사원 목록을 페이지 단위로 조회한다.
@@ -113,6 +116,9 @@ public class StaffService {
     /**
      * 기존 사원 정보를 수정한다.
      *
+     * <p>부서는 로그인 권한(ROLE_*)을 정하므로, 연결된 회원이 있으면 커밋 후 로그인 사용자 스냅샷 캐시를
+     * 무효화하도록 {@link MemberChangedEvent}를 발행한다.</p>
+     *
      * @param dto 수정할 데이터
      * @return 수정된 재료 엔티티
      */
@@ -141,18 +147,28 @@ public class StaffService {
             staffProfile.changeStore(null);
         }
 
+        publishMemberChanged(staffProfile);
         return staffProfile;
     }
 
     /**
      * 사원 ID를 받아 삭제한다.
      *
+     * <p>직원 정보가 없어지면 연결된 회원의 권한이 기본값(ROLE_HQ)으로 바뀌므로 {@link MemberChangedEvent}를 발행한다.</p>
+     *
      * @param id 사원 ID
      */
     public void deleteStaff(Long id) {
+        staffRepository.findById(id).ifPresent(this::publishMemberChanged);
         staffRepository.deleteById(id);
     }
 
+    private void publishMemberChanged(StaffProfile staffProfile) {
+        if (staffProfile.getMember() != null) {
+            eventPublisher.publishEvent(new MemberChangedEvent(staffProfile.getMember().getId()));
+        }
+    }
+
     @Transactional(readOnly = true)
     public Map<String, Object> listHeaderStats() {
         long total = staffRepository.countAll();
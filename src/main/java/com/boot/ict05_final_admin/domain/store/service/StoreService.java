@@ -1,6 +1,8 @@
 package com.boot.ict05_final_admin.domain.store.service;
 
 import com.boot.ict05_final_admin.domain.auth.entity.Member;
+import com.boot.ict05_final_admin.domain.menu.entity.StoreMenuSoldout;
+import com.boot.ict05_final_admin.domain.menu.repository.StoreMenuFanoutJdbcRepository;
 import com.boot.ict05_final_admin.domain.member.repository.MemberRepository;
 import com.boot.ict05_final_admin.domain.staffresources.entity.StaffProfile;
 import com.boot.ict05_final_admin.domain.staffresources.repository.StaffRepository;
@@ -40,6 +42,8 @@ public class StoreService {
     private final StaffRepository staffRepository;
     /** Member 엔티티 조회용 리포지토리 */
     private final MemberRepository memberRepository;
+    /** 가맹점 메뉴(store_menu) 일괄 생성 */
+    private final StoreMenuFanoutJdbcRepository storeMenuFanoutJdbcRepository;
 
     @PersistenceContext
     private EntityManager em;
@@ -66,7 +70,8 @@ public class StoreService {
      * <p>
      * - 주소(userAddress1, userAddress2)를 하나의 location으로 합친 뒤 저장<br>
      * - 선택된 본사 담당자(ID) → {@link StaffProfile} → 이메일 → {@link Member} 매핑<br>
-     * - 매핑된 Member를 {@link Store} 엔티티의 member 필드에 연결하여 저장한다.
+     * - 매핑된 Member를 {@link Store} 엔티티의 member 필드에 연결하여 저장한다.<br>
+     * - 저장 후 모든 본사 메뉴에 대해 기본 판매 상태(ON_SALE)로 가맹점 메뉴 행을 한 번에 생성한다.
      * </p>
      *
      * @param dto 가맹점 등록 정보 DTO
@@ -122,6 +127,10 @@ public class StoreService {
         // ✅ 5. 저장
         Store saved = storeRepository.save(store);
 
+        // ✅ 6. 모든 메뉴에 StoreMenu 기본값 생성
+        int created = storeMenuFanoutJdbcRepository.insertForStore(saved.getId(), StoreMenuSoldout.ON_SALE);
+        log.info("[insertOfficeStore] storeId={}, storeMenuRows={}", saved.getId(), created);
+
         return saved.getId();
     }
 
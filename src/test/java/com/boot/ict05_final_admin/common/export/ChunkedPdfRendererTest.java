@@ -0,0 +1,172 @@
+package com.boot.ict05_final_admin.common.export;
+
+import com.boot.ict05_final_admin.config.PythonPdfClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PDF 분할 렌더링 파이프라인 테스트.
+ * - 로컬 스텁 PDF 서버(JDK HttpServer): 요청마다 "part N rows=M" 한 페이지 PDF를 돌려준다
+ * - 검증: 청크 수/병합 순서/동시 요청 상한/행 직렬화(열 구성)/빈 리포트 보정/청크 실패 전파
+ */
+class ChunkedPdfRendererTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private ChunkedPdfRenderer renderer;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Queue<Integer> received = new ConcurrentLinkedQueue<>();
+    private final Queue<String> badRows = new ConcurrentLinkedQueue<>();
+    private volatile int failPart = -1;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/pdf/orders", exchange -> {
+            int now = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(now, Math::max);
+            try {
+                JsonNode body = MAPPER.readTree(exchange.getRequestBody());
+                int part = body.path("criteria").path("part").asInt();
+                int rows = body.path("data").size();
+                received.add(part);
+                long rowOffset = body.path("criteria").path("rowOffset").asLong();
+                for (int i = 0; i < rows; i++) {
+                    JsonNode row = body.path("data").get(i);
+                    if (row.has("no") && row.path("no").asLong() != rowOffset + i) {
+                        badRows.add("part " + part + " #" + i + " " + row);
+                    }
+                }
+                Thread.sleep(50); // 동시 요청이 겹치도록 지연
+
+                byte[] res = part == failPart
+                        ? "boom".getBytes()
+                        : onePagePdf("part " + part + " rows=" + rows);
+                exchange.getResponseHeaders().add("Content-Type", part == failPart ? "text/plain" : "application/pdf");
+                exchange.sendResponseHeaders(part == failPart ? 500 : 200, res.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(res);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+
+        ExportProperties props = new ExportProperties();
+        props.setPdfChunkRows(5);
+        props.setPdfParallelism(2);
+        PythonPdfClient client = new PythonPdfClient("http://127.0.0.1:" + server.getAddress().getPort());
+        renderer = new ChunkedPdfRenderer(client, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        renderer.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("23행/청크 5행 → 5개 청크를 동시 2건 이내로 렌더링하고 순서대로 병합")
+    void renders_chunks_concurrently_and_merges_in_order() throws IOException {
+        byte[] pdf = render(23);
+
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            assertEquals(5, doc.getNumberOfPages());
+            String text = new PDFTextStripper().getText(doc);
+            int prev = -1;
+            for (int part = 1; part <= 5; part++) {
+                int at = text.indexOf("part " + part + " rows=" + (part < 5 ? 5 : 3));
+                assertTrue(at > prev, "part " + part + " 순서/행 수 불일치: " + text);
+                prev = at;
+            }
+        }
+        assertEquals(5, received.size());
+        assertTrue(badRows.isEmpty(), "행 직렬화 불일치: " + badRows);
+        assertTrue(maxInFlight.get() <= 2, "동시 요청 상한 초과: " + maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("청크가 하나면 병합 없이 그대로 기록")
+    void single_chunk_is_copied() throws IOException {
+        byte[] pdf = render(3);
+
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            assertEquals(1, doc.getNumberOfPages());
+            assertTrue(new PDFTextStripper().getText(doc).contains("part 1 rows=3"));
+        }
+    }
+
+    @Test
+    @DisplayName("행이 없으면 빈 행 1개로 한 번 렌더링")
+    void empty_report_renders_placeholder_row() throws IOException {
+        byte[] pdf = render(0);
+
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            assertEquals(1, doc.getNumberOfPages());
+            assertTrue(new PDFTextStripper().getText(doc).contains("part 1 rows=1"));
+        }
+    }
+
+    @Test
+    @DisplayName("청크 하나가 실패하면 예외로 전파")
+    void failed_chunk_propagates() {
+        failPart = 2;
+        assertThrows(IllegalStateException.class, () -> render(12));
+    }
+
+    private byte[] render(int rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfRowSchema<Integer> schema = PdfRowSchema.<Integer>builder().col("no", i -> i).build();
+        try (ChunkedPdfRenderer.Session<Integer> s = renderer.open("/pdf/orders", Map.of("title", "test"), rows, schema)) {
+            for (int i = 0; i < rows; i++) s.add(i);
+            s.finishTo(out);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] onePagePdf(String text) throws IOException {
+        try (PDDocument doc = new PDDocument(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                cs.beginText();
+                cs.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                cs.newLineAtOffset(50, 700);
+                cs.showText(text);
+                cs.endText();
+            }
+            doc.save(bos);
+            return bos.toByteArray();
+        }
+    }
+}
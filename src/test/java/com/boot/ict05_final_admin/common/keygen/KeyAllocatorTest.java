@@ -0,0 +1,132 @@
+package com.boot.ict05_final_admin.common.keygen;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 키 블록 할당기 동시성 테스트.
+ * - 시퀀스 리포지토리: 메모리 카운터로 대체(예약 구간/횟수 기록, 행 잠금은 synchronized로 흉내)
+ * - 검증: 경합 중 보충 시 중복·누락 없음, 블록당 예약 1회, 노드(할당기) 간 발급 구간이 겹치지 않음, seed는 키당 1회
+ */
+class KeyAllocatorTest {
+
+    private static final String KEY = "LOT-250101";
+    private static final int BLOCK = 10;
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 250;
+
+    /** 키 → 다음 값(key_sequence 행) */
+    private final Map<String, Long> rows = new HashMap<>();
+    private final AtomicInteger reserves = new AtomicInteger();
+    private final AtomicInteger seeds = new AtomicInteger();
+
+    private KeySequenceJdbcRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(KeySequenceJdbcRepository.class);
+        when(repo.reserve(anyString(), anyInt(), any())).thenAnswer(inv -> {
+            String key = inv.getArgument(0);
+            int size = inv.getArgument(1);
+            LongSupplier seed = inv.getArgument(2);
+            synchronized (rows) {
+                reserves.incrementAndGet();
+                long start = rows.computeIfAbsent(key, k -> seed.getAsLong());
+                rows.put(key, start + size);
+                return start;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("경합 중 보충: 모든 값이 한 번씩 발급되고 블록마다 예약은 1회")
+    void refill_under_contention() throws Exception {
+        KeyAllocator allocator = newAllocator();
+
+        List<Long> issued = issueConcurrently(List.of(allocator));
+
+        int total = THREADS * PER_THREAD;
+        assertEquals(total, issued.size());
+        assertEquals(total, new HashSet<>(issued).size(), "중복 발급");
+        assertEquals(1L, Collections.min(issued));
+        assertEquals(total, Collections.max(issued), "단일 노드에서는 공백 없음");
+        assertEquals(total / BLOCK, reserves.get(), "소진된 블록마다 보충 1회");
+        assertEquals(1, seeds.get());
+    }
+
+    @Test
+    @DisplayName("노드 간: 같은 키를 동시에 발급해도 구간이 겹치지 않음")
+    void nodes_get_disjoint_ranges() throws Exception {
+        KeyAllocator nodeA = newAllocator();
+        KeyAllocator nodeB = newAllocator();
+
+        List<Long> issued = issueConcurrently(List.of(nodeA, nodeB));
+
+        int total = THREADS * PER_THREAD;
+        assertEquals(total, new HashSet<>(issued).size(), "노드 간 중복 발급");
+        // 남은 블록은 노드당 최대 1개
+        assertTrue(Collections.max(issued) <= total + 2L * BLOCK);
+        assertEquals(1, seeds.get());
+    }
+
+    @Test
+    @DisplayName("해제: 남은 값은 버리고 다음 발급은 새 블록에서")
+    void release_discards_remaining_block() {
+        KeyAllocator allocator = newAllocator();
+
+        assertEquals(1L, allocator.next(KEY, BLOCK, this::seed));
+        allocator.release(KEY);
+        assertEquals(1L + BLOCK, allocator.next(KEY, BLOCK, this::seed));
+        assertEquals(2, reserves.get());
+    }
+
+    private KeyAllocator newAllocator() {
+        return new KeyAllocator(repo, mock(PlatformTransactionManager.class));
+    }
+
+    private long seed() {
+        seeds.incrementAndGet();
+        return 1L;
+    }
+
+    /** 스레드를 할당기들에 나눠 배정하고 동시에 출발시켜 발급 값을 모은다. */
+    private List<Long> issueConcurrently(List<KeyAllocator> allocators) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                KeyAllocator allocator = allocators.get(t % allocators.size());
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    List<Long> out = new ArrayList<>(PER_THREAD);
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        out.add(allocator.next(KEY, BLOCK, this::seed));
+                    }
+                    return out;
+                }));
+            }
+            start.countDown();
+            List<Long> issued = new ArrayList<>();
+            for (Future<List<Long>> f : futures) {
+                issued.addAll(f.get(10, TimeUnit.SECONDS));
+            }
+            return issued;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.boot.ict05_final_admin.domain.fcm.service;
+
+import com.boot.ict05_final_admin.domain.fcm.config.NoticeOutboxProperties;
+import com.boot.ict05_final_admin.domain.fcm.dto.NoticeFcmEvent;
+import com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox;
+import com.boot.ict05_final_admin.domain.fcm.entity.NoticeFcmOutbox.Status;
+import com.boot.ict05_final_admin.domain.fcm.repository.NoticeFcmOutboxRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지 알림 아웃박스 디스패처 테스트.
+ * - 로컬 스텁 사용자 앱(JDK HttpServer): 호출 경로를 기록하고, 지정 상태 코드로 응답한다
+ * - 리포지토리: 메모리 목록으로 대체(조회 조건/정렬/상한만 흉내)
+ * - 검증: 기록 시 병합/디스패치 병합/묶음 처리/선점 실패 행 건너뜀/실패 백오프/최대 시도 초과/백오프 상한
+ */
+class NoticeFcmOutboxServiceTest {
+
+    private HttpServer server;
+    private NoticeFcmOutboxService service;
+    private NoticeOutboxProperties props;
+    private NoticeFcmOutboxRepository repo;
+
+    private final List<NoticeFcmOutbox> store = new ArrayList<>();
+    private final AtomicLong seq = new AtomicLong();
+    private final AtomicInteger findCalls = new AtomicInteger();
+    private final Queue<String> received = new ConcurrentLinkedQueue<>();
+    private volatile int status = 200;
+    /** 다른 노드가 먼저 선점한 것으로 볼 행 ID */
+    private final Set<Long> stolen = new HashSet<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/user/fcm/notice", exchange -> {
+            received.add(exchange.getRequestURI().getPath().substring("/user".length()));
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        props = new NoticeOutboxProperties();
+        props.setBatchSize(2);
+        props.setMaxAttempts(3);
+        props.setBackoffBaseMs(60_000);
+        props.setBackoffMaxMs(300_000);
+
+        HqNoticeFcmBridgeService bridge = new HqNoticeFcmBridgeService(RestClient.create(), props);
+        ReflectionTestUtils.setField(bridge, "userApiBase",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/user");
+
+        repo = mock(NoticeFcmOutboxRepository.class);
+        when(repo.save(any())).thenAnswer(inv -> {
+            NoticeFcmOutbox row = inv.getArgument(0);
+            if (row.getNoticeFcmOutboxId() == null) {
+                row.setNoticeFcmOutboxId(seq.incrementAndGet());
+                store.add(row);
+            }
+            return row;
+        });
+        when(repo.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(repo.findByNoticeIdFkAndStatus(anyLong(), any())).thenAnswer(inv -> store.stream()
+                .filter(r -> r.getNoticeIdFk().equals(inv.getArgument(0)) && r.getStatus() == inv.getArgument(1))
+                .toList());
+        when(repo.findByStatusAndNextAttemptAtLessThanEqualOrderByNoticeFcmOutboxIdAsc(any(), any(), any()))
+                .thenAnswer(inv -> {
+                    findCalls.incrementAndGet();
+                    Status st = inv.getArgument(0);
+                    LocalDateTime now = inv.getArgument(1);
+                    Pageable page = inv.getArgument(2);
+                    return store.stream()
+                            .filter(r -> r.getStatus() == st && !r.getNextAttemptAt().isAfter(now))
+                            .sorted(Comparator.comparing(NoticeFcmOutbox::getNoticeFcmOutboxId))
+                            .limit(page.getPageSize())
+                            .toList();
+                });
+
+        when(repo.claim(anyLong(), any(), any())).thenAnswer(inv -> {
+            Long id = inv.getArgument(0);
+            if (stolen.contains(id)) return 0;
+            return (int) store.stream()
+                    .filter(r -> r.getNoticeFcmOutboxId().equals(id) && r.getStatus() == Status.PENDING)
+                    .count();
+        });
+
+        service = new NoticeFcmOutboxService(repo, bridge, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("기록: 같은 공지의 대기 행이 있으면 병합(CREATED는 이후 UPDATED 흡수)")
+    void enqueue_coalesces_pending_rows() {
+        service.enqueue(new NoticeFcmEvent(1L, NoticeFcmEvent.Type.CREATED));
+        service.enqueue(new NoticeFcmEvent(1L, NoticeFcmEvent.Type.UPDATED));
+        service.enqueue(new NoticeFcmEvent(2L, NoticeFcmEvent.Type.UPDATED));
+        service.enqueue(new NoticeFcmEvent(2L, NoticeFcmEvent.Type.UPDATED));
+
+        assertEquals(2, store.size());
+        assertEquals(NoticeFcmEvent.Type.CREATED, store.get(0).getEventType());
+        assertEquals(NoticeFcmEvent.Type.UPDATED, store.get(1).getEventType());
+        assertTrue(received.isEmpty(), "기록 시점에는 원격 호출이 없어야 함");
+    }
+
+    @Test
+    @DisplayName("디스패치: 묶음(2행)씩 모두 전달하고 SENT로 표시")
+    void dispatch_delivers_in_batches() {
+        for (long id = 1; id <= 5; id++) service.enqueue(new NoticeFcmEvent(id, NoticeFcmEvent.Type.CREATED));
+
+        assertEquals(5, service.dispatchDue());
+        assertEquals(List.of("/fcm/notice/created/1", "/fcm/notice/created/2", "/fcm/notice/created/3",
+                "/fcm/notice/created/4", "/fcm/notice/created/5"), new ArrayList<>(received));
+        assertTrue(store.stream().allMatch(r -> r.getStatus() == Status.SENT));
+        assertEquals(3, findCalls.get(), "2 + 2 + 1행 묶음");
+        assertEquals(0, service.dispatchDue());
+    }
+
+    @Test
+    @DisplayName("디스패치: 같은 공지의 대기 행이 여럿이면 한 번만 호출(CREATED 우선)")
+    void dispatch_coalesces_same_notice() {
+        store.add(row(7L, NoticeFcmEvent.Type.UPDATED));
+        store.add(row(7L, NoticeFcmEvent.Type.CREATED));
+
+        assertEquals(1, service.dispatchDue());
+        assertEquals(List.of("/fcm/notice/created/7"), new ArrayList<>(received));
+        assertTrue(store.stream().allMatch(r -> r.getStatus() == Status.SENT));
+    }
+
+    @Test
+    @DisplayName("선점: 다른 노드가 먼저 선점한 행은 전달하지 않음")
+    void dispatch_skips_rows_claimed_elsewhere() {
+        service.enqueue(new NoticeFcmEvent(8L, NoticeFcmEvent.Type.CREATED));
+        service.enqueue(new NoticeFcmEvent(9L, NoticeFcmEvent.Type.CREATED));
+        stolen.add(store.get(0).getNoticeFcmOutboxId());
+
+        assertEquals(1, service.dispatchDue());
+        assertEquals(List.of("/fcm/notice/created/9"), new ArrayList<>(received));
+        assertEquals(Status.PENDING, store.get(0).getStatus(), "선점 실패 행은 건드리지 않음");
+        assertEquals(Status.SENT, store.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("실패: 시도 횟수 증가 + 지수 백오프, 시각이 되기 전에는 다시 꺼내지 않음")
+    void failure_backs_off_then_succeeds() {
+        service.enqueue(new NoticeFcmEvent(3L, NoticeFcmEvent.Type.UPDATED));
+        status = 503;
+
+        LocalDateTime before = LocalDateTime.now();
+        assertEquals(0, service.dispatchDue());
+        NoticeFcmOutbox r = store.get(0);
+        assertEquals(Status.PENDING, r.getStatus());
+        assertEquals(1, r.getAttempts());
+        assertNotNull(r.getLastError());
+        assertFalse(r.getNextAttemptAt().isBefore(before.plusSeconds(59)), "1회 실패 → 약 60초 뒤");
+
+        assertEquals(0, service.dispatchDue());
+        assertEquals(1, received.size(), "백오프 중에는 호출하지 않음");
+
+        status = 200;
+        r.setNextAttemptAt(LocalDateTime.now());
+        assertEquals(1, service.dispatchDue());
+        assertEquals(Status.SENT, r.getStatus());
+        assertNull(r.getLastError());
+    }
+
+    @Test
+    @DisplayName("실패: 최대 시도 횟수에 도달하면 DEAD")
+    void gives_up_after_max_attempts() {
+        service.enqueue(new NoticeFcmEvent(4L, NoticeFcmEvent.Type.CREATED));
+        status = 500;
+
+        NoticeFcmOutbox r = store.get(0);
+        for (int i = 0; i < 3; i++) {
+            r.setNextAttemptAt(LocalDateTime.now());
+            service.dispatchDue();
+        }
+        assertEquals(Status.DEAD, r.getStatus());
+        assertEquals(3, r.getAttempts());
+        assertEquals(3, received.size());
+
+        assertEquals(0, service.dispatchDue());
+        assertEquals(3, received.size());
+    }
+
+    @Test
+    @DisplayName("백오프: base × 2^(n-1), 상한 적용")
+    void backoff_doubles_and_caps() {
+        assertEquals(60_000, service.backoffMillis(1));
+        assertEquals(120_000, service.backoffMillis(2));
+        assertEquals(240_000, service.backoffMillis(3));
+        assertEquals(300_000, service.backoffMillis(4));
+        assertEquals(300_000, service.backoffMillis(50));
+    }
+
+    private NoticeFcmOutbox row(Long noticeId, NoticeFcmEvent.Type type) {
+        return NoticeFcmOutbox.builder()
+                .noticeFcmOutboxId(seq.incrementAndGet())
+                .noticeIdFk(noticeId)
+                .eventType(type)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
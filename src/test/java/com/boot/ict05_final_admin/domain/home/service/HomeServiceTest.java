@@ -0,0 +1,120 @@
+package com.boot.ict05_final_admin.domain.home.service;
+
+import com.boot.ict05_final_admin.domain.home.dto.*;
+import com.boot.ict05_final_admin.domain.home.repository.HomeRepositoryCustom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대시보드 조립 테스트.
+ * - 리포지토리: mock (일괄 집계 결과를 고정값으로 반환)
+ * - 검증: 집계 호출 1회·다른 조회 없음, 전달 기간 구성, KPI/증감률/차트/표 매핑
+ */
+class HomeServiceTest {
+
+    private HomeRepositoryCustom homeRepository;
+    private HomeService homeService;
+
+    @BeforeEach
+    void setUp() {
+        homeRepository = mock(HomeRepositoryCustom.class);
+        homeService = new HomeService(homeRepository);
+    }
+
+    @Test
+    @DisplayName("대시보드는 일괄 집계 1회만 호출하고 다른 조회는 하지 않는다")
+    void buildDashboard_singleAggregateCall() {
+        when(homeRepository.dashboardAggregate(any(), isNull())).thenReturn(aggregate(1_000L, 800L));
+
+        homeService.buildDashboard();
+
+        verify(homeRepository, times(1)).dashboardAggregate(any(), isNull());
+        verifyNoMoreInteractions(homeRepository);
+    }
+
+    @Test
+    @DisplayName("집계 기간: 이번 달/전월/6개월/이번 주 경계와 누적 구간 상한")
+    void buildDashboard_windows() {
+        when(homeRepository.dashboardAggregate(any(), isNull())).thenReturn(aggregate(0L, 0L));
+
+        homeService.buildDashboard();
+
+        ArgumentCaptor<DashboardWindows> captor = ArgumentCaptor.forClass(DashboardWindows.class);
+        verify(homeRepository).dashboardAggregate(captor.capture(), isNull());
+        DashboardWindows w = captor.getValue();
+
+        assertEquals(1, w.monthStart().getDayOfMonth());
+        assertEquals(w.monthStart().toLocalDate().atStartOfDay(), w.monthStart());
+        assertEquals(w.monthStart().plusMonths(1), w.nextMonthStart());
+        assertEquals(w.monthStart().minusMonths(1), w.prevMonthStart());
+        assertEquals(w.monthStart().minusMonths(5), w.sixMonthsStart());
+        assertEquals(DayOfWeek.MONDAY, w.weekStart().getDayOfWeek());
+        assertEquals(w.weekStart().toLocalDate().atStartOfDay(), w.weekStart());
+
+        assertTrue(w.curMtdTo().isAfter(w.monthStart()));
+        assertFalse(w.curMtdTo().isAfter(w.nextMonthStart()));
+        assertTrue(w.prevMtdTo().isAfter(w.prevMonthStart()));
+        assertFalse(w.prevMtdTo().isAfter(w.monthStart()), "전월 누적 상한은 이번 달 시작을 넘지 않는다");
+        assertEquals(10, w.topLimit());
+    }
+
+    @Test
+    @DisplayName("KPI·증감률·차트·매장 표가 집계 결과 그대로 매핑된다")
+    void buildDashboard_mapping() {
+        when(homeRepository.dashboardAggregate(any(), isNull())).thenReturn(aggregate(1_500L, 1_000L));
+
+        DashboardViewDTO view = homeService.buildDashboard();
+
+        assertEquals(5_000L, view.kpiRevenueThisMonth());
+        assertEquals(3, view.kpiActiveStores());
+        assertEquals(42L, view.kpiOrderCount());
+        assertEquals(50.0, view.kpiRevenueGrowthPct(), 1e-9);
+
+        assertEquals(List.of("11월", "12월"), view.salesLabels());
+        assertEquals(List.of(100L, 0L), view.salesValues(), "null 값은 0으로 치환");
+        assertEquals(List.of("월", "화", "수", "목", "금", "토", "일"), view.weeklyLabels());
+        assertEquals(List.of(0L, 10L, 0L, 0L, 20L, 0L, 0L), view.weeklyValues());
+        assertEquals(List.of("12월"), view.logiLabels());
+        assertEquals(List.of(70L), view.logiValues());
+
+        assertEquals(2, view.storeRows().size());
+        assertEquals(new DashboardViewDTO.StoreRow("강남점", 3_000L, 50.0), view.storeRows().get(0));
+        assertEquals(new DashboardViewDTO.StoreRow("홍대점", 2_000L, -20.0), view.storeRows().get(1));
+    }
+
+    @Test
+    @DisplayName("증감률: 전월 누적이 0이면 이번 달 매출 유무로 100% 또는 0%")
+    void buildDashboard_growthWithoutPreviousRevenue() {
+        when(homeRepository.dashboardAggregate(any(), isNull()))
+                .thenReturn(aggregate(500L, 0L), aggregate(0L, 0L));
+
+        assertEquals(100.0, homeService.buildDashboard().kpiRevenueGrowthPct(), 1e-9);
+        assertEquals(0.0, homeService.buildDashboard().kpiRevenueGrowthPct(), 1e-9);
+    }
+
+    private static DashboardAggregate aggregate(long curMtd, long prevMtd) {
+        return new DashboardAggregate(
+                5_000L, 42L, 3,
+                curMtd, prevMtd,
+                Arrays.asList(
+                        new Point<>("2024-11", LocalDateTime.of(2024, 11, 1, 0, 0), 100L),
+                        new Point<>("2024-12", LocalDateTime.of(2024, 12, 1, 0, 0), null)),
+                List.of(0L, 10L, 0L, 0L, 20L, 0L, 0L),
+                List.of(new Point<>("2024-12", LocalDateTime.of(2024, 12, 1, 0, 0), 70L)),
+                List.of(
+                        new StoreGrowth(1L, "강남점", 3_000L, 2_000L, 50.0),
+                        new StoreGrowth(2L, "홍대점", 2_000L, 2_500L, -20.0)));
+    }
+}
@@ -0,0 +1,185 @@
+package com.boot.ict05_final_admin.domain.inventory.service;
+
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPriceChangedEvent;
+import com.boot.ict05_final_admin.domain.inventory.dto.UnitPricePoint;
+import com.boot.ict05_final_admin.domain.inventory.entity.UnitPriceType;
+import com.boot.ict05_final_admin.domain.inventory.repository.UnitPriceRepository;
+import com.boot.ict05_final_admin.domain.inventory.repository.UnitPriceVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단가 캐시 판정 규칙 테스트.
+ * - 리포지토리: 메모리 목록으로 대체(적재 횟수 기록)
+ * - 기준 구현: 기존 findLatestPurchasePrice/findLatestSellingPrice 쿼리 조건을 그대로 옮긴 함수
+ *   (validFrom <= t, validTo NULL 또는 > t, validFrom DESC → id DESC 첫 행)
+ * - 검증: 경계 시각/같은 시작일시/닫힌 구간/미래 행/무작위 이력에서 기준 구현과 같은 결과, 버전 비교 후 재적재
+ */
+class UnitPriceCacheTest {
+
+    private static final long MATERIAL = 1L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final List<UnitPricePoint> rows = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicLong dbVersion = new AtomicLong();
+
+    private UnitPriceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        UnitPriceRepository repo = mock(UnitPriceRepository.class);
+        when(repo.findPricePoints(any())).thenAnswer(inv -> {
+            loads.incrementAndGet();
+            Collection<Long> ids = inv.getArgument(0);
+            return rows.stream().filter(r -> ids.contains(r.materialId())).toList();
+        });
+        UnitPriceVersionRepository versionRepo = mock(UnitPriceVersionRepository.class);
+        when(versionRepo.currentVersion()).thenAnswer(inv -> Optional.of(dbVersion.get()));
+
+        cache = new UnitPriceCache(repo, versionRepo, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("경계: validFrom 포함, validTo 제외")
+    void boundaries_are_half_open() {
+        rows.add(point(1, UnitPriceType.PURCHASE, "100", T0, T0.plusDays(10)));
+        rows.add(point(2, UnitPriceType.PURCHASE, "200", T0.plusDays(10), null));
+
+        assertEquals(Optional.empty(), cache.purchasePriceAt(MATERIAL, T0.minusSeconds(1)));
+        assertPrice("100", cache.purchasePriceAt(MATERIAL, T0));
+        assertPrice("100", cache.purchasePriceAt(MATERIAL, T0.plusDays(10).minusSeconds(1)));
+        assertPrice("200", cache.purchasePriceAt(MATERIAL, T0.plusDays(10)));
+        assertMatchesReference();
+    }
+
+    @Test
+    @DisplayName("같은 시작일시: id가 큰 행 우선, 구분은 섞이지 않음")
+    void same_valid_from_prefers_larger_id() {
+        rows.add(point(5, UnitPriceType.PURCHASE, "500", T0, null));
+        rows.add(point(3, UnitPriceType.PURCHASE, "300", T0, null));
+        rows.add(point(9, UnitPriceType.SELLING, "900", T0, null));
+
+        assertPrice("500", cache.purchasePriceAt(MATERIAL, T0.plusHours(1)));
+        assertPrice("900", cache.sellingPriceAt(MATERIAL, T0.plusHours(1)));
+        assertMatchesReference();
+    }
+
+    @Test
+    @DisplayName("닫힌 구간: 나중에 시작했어도 이미 끝난 행은 건너뛰고 이전 오픈 행을 고름")
+    void skips_closed_later_rows() {
+        rows.add(point(1, UnitPriceType.PURCHASE, "100", T0, null));
+        rows.add(point(2, UnitPriceType.PURCHASE, "150", T0.plusDays(5), T0.plusDays(6)));
+        rows.add(point(3, UnitPriceType.PURCHASE, "300", T0.plusDays(30), null));
+
+        assertPrice("150", cache.purchasePriceAt(MATERIAL, T0.plusDays(5).plusHours(1)));
+        assertPrice("100", cache.purchasePriceAt(MATERIAL, T0.plusDays(7)));
+        assertPrice("300", cache.purchasePriceAt(MATERIAL, T0.plusDays(31)));
+        assertMatchesReference();
+    }
+
+    @Test
+    @DisplayName("무작위 이력: 모든 기준 시각에서 기존 쿼리와 같은 행")
+    void random_histories_match_reference() {
+        Random rnd = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            rows.clear();
+            cache.evictAll();
+            int n = 1 + rnd.nextInt(12);
+            for (int i = 1; i <= n; i++) {
+                LocalDateTime from = T0.plusDays(rnd.nextInt(20));
+                LocalDateTime to = rnd.nextInt(3) == 0 ? null : from.plusDays(rnd.nextInt(10));
+                UnitPriceType type = rnd.nextBoolean() ? UnitPriceType.PURCHASE : UnitPriceType.SELLING;
+                rows.add(point(rnd.nextInt(1000) * 100L + i, type, String.valueOf(rnd.nextInt(1000)), from, to));
+            }
+            assertMatchesReference();
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 반영: 커밋 이벤트로 적재된 이력에 추가, 재적재 없음")
+    void write_through_updates_loaded_history() {
+        rows.add(point(1, UnitPriceType.PURCHASE, "100", T0, null));
+        assertPrice("100", cache.purchasePriceAt(MATERIAL, T0.plusDays(1)));
+
+        UnitPricePoint next = point(2, UnitPriceType.PURCHASE, "120", T0.plusDays(1), null);
+        rows.add(next);
+        cache.onUnitPriceChanged(UnitPriceChangedEvent.written(List.of(next)));
+
+        assertPrice("120", cache.purchasePriceAt(MATERIAL, T0.plusDays(2)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("버전: 저장소 버전이 바뀌면 전체를 버리고 다음 조회에서 다시 적재")
+    void version_change_evicts() {
+        rows.add(point(1, UnitPriceType.PURCHASE, "100", T0, null));
+        cache.refreshIfStale();
+        assertPrice("100", cache.purchasePriceAt(MATERIAL, T0.plusDays(1)));
+        assertFalse(cache.refreshIfStale(), "버전이 같으면 유지");
+
+        // 다른 노드에서 단가 변경(이 노드에는 이벤트 없음)
+        rows.set(0, point(1, UnitPriceType.PURCHASE, "110", T0, null));
+        dbVersion.incrementAndGet();
+
+        assertTrue(cache.refreshIfStale());
+        assertPrice("110", cache.purchasePriceAt(MATERIAL, T0.plusDays(1)));
+        assertEquals(2, loads.get());
+    }
+
+    /** 기존 단가 행 전체와 경계 ±1초 시각에서 캐시 결과가 기준 구현과 같은지 확인 */
+    private void assertMatchesReference() {
+        Set<LocalDateTime> probes = new TreeSet<>();
+        for (UnitPricePoint r : rows) {
+            for (LocalDateTime t : Arrays.asList(r.validFrom(), r.validTo())) {
+                if (t == null) continue;
+                probes.add(t.minusSeconds(1));
+                probes.add(t);
+                probes.add(t.plusSeconds(1));
+            }
+        }
+        for (UnitPriceType type : UnitPriceType.values()) {
+            for (LocalDateTime t : probes) {
+                Optional<UnitPricePoint> expected = reference(type, t);
+                Optional<UnitPricePoint> actual = cache.find(MATERIAL, type, t, t);
+                assertEquals(expected.map(UnitPricePoint::id), actual.map(UnitPricePoint::id),
+                        () -> type + " at " + t + " rows=" + rows);
+            }
+        }
+    }
+
+    /** 기존 findLatest*Price 쿼리와 같은 조건 */
+    private Optional<UnitPricePoint> reference(UnitPriceType type, LocalDateTime ts) {
+        return rows.stream()
+                .filter(r -> r.materialId() == MATERIAL && r.type() == type)
+                .filter(r -> !r.validFrom().isAfter(ts))
+                .filter(r -> r.validTo() == null || r.validTo().isAfter(ts))
+                .max(Comparator.comparing(UnitPricePoint::validFrom).thenComparing(UnitPricePoint::id));
+    }
+
+    private static UnitPricePoint point(long id, UnitPriceType type, String price,
+                                        LocalDateTime from, LocalDateTime to) {
+        BigDecimal v = new BigDecimal(price);
+        return new UnitPricePoint(id, MATERIAL, type,
+                type == UnitPriceType.PURCHASE ? v : BigDecimal.ZERO,
+                type == UnitPriceType.SELLING ? v : BigDecimal.ZERO,
+                from, to);
+    }
+
+    private static void assertPrice(String expected, Optional<BigDecimal> actual) {
+        assertTrue(actual.isPresent(), "단가 없음");
+        assertEquals(0, new BigDecimal(expected).compareTo(actual.get()), () -> "expected " + expected + " but " + actual.get());
+    }
+}
@@ -0,0 +1,153 @@
+package com.boot.ict05_final_admin.domain.menu.repository;
+
+import com.boot.ict05_final_admin.domain.menu.entity.StoreMenuSoldout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가맹점 메뉴 fan-out(INSERT … SELECT … NOT EXISTS) 테스트.
+ * - JdbcTemplate: 메모리 store/menu/store_menu 로 문장을 흉내 내는 대역
+ *   (INSERT 값은 SELECT 바인드에서, 중복 판정은 NOT EXISTS 바인드에서 읽어 바인드 순서 오류가 드러나도록 함)
+ * - 검증: 문장 형태(NOT EXISTS 상관 조건), 빠진 조합만 생성·중복 없음, 재실행 시 0행, 초기 판매 상태 코드
+ */
+class StoreMenuFanoutJdbcRepositoryTest {
+
+    private final List<Long> stores = new ArrayList<>(List.of(1L, 2L, 3L));
+    private final List<Long> menus = new ArrayList<>(List.of(10L, 20L));
+
+    /** store_menu 행: (store_id_fk, menu_id_fk, store_menu_soldout) */
+    private final List<long[]> storeMenu = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+
+    private StoreMenuFanoutJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new StoreMenuFanoutJdbcRepository(new FakeJdbcTemplate());
+    }
+
+    @Test
+    @DisplayName("신규 메뉴: 한 문장으로 전체 가맹점 행 생성, NOT EXISTS 가 가맹점·메뉴 양쪽에 상관")
+    void insertForMenu_singleStatement() {
+        int created = repository.insertForMenu(10L, StoreMenuSoldout.ON_SALE);
+
+        assertEquals(3, created);
+        assertEquals(1, executed.size());
+        String sql = normalize(executed.get(0));
+        assertTrue(sql.startsWith("INSERT INTO store_menu (menu_id_fk, store_id_fk, store_menu_soldout) SELECT ?, s.store_id, ? FROM store s"));
+        assertTrue(sql.contains("WHERE NOT EXISTS (SELECT 1 FROM store_menu sm WHERE sm.store_id_fk = s.store_id AND sm.menu_id_fk = ?)"));
+
+        assertPairs(Set.of(List.of(1L, 10L), List.of(2L, 10L), List.of(3L, 10L)));
+        assertTrue(storeMenu.stream().allMatch(r -> r[2] == StoreMenuSoldout.ON_SALE.getCode()));
+    }
+
+    @Test
+    @DisplayName("신규 메뉴: 이미 있는 조합은 건너뛰고, 재실행하면 0행")
+    void insertForMenu_skipsExistingAndIsIdempotent() {
+        storeMenu.add(new long[]{2L, 10L, StoreMenuSoldout.SOLD_OUT.getCode()});
+        storeMenu.add(new long[]{1L, 20L, StoreMenuSoldout.ON_SALE.getCode()});
+
+        assertEquals(2, repository.insertForMenu(10L, StoreMenuSoldout.ON_SALE));
+        assertEquals(0, repository.insertForMenu(10L, StoreMenuSoldout.ON_SALE));
+
+        assertPairs(Set.of(List.of(1L, 10L), List.of(2L, 10L), List.of(3L, 10L), List.of(1L, 20L)));
+        assertEquals(StoreMenuSoldout.SOLD_OUT.getCode(), find(2L, 10L)[2], "기존 행은 건드리지 않는다");
+    }
+
+    @Test
+    @DisplayName("신규 가맹점: 한 문장으로 전체 메뉴 행 생성, 이미 있는 조합은 건너뛰고 재실행하면 0행")
+    void insertForStore_skipsExistingAndIsIdempotent() {
+        stores.add(4L);
+        storeMenu.add(new long[]{4L, 20L, StoreMenuSoldout.ON_SALE.getCode()});
+
+        assertEquals(1, repository.insertForStore(4L, StoreMenuSoldout.ON_SALE));
+        assertEquals(0, repository.insertForStore(4L, StoreMenuSoldout.ON_SALE));
+
+        String sql = normalize(executed.get(0));
+        assertTrue(sql.startsWith("INSERT INTO store_menu (menu_id_fk, store_id_fk, store_menu_soldout) SELECT m.menu_id, ?, ? FROM menu m"));
+        assertTrue(sql.contains("WHERE NOT EXISTS (SELECT 1 FROM store_menu sm WHERE sm.store_id_fk = ? AND sm.menu_id_fk = m.menu_id)"));
+
+        assertPairs(Set.of(List.of(4L, 10L), List.of(4L, 20L)));
+    }
+
+    @Test
+    @DisplayName("양방향 fan-out 을 섞어 실행해도 (가맹점, 메뉴) 조합은 한 번씩만 생긴다")
+    void mixedFanout_noDuplicates() {
+        repository.insertForMenu(10L, StoreMenuSoldout.ON_SALE);
+        stores.add(4L);
+        repository.insertForStore(4L, StoreMenuSoldout.ON_SALE);
+        menus.add(30L);
+        repository.insertForMenu(30L, StoreMenuSoldout.ON_SALE);
+        repository.insertForMenu(20L, StoreMenuSoldout.ON_SALE);
+        repository.insertForStore(4L, StoreMenuSoldout.ON_SALE);
+
+        assertEquals(stores.size() * menus.size(), storeMenu.size());
+        assertEquals(storeMenu.size(), pairs().size(), "중복 조합 없음");
+    }
+
+    private void assertPairs(Set<List<Long>> expected) {
+        assertEquals(expected.size(), storeMenu.size(), "중복 조합 없음");
+        assertEquals(expected, pairs());
+    }
+
+    private Set<List<Long>> pairs() {
+        Set<List<Long>> out = new HashSet<>();
+        for (long[] r : storeMenu) out.add(List.of(r[0], r[1]));
+        return out;
+    }
+
+    private long[] find(long storeId, long menuId) {
+        return storeMenu.stream()
+                .filter(r -> r[0] == storeId && r[1] == menuId)
+                .findFirst().orElseThrow();
+    }
+
+    private static String normalize(String sql) {
+        return sql.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * INSERT … SELECT … NOT EXISTS 두 문장만 처리하는 대역.
+     * - 신규 메뉴: 바인드 (menu, soldout, existsMenu) — store 전체를 돌며 existsMenu 조합이 없을 때 menu 로 INSERT
+     * - 신규 가맹점: 바인드 (store, soldout, existsStore) — menu 전체를 돌며 existsStore 조합이 없을 때 store 로 INSERT
+     * - 한 문장 안에서 SELECT 는 INSERT 전 스냅샷 기준(NOT EXISTS 는 문장 시작 시점의 행을 본다)
+     */
+    private class FakeJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public int update(String sql, Object... args) {
+            executed.add(sql);
+            String s = normalize(sql);
+            long soldout = ((Number) args[1]).longValue();
+            Set<List<Long>> before = pairs();
+            int created = 0;
+
+            if (s.contains("FROM store s")) {
+                long menuId = (Long) args[0];
+                long existsMenuId = (Long) args[2];
+                for (Long storeId : stores) {
+                    if (before.contains(List.of(storeId, existsMenuId))) continue;
+                    storeMenu.add(new long[]{storeId, menuId, soldout});
+                    created++;
+                }
+            } else if (s.contains("FROM menu m")) {
+                long storeId = (Long) args[0];
+                long existsStoreId = (Long) args[2];
+                for (Long menuId : menus) {
+                    if (before.contains(List.of(existsStoreId, menuId))) continue;
+                    storeMenu.add(new long[]{storeId, menuId, soldout});
+                    created++;
+                }
+            } else {
+                fail("예상하지 못한 SQL: " + s);
+            }
+            return created;
+        }
+    }
+}